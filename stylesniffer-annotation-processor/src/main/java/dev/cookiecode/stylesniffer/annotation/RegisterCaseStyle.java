@@ -23,7 +23,7 @@
 package dev.cookiecode.stylesniffer.annotation;
 
 import static java.lang.annotation.ElementType.TYPE;
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 
 import dev.cookiecode.stylesniffer.annotation.processor.RegisterCaseStyleAnnotationProcessor;
 import java.lang.annotation.Retention;
@@ -37,11 +37,14 @@ import java.lang.annotation.Target;
  * processor will detect these classes and include them in the generated CaseStyleIngestor for
  * runtime use.
  *
+ * <p>The annotation is retained in the class files so that incremental builds can find the
+ * annotated classes which have not been recompiled.
+ *
  * <p>Example usage: {@code @RegisterCaseStyle} public class MyCustomCaseStyle implements CaseStyle
  * { // implementation details }
  *
  * @author Sebastien Vermeille
  */
-@Retention(SOURCE)
+@Retention(CLASS)
 @Target(TYPE)
 public @interface RegisterCaseStyle {}
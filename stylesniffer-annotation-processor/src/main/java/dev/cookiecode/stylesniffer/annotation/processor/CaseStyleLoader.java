@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.annotation.processor;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads {@link CaseStyle} implementations by class name, from the annotation processor path.
+ *
+ * <p>Each class is instantiated once through its public no-arg constructor: a style configured for
+ * several kinds of names is shared.
+ *
+ * @author Sebastien Vermeille
+ */
+@RequiredArgsConstructor
+public class CaseStyleLoader {
+
+  private final ClassLoader classLoader;
+  private final Map<String, CaseStyle> caseStyles = new HashMap<>();
+
+  /**
+   * Returns the instance of the given case style class.
+   *
+   * @param className the fully qualified (binary) name of a {@link CaseStyle} implementation
+   * @return the case style
+   * @throws ReflectiveOperationException if the class cannot be loaded or instantiated
+   * @throws ClassCastException if the class does not implement {@link CaseStyle}
+   */
+  public CaseStyle load(@NonNull String className) throws ReflectiveOperationException {
+    var caseStyle = caseStyles.get(className);
+    if (caseStyle == null) {
+      caseStyle =
+          Class.forName(className, true, classLoader)
+              .asSubclass(CaseStyle.class)
+              .getConstructor()
+              .newInstance();
+      caseStyles.put(className, caseStyle);
+    }
+    return caseStyle;
+  }
+}
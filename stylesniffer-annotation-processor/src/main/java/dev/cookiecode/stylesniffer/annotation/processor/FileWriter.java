@@ -22,43 +22,47 @@
  */
 package dev.cookiecode.stylesniffer.annotation.processor;
 
-import static dev.cookiecode.stylesniffer.annotation.processor.RegisterCaseStyleAnnotationProcessor.GENERATED_CLASS_NAME;
-import static dev.cookiecode.stylesniffer.annotation.processor.RegisterCaseStyleAnnotationProcessor.GENERATED_CLASS_PACKAGE_NAME;
-
+import dev.cookiecode.stylesniffer.api.CaseStyle;
 import java.io.IOException;
+import java.util.List;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.StandardLocation;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Handles the writing of the generated source code to a file.
- *
- * <p>This class is responsible for creating a new Java source file and writing the generated code
- * into it.
+ * Handles the writing of the files generated by the processor.
  *
- * <p>The file is created in the package {@code dev.cookiecode.stylesniffer.generated}.
+ * <p>The registered classes are listed in a {@code META-INF/services} file, merged at runtime with
+ * the ones of the other modules.
  *
  * @author Sebastien Vermeille
  */
 @RequiredArgsConstructor
 public class FileWriter {
 
-  static final String DOT = ".";
+  static final String SERVICE_FILE = "META-INF/services/" + CaseStyle.class.getName();
   private final ProcessingEnvironment processingEnv;
 
   /**
-   * Writes the generated code to a new Java source file.
+   * Writes the {@code META-INF/services} file listing the given case style classes.
    *
-   * @param generatedCode The code to write into the file.
+   * @param classNames The fully qualified names of the case style classes.
    * @throws IOException If an I/O error occurs while writing the file.
    */
-  public void writeToFile(@NonNull String generatedCode) throws IOException {
+  public void writeServiceFile(@NonNull List<String> classNames) throws IOException {
+    final var elementUtils = processingEnv.getElementUtils();
     try (var writer =
         processingEnv
             .getFiler()
-            .createSourceFile(GENERATED_CLASS_PACKAGE_NAME + DOT + GENERATED_CLASS_NAME)
+            .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE)
             .openWriter()) {
-      writer.write(generatedCode);
+      for (final var className : classNames) {
+        // nested classes are listed with their binary name (Outer$Nested)
+        final var element = elementUtils.getTypeElement(className);
+        writer.write(element == null ? className : elementUtils.getBinaryName(element).toString());
+        writer.write('\n');
+      }
     }
   }
 }
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.annotation.processor;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.STATIC;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import jakarta.annotation.Nullable;
+import java.util.regex.Pattern;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Name;
+import javax.tools.Diagnostic;
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * Checks the names declared by source elements against the configured case styles and reports the
+ * offending names as compiler diagnostics.
+ *
+ * <p>Types, methods, fields and constants ({@code static final} fields and enum constants) each
+ * have their own case style; a kind without case style is not checked. Overriding methods are not
+ * checked, their names are chosen by the overridden method. Names are matched in place through
+ * {@link CaseStyle#matches(CharSequence, int, int)}, no {@code String} is created per name.
+ *
+ * @author Sebastien Vermeille
+ */
+@Builder
+public class NamingConventionChecker {
+
+  @NonNull private final Messager messager;
+  @NonNull @Builder.Default private final Diagnostic.Kind severity = Diagnostic.Kind.WARNING;
+  @Nullable private final CaseStyle typeStyle;
+  @Nullable private final CaseStyle methodStyle;
+  @Nullable private final CaseStyle fieldStyle;
+  @Nullable private final CaseStyle constantStyle;
+  @Nullable private final Pattern exclusions;
+
+  /**
+   * Checks the given element and, for types, all the members they declare (nested types included).
+   *
+   * @param element the element to check
+   * @return the number of offending names reported
+   */
+  public int check(@NonNull Element element) {
+    return switch (element.getKind()) {
+      case CLASS, INTERFACE, ENUM, RECORD, ANNOTATION_TYPE -> {
+        int violations = check(element, typeStyle, "Type");
+        for (final var enclosedElement : element.getEnclosedElements()) {
+          violations += check(enclosedElement);
+        }
+        yield violations;
+      }
+      case METHOD ->
+          element.getAnnotation(Override.class) == null ? check(element, methodStyle, "Method") : 0;
+      case ENUM_CONSTANT -> check(element, constantStyle, "Constant");
+      case FIELD ->
+          element.getModifiers().contains(STATIC) && element.getModifiers().contains(FINAL)
+              ? check(element, constantStyle, "Constant")
+              : check(element, fieldStyle, "Field");
+      default -> 0;
+    };
+  }
+
+  private int check(
+      final Element element, @Nullable final CaseStyle caseStyle, final String description) {
+    final Name name = element.getSimpleName();
+    if (caseStyle == null
+        || name.isEmpty()
+        || caseStyle.matches(name, 0, name.length())
+        || (exclusions != null && exclusions.matcher(name).matches())) {
+      return 0;
+    }
+    messager.printMessage(
+        severity,
+        String.format("%s name '%s' does not follow %s", description, name, caseStyle.getName()),
+        element);
+    return 1;
+  }
+}
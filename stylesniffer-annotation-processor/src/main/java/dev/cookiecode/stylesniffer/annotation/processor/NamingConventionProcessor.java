@@ -0,0 +1,168 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.annotation.processor;
+
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.CONSTANTS_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.EXCLUSIONS_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.FIELDS_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.METHODS_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.SEVERITY_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.TYPES_OPTION;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import jakarta.annotation.Nullable;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import lombok.NonNull;
+
+/**
+ * Annotation processor checking, in the same javac pass as the compilation, that the declared names
+ * follow the configured case styles.
+ *
+ * <p>The case styles are configured with processor options, giving the class name of a {@link
+ * CaseStyle} implementation available on the processor path:
+ *
+ * <ul>
+ *   <li>{@code -Astylesniffer.naming.types=...}: the case style of the types
+ *   <li>{@code -Astylesniffer.naming.methods=...}: the case style of the methods
+ *   <li>{@code -Astylesniffer.naming.fields=...}: the case style of the fields
+ *   <li>{@code -Astylesniffer.naming.constants=...}: the case style of the {@code static final}
+ *       fields and of the enum constants
+ *   <li>{@code -Astylesniffer.naming.exclusions=...}: a regular expression matching the names which
+ *       are never checked, e.g. {@code serialVersionUID}
+ *   <li>{@code -Astylesniffer.naming.severity=...}: {@code WARNING} (default) or {@code ERROR} to
+ *       fail the compilation
+ * </ul>
+ *
+ * <p>The processor does not claim any annotation, so that it can run next to the other processors.
+ * The offending names are reported through {@link javax.annotation.processing.Messager} diagnostics
+ * pointing at their declaration.
+ *
+ * @author Sebastien Vermeille
+ * @see NamingConventionChecker
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({
+  TYPES_OPTION,
+  METHODS_OPTION,
+  FIELDS_OPTION,
+  CONSTANTS_OPTION,
+  EXCLUSIONS_OPTION,
+  SEVERITY_OPTION
+})
+@SupportedSourceVersion(SourceVersion.RELEASE_21)
+public class NamingConventionProcessor extends AbstractProcessor {
+
+  public static final String TYPES_OPTION = "stylesniffer.naming.types";
+  public static final String METHODS_OPTION = "stylesniffer.naming.methods";
+  public static final String FIELDS_OPTION = "stylesniffer.naming.fields";
+  public static final String CONSTANTS_OPTION = "stylesniffer.naming.constants";
+  public static final String EXCLUSIONS_OPTION = "stylesniffer.naming.exclusions";
+  public static final String SEVERITY_OPTION = "stylesniffer.naming.severity";
+
+  private NamingConventionChecker checker;
+
+  @Override
+  public synchronized void init(@NonNull ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+    final var caseStyleLoader = new CaseStyleLoader(getClass().getClassLoader());
+    final var builder =
+        NamingConventionChecker.builder()
+            .messager(processingEnv.getMessager())
+            .typeStyle(loadCaseStyle(caseStyleLoader, TYPES_OPTION))
+            .methodStyle(loadCaseStyle(caseStyleLoader, METHODS_OPTION))
+            .fieldStyle(loadCaseStyle(caseStyleLoader, FIELDS_OPTION))
+            .constantStyle(loadCaseStyle(caseStyleLoader, CONSTANTS_OPTION))
+            .exclusions(compileExclusions());
+    final var severity = processingEnv.getOptions().get(SEVERITY_OPTION);
+    if (severity != null) {
+      try {
+        builder.severity(Diagnostic.Kind.valueOf(severity.trim().toUpperCase(Locale.ROOT)));
+      } catch (IllegalArgumentException e) {
+        processingEnv
+            .getMessager()
+            .printMessage(
+                Diagnostic.Kind.ERROR,
+                String.format("Invalid -A%s value: %s", SEVERITY_OPTION, severity));
+      }
+    }
+    this.checker = builder.build();
+  }
+
+  @Override
+  public boolean process(
+      @NonNull Set<? extends TypeElement> annotations, @NonNull RoundEnvironment roundEnv) {
+    for (final var element : roundEnv.getRootElements()) {
+      checker.check(element);
+    }
+    return false;
+  }
+
+  @Nullable
+  private CaseStyle loadCaseStyle(final CaseStyleLoader caseStyleLoader, final String option) {
+    final var className = processingEnv.getOptions().get(option);
+    if (className == null || className.isBlank()) {
+      return null;
+    }
+    try {
+      return caseStyleLoader.load(className.trim());
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              String.format(
+                  "Cannot load the case style %s given by -A%s: %s", className, option, e));
+      return null;
+    }
+  }
+
+  @Nullable
+  private Pattern compileExclusions() {
+    final var exclusions = processingEnv.getOptions().get(EXCLUSIONS_OPTION);
+    if (exclusions == null || exclusions.isEmpty()) {
+      return null;
+    }
+    try {
+      return Pattern.compile(exclusions);
+    } catch (PatternSyntaxException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              String.format("Invalid -A%s pattern: %s", EXCLUSIONS_OPTION, e.getMessage()));
+      return null;
+    }
+  }
+}
@@ -25,7 +25,9 @@ package dev.cookiecode.stylesniffer.annotation.processor;
 import static lombok.AccessLevel.*;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
@@ -35,11 +37,17 @@ import lombok.extern.flogger.Flogger;
 /**
  * Annotation processor for {@link dev.cookiecode.stylesniffer.annotation.RegisterCaseStyle}.
  *
- * <p>This processor scans for classes annotated with {@code @RegisterCaseStyle}, collects them, and
- * generates a {@code CaseStyleInjector} class using a template.
+ * <p>This processor scans for classes annotated with {@code @RegisterCaseStyle} and registers them
+ * as services.
  *
- * <p>The actual processing tasks are delegated to {@link CaseStyleElementsCollector}, {@link
- * TemplateRenderer}, and {@link FileWriter}, promoting the Single Responsibility Principle.
+ * <p>The classes are accumulated across the processing rounds and, in the final round, listed in a
+ * {@code META-INF/services/dev.cookiecode.stylesniffer.api.CaseStyle} resource: the factory merges
+ * these files at runtime, so that every module can register its own case styles. No class is
+ * generated, so that the modules running the processor never share a package. The processor is
+ * declared to Gradle as an incremental aggregating processor.
+ *
+ * <p>The actual processing tasks are delegated to {@link CaseStyleElementsCollector} and {@link
+ * FileWriter}, promoting the Single Responsibility Principle.
  *
  * @author Sebastien Vermeille
  * @see dev.cookiecode.stylesniffer.annotation.RegisterCaseStyle
@@ -53,19 +61,13 @@ import lombok.extern.flogger.Flogger;
 @Flogger
 public class RegisterCaseStyleAnnotationProcessor extends AbstractProcessor {
 
-  // Common constants shared across classes
-  public static final String GENERATED_CLASS_PACKAGE_NAME = "dev.cookiecode.stylesniffer.generated";
-  public static final String GENERATED_CLASS_NAME = "CaseStyleInjector";
-
-  private TemplateRenderer templateRenderer;
   private FileWriter fileWriter;
   private CaseStyleElementsCollector elementsCollector;
+  private final Set<String> caseStyleClassNames = new TreeSet<>();
 
   @Override
   public synchronized void init(@NonNull ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
-    final var templateEngine = new ProcessorTemplateEngine();
-    this.templateRenderer = new TemplateRenderer(templateEngine);
     this.fileWriter = new FileWriter(processingEnv);
     this.elementsCollector = new CaseStyleElementsCollector();
   }
@@ -73,16 +75,20 @@ public class RegisterCaseStyleAnnotationProcessor extends AbstractProcessor {
   @Override
   public boolean process(
       @NonNull Set<? extends TypeElement> annotations, @NonNull RoundEnvironment roundEnv) {
-    try {
-      final var elements = elementsCollector.collectElements(roundEnv);
-      if (!elements.isEmpty()) {
-        final var generatedCode = templateRenderer.renderTemplate(elements);
-        fileWriter.writeToFile(generatedCode);
-      }
-    } catch (IOException e) {
-      log.atSevere().withCause(e).log("Failed to generate the %s class", GENERATED_CLASS_NAME);
+    caseStyleClassNames.addAll(elementsCollector.collectElements(roundEnv));
+
+    if (roundEnv.processingOver() && !caseStyleClassNames.isEmpty()) {
+      writeServiceFile();
     }
 
     return true;
   }
+
+  private void writeServiceFile() {
+    try {
+      fileWriter.writeServiceFile(List.copyOf(caseStyleClassNames));
+    } catch (IOException e) {
+      log.atSevere().withCause(e).log("Failed to write the %s file", FileWriter.SERVICE_FILE);
+    }
+  }
 }
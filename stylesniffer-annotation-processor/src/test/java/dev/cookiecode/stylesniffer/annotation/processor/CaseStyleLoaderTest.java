@@ -0,0 +1,62 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.annotation.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessorTest.CamelStyle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class CaseStyleLoaderTest {
+
+  private final CaseStyleLoader caseStyleLoader =
+      new CaseStyleLoader(CaseStyleLoaderTest.class.getClassLoader());
+
+  @Test
+  void loadShouldReturnTheSameInstanceGivenTheSameClassName() throws Exception {
+    // WHEN
+    final var first = caseStyleLoader.load(CamelStyle.class.getName());
+    final var second = caseStyleLoader.load(CamelStyle.class.getName());
+
+    // THEN
+    assertThat(first).isInstanceOf(CamelStyle.class).isSameAs(second);
+  }
+
+  @Test
+  void loadShouldThrowAClassNotFoundExceptionGivenAnUnknownClass() {
+    // WHEN / THEN
+    assertThrows(ClassNotFoundException.class, () -> caseStyleLoader.load("com.example.Missing"));
+  }
+
+  @Test
+  void loadShouldThrowAClassCastExceptionGivenAClassNotImplementingCaseStyle() {
+    // WHEN / THEN
+    assertThrows(ClassCastException.class, () -> caseStyleLoader.load(String.class.getName()));
+  }
+}
@@ -22,17 +22,18 @@
  */
 package dev.cookiecode.stylesniffer.annotation.processor;
 
-import static dev.cookiecode.stylesniffer.annotation.processor.FileWriter.DOT;
-import static dev.cookiecode.stylesniffer.annotation.processor.RegisterCaseStyleAnnotationProcessor.GENERATED_CLASS_NAME;
-import static dev.cookiecode.stylesniffer.annotation.processor.RegisterCaseStyleAnnotationProcessor.GENERATED_CLASS_PACKAGE_NAME;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static dev.cookiecode.stylesniffer.annotation.processor.FileWriter.SERVICE_FILE;
 import static org.mockito.Mockito.*;
 
-import java.io.IOException;
 import java.io.Writer;
+import java.util.List;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.tools.JavaFileObject;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -52,42 +53,31 @@ class FileWriterTest {
   @InjectMocks private FileWriter fileWriter;
 
   @Test
-  void writeToFileShouldThrowAnIOExceptionGivenThereIsAnIssue() throws Exception {
+  void writeServiceFileShouldListTheClassesWithTheirBinaryName() throws Exception {
     // GIVEN
     final var filerMock = mock(Filer.class);
-    doThrow(new IOException("IO error")).when(filerMock).createSourceFile(anyString());
     when(processingEnvironment.getFiler()).thenReturn(filerMock);
-
-    final var someValidCode = "some code that is not generating any error.";
-
-    assertThrows(
-        IOException.class,
-        () -> {
-          // WHEN
-          fileWriter.writeToFile(someValidCode);
-        });
-  }
-
-  @Test
-  void writeToFileShouldPassGeneratedCodeToWriteMethodGivenThereIsNoIssue() throws Exception {
-    // GIVEN
-    final var filerMock = mock(Filer.class);
-    when(processingEnvironment.getFiler()).thenReturn(filerMock);
-
-    final var javaFileObjectMock = mock(JavaFileObject.class);
-    doReturn(javaFileObjectMock)
+    final var fileObjectMock = mock(FileObject.class);
+    doReturn(fileObjectMock)
         .when(filerMock)
-        .createSourceFile(GENERATED_CLASS_PACKAGE_NAME + DOT + GENERATED_CLASS_NAME);
-
+        .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
     final var writerMock = mock(Writer.class);
-    when(javaFileObjectMock.openWriter()).thenReturn(writerMock);
+    when(fileObjectMock.openWriter()).thenReturn(writerMock);
 
-    final var someValidCode = "some code that is not generating any error.";
+    final var elementUtilsMock = mock(Elements.class);
+    when(processingEnvironment.getElementUtils()).thenReturn(elementUtilsMock);
+    final var nestedElement = mock(TypeElement.class);
+    doReturn(nestedElement).when(elementUtilsMock).getTypeElement("a.Outer.NestedStyle");
+    final var binaryName = mock(Name.class);
+    doReturn("a.Outer$NestedStyle").when(binaryName).toString();
+    doReturn(binaryName).when(elementUtilsMock).getBinaryName(nestedElement);
 
     // WHEN
-    fileWriter.writeToFile(someValidCode);
+    fileWriter.writeServiceFile(List.of("a.Outer.NestedStyle", "b.UnresolvedStyle"));
 
     // THEN
-    verify(writerMock, times(1)).write(someValidCode);
+    verify(writerMock, times(1)).write("a.Outer$NestedStyle");
+    verify(writerMock, times(1)).write("b.UnresolvedStyle");
+    verify(writerMock, times(2)).write('\n');
   }
 }
@@ -0,0 +1,212 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.annotation.processor;
+
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.CONSTANTS_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.EXCLUSIONS_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.FIELDS_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.METHODS_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.SEVERITY_OPTION;
+import static dev.cookiecode.stylesniffer.annotation.processor.NamingConventionProcessor.TYPES_OPTION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class NamingConventionProcessorTest {
+
+  private static final String SOURCE =
+      """
+      import java.io.Serializable;
+
+      public class order_line implements Serializable {
+        private static final long serialVersionUID = 1L;
+        static final int maxSize = 10;
+        private int Unit_Price;
+
+        public int Get_Total() {
+          return Unit_Price;
+        }
+
+        @Override
+        public String toString() {
+          return "";
+        }
+
+        enum Status { open, CLOSED }
+      }
+      """;
+
+  private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+  @Test
+  void processShouldReportTheNamesNotFollowingTheConfiguredStyles() {
+    // WHEN
+    final boolean compiled =
+        compile(
+            "-A" + TYPES_OPTION + "=" + PascalStyle.class.getName(),
+            "-A" + METHODS_OPTION + "=" + CamelStyle.class.getName(),
+            "-A" + FIELDS_OPTION + "=" + CamelStyle.class.getName(),
+            "-A" + CONSTANTS_OPTION + "=" + ScreamingStyle.class.getName(),
+            "-A" + EXCLUSIONS_OPTION + "=serialVersionUID");
+
+    // THEN
+    assertThat(compiled).isTrue();
+    assertThat(messages(Diagnostic.Kind.WARNING))
+        .containsExactlyInAnyOrder(
+            "Type name 'order_line' does not follow PascalCase",
+            "Constant name 'maxSize' does not follow SCREAMING",
+            "Field name 'Unit_Price' does not follow camelCase",
+            "Method name 'Get_Total' does not follow camelCase",
+            "Constant name 'open' does not follow SCREAMING");
+  }
+
+  @Test
+  void processShouldFailTheCompilationGivenTheErrorSeverity() {
+    // WHEN
+    final boolean compiled =
+        compile(
+            "-A" + TYPES_OPTION + "=" + PascalStyle.class.getName(),
+            "-A" + SEVERITY_OPTION + "=error");
+
+    // THEN
+    assertThat(compiled).isFalse();
+    assertThat(messages(Diagnostic.Kind.ERROR))
+        .containsExactly("Type name 'order_line' does not follow PascalCase");
+  }
+
+  @Test
+  void processShouldNotCheckTheNamesGivenNoConfiguredStyle() {
+    // WHEN
+    final boolean compiled = compile();
+
+    // THEN
+    assertThat(compiled).isTrue();
+    assertThat(messages(Diagnostic.Kind.WARNING)).isEmpty();
+  }
+
+  @Test
+  void initShouldReportAnErrorGivenAnUnknownCaseStyleClass() {
+    // WHEN
+    final boolean compiled = compile("-A" + TYPES_OPTION + "=com.example.MissingStyle");
+
+    // THEN
+    assertThat(compiled).isFalse();
+    assertThat(messages(Diagnostic.Kind.ERROR))
+        .singleElement()
+        .asString()
+        .startsWith("Cannot load the case style com.example.MissingStyle");
+  }
+
+  @Test
+  void initShouldReportAnErrorGivenAnInvalidSeverity() {
+    // WHEN
+    final boolean compiled = compile("-A" + SEVERITY_OPTION + "=fatal");
+
+    // THEN
+    assertThat(compiled).isFalse();
+    assertThat(messages(Diagnostic.Kind.ERROR))
+        .containsExactly("Invalid -A" + SEVERITY_OPTION + " value: fatal");
+  }
+
+  private boolean compile(final String... options) {
+    final var uri = URI.create("string:///order_line.java");
+    final var source =
+        new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+          @Override
+          public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return SOURCE;
+          }
+        };
+    final var arguments = new ArrayList<>(List.of(options));
+    arguments.add("-proc:only");
+    final var task =
+        ToolProvider.getSystemJavaCompiler()
+            .getTask(null, null, diagnostics, arguments, null, List.of(source));
+    task.setProcessors(List.of(new NamingConventionProcessor()));
+    return task.call();
+  }
+
+  private List<String> messages(final Diagnostic.Kind kind) {
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == kind)
+        .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+        .toList();
+  }
+
+  /** Case style matching a regular expression. */
+  abstract static class RegexStyle extends BaseCaseStyle {
+
+    private final String name;
+    private final Pattern pattern;
+
+    RegexStyle(final String name, final String regex) {
+      this.name = name;
+      this.pattern = Pattern.compile(regex);
+    }
+
+    @Override
+    public boolean matches(@NonNull final String name) {
+      return pattern.matcher(name).matches();
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+
+  public static final class PascalStyle extends RegexStyle {
+    public PascalStyle() {
+      super("PascalCase", "[A-Z][a-zA-Z0-9]*");
+    }
+  }
+
+  public static final class CamelStyle extends RegexStyle {
+    public CamelStyle() {
+      super("camelCase", "[a-z][a-zA-Z0-9]*");
+    }
+  }
+
+  public static final class ScreamingStyle extends RegexStyle {
+    public ScreamingStyle() {
+      super("SCREAMING", "[A-Z][A-Z0-9_]*");
+    }
+  }
+}
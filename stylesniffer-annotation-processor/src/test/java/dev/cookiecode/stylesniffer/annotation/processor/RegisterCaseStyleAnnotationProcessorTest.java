@@ -46,8 +46,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class RegisterCaseStyleAnnotationProcessorTest {
 
-  @Mock private TemplateRenderer templateRenderer;
-
   @Mock private FileWriter fileWriter;
 
   @Mock private CaseStyleElementsCollector caseStyleElementsCollector;
@@ -67,73 +65,69 @@ class RegisterCaseStyleAnnotationProcessorTest {
   }
 
   @Test
-  void processShouldReturnTrueEvenIfAnIOExceptionOccurs() throws Exception {
+  void processShouldNotInteractWithFileWriterGivenNoElementsAreCollected() {
     // GIVEN
-    final var elements = List.of("DummyStyle", "SuperDummyPlusStyle");
-    final var roundEnv = caseStyleAnnotatedElements(elements);
-
-    final var generatedCode = "some code;";
-    doReturn(generatedCode).when(templateRenderer).renderTemplate(elements);
-
-    doThrow(new IOException("File writer error")).when(fileWriter).writeToFile(generatedCode);
+    final var mockedRoundEnv = noCaseStyleAnnotatedElements();
 
     // WHEN
-    final var actualResult = processor.process(emptySet(), roundEnv);
+    processor.process(emptySet(), mockedRoundEnv);
 
     // THEN
-    assertThat(actualResult).isTrue();
+    verifyNoInteractions(fileWriter);
   }
 
   @Test
-  void processShouldNotInteractWithTemplateRendererGivenNoElementsAreCollected() {
+  void processShouldNotWriteTheServiceFileBeforeTheFinalRound() throws Exception {
     // GIVEN
-    final var mockedRoundEnv = noCaseStyleAnnotatedElements();
+    final var roundEnv = caseStyleAnnotatedElements(List.of("DummyStyle"));
 
     // WHEN
-    processor.process(emptySet(), mockedRoundEnv);
+    processor.process(emptySet(), roundEnv);
 
     // THEN
-    verifyNoInteractions(templateRenderer);
+    verify(fileWriter, never()).writeServiceFile(anyList());
   }
 
   @Test
-  void processShouldNotInteractWithFileWriterGivenNoElementsAreCollected() {
+  void processShouldOnlyWriteTheServiceFileInTheFinalRound() throws Exception {
     // GIVEN
-    final var mockedRoundEnv = noCaseStyleAnnotatedElements();
+    final var elements = List.of("DummyStyle");
+    processor.process(emptySet(), caseStyleAnnotatedElements(elements));
 
     // WHEN
-    processor.process(emptySet(), mockedRoundEnv);
+    processor.process(emptySet(), finalRound());
 
     // THEN
-    verifyNoInteractions(fileWriter);
+    verify(fileWriter, times(1)).writeServiceFile(elements);
+    verifyNoMoreInteractions(fileWriter);
   }
 
   @Test
-  void processShouldProvideRetrievedElementsToTemplateRendererGivenThereAreElements() {
+  void processShouldReturnTrueEvenIfTheServiceFileCannotBeWritten() throws Exception {
     // GIVEN
-    final var elements = List.of("DummyStyle", "SuperDummyPlusStyle");
-    final var roundEnv = caseStyleAnnotatedElements(elements);
+    final var elements = List.of("DummyStyle");
+    processor.process(emptySet(), caseStyleAnnotatedElements(elements));
+    doThrow(new IOException("File writer error")).when(fileWriter).writeServiceFile(elements);
 
     // WHEN
-    processor.process(emptySet(), roundEnv);
+    final var actualResult = processor.process(emptySet(), finalRound());
 
     // THEN
-    verify(templateRenderer, times(1)).renderTemplate(elements);
+    assertThat(actualResult).isTrue();
   }
 
   @Test
-  void processShouldProvideGeneratedCodeFileWriterGivenSomeCodeWereGenerated() throws Exception {
+  void processShouldListTheElementsOfAllTheRoundsInTheServiceFileGivenSeveralRounds()
+      throws Exception {
     // GIVEN
-    final var elements = List.of("DummyStyle", "SuperDummyPlusStyle");
-    final var roundEnv = caseStyleAnnotatedElements(elements);
-    final var generatedCode = "Generated code;";
-    doReturn(generatedCode).when(templateRenderer).renderTemplate(elements);
+    processor.process(emptySet(), caseStyleAnnotatedElements(List.of("b.SecondStyle")));
+    processor.process(emptySet(), caseStyleAnnotatedElements(List.of("a.FirstStyle")));
 
     // WHEN
-    processor.process(emptySet(), roundEnv);
+    processor.process(emptySet(), finalRound());
 
     // THEN
-    verify(fileWriter, times(1)).writeToFile(generatedCode);
+    verify(fileWriter, times(1)).writeServiceFile(List.of("a.FirstStyle", "b.SecondStyle"));
   }
 
   @Test
@@ -146,7 +140,6 @@ class RegisterCaseStyleAnnotationProcessorTest {
     processorWithoutInjectedMocks.init(processingEnv);
 
     // THEN
-    assertThat(processorWithoutInjectedMocks.getTemplateRenderer()).isNotNull();
     assertThat(processorWithoutInjectedMocks.getFileWriter()).isNotNull();
     assertThat(processorWithoutInjectedMocks.getElementsCollector()).isNotNull();
   }
@@ -158,6 +151,13 @@ class RegisterCaseStyleAnnotationProcessorTest {
     return roundEnv;
   }
 
+  private RoundEnvironment finalRound() {
+    final var roundEnv = mock(RoundEnvironment.class);
+    doReturn(emptyList()).when(caseStyleElementsCollector).collectElements(roundEnv);
+    doReturn(true).when(roundEnv).processingOver();
+    return roundEnv;
+  }
+
   private RoundEnvironment caseStyleAnnotatedElements(@NonNull List<String> caseStyleNames) {
     final var roundEnv = mock(RoundEnvironment.class);
     doReturn(caseStyleNames).when(caseStyleElementsCollector).collectElements(roundEnv);
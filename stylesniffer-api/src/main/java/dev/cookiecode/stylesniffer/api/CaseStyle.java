@@ -26,6 +26,7 @@ import static java.util.Collections.unmodifiableSet;
 import static java.util.Set.of;
 
 import jakarta.annotation.Nullable;
+import java.util.Optional;
 import java.util.Set;
 import lombok.NonNull;
 
@@ -46,6 +47,59 @@ public interface CaseStyle {
    */
   boolean matches(@NonNull String name);
 
+  /**
+   * Determines if the given range of characters matches this case style.
+   *
+   * <p>This is the zero-copy variant of {@link #matches(String)}, used when classifying identifiers
+   * that are slices of a larger buffer. The default implementation copies the range into a {@code
+   * String}, implementations on a hot path should override it and read the characters in place.
+   *
+   * @param text the characters holding the name, must not be null
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
+   * @return true if the range matches this case style, false otherwise
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  default boolean matches(@NonNull CharSequence text, int start, int end) {
+    return matches(text.subSequence(start, end).toString());
+  }
+
+  /**
+   * Returns the word boundaries of the given range, e.g. {@code userAccountId} gives {@code [0, 4,
+   * 4, 11, 11, 13]} ({@code user}, {@code Account}, {@code Id}).
+   *
+   * <p>The default implementation relies on the {@link WordCursor} rules, which apply to all the
+   * usual case styles. See {@link WordCursor#wordBoundaries(CharSequence, int, int)} for the layout
+   * of the returned array.
+   *
+   * @param text the characters holding the name, must not be null
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
+   * @return the start (inclusive) and end (exclusive) offsets of every word, as indexes of {@code
+   *     text}
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  default int[] getWordBoundaries(@NonNull CharSequence text, int start, int end) {
+    return WordCursor.wordBoundaries(text, start, end);
+  }
+
+  /**
+   * Writes the word boundaries of the given range into a caller provided array, so that a single
+   * array can be reused across names.
+   *
+   * @param text the characters holding the name, must not be null
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
+   * @param boundaries the array to write into, see {@link WordCursor#wordBoundaries(CharSequence,
+   *     int, int, int[])}
+   * @return the number of words of the name
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  default int getWordBoundaries(
+      @NonNull CharSequence text, int start, int end, @NonNull int[] boundaries) {
+    return WordCursor.wordBoundaries(text, start, end, boundaries);
+  }
+
   /**
    * Returns the unique display name for this case style (e.g., "camelCase").
    *
@@ -63,6 +117,31 @@ public interface CaseStyle {
     return unmodifiableSet(of(getName()));
   }
 
+  /**
+   * Returns how this case style writes the words of a name. Case styles providing a format can be
+   * used as conversion targets.
+   *
+   * <p>By default, no format is provided.
+   *
+   * @return the word format, or an empty optional if names cannot be converted to this case style
+   */
+  default Optional<WordFormat> getWordFormat() {
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the state machine matching names of this case style one character at a time, used to
+   * classify names while they are typed.
+   *
+   * <p>By default, no automaton is provided: the names are then matched as a whole with {@link
+   * #matches(CharSequence, int, int)}.
+   *
+   * @return the automaton, or an empty optional if names can only be matched as a whole
+   */
+  default Optional<CaseStyleAutomaton> getAutomaton() {
+    return Optional.empty();
+  }
+
   /**
    * Determines equality based on the {@link #getName()} method.
    *
@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.api;
+
+/**
+ * State machine reading a name one character at a time, the incremental form of {@link
+ * CaseStyle#matches(String)}: a name being typed can be classified after each keystroke without
+ * reading it again.
+ *
+ * <p>The states are plain {@code int}s chosen by the implementation, so that callers can keep the
+ * state reached after each character in an array, and go back to it when the last characters are
+ * deleted. For any name, the state reached after its last character must be accepting if and only
+ * if {@link CaseStyle#matches(String)} returns {@code true}.
+ *
+ * @author Sebastien Vermeille
+ * @see CaseStyle#getAutomaton()
+ */
+public interface CaseStyleAutomaton {
+
+  /** State from which no name can match anymore, whatever the following characters. */
+  int REJECTED = -1;
+
+  /**
+   * @return the state of the empty name
+   */
+  int initialState();
+
+  /**
+   * Reads the next character of a name.
+   *
+   * @param state the state reached so far, never {@link #REJECTED}
+   * @param c the next character of the name
+   * @return the state reached after {@code c}, or {@link #REJECTED}
+   */
+  int nextState(int state, char c);
+
+  /**
+   * Tells whether the characters read so far match the case style.
+   *
+   * @param state the state reached so far, never {@link #REJECTED}
+   * @return {@code true} if the name read so far matches the case style
+   */
+  boolean isAccepting(int state);
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.api;
+
+import static java.lang.Character.isLetterOrDigit;
+import static java.lang.Character.isLowerCase;
+import static java.lang.Character.isUpperCase;
+import static java.util.Objects.checkFromToIndex;
+
+import lombok.NonNull;
+
+/**
+ * Single-pass segmenter splitting an identifier into its words, whatever its case style.
+ *
+ * <p>Words are separated by any character which is neither a letter nor a digit ({@code _}, {@code
+ * -}, spaces, ...) and by case transitions: a lowercase letter or a digit followed by an uppercase
+ * letter ({@code userId} → {@code user}, {@code Id}), and the last uppercase letter of an acronym
+ * when a lowercase letter follows ({@code parseHTTPResponse} → {@code parse}, {@code HTTP}, {@code
+ * Response}). A single {@code s} ending an acronym is its plural and sticks to it ({@code userIDs}
+ * → {@code user}, {@code IDs}). Digits stick to the word they follow ({@code base64Encoder} →
+ * {@code base64}, {@code Encoder}).
+ *
+ * <p>The cursor does not copy anything: each word is exposed as the range [{@link #wordStart()},
+ * {@link #wordEnd()}) of the segmented text. A cursor can be {@link #reset(CharSequence, int, int)
+ * reset} and reused for any number of identifiers; it is not thread-safe.
+ *
+ * <pre>{@code
+ * final var cursor = new WordCursor().reset("parseHTTPResponse");
+ * while (cursor.next()) {
+ *   index(cursor.text(), cursor.wordStart(), cursor.wordEnd());
+ * }
+ * }</pre>
+ *
+ * <p>When the words have to be kept, {@link #wordBoundaries(CharSequence, int, int)} returns their
+ * offsets as a single {@code int[]} instead of one substring per word.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class WordCursor {
+
+  private static final int[] NO_BOUNDARIES = new int[0];
+
+  private CharSequence text = "";
+  private int end;
+  private int position;
+  private int wordStart;
+  private int wordEnd;
+
+  /**
+   * Returns the word boundaries of the given range, as an array holding the start (inclusive) and
+   * the end (exclusive) of every word: {@code [start0, end0, start1, end1, ...]}. The offsets are
+   * indexes of {@code text}.
+   *
+   * @param text the characters holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @return the word boundaries, an empty array if the range holds no word
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  public static int[] wordBoundaries(
+      @NonNull final CharSequence text, final int start, final int end) {
+    final var cursor = new WordCursor();
+    final int wordCount = cursor.boundaries(text, start, end, NO_BOUNDARIES);
+    if (wordCount == 0) {
+      return NO_BOUNDARIES;
+    }
+    final var boundaries = new int[2 * wordCount];
+    cursor.boundaries(text, start, end, boundaries);
+    return boundaries;
+  }
+
+  /**
+   * Writes the word boundaries of the given range into a caller provided array, using the layout of
+   * {@link #wordBoundaries(CharSequence, int, int)}.
+   *
+   * <p>Only the words fitting into the array are written, but all of them are counted: when the
+   * returned count exceeds {@code boundaries.length / 2}, the array was too small. An array of
+   * {@code 2 * (end - start)} elements is always large enough.
+   *
+   * @param text the characters holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @param boundaries the array to write into
+   * @return the number of words of the range
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  public static int wordBoundaries(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @NonNull final int[] boundaries) {
+    return new WordCursor().boundaries(text, start, end, boundaries);
+  }
+
+  private int boundaries(
+      final CharSequence text, final int start, final int end, final int[] boundaries) {
+    reset(text, start, end);
+    int wordCount = 0;
+    while (next()) {
+      final int index = 2 * wordCount;
+      if (index + 1 < boundaries.length) {
+        boundaries[index] = wordStart;
+        boundaries[index + 1] = wordEnd;
+      }
+      wordCount++;
+    }
+    return wordCount;
+  }
+
+  /**
+   * Positions the cursor before the first word of the given identifier.
+   *
+   * @param identifier the identifier to segment
+   * @return this cursor
+   */
+  public WordCursor reset(@NonNull final CharSequence identifier) {
+    return reset(identifier, 0, identifier.length());
+  }
+
+  /**
+   * Positions the cursor before the first word of the given range.
+   *
+   * @param text the characters holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @return this cursor
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  public WordCursor reset(@NonNull final CharSequence text, final int start, final int end) {
+    checkFromToIndex(start, end, text.length());
+    this.text = text;
+    this.end = end;
+    this.position = start;
+    this.wordStart = start;
+    this.wordEnd = start;
+    return this;
+  }
+
+  /**
+   * Moves the cursor to the next word.
+   *
+   * @return {@code true} if the cursor is on a word, {@code false} if there is no more word
+   */
+  public boolean next() {
+    int i = position;
+    while (i < end && !isLetterOrDigit(text.charAt(i))) {
+      i++;
+    }
+    if (i == end) {
+      position = end;
+      wordStart = end;
+      wordEnd = end;
+      return false;
+    }
+
+    wordStart = i;
+    char previous = text.charAt(i++);
+    while (i < end) {
+      final char c = text.charAt(i);
+      if (!isLetterOrDigit(c) || (isUpperCase(c) && isWordEnd(previous, i))) {
+        break;
+      }
+      previous = c;
+      i++;
+    }
+    wordEnd = i;
+    position = i;
+    return true;
+  }
+
+  /**
+   * Tells whether the uppercase letter at the given index starts a new word.
+   *
+   * @param previous the character preceding the uppercase letter
+   * @param index the index of the uppercase letter
+   */
+  private boolean isWordEnd(final char previous, final int index) {
+    if (!isUpperCase(previous)) {
+      // userId, base64Encoder
+      return true;
+    }
+    // HTTPResponse: the R starts a new word, HTTP does not end before the P
+    return index + 1 < end && isLowerCase(text.charAt(index + 1)) && !isPluralOfAcronym(index + 1);
+  }
+
+  /**
+   * Tells whether the lowercase letter at the given index, following an acronym, is its plural
+   * {@code s}: {@code userIDs} and {@code getURLsFor} hold the acronyms {@code IDs} and {@code
+   * URLs}.
+   *
+   * @param index the index of the lowercase letter
+   */
+  private boolean isPluralOfAcronym(final int index) {
+    return text.charAt(index) == 's' && (index + 1 == end || !isLowerCase(text.charAt(index + 1)));
+  }
+
+  /**
+   * @return the segmented text
+   */
+  public CharSequence text() {
+    return text;
+  }
+
+  /**
+   * @return the index of the first character of the current word (inclusive)
+   */
+  public int wordStart() {
+    return wordStart;
+  }
+
+  /**
+   * @return the index after the last character of the current word (exclusive)
+   */
+  public int wordEnd() {
+    return wordEnd;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.api;
+
+/**
+ * Describes how a {@link CaseStyle} writes the words of a name, so that any identifier can be
+ * converted to it.
+ *
+ * @param separator the character written between two words, or {@link #NO_SEPARATOR}
+ * @param firstWord the letter case of the first word
+ * @param otherWords the letter case of the following words
+ * @author Sebastien Vermeille
+ */
+public record WordFormat(char separator, LetterCase firstWord, LetterCase otherWords) {
+
+  /** Separator of the formats joining the words without any character (camelCase, PascalCase). */
+  public static final char NO_SEPARATOR = 0;
+
+  /**
+   * @return {@code true} if a character is written between two words
+   */
+  public boolean hasSeparator() {
+    return separator != NO_SEPARATOR;
+  }
+
+  /** Letter case applied to a whole word. */
+  public enum LetterCase {
+    /** Every letter in lowercase: {@code word}. */
+    LOWER,
+    /** Every letter in uppercase: {@code WORD}. */
+    UPPER,
+    /** First letter in uppercase, the others in lowercase: {@code Word}. */
+    CAPITALIZED;
+
+    /**
+     * Applies this letter case to the character at the given position of a word.
+     *
+     * @param c the character
+     * @param first {@code true} if the character is the first one of the word
+     * @return the converted character
+     */
+    public char apply(final char c, final boolean first) {
+      return switch (this) {
+        case LOWER -> Character.toLowerCase(c);
+        case UPPER -> Character.toUpperCase(c);
+        case CAPITALIZED -> first ? Character.toUpperCase(c) : Character.toLowerCase(c);
+      };
+    }
+  }
+}
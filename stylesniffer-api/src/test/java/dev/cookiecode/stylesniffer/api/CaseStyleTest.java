@@ -25,6 +25,7 @@ package dev.cookiecode.stylesniffer.api;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Set;
+import lombok.NonNull;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -57,4 +58,65 @@ class CaseStyleTest {
     // THEN
     assertThat(actualVariantNames).hasSizeGreaterThan(1).isNotSameAs(Set.of(caseStyle.getName()));
   }
+
+  @Test
+  void getWordFormatShouldReturnByDefaultAnEmptyOptional() {
+    // GIVEN
+    final CaseStyle caseStyle = new CaseStyleHavingNoVariantNamesImpl();
+
+    // WHEN
+    final var wordFormat = caseStyle.getWordFormat();
+
+    // THEN
+    assertThat(wordFormat).isEmpty();
+  }
+
+  @Test
+  void getAutomatonShouldReturnByDefaultAnEmptyOptional() {
+    // GIVEN
+    final CaseStyle caseStyle = new CaseStyleHavingNoVariantNamesImpl();
+
+    // WHEN
+    final var automaton = caseStyle.getAutomaton();
+
+    // THEN
+    assertThat(automaton).isEmpty();
+  }
+
+  @Test
+  void getWordBoundariesShouldReturnByDefaultTheWordCursorSegmentation() {
+    // GIVEN
+    final CaseStyle caseStyle = new CaseStyleHavingNoVariantNamesImpl();
+    final var boundaries = new int[6];
+
+    // WHEN
+    final var actualBoundaries = caseStyle.getWordBoundaries("parseHTTPResponse", 0, 17);
+    final int actualWordCount = caseStyle.getWordBoundaries("user_id", 0, 7, boundaries);
+
+    // THEN
+    assertThat(actualBoundaries).containsExactly(0, 5, 5, 9, 9, 17);
+    assertThat(actualWordCount).isEqualTo(2);
+    assertThat(boundaries).startsWith(0, 4, 5, 7);
+  }
+
+  @Test
+  void matchesShouldMatchByDefaultTheGivenRangeAsAString() {
+    // GIVEN
+    final CaseStyle caseStyle =
+        new BaseCaseStyle() {
+          @Override
+          public boolean matches(@NonNull String name) {
+            return name.equals("id");
+          }
+
+          @Override
+          public String getName() {
+            return "id";
+          }
+        };
+
+    // WHEN / THEN
+    assertThat(caseStyle.matches("user_id", 5, 7)).isTrue();
+    assertThat(caseStyle.matches("user_id", 0, 4)).isFalse();
+  }
 }
@@ -0,0 +1,158 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class WordCursorTest {
+
+  private final WordCursor cursor = new WordCursor();
+
+  @Test
+  void nextShouldSplitOnSeparators() {
+    // WHEN / THEN
+    assertThat(words("user_account-id")).containsExactly("user", "account", "id");
+    assertThat(words("__MAX__VALUE__")).containsExactly("MAX", "VALUE");
+    assertThat(words("Kebab Case")).containsExactly("Kebab", "Case");
+  }
+
+  @Test
+  void nextShouldSplitOnCaseTransitions() {
+    // WHEN / THEN
+    assertThat(words("userAccountId")).containsExactly("user", "Account", "Id");
+    assertThat(words("UserAccount")).containsExactly("User", "Account");
+  }
+
+  @Test
+  void nextShouldKeepAcronymsTogether() {
+    // WHEN / THEN
+    assertThat(words("parseHTTPResponse")).containsExactly("parse", "HTTP", "Response");
+    assertThat(words("XMLHttpRequest")).containsExactly("XML", "Http", "Request");
+    assertThat(words("loadURL")).containsExactly("load", "URL");
+  }
+
+  @Test
+  void nextShouldKeepThePluralOfAcronymsTogether() {
+    // WHEN / THEN
+    assertThat(words("userIDs")).containsExactly("user", "IDs");
+    assertThat(words("getURLsFor")).containsExactly("get", "URLs", "For");
+    assertThat(words("IDs_2")).containsExactly("IDs", "2");
+    assertThat(words("HTTPServer")).containsExactly("HTTP", "Server");
+    assertThat(words("isASet")).containsExactly("is", "A", "Set");
+  }
+
+  @Test
+  void nextShouldAttachDigitsToThePreviousWord() {
+    // WHEN / THEN
+    assertThat(words("base64Encoder")).containsExactly("base64", "Encoder");
+    assertThat(words("HTTP2Server")).containsExactly("HTTP2", "Server");
+    assertThat(words("utf_8")).containsExactly("utf", "8");
+  }
+
+  @Test
+  void nextShouldReturnFalseGivenAnIdentifierWithoutWord() {
+    // WHEN / THEN
+    assertThat(words("")).isEmpty();
+    assertThat(words("_-_")).isEmpty();
+  }
+
+  @Test
+  void nextShouldOnlyConsiderTheGivenRange() {
+    // GIVEN
+    final var text = "SELECT userAccountId FROM t";
+
+    // WHEN
+    cursor.reset(text, 7, 20);
+    final var words = new ArrayList<String>();
+    while (cursor.next()) {
+      words.add(text.substring(cursor.wordStart(), cursor.wordEnd()));
+    }
+
+    // THEN
+    assertThat(words).containsExactly("user", "Account", "Id");
+    assertThat(cursor.text()).isSameAs(text);
+  }
+
+  @Test
+  void resetShouldThrowAnIndexOutOfBoundsExceptionGivenARangeOutsideOfTheText() {
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> {
+          // WHEN
+          cursor.reset("name", 2, 5);
+        });
+  }
+
+  @Test
+  void wordBoundariesShouldReturnTheStartAndEndOfEveryWord() {
+    // GIVEN
+    final var text = "<userAccountId>";
+
+    // WHEN
+    final var boundaries = WordCursor.wordBoundaries(text, 1, text.length() - 1);
+
+    // THEN
+    assertThat(boundaries).containsExactly(1, 5, 5, 12, 12, 14);
+  }
+
+  @Test
+  void wordBoundariesShouldReturnAnEmptyArrayGivenAnIdentifierWithoutWord() {
+    // WHEN
+    final var boundaries = WordCursor.wordBoundaries("__", 0, 2);
+
+    // THEN
+    assertThat(boundaries).isEmpty();
+  }
+
+  @Test
+  void wordBoundariesShouldFillTheGivenArrayAndCountAllTheWords() {
+    // GIVEN
+    final var boundaries = new int[] {-1, -1, -1, -1};
+
+    // WHEN
+    final int wordCount = WordCursor.wordBoundaries("max_pool_size", 0, 13, boundaries);
+
+    // THEN
+    assertThat(wordCount).isEqualTo(3);
+    assertThat(boundaries).containsExactly(0, 3, 4, 8);
+  }
+
+  private List<String> words(final String identifier) {
+    final var words = new ArrayList<String>();
+    cursor.reset(identifier);
+    while (cursor.next()) {
+      words.add(identifier.substring(cursor.wordStart(), cursor.wordEnd()));
+    }
+    return words;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.api;
+
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.CAPITALIZED;
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.LOWER;
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.UPPER;
+import static dev.cookiecode.stylesniffer.api.WordFormat.NO_SEPARATOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class WordFormatTest {
+
+  @Test
+  void hasSeparatorShouldReturnTrueGivenASeparatorCharacter() {
+    // GIVEN
+    final var snakeCase = new WordFormat('_', LOWER, LOWER);
+
+    // WHEN / THEN
+    assertThat(snakeCase.hasSeparator()).isTrue();
+  }
+
+  @Test
+  void hasSeparatorShouldReturnFalseGivenNoSeparator() {
+    // GIVEN
+    final var camelCase = new WordFormat(NO_SEPARATOR, LOWER, CAPITALIZED);
+
+    // WHEN / THEN
+    assertThat(camelCase.hasSeparator()).isFalse();
+  }
+
+  @Test
+  void applyShouldLowerEveryLetterGivenTheLowerCase() {
+    // WHEN / THEN
+    assertThat(LOWER.apply('A', true)).isEqualTo('a');
+    assertThat(LOWER.apply('B', false)).isEqualTo('b');
+    assertThat(LOWER.apply('7', false)).isEqualTo('7');
+  }
+
+  @Test
+  void applyShouldUpperEveryLetterGivenTheUpperCase() {
+    // WHEN / THEN
+    assertThat(UPPER.apply('a', true)).isEqualTo('A');
+    assertThat(UPPER.apply('b', false)).isEqualTo('B');
+  }
+
+  @Test
+  void applyShouldOnlyUpperTheFirstLetterGivenTheCapitalizedCase() {
+    // WHEN / THEN
+    assertThat(CAPITALIZED.apply('w', true)).isEqualTo('W');
+    assertThat(CAPITALIZED.apply('O', false)).isEqualTo('o');
+    assertThat(CAPITALIZED.apply('é', true)).isEqualTo('É');
+  }
+}
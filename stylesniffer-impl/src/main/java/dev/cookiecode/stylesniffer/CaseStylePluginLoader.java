@@ -0,0 +1,384 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer;
+
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.newDigest;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.replaceAtomically;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import jakarta.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.NonNull;
+
+/**
+ * Loads {@link CaseStyle} implementations from external JARs into a running {@link StyleSniffer}.
+ *
+ * <p>Each JAR gets its own class loader, child of the one of the StyleSniffer API: plugins cannot
+ * see each other's classes and are unloaded independently. The case styles of a JAR are the ones
+ * listed in its {@code META-INF/services/dev.cookiecode.stylesniffer.api.CaseStyle} file, written
+ * by the annotation processor for the classes annotated with {@code @RegisterCaseStyle}. They are
+ * validated and instantiated like the built-in ones, then registered in a single step: if one of
+ * them cannot be instantiated, none of them is registered.
+ *
+ * <p>Unloading a plugin removes its case styles from the sniffer and closes its class loader, so
+ * that its classes can be collected once the application no longer holds any of its case styles.
+ * Reloading a changed JAR replaces the case styles of the previous version in a single step as
+ * well, classifications never seeing the sniffer without them.
+ *
+ * <p>When a cache file is given, the case style classes found in each JAR are recorded in it, keyed
+ * by the SHA-256 hash of the JAR: on restart, unchanged JARs are loaded without reading their
+ * service file again. An unreadable cache file is ignored and rewritten.
+ *
+ * <p>A loader is thread-safe, plugins being loaded and unloaded one at a time.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class CaseStylePluginLoader implements Closeable {
+
+  static final String SERVICE_FILE = "META-INF/services/" + CaseStyle.class.getName();
+  private static final String JAR_EXTENSION = ".jar";
+  private static final String CLASS_NAME_SEPARATOR = ",";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final StyleSnifferImpl styleSniffer;
+  private final Path pluginDirectory;
+  @Nullable private final Path cacheFile;
+  // JAR hash -> comma separated names of its case style classes
+  private final Properties discoveryCache = new Properties();
+  private final Map<Path, LoadedPlugin> plugins = new HashMap<>();
+  private boolean discoveryCacheChanged;
+
+  /**
+   * Creates a loader without discovery cache.
+   *
+   * @param styleSniffer the sniffer to register the case styles into, created by {@link
+   *     StyleSnifferFactory}
+   * @param pluginDirectory the directory holding the plugin JARs
+   * @throws StyleSnifferException if the sniffer has not been created by {@link
+   *     StyleSnifferFactory#createStyleSniffer()} or {@link
+   *     StyleSnifferFactory#createLazyStyleSniffer()}
+   */
+  public CaseStylePluginLoader(
+      @NonNull final StyleSniffer styleSniffer, @NonNull final Path pluginDirectory) {
+    this(styleSniffer, pluginDirectory, null);
+  }
+
+  /**
+   * Creates a loader.
+   *
+   * @param styleSniffer the sniffer to register the case styles into, created by {@link
+   *     StyleSnifferFactory}
+   * @param pluginDirectory the directory holding the plugin JARs
+   * @param cacheFile the file caching the case style classes of the JARs, created if missing, or
+   *     {@code null} to always read the service files
+   * @throws StyleSnifferException if the sniffer has not been created by {@link
+   *     StyleSnifferFactory#createStyleSniffer()} or {@link
+   *     StyleSnifferFactory#createLazyStyleSniffer()}
+   */
+  public CaseStylePluginLoader(
+      @NonNull final StyleSniffer styleSniffer,
+      @NonNull final Path pluginDirectory,
+      @Nullable final Path cacheFile) {
+    if (!(styleSniffer instanceof StyleSnifferImpl registry)) {
+      throw new StyleSnifferException(
+          String.format(
+              "Cannot load plugins into a %s, create the sniffer with StyleSnifferFactory",
+              styleSniffer.getClass().getName()));
+    }
+    this.styleSniffer = registry;
+    this.pluginDirectory = pluginDirectory;
+    this.cacheFile = cacheFile;
+    readDiscoveryCache();
+  }
+
+  /**
+   * Synchronizes the loaded plugins with the JARs of the plugin directory: new JARs are loaded,
+   * changed ones are reloaded and the plugins whose JAR has been removed are unloaded.
+   *
+   * <p>The discovery cache is then rewritten with the entries of the loaded JARs only.
+   *
+   * @return the loaded plugins, ordered by JAR path
+   * @throws IOException if the directory or a JAR cannot be read
+   * @throws StyleSnifferException if a case style of a JAR cannot be loaded or instantiated, the
+   *     JARs processed before it remaining loaded
+   */
+  public synchronized List<CaseStylePlugin> loadAll() throws IOException {
+    final Set<Path> jars;
+    try (Stream<Path> files = Files.list(pluginDirectory)) {
+      jars =
+          files
+              .filter(CaseStylePluginLoader::isJar)
+              .map(Path::toAbsolutePath)
+              .collect(Collectors.toCollection(TreeSet::new));
+    }
+    for (final var jar : List.copyOf(plugins.keySet())) {
+      if (!jars.contains(jar)) {
+        unload(jar);
+      }
+    }
+    for (final var jar : jars) {
+      loadPlugin(jar);
+    }
+
+    final var loadedHashes =
+        plugins.values().stream().map(loaded -> loaded.plugin().hash()).toList();
+    discoveryCacheChanged |= discoveryCache.keySet().retainAll(loadedHashes);
+    writeDiscoveryCache();
+    return getPlugins();
+  }
+
+  /**
+   * Loads the given JAR, or reloads it if its content changed since it has been loaded.
+   *
+   * @param jar the JAR to load
+   * @return the loaded plugin
+   * @throws IOException if the JAR cannot be read
+   * @throws StyleSnifferException if a case style of the JAR cannot be loaded or instantiated, the
+   *     previous version of the plugin then remaining loaded
+   */
+  public synchronized CaseStylePlugin load(@NonNull final Path jar) throws IOException {
+    final var plugin = loadPlugin(jar.toAbsolutePath());
+    writeDiscoveryCache();
+    return plugin;
+  }
+
+  /**
+   * Unloads the given JAR: its case styles are removed from the sniffer and its class loader is
+   * closed.
+   *
+   * @param jar the JAR to unload
+   * @return {@code true} if the JAR was loaded, {@code false} otherwise
+   * @throws IOException if the class loader of the JAR cannot be closed
+   */
+  public synchronized boolean unload(@NonNull final Path jar) throws IOException {
+    final var loaded = plugins.remove(jar.toAbsolutePath());
+    if (loaded == null) {
+      return false;
+    }
+    styleSniffer.replaceCaseStyles(definedBy(loaded.classLoader()), List.of());
+    loaded.classLoader().close();
+    return true;
+  }
+
+  /**
+   * Returns the loaded plugins.
+   *
+   * @return the loaded plugins, ordered by JAR path
+   */
+  public synchronized List<CaseStylePlugin> getPlugins() {
+    return plugins.values().stream()
+        .map(LoadedPlugin::plugin)
+        .sorted(comparing(CaseStylePlugin::jar))
+        .toList();
+  }
+
+  /**
+   * Unloads all the plugins.
+   *
+   * @throws IOException if a class loader cannot be closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    IOException failure = null;
+    for (final var jar : List.copyOf(plugins.keySet())) {
+      try {
+        unload(jar);
+      } catch (IOException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private CaseStylePlugin loadPlugin(final Path jar) throws IOException {
+    final var hash = hash(jar);
+    final var previous = plugins.get(jar);
+    if (previous != null && previous.plugin().hash().equals(hash)) {
+      return previous.plugin();
+    }
+
+    final var classLoader =
+        new URLClassLoader(
+            "stylesniffer-plugin:" + jar.getFileName(),
+            new URL[] {jar.toUri().toURL()},
+            CaseStyle.class.getClassLoader());
+    final CaseStylePlugin plugin;
+    try {
+      final var caseStyles = instantiateCaseStyles(jar, discover(hash, classLoader), classLoader);
+      styleSniffer.replaceCaseStyles(
+          previous == null ? caseStyle -> false : definedBy(previous.classLoader()), caseStyles);
+      plugin =
+          new CaseStylePlugin(
+              jar, hash, caseStyles.stream().map(style -> style.getClass().getName()).toList());
+      cacheDiscovery(hash, plugin.caseStyleClassNames());
+    } catch (IOException | RuntimeException e) {
+      closeQuietly(classLoader, e);
+      throw e;
+    }
+
+    plugins.put(jar, new LoadedPlugin(plugin, classLoader));
+    if (previous != null) {
+      previous.classLoader().close();
+    }
+    return plugin;
+  }
+
+  private List<String> discover(final String hash, final URLClassLoader classLoader)
+      throws IOException {
+    final var cached = discoveryCache.getProperty(hash);
+    if (cached != null) {
+      return cached.isEmpty() ? List.of() : List.of(cached.split(CLASS_NAME_SEPARATOR));
+    }
+
+    // findResources only looks into the JAR itself, not into the parent class loaders
+    final Set<String> classNames = new LinkedHashSet<>();
+    for (final var serviceFile : Collections.list(classLoader.findResources(SERVICE_FILE))) {
+      // a cached jar: connection would keep the JAR open, and stale, after the plugin is unloaded
+      final var connection = serviceFile.openConnection();
+      connection.setUseCaches(false);
+      try (var reader =
+          new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          final int comment = line.indexOf('#');
+          final var className = (comment < 0 ? line : line.substring(0, comment)).trim();
+          if (!className.isEmpty()) {
+            classNames.add(className);
+          }
+        }
+      }
+    }
+    return List.copyOf(classNames);
+  }
+
+  private List<CaseStyle> instantiateCaseStyles(
+      final Path jar, final List<String> classNames, final ClassLoader classLoader) {
+    final List<CaseStyle> caseStyles = new ArrayList<>(classNames.size());
+    for (final var className : classNames) {
+      final Class<?> clazz;
+      try {
+        clazz = Class.forName(className, false, classLoader);
+      } catch (ClassNotFoundException | LinkageError e) {
+        throw new StyleSnifferException(
+            String.format("Cannot load case style class %s from %s", className, jar), e);
+      }
+      // classes shadowed by the ones of the application are not part of the plugin
+      if (clazz.getClassLoader() == classLoader && styleSniffer.isValidCaseStyleClass(clazz)) {
+        caseStyles.add(styleSniffer.instantiateCaseStyle(clazz.asSubclass(CaseStyle.class)));
+      }
+    }
+    return caseStyles;
+  }
+
+  private void cacheDiscovery(final String hash, final List<String> classNames) {
+    final var value = String.join(CLASS_NAME_SEPARATOR, classNames);
+    discoveryCacheChanged |= !value.equals(discoveryCache.setProperty(hash, value));
+  }
+
+  private void readDiscoveryCache() {
+    if (cacheFile == null || !Files.isRegularFile(cacheFile)) {
+      return;
+    }
+    try (var reader = Files.newBufferedReader(cacheFile, UTF_8)) {
+      discoveryCache.load(reader);
+    } catch (IOException | IllegalArgumentException e) {
+      discoveryCache.clear();
+      discoveryCacheChanged = true;
+    }
+  }
+
+  private void writeDiscoveryCache() throws IOException {
+    if (cacheFile == null || !discoveryCacheChanged) {
+      return;
+    }
+    replaceAtomically(
+        cacheFile,
+        temporaryFile -> {
+          try (var writer = Files.newBufferedWriter(temporaryFile, UTF_8)) {
+            discoveryCache.store(writer, "StyleSniffer plugin discovery cache");
+          }
+        });
+    discoveryCacheChanged = false;
+  }
+
+  private static String hash(final Path jar) throws IOException {
+    final var digest = newDigest();
+    try (var in = Files.newInputStream(jar)) {
+      final var buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = in.read(buffer)) >= 0) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static boolean isJar(final Path file) {
+    return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(JAR_EXTENSION)
+        && Files.isRegularFile(file);
+  }
+
+  private static Predicate<CaseStyle> definedBy(final ClassLoader classLoader) {
+    return caseStyle -> caseStyle.getClass().getClassLoader() == classLoader;
+  }
+
+  private static void closeQuietly(final URLClassLoader classLoader, final Exception failure) {
+    try {
+      classLoader.close();
+    } catch (IOException e) {
+      failure.addSuppressed(e);
+    }
+  }
+
+  private record LoadedPlugin(CaseStylePlugin plugin, URLClassLoader classLoader) {}
+}
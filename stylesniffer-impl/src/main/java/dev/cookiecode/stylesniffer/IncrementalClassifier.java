@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer;
+
+import static dev.cookiecode.stylesniffer.api.CaseStyleAutomaton.REJECTED;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.CaseStyleAutomaton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import lombok.NonNull;
+
+/**
+ * Classifies a name while it is typed, one character at a time, e.g. on each keystroke of an
+ * editor.
+ *
+ * <p>Each case style providing a {@link CaseStyleAutomaton} is tracked by its automaton: appending
+ * a character costs one transition per case style still possible, and the state reached after each
+ * character is kept so that deleting the last characters costs nothing. The buffers only grow when
+ * the name gets longer than it ever was, so no allocation happens per keystroke. The case styles
+ * without automaton are matched against the whole name by {@link #getCaseStyle()}, and only when
+ * the previous case styles do not match.
+ *
+ * <p>The name is matched as typed: unlike {@link StyleSniffer#getCaseStyle(String)}, the
+ * surrounding whitespaces are not trimmed. Instances are not thread-safe.
+ *
+ * @author Sebastien Vermeille
+ * @see StyleSniffer#newIncrementalClassifier()
+ */
+public final class IncrementalClassifier {
+
+  private static final int INITIAL_CAPACITY = 32;
+
+  private final CaseStyle[] caseStyles;
+  private final Optional<CaseStyle>[] matches;
+  // null for the case styles without automaton
+  private final CaseStyleAutomaton[] automata;
+  // states[i][n] is the state of the i-th automaton after the first n characters
+  private final int[][] states;
+  private final StringBuilder name = new StringBuilder(INITIAL_CAPACITY);
+
+  @SuppressWarnings("unchecked")
+  IncrementalClassifier(@NonNull final List<CaseStyle> caseStyles) {
+    this.caseStyles = caseStyles.toArray(CaseStyle[]::new);
+    this.matches = new Optional[this.caseStyles.length];
+    this.automata = new CaseStyleAutomaton[this.caseStyles.length];
+    this.states = new int[this.caseStyles.length][];
+    for (int i = 0; i < this.caseStyles.length; i++) {
+      matches[i] = Optional.of(this.caseStyles[i]);
+      automata[i] = this.caseStyles[i].getAutomaton().orElse(null);
+      if (automata[i] != null) {
+        states[i] = new int[INITIAL_CAPACITY + 1];
+        states[i][0] = automata[i].initialState();
+      }
+    }
+  }
+
+  /**
+   * Appends a character to the name.
+   *
+   * @param c the typed character
+   */
+  public void append(final char c) {
+    final int length = name.length();
+    name.append(c);
+    for (int i = 0; i < automata.length; i++) {
+      if (automata[i] == null) {
+        continue;
+      }
+      if (length + 1 == states[i].length) {
+        states[i] = Arrays.copyOf(states[i], states[i].length * 2);
+      }
+      final int state = states[i][length];
+      states[i][length + 1] = state == REJECTED ? REJECTED : automata[i].nextState(state, c);
+    }
+  }
+
+  /**
+   * Appends characters to the name, e.g. pasted text.
+   *
+   * @param chars the characters to append
+   */
+  public void append(@NonNull final CharSequence chars) {
+    for (int i = 0; i < chars.length(); i++) {
+      append(chars.charAt(i));
+    }
+  }
+
+  /**
+   * Deletes the last characters of the name.
+   *
+   * @param count the number of characters to delete
+   * @throws IndexOutOfBoundsException if the name has less than {@code count} characters
+   */
+  public void deleteLast(final int count) {
+    if (count < 0 || count > name.length()) {
+      throw new IndexOutOfBoundsException(
+          String.format("Cannot delete %d characters from %d", count, name.length()));
+    }
+    name.setLength(name.length() - count);
+  }
+
+  /** Deletes all the characters of the name. */
+  public void clear() {
+    name.setLength(0);
+  }
+
+  /**
+   * @return the number of characters of the name
+   */
+  public int length() {
+    return name.length();
+  }
+
+  /**
+   * Returns the first registered case style matching the name, as {@link
+   * StyleSniffer#getCaseStyle(String)} would.
+   *
+   * @return an {@link Optional} containing the matching {@code CaseStyle}, or an empty {@code
+   *     Optional} if the name is empty or matches no case style
+   */
+  public Optional<CaseStyle> getCaseStyle() {
+    final int length = name.length();
+    if (length == 0) {
+      return Optional.empty();
+    }
+    for (int i = 0; i < caseStyles.length; i++) {
+      if (automata[i] == null
+          ? caseStyles[i].matches(name, 0, length)
+          : states[i][length] != REJECTED && automata[i].isAccepting(states[i][length])) {
+        return matches[i];
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the case styles the name can still match once more characters are appended, the case
+   * styles without automaton being always considered possible.
+   *
+   * @return the possible case styles, in registration order
+   */
+  public List<CaseStyle> getPossibleCaseStyles() {
+    final int length = name.length();
+    final List<CaseStyle> possibleCaseStyles = new ArrayList<>();
+    for (int i = 0; i < caseStyles.length; i++) {
+      if (automata[i] == null || states[i][length] != REJECTED) {
+        possibleCaseStyles.add(caseStyles[i]);
+      }
+    }
+    return possibleCaseStyles;
+  }
+
+  @Override
+  public String toString() {
+    return name.toString();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Immutable list of case styles instantiated by their {@link ServiceLoader} providers the first
+ * time they are read.
+ *
+ * <p>The sniffer goes through its case styles in order and stops at the first match, so the case
+ * styles coming after the usual matches are only instantiated once an input reaches them. Methods
+ * needing every case style, such as {@code getSupportedCaseStyles()}, instantiate them all.
+ *
+ * <p>The instances are published through an {@link AtomicReferenceArray}: concurrent first reads
+ * may instantiate a case style twice, but they all return the instance published first.
+ *
+ * @author Sebastien Vermeille
+ */
+final class LazyCaseStyleList extends AbstractList<CaseStyle> implements RandomAccess {
+
+  private final List<ServiceLoader.Provider<CaseStyle>> providers;
+  private final Function<ServiceLoader.Provider<CaseStyle>, CaseStyle> instantiator;
+  private final AtomicReferenceArray<CaseStyle> caseStyles;
+
+  /**
+   * Creates a list of lazily instantiated case styles.
+   *
+   * @param providers the providers of the case styles, in matching order
+   * @param instantiator the function instantiating a case style from its provider
+   */
+  LazyCaseStyleList(
+      final List<ServiceLoader.Provider<CaseStyle>> providers,
+      final Function<ServiceLoader.Provider<CaseStyle>, CaseStyle> instantiator) {
+    this.providers = List.copyOf(providers);
+    this.instantiator = instantiator;
+    this.caseStyles = new AtomicReferenceArray<>(this.providers.size());
+  }
+
+  @Override
+  public CaseStyle get(final int index) {
+    final var caseStyle = caseStyles.get(index);
+    if (caseStyle != null) {
+      return caseStyle;
+    }
+    final var instantiated = instantiator.apply(providers.get(index));
+    final var published = caseStyles.compareAndExchange(index, null, instantiated);
+    return published == null ? instantiated : published;
+  }
+
+  @Override
+  public int size() {
+    return providers.size();
+  }
+}
@@ -25,6 +25,7 @@ package dev.cookiecode.stylesniffer;
 import dev.cookiecode.stylesniffer.api.CaseStyle;
 import jakarta.annotation.Nullable;
 import java.util.*;
+import lombok.NonNull;
 
 /**
  * Interface for a service that provides functionality for sniffing and managing case styles.
@@ -51,6 +52,25 @@ public interface StyleSniffer {
    */
   Optional<CaseStyle> getCaseStyle(@Nullable final String name);
 
+  /**
+   * Retrieves a {@link CaseStyle} that matches the given range of characters.
+   *
+   * <p>This is the zero-copy variant of {@link #getCaseStyle(String)}: the range is sanitized and
+   * matched in place, which lets tokenizers classify slices of their buffers without creating a
+   * {@code String} per identifier. The default implementation copies the range.
+   *
+   * @param text the characters holding the name
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
+   * @return an {@link Optional} containing the matching {@code CaseStyle} if found, or an empty
+   *     {@code Optional} if no match is found
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  default Optional<CaseStyle> getCaseStyle(
+      @NonNull final CharSequence text, final int start, final int end) {
+    return getCaseStyle(text.subSequence(start, end).toString());
+  }
+
   /**
    * Retrieves a {@link CaseStyle} based on either its variant name or its primary name.
    *
@@ -64,7 +84,8 @@ public interface StyleSniffer {
    * Returns a set of names for all supported case styles.
    *
    * <p>This method provides a set of unique names for the case styles currently recognized by this
-   * {@code StyleSniffer}.
+   * {@code StyleSniffer}. The set iterates over the case styles in the order they are matched: a
+   * name matching several case styles is classified as the first one.
    *
    * @return a {@link Set} of names for supported case styles
    */
@@ -79,4 +100,22 @@ public interface StyleSniffer {
    * @return a {@link Set} of names for all supported case styles, including variants
    */
   Set<String> getSupportedCaseStylesIncludingVariants();
+
+  /**
+   * Creates a classifier matching a name against the registered case styles while it is typed,
+   * without reading the whole name again after each character.
+   *
+   * <p>The classifier uses the case styles registered when it is created. The default
+   * implementation looks them up by the names of {@link #getSupportedCaseStyles()}, in matching
+   * order.
+   *
+   * @return a new classifier, holding an empty name
+   */
+  default IncrementalClassifier newIncrementalClassifier() {
+    return new IncrementalClassifier(
+        getSupportedCaseStyles().stream()
+            .map(this::getCaseStyleWithVariantOrName)
+            .flatMap(Optional::stream)
+            .toList());
+  }
 }
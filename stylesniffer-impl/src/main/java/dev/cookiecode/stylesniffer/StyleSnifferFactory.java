@@ -22,24 +22,77 @@
  */
 package dev.cookiecode.stylesniffer;
 
-import dev.cookiecode.stylesniffer.generated.CaseStyleInjector;
-import lombok.experimental.UtilityClass;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.jfr.StyleSnifferCreationEvent;
+import dev.cookiecode.stylesniffer.metrics.InstrumentedStyleSniffer;
+import dev.cookiecode.stylesniffer.metrics.StyleSnifferMetrics;
+import java.util.ServiceLoader;
+import lombok.NonNull;
 
 /**
  * Utility class for creating instances of {@link StyleSniffer}.
  *
+ * <p>The case styles are discovered through the {@code
+ * META-INF/services/dev.cookiecode.stylesniffer.api.CaseStyle} files written by the annotation
+ * processor: the case styles registered by every module of the class path are merged, the built-in
+ * ones included. They are instantiated by their providers, without reflection, so that the factory
+ * works in a native image as is.
+ *
  * @author Sebastien Vermeille
  */
-@UtilityClass
 public final class StyleSnifferFactory {
 
+  private StyleSnifferFactory() {}
+
   /**
    * Creates and returns a new instance of {@link StyleSniffer}.
    *
    * @return a new {@link StyleSniffer} instance
    */
   public static StyleSniffer createStyleSniffer() {
-    final var caseStyleClasses = new CaseStyleInjector().getAnnotatedCaseStyles();
-    return new StyleSnifferImpl(caseStyleClasses);
+    return createStyleSniffer(false);
+  }
+
+  /**
+   * Creates and returns a new instance of {@link StyleSniffer} instantiating each case style the
+   * first time it is needed rather than upfront.
+   *
+   * <p>The case styles are only located when the sniffer is created: their classes are neither
+   * initialized nor instantiated until a classification reaches them, which shortens the startup of
+   * applications using a few case styles out of many.
+   *
+   * @return a new lazy {@link StyleSniffer} instance
+   */
+  public static StyleSniffer createLazyStyleSniffer() {
+    return createStyleSniffer(true);
+  }
+
+  private static StyleSniffer createStyleSniffer(final boolean lazy) {
+    final var event = new StyleSnifferCreationEvent();
+    event.begin();
+
+    final var providers = ServiceLoader.load(CaseStyle.class).stream().toList();
+    final var styleSniffer =
+        lazy
+            ? StyleSnifferImpl.ofLazyProviders(providers)
+            : StyleSnifferImpl.ofProviders(providers);
+
+    if (event.shouldCommit()) {
+      event.setCaseStyleClassCount(providers.size());
+      event.commit();
+    }
+    return styleSniffer;
+  }
+
+  /**
+   * Creates a new instance of {@link StyleSniffer} recording its classifications into the given
+   * metrics.
+   *
+   * @param metrics the metrics to record into, may be shared between several sniffers
+   * @return a new instrumented {@link StyleSniffer} instance
+   */
+  public static StyleSniffer createInstrumentedStyleSniffer(
+      @NonNull final StyleSnifferMetrics metrics) {
+    return new InstrumentedStyleSniffer(createStyleSniffer(), metrics);
   }
 }
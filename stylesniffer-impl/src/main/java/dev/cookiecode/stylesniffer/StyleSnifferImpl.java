@@ -24,17 +24,21 @@ package dev.cookiecode.stylesniffer;
 
 import static java.lang.reflect.Modifier.isAbstract;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.checkFromToIndex;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toSet;
 
 import com.google.common.annotations.VisibleForTesting;
 import dev.cookiecode.stylesniffer.api.CaseStyle;
 import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.jfr.CaseStyleInstantiationEvent;
+import dev.cookiecode.stylesniffer.jfr.CaseStyleRegistrationEvent;
+import dev.cookiecode.stylesniffer.jfr.ClassificationEvent;
 import jakarta.annotation.Nullable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import java.util.function.Predicate;
 import lombok.NonNull;
 
 /**
@@ -46,17 +50,59 @@ import lombok.NonNull;
  * a list. It also provides methods to retrieve case styles based on names and to list all supported
  * case styles.
  *
+ * <p>The case styles can also be registered through their {@link ServiceLoader} providers, which
+ * instantiate them without any reflective call from this class: native images then need no
+ * reflection configuration, the providers listed in the {@code META-INF/services} files being
+ * registered by the image builder itself.
+ *
  * @author Sebastien Vermeille
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class StyleSnifferImpl implements StyleSniffer {
 
-  private List<CaseStyle> caseStyles = new ArrayList<>();
+  // replaced as a whole, under the lock of the sniffer, each time case styles are (un)registered
+  private volatile List<CaseStyle> caseStyles = new ArrayList<>();
+
+  // registers nothing, not even an empty registration event
+  private StyleSnifferImpl() {}
 
   StyleSnifferImpl(@NonNull List<Class<? extends CaseStyle>> caseStyleClasses) {
     registerCaseStyleClasses(caseStyleClasses);
   }
 
+  /**
+   * Creates a sniffer registering the case styles instantiated by the given providers.
+   *
+   * @param providers the providers of the case styles
+   * @return the sniffer
+   */
+  static StyleSnifferImpl ofProviders(@NonNull List<ServiceLoader.Provider<CaseStyle>> providers) {
+    final var styleSniffer = new StyleSnifferImpl();
+    styleSniffer.registerCaseStyleProviders(providers);
+    return styleSniffer;
+  }
+
+  /**
+   * Creates a sniffer instantiating each case style of the given providers the first time it is
+   * needed.
+   *
+   * <p>Registering other case styles afterwards instantiates all the pending ones.
+   *
+   * @param providers the providers of the case styles
+   * @return the sniffer
+   * @see LazyCaseStyleList
+   */
+  static StyleSnifferImpl ofLazyProviders(
+      @NonNull List<ServiceLoader.Provider<CaseStyle>> providers) {
+    final var styleSniffer = new StyleSnifferImpl();
+    styleSniffer.caseStyles =
+        new LazyCaseStyleList(
+            providers.stream()
+                .filter(provider -> styleSniffer.isValidCaseStyleClass(provider.type()))
+                .toList(),
+            styleSniffer::provideCaseStyle);
+    return styleSniffer;
+  }
+
   @VisibleForTesting
   void registerCaseStyleClass(@NonNull Class<? extends CaseStyle> caseStyleClass) {
     registerCaseStyleClasses(Collections.singletonList(caseStyleClass));
@@ -64,17 +110,64 @@ public class StyleSnifferImpl implements StyleSniffer {
 
   @VisibleForTesting
   void registerCaseStyleClasses(@NonNull List<Class<? extends CaseStyle>> caseStyleClasses) {
-    List<CaseStyle> newCaseStyles = new ArrayList<>(caseStyles);
-    newCaseStyles.addAll(
+    final var event = new CaseStyleRegistrationEvent();
+    event.begin();
+
+    final var registeredCaseStyles =
         caseStyleClasses.stream()
             .filter(this::isValidCaseStyleClass)
             .map(this::instantiateCaseStyle)
-            .toList());
+            .toList();
+    swapCaseStyles(event, caseStyleClasses.size(), caseStyle -> false, registeredCaseStyles);
+  }
+
+  @VisibleForTesting
+  void registerCaseStyleProviders(@NonNull List<ServiceLoader.Provider<CaseStyle>> providers) {
+    final var event = new CaseStyleRegistrationEvent();
+    event.begin();
+
+    final var registeredCaseStyles =
+        providers.stream()
+            .filter(provider -> isValidCaseStyleClass(provider.type()))
+            .map(this::provideCaseStyle)
+            .toList();
+    swapCaseStyles(event, providers.size(), caseStyle -> false, registeredCaseStyles);
+  }
+
+  /**
+   * Removes the registered case styles matching the given predicate and appends the given ones, in
+   * a single step: concurrent classifications see either the previous or the new case styles, never
+   * a registry missing both.
+   *
+   * @param removed the predicate selecting the registered case styles to remove
+   * @param added the case styles to append, already instantiated
+   */
+  void replaceCaseStyles(
+      @NonNull Predicate<? super CaseStyle> removed, @NonNull List<CaseStyle> added) {
+    final var event = new CaseStyleRegistrationEvent();
+    event.begin();
+
+    swapCaseStyles(event, added.size(), removed, added);
+  }
+
+  private synchronized void swapCaseStyles(
+      final CaseStyleRegistrationEvent event,
+      final int candidateCount,
+      final Predicate<? super CaseStyle> removed,
+      final List<CaseStyle> registeredCaseStyles) {
+    List<CaseStyle> newCaseStyles = new ArrayList<>(caseStyles);
+    newCaseStyles.removeIf(removed);
+    newCaseStyles.addAll(registeredCaseStyles);
 
     caseStyles =
         unmodifiableList(
             newCaseStyles); // ensure only this method can modify caseStyles items (no add nor
     // delete)
+
+    if (event.shouldCommit()) {
+      event.setResult(candidateCount, registeredCaseStyles.size(), newCaseStyles.size());
+      event.commit();
+    }
   }
 
   /**
@@ -98,8 +191,12 @@ public class StyleSnifferImpl implements StyleSniffer {
    */
   @VisibleForTesting
   CaseStyle instantiateCaseStyle(@NonNull Class<? extends CaseStyle> clazz) {
+    final var event = new CaseStyleInstantiationEvent(clazz);
+    event.begin();
     try {
-      return clazz.getDeclaredConstructor().newInstance();
+      final var caseStyle = clazz.getDeclaredConstructor().newInstance();
+      event.commit();
+      return caseStyle;
     } catch (InstantiationException e) {
       throw new StyleSnifferException(
           String.format("Cannot instantiate case style class %s. Is it abstract?", clazz.getName()),
@@ -116,12 +213,76 @@ public class StyleSnifferImpl implements StyleSniffer {
     }
   }
 
+  /**
+   * Instantiates a {@link CaseStyle} through its {@link ServiceLoader} provider.
+   *
+   * @param provider the provider of the case style
+   * @return the instantiated {@code CaseStyle}
+   * @throws StyleSnifferException if instantiation fails
+   */
+  @VisibleForTesting
+  CaseStyle provideCaseStyle(@NonNull ServiceLoader.Provider<CaseStyle> provider) {
+    final var event = new CaseStyleInstantiationEvent(provider.type());
+    event.begin();
+    try {
+      final var caseStyle = provider.get();
+      event.commit();
+      return caseStyle;
+    } catch (ServiceConfigurationError e) {
+      throw new StyleSnifferException(
+          String.format("Cannot instantiate case style class %s", provider.type().getName()), e);
+    }
+  }
+
   @Override
   public Optional<CaseStyle> getCaseStyle(@Nullable final String name) {
-    return sanitizeInput(name)
-        .flatMap(
-            sanitizedName ->
-                caseStyles.stream().filter(style -> style.matches(sanitizedName)).findFirst());
+    return name == null ? Optional.empty() : getCaseStyle(name, 0, name.length());
+  }
+
+  @Override
+  public Optional<CaseStyle> getCaseStyle(
+      @NonNull final CharSequence text, final int start, final int end) {
+    checkFromToIndex(start, end, text.length());
+
+    final var event = new ClassificationEvent();
+    if (!event.isEnabled() || !ClassificationEvent.isSampled()) {
+      return classify(text, start, end);
+    }
+
+    event.begin();
+    final var result = classify(text, start, end);
+    if (event.shouldCommit()) {
+      event.setResult(end - start, result.orElse(null));
+      event.commit();
+    }
+    return result;
+  }
+
+  /**
+   * Matches the given range against the registered case styles, in registration order.
+   *
+   * <p>The range is sanitized in place the same way {@link #sanitizeInput(String)} does, so that no
+   * intermediate {@code String} is created.
+   */
+  private Optional<CaseStyle> classify(@NonNull final CharSequence text, int start, int end) {
+    while (start < end && text.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && text.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return Optional.empty();
+    }
+
+    final var registeredCaseStyles = caseStyles;
+    for (int i = 0; i < registeredCaseStyles.size(); i++) {
+      final var caseStyle = registeredCaseStyles.get(i);
+      if (caseStyle.matches(text, start, end)) {
+        return Optional.of(caseStyle);
+      }
+    }
+    return Optional.empty();
   }
 
   @Override
@@ -138,7 +299,8 @@ public class StyleSnifferImpl implements StyleSniffer {
   }
 
   /**
-   * Performs basic sanity checks on the input, such as trimming whitespace.
+   * Performs basic sanity checks on the input, such as trimming whitespace (as defined by {@link
+   * String#trim()}).
    *
    * @param name the input name to sanitize
    * @return an {@link Optional} containing the sanitized name, or an empty {@link Optional} if the
@@ -150,11 +312,16 @@ public class StyleSnifferImpl implements StyleSniffer {
 
   @Override
   public Set<String> getSupportedCaseStyles() {
-    return caseStyles.stream().map(CaseStyle::getName).collect(toSet());
+    return caseStyles.stream().map(CaseStyle::getName).collect(toCollection(LinkedHashSet::new));
   }
 
   @Override
   public Set<String> getSupportedCaseStylesIncludingVariants() {
     return caseStyles.stream().flatMap(style -> style.getVariantNames().stream()).collect(toSet());
   }
+
+  @Override
+  public IncrementalClassifier newIncrementalClassifier() {
+    return new IncrementalClassifier(caseStyles);
+  }
 }
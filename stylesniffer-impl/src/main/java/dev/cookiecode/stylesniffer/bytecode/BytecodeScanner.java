@@ -0,0 +1,171 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.bytecode;
+
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import lombok.NonNull;
+
+/**
+ * Scans compiled artifacts ({@code .class} files, JARs and directories) for the names they declare,
+ * without going through a {@link ClassLoader}.
+ *
+ * <p>Class files are parsed by a {@link ClassFileReader} per thread. The entries of an archive and
+ * the files of a directory are processed in parallel (common fork-join pool) unless the scanner has
+ * been created sequential: the {@link ClassMemberConsumer} must then be thread-safe.
+ *
+ * <p>Archives are recognized by their extension ({@code jar}, {@code war}, {@code ear}, {@code
+ * zip}). Nested archives are not opened and the versioned entries of multi-release JARs ({@code
+ * META-INF/versions/}) are skipped, so that every class is reported once.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class BytecodeScanner {
+
+  private static final String CLASS_EXTENSION = ".class";
+  private static final String VERSIONED_ENTRIES = "META-INF/versions/";
+  private static final Set<String> ARCHIVE_EXTENSIONS = Set.of("jar", "war", "ear", "zip");
+
+  private final boolean parallel;
+  private final ThreadLocal<ClassFileReader> readers =
+      ThreadLocal.withInitial(ClassFileReader::new);
+
+  /** Creates a scanner processing the archive entries and the directory files in parallel. */
+  public BytecodeScanner() {
+    this(true);
+  }
+
+  /**
+   * Creates a scanner.
+   *
+   * @param parallel {@code true} to process the archive entries and the directory files in
+   *     parallel, {@code false} to process them in order on the calling thread
+   */
+  public BytecodeScanner(final boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  /**
+   * Scans the given class file, archive or directory (recursively).
+   *
+   * @param path the path to scan
+   * @param consumer the consumer receiving each declared name
+   * @return the number of names handed to the consumer
+   * @throws IOException if a file cannot be read
+   * @throws StyleSnifferException if a class file is malformed
+   */
+  public long scan(@NonNull final Path path, @NonNull final ClassMemberConsumer consumer)
+      throws IOException {
+    try {
+      return Files.isDirectory(path) ? scanDirectory(path, consumer) : scanFile(path, consumer);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private long scanDirectory(final Path directory, final ClassMemberConsumer consumer)
+      throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      return stream(files.filter(file -> isClassFile(file) || isArchive(file)))
+          .mapToLong(file -> uncheckedScanFile(file, consumer))
+          .sum();
+    }
+  }
+
+  private long scanFile(final Path file, final ClassMemberConsumer consumer) throws IOException {
+    if (isArchive(file)) {
+      return scanArchive(file, consumer);
+    }
+    try (var in = Files.newInputStream(file)) {
+      return readers.get().read(in, consumer);
+    } catch (StyleSnifferException e) {
+      throw new StyleSnifferException(String.format("Cannot scan %s", file), e);
+    }
+  }
+
+  private long uncheckedScanFile(final Path file, final ClassMemberConsumer consumer) {
+    try {
+      return scanFile(file, consumer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private long scanArchive(final Path archive, final ClassMemberConsumer consumer)
+      throws IOException {
+    try (var zip = new ZipFile(archive.toFile())) {
+      final LongStream counts =
+          stream(zip.stream())
+              .filter(BytecodeScanner::isClassEntry)
+              .mapToLong(entry -> scanEntry(archive, zip, entry, consumer));
+      return counts.sum();
+    }
+  }
+
+  private long scanEntry(
+      final Path archive,
+      final ZipFile zip,
+      final ZipEntry entry,
+      final ClassMemberConsumer consumer) {
+    try (var in = zip.getInputStream(entry)) {
+      return readers.get().read(in, consumer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (StyleSnifferException e) {
+      throw new StyleSnifferException(
+          String.format("Cannot scan %s!/%s", archive, entry.getName()), e);
+    }
+  }
+
+  private <T> Stream<T> stream(final Stream<T> stream) {
+    return parallel ? stream.parallel() : stream.sequential();
+  }
+
+  private static boolean isClassEntry(final ZipEntry entry) {
+    final var name = entry.getName();
+    return !entry.isDirectory()
+        && name.endsWith(CLASS_EXTENSION)
+        && !name.startsWith(VERSIONED_ENTRIES);
+  }
+
+  private static boolean isClassFile(final Path file) {
+    return file.getFileName().toString().endsWith(CLASS_EXTENSION) && Files.isRegularFile(file);
+  }
+
+  private static boolean isArchive(final Path file) {
+    final var name = file.getFileName().toString();
+    final int dot = name.lastIndexOf('.');
+    return dot >= 0
+        && ARCHIVE_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT))
+        && Files.isRegularFile(file);
+  }
+}
@@ -0,0 +1,355 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.bytecode;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import lombok.NonNull;
+
+/**
+ * Reads the names declared by a class file straight from its bytes, without loading the class.
+ *
+ * <p>Only the parts of the class file format needed to find the names are decoded: the constant
+ * pool is indexed (not materialized), then the {@code this_class}, {@code fields} and {@code
+ * methods} tables are walked and all the attributes are skipped. The names are decoded from
+ * modified UTF-8 into a buffer reused across calls and handed over as ranges of that buffer.
+ *
+ * <p>Compiler generated members are not reported: synthetic and bridge members, constructors and
+ * static initializers. The simple names of anonymous classes, {@code package-info} and {@code
+ * module-info} are not reported either.
+ *
+ * <p>Instances are not thread-safe: use one reader per thread.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class ClassFileReader {
+
+  private static final int MAGIC = 0xCAFEBABE;
+  private static final int HEADER_SIZE = 10;
+
+  private static final int ACC_STATIC = 0x0008;
+  private static final int ACC_FINAL = 0x0010;
+  private static final int ACC_BRIDGE = 0x0040;
+  private static final int ACC_SYNTHETIC = 0x1000;
+  private static final int ACC_MODULE = 0x8000;
+
+  // constant pool tags
+  private static final int UTF8 = 1;
+  private static final int INTEGER = 3;
+  private static final int FLOAT = 4;
+  private static final int LONG = 5;
+  private static final int DOUBLE = 6;
+  private static final int CLASS = 7;
+  private static final int STRING = 8;
+  private static final int FIELD_REF = 9;
+  private static final int METHOD_REF = 10;
+  private static final int INTERFACE_METHOD_REF = 11;
+  private static final int NAME_AND_TYPE = 12;
+  private static final int METHOD_HANDLE = 15;
+  private static final int METHOD_TYPE = 16;
+  private static final int DYNAMIC = 17;
+  private static final int INVOKE_DYNAMIC = 18;
+  private static final int MODULE = 19;
+  private static final int PACKAGE = 20;
+
+  private byte[] bytes = new byte[8192];
+  private int[] constantOffsets = new int[256];
+  private int constantCount;
+  private char[] chars = new char[256];
+  private CharBuffer charsView = CharBuffer.wrap(chars);
+
+  // state of the current read
+  private byte[] data;
+  private int limit;
+
+  /**
+   * Reads the class file provided by the given stream. The stream is read until its end but not
+   * closed.
+   *
+   * @param in the stream providing the class file
+   * @param consumer the consumer receiving each declared name
+   * @return the number of names handed to the consumer
+   * @throws IOException if the stream cannot be read
+   * @throws StyleSnifferException if the content is not a valid class file
+   */
+  public int read(@NonNull final InputStream in, @NonNull final ClassMemberConsumer consumer)
+      throws IOException {
+    int length = 0;
+    int read;
+    while ((read = in.read(bytes, length, bytes.length - length)) >= 0) {
+      length += read;
+      if (length == bytes.length) {
+        bytes = Arrays.copyOf(bytes, bytes.length * 2);
+      }
+    }
+    return read(bytes, 0, length, consumer);
+  }
+
+  /**
+   * Reads the class file held by the given array.
+   *
+   * @param classFile the array holding the class file
+   * @param offset the index of the first byte of the class file
+   * @param length the size of the class file
+   * @param consumer the consumer receiving each declared name
+   * @return the number of names handed to the consumer
+   * @throws StyleSnifferException if the content is not a valid class file
+   */
+  public int read(
+      @NonNull final byte[] classFile,
+      final int offset,
+      final int length,
+      @NonNull final ClassMemberConsumer consumer) {
+    if (offset < 0 || length < 0 || offset + length > classFile.length) {
+      throw new IndexOutOfBoundsException(
+          String.format(
+              "Range [%d, %d) out of bounds for length %d",
+              offset, offset + length, classFile.length));
+    }
+    data = classFile;
+    limit = offset + length;
+    try {
+      return readClass(offset, consumer);
+    } catch (IndexOutOfBoundsException e) {
+      throw new StyleSnifferException("Malformed class file: unexpected end of data", e);
+    } finally {
+      data = null;
+    }
+  }
+
+  private int readClass(final int offset, final ClassMemberConsumer consumer) {
+    if (limit - offset < HEADER_SIZE || readInt(offset) != MAGIC) {
+      throw new StyleSnifferException("Not a class file: bad magic number");
+    }
+    int position = readConstantPool(offset + HEADER_SIZE - 2);
+
+    final int accessFlags = readUnsignedShort(position);
+    final int thisClass = readUnsignedShort(position + 2);
+    position += 6;
+    position += 2 + 2 * readUnsignedShort(position);
+
+    if ((accessFlags & (ACC_MODULE | ACC_SYNTHETIC)) != 0) {
+      return 0;
+    }
+    final int classNameEnd = decodeUtf8(readUnsignedShort(constantOffset(thisClass) + 1), 0);
+    final var className = charsView.subSequence(0, classNameEnd).toString();
+    int count = 0;
+    final int simpleNameStart = simpleNameStart(classNameEnd);
+    if (simpleNameStart < classNameEnd && isJavaName(simpleNameStart, classNameEnd)) {
+      consumer.accept(className, charsView, simpleNameStart, classNameEnd, TYPE);
+      count++;
+    }
+
+    final int fieldCount = readUnsignedShort(position);
+    position += 2;
+    for (int i = 0; i < fieldCount; i++) {
+      final int flags = readUnsignedShort(position);
+      if ((flags & ACC_SYNTHETIC) == 0) {
+        final int end = decodeUtf8(readUnsignedShort(position + 2), 0);
+        final boolean constant = (flags & (ACC_STATIC | ACC_FINAL)) == (ACC_STATIC | ACC_FINAL);
+        consumer.accept(className, charsView, 0, end, constant ? CONSTANT : FIELD);
+        count++;
+      }
+      position = skipAttributes(position + 6);
+    }
+
+    final int methodCount = readUnsignedShort(position);
+    position += 2;
+    for (int i = 0; i < methodCount; i++) {
+      final int flags = readUnsignedShort(position);
+      if ((flags & (ACC_SYNTHETIC | ACC_BRIDGE)) == 0) {
+        final int end = decodeUtf8(readUnsignedShort(position + 2), 0);
+        // <init> and <clinit>
+        if (chars[0] != '<') {
+          consumer.accept(className, charsView, 0, end, METHOD);
+          count++;
+        }
+      }
+      position = skipAttributes(position + 6);
+    }
+    return count;
+  }
+
+  /**
+   * Indexes the constant pool: records the offset of every entry, nothing is decoded.
+   *
+   * @param position the offset of {@code constant_pool_count}
+   * @return the offset following the constant pool
+   */
+  private int readConstantPool(final int position) {
+    final int count = readUnsignedShort(position);
+    if (constantOffsets.length < count) {
+      constantOffsets = new int[Math.max(count, constantOffsets.length * 2)];
+    }
+    constantCount = count;
+    int offset = position + 2;
+    for (int index = 1; index < count; index++) {
+      if (offset >= limit) {
+        throw truncatedConstantPool(index);
+      }
+      constantOffsets[index] = offset;
+      final int tag = data[offset];
+      final int size =
+          switch (tag) {
+            case UTF8 -> 3 + readUnsignedShort(offset + 1);
+            case CLASS, STRING, METHOD_TYPE, MODULE, PACKAGE -> 3;
+            case METHOD_HANDLE -> 4;
+            case INTEGER,
+                    FLOAT,
+                    FIELD_REF,
+                    METHOD_REF,
+                    INTERFACE_METHOD_REF,
+                    NAME_AND_TYPE,
+                    DYNAMIC,
+                    INVOKE_DYNAMIC ->
+                5;
+            case LONG, DOUBLE -> 9;
+            default ->
+                throw new StyleSnifferException(
+                    String.format("Malformed class file: unknown constant pool tag %d", tag));
+          };
+      if (size > limit - offset) {
+        throw truncatedConstantPool(index);
+      }
+      if (tag == LONG || tag == DOUBLE) {
+        // eight-byte constants take two entries
+        index++;
+      }
+      offset += size;
+    }
+    return offset;
+  }
+
+  private static StyleSnifferException truncatedConstantPool(final int index) {
+    return new StyleSnifferException(
+        String.format("Malformed class file: constant pool truncated at entry %d", index));
+  }
+
+  private int skipAttributes(final int position) {
+    final int attributeCount = readUnsignedShort(position);
+    int offset = position + 2;
+    for (int i = 0; i < attributeCount; i++) {
+      offset += 6 + readInt(offset + 2);
+    }
+    return offset;
+  }
+
+  /**
+   * Decodes a {@code CONSTANT_Utf8} entry into the character buffer.
+   *
+   * @param index the constant pool index of the entry
+   * @param from the index of the character buffer to decode into
+   * @return the index of the character buffer following the decoded characters
+   */
+  private int decodeUtf8(final int index, final int from) {
+    final int offset = constantOffset(index);
+    if (data[offset] != UTF8) {
+      throw new StyleSnifferException(
+          String.format("Malformed class file: constant %d is not a UTF8 entry", index));
+    }
+    final int length = readUnsignedShort(offset + 1);
+    if (chars.length < from + length) {
+      chars = Arrays.copyOf(chars, Math.max(from + length, chars.length * 2));
+      charsView = CharBuffer.wrap(chars);
+    }
+    final int end = offset + 3 + length;
+    if (end > limit) {
+      throw new IndexOutOfBoundsException(end);
+    }
+    int target = from;
+    int i = offset + 3;
+    while (i < end) {
+      final int b = data[i] & 0xFF;
+      if (b < 0x80) {
+        chars[target++] = (char) b;
+        i++;
+      } else if ((b & 0xE0) == 0xC0) {
+        chars[target++] = (char) (((b & 0x1F) << 6) | (data[i + 1] & 0x3F));
+        i += 2;
+      } else {
+        chars[target++] =
+            (char) (((b & 0x0F) << 12) | ((data[i + 1] & 0x3F) << 6) | (data[i + 2] & 0x3F));
+        i += 3;
+      }
+    }
+    return target;
+  }
+
+  /** Returns the start of the simple name of a decoded binary class name. */
+  private int simpleNameStart(final int end) {
+    int start = end;
+    while (start > 0 && chars[start - 1] != '/' && chars[start - 1] != '$') {
+      start--;
+    }
+    // local classes are named Outer$1Local, anonymous ones Outer$1
+    if (start > 0 && chars[start - 1] == '$') {
+      while (start < end && chars[start] >= '0' && chars[start] <= '9') {
+        start++;
+      }
+    }
+    return start;
+  }
+
+  /** Tells {@code package-info} and {@code module-info} apart from actual classes. */
+  private boolean isJavaName(final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (chars[i] == '-') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int constantOffset(final int index) {
+    if (index < 1 || index >= constantCount) {
+      throw new StyleSnifferException(
+          String.format("Malformed class file: invalid constant pool index %d", index));
+    }
+    return constantOffsets[index];
+  }
+
+  private int readUnsignedShort(final int offset) {
+    if (offset + 2 > limit) {
+      throw new IndexOutOfBoundsException(offset);
+    }
+    return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+  }
+
+  private int readInt(final int offset) {
+    if (offset + 4 > limit) {
+      throw new IndexOutOfBoundsException(offset);
+    }
+    return ((data[offset] & 0xFF) << 24)
+        | ((data[offset + 1] & 0xFF) << 16)
+        | ((data[offset + 2] & 0xFF) << 8)
+        | (data[offset + 3] & 0xFF);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.bytecode;
+
+import dev.cookiecode.stylesniffer.lexer.IdentifierKind;
+
+/**
+ * Receives the names declared by a class file.
+ *
+ * <p>The name is handed over as a range of a buffer owned by the caller: it is only valid during
+ * the call and must be copied (e.g. {@code name.subSequence(start, end).toString()}) if it has to
+ * be retained.
+ *
+ * @author Sebastien Vermeille
+ */
+@FunctionalInterface
+public interface ClassMemberConsumer {
+
+  /**
+   * Accepts a declared name.
+   *
+   * @param className the binary name of the declaring class in internal form, e.g. {@code
+   *     com/acme/Outer$Inner}
+   * @param name the buffer holding the name
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
+   * @param kind {@link IdentifierKind#TYPE} for the simple name of the class itself, {@link
+   *     IdentifierKind#METHOD}, {@link IdentifierKind#FIELD} or {@link IdentifierKind#CONSTANT}
+   *     ({@code static final} fields) for its members
+   */
+  void accept(String className, CharSequence name, int start, int end, IdentifierKind kind);
+}
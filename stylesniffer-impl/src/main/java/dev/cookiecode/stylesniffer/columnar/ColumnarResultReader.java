@@ -0,0 +1,355 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.columnar;
+
+import static dev.cookiecode.stylesniffer.columnar.ColumnarResultWriter.FORMAT_VERSION;
+import static dev.cookiecode.stylesniffer.columnar.ColumnarResultWriter.HEADER_SIZE;
+import static dev.cookiecode.stylesniffer.columnar.ColumnarResultWriter.KINDS_FLAG;
+import static dev.cookiecode.stylesniffer.columnar.ColumnarResultWriter.MAGIC;
+import static dev.cookiecode.stylesniffer.columnar.ColumnarResultWriter.OFFSETS_FLAG;
+import static dev.cookiecode.stylesniffer.columnar.ColumnarResultWriter.UNKNOWN_KIND;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.checkIndex;
+
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.lexer.IdentifierKind;
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import lombok.NonNull;
+
+/**
+ * Reads the files written by {@link ColumnarResultWriter}.
+ *
+ * <p>The file is memory-mapped and the columns are read in place: any row can be read without
+ * reading the previous ones, and the rows of a case style are found by scanning the style column
+ * only, eight rows at a time, without creating any object per row.
+ *
+ * <p>Instances are thread-safe. The mapping is released when the reader is garbage collected.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class ColumnarResultReader {
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+  private static final IdentifierKind[] KINDS = IdentifierKind.values();
+
+  private final List<String> caseStyleNames;
+  private final long rowCount;
+  private final int dictionarySize;
+  private final MappedColumn dictionaryStarts;
+  private final MappedColumn dictionaryChars;
+  private final MappedColumn identifierColumn;
+  private final MappedColumn styleColumn;
+  @Nullable private final MappedColumn offsetColumn;
+  @Nullable private final MappedColumn kindColumn;
+
+  private ColumnarResultReader(
+      final List<String> caseStyleNames,
+      final long rowCount,
+      final int dictionarySize,
+      final MappedColumn[] sections) {
+    this.caseStyleNames = caseStyleNames;
+    this.rowCount = rowCount;
+    this.dictionarySize = dictionarySize;
+    this.dictionaryStarts = sections[0];
+    this.dictionaryChars = sections[1];
+    this.identifierColumn = sections[2];
+    this.styleColumn = sections[3];
+    this.offsetColumn = sections[4];
+    this.kindColumn = sections[5];
+  }
+
+  /**
+   * Opens a file written by a {@link ColumnarResultWriter}.
+   *
+   * @param file the file to read
+   * @return the reader
+   * @throws IOException if the file cannot be read
+   * @throws StyleSnifferException if the file has not been written by a {@link
+   *     ColumnarResultWriter} or is truncated
+   */
+  public static ColumnarResultReader open(@NonNull final Path file) throws IOException {
+    try (var channel = FileChannel.open(file, READ)) {
+      final var header = readFully(file, channel, 0, HEADER_SIZE);
+      if (header.getInt() != MAGIC) {
+        throw new StyleSnifferException(String.format("%s is not a columnar result file", file));
+      }
+      if (header.getInt() != FORMAT_VERSION) {
+        throw new StyleSnifferException(
+            String.format("%s has been written in an unsupported format version", file));
+      }
+      final int flags = header.getInt();
+      final int caseStyleCount = header.getInt();
+      final long rowCount = header.getLong();
+      final int dictionarySize = header.getInt();
+      final int dictionaryCharCount = header.getInt();
+
+      long position = HEADER_SIZE;
+      final List<String> caseStyleNames = new ArrayList<>();
+      for (int i = 0; i < caseStyleCount; i++) {
+        // length prefixed modified UTF-8
+        final int length = Short.toUnsignedInt(readFully(file, channel, position, 2).getShort());
+        final var bytes = readFully(file, channel, position, 2 + length).array();
+        caseStyleNames.add(new DataInputStream(new ByteArrayInputStream(bytes)).readUTF());
+        position += 2 + length;
+      }
+
+      final long[] sizes = {
+        (dictionarySize + 1L) * Integer.BYTES,
+        (long) dictionaryCharCount * Character.BYTES,
+        rowCount * Integer.BYTES,
+        rowCount,
+        (flags & OFFSETS_FLAG) != 0 ? rowCount * Long.BYTES : -1,
+        (flags & KINDS_FLAG) != 0 ? rowCount : -1
+      };
+      long expectedSize = position;
+      for (final long size : sizes) {
+        expectedSize += Math.max(size, 0);
+      }
+      if (channel.size() != expectedSize) {
+        throw new StyleSnifferException(String.format("%s is truncated", file));
+      }
+
+      final var sections = new MappedColumn[sizes.length];
+      for (int i = 0; i < sizes.length; i++) {
+        if (sizes[i] >= 0) {
+          sections[i] = MappedColumn.map(channel, position, sizes[i]);
+          position += sizes[i];
+        }
+      }
+      return new ColumnarResultReader(
+          List.copyOf(caseStyleNames), rowCount, dictionarySize, sections);
+    }
+  }
+
+  private static ByteBuffer readFully(
+      final Path file, final FileChannel channel, final long position, final int size)
+      throws IOException {
+    final var buffer = ByteBuffer.allocate(size);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new StyleSnifferException(String.format("%s is truncated", file));
+      }
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * @return the number of rows
+   */
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * @return the names of the case styles the rows refer to, sorted
+   */
+  public List<String> getCaseStyleNames() {
+    return caseStyleNames;
+  }
+
+  /**
+   * @return the number of distinct identifiers
+   */
+  public int getDictionarySize() {
+    return dictionarySize;
+  }
+
+  /**
+   * @return {@code true} if the offsets of the identifiers are stored
+   */
+  public boolean hasOffsets() {
+    return offsetColumn != null;
+  }
+
+  /**
+   * @return {@code true} if the kinds of the identifiers are stored
+   */
+  public boolean hasKinds() {
+    return kindColumn != null;
+  }
+
+  /**
+   * Returns the identifier of a row.
+   *
+   * @param row the index of the row
+   * @return the identifier
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public String getIdentifier(final long row) {
+    return getDictionaryEntry(getDictionaryIndex(row));
+  }
+
+  /**
+   * Returns the index in the dictionary of the identifier of a row: two rows hold the same
+   * identifier if and only if they have the same index.
+   *
+   * @param row the index of the row
+   * @return the dictionary index of the identifier
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public int getDictionaryIndex(final long row) {
+    checkIndex(row, rowCount);
+    return identifierColumn.getInt(row);
+  }
+
+  /**
+   * Returns an identifier of the dictionary.
+   *
+   * @param index the index of the identifier in the dictionary
+   * @return the identifier
+   * @throws IndexOutOfBoundsException if the index is not within the dictionary
+   */
+  public String getDictionaryEntry(final int index) {
+    checkIndex(index, dictionarySize);
+    final int start = dictionaryStarts.getInt(index);
+    final var chars = new char[dictionaryStarts.getInt(index + 1L) - start];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = dictionaryChars.getChar(start + (long) i);
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Returns the case style of a row.
+   *
+   * @param row the index of the row
+   * @return an {@link Optional} containing the case style name, or an empty {@code Optional} if the
+   *     identifier matched no case style
+   * @throws IndexOutOfBoundsException if the row does not exist
+   */
+  public Optional<String> getCaseStyleName(final long row) {
+    checkIndex(row, rowCount);
+    final int styleId = Byte.toUnsignedInt(styleColumn.getByte(row));
+    return styleId == 0 ? Optional.empty() : Optional.of(caseStyleNames.get(styleId - 1));
+  }
+
+  /**
+   * Returns the offset of the identifier of a row in its source.
+   *
+   * @param row the index of the row
+   * @return the offset, -1 if unknown
+   * @throws IndexOutOfBoundsException if the row does not exist
+   * @throws IllegalStateException if the offsets are not stored
+   */
+  public long getOffset(final long row) {
+    checkIndex(row, rowCount);
+    if (offsetColumn == null) {
+      throw new IllegalStateException("The offsets are not stored");
+    }
+    return offsetColumn.getLong(row);
+  }
+
+  /**
+   * Returns the kind of the identifier of a row.
+   *
+   * @param row the index of the row
+   * @return an {@link Optional} containing the kind, or an empty {@code Optional} if unknown
+   * @throws IndexOutOfBoundsException if the row does not exist
+   * @throws IllegalStateException if the kinds are not stored
+   */
+  public Optional<IdentifierKind> getKind(final long row) {
+    checkIndex(row, rowCount);
+    if (kindColumn == null) {
+      throw new IllegalStateException("The kinds are not stored");
+    }
+    final int kind = kindColumn.getByte(row);
+    return kind == UNKNOWN_KIND ? Optional.empty() : Optional.of(KINDS[kind - 1]);
+  }
+
+  /**
+   * Hands over the index of each row of the given case style, in order.
+   *
+   * @param caseStyleName the name of the case style, {@code null} for the unclassified rows
+   * @param consumer the consumer receiving the index of each row
+   * @return the number of rows handed to the consumer
+   */
+  public long forEachRow(
+      @Nullable final String caseStyleName, @NonNull final LongConsumer consumer) {
+    final int styleId = styleIdOf(caseStyleName);
+    if (styleId < 0) {
+      return 0;
+    }
+    // compares eight style ids at once, skipping the words without any match
+    final long pattern = ONES * styleId;
+    long count = 0;
+    long row = 0;
+    for (; row + Long.BYTES <= rowCount; row += Long.BYTES) {
+      final long word = styleColumn.getEightBytes(row) ^ pattern;
+      if (((word - ONES) & ~word & HIGH_BITS) != 0) {
+        for (int i = 0; i < Long.BYTES; i++) {
+          if (Byte.toUnsignedInt(styleColumn.getByte(row + i)) == styleId) {
+            consumer.accept(row + i);
+            count++;
+          }
+        }
+      }
+    }
+    for (; row < rowCount; row++) {
+      if (Byte.toUnsignedInt(styleColumn.getByte(row)) == styleId) {
+        consumer.accept(row);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Counts the rows of each case style.
+   *
+   * @return the number of rows per case style name, the case styles without any row being left out
+   */
+  public Map<String, Long> countRowsByStyle() {
+    final var counts = new long[caseStyleNames.size() + 1];
+    for (long row = 0; row < rowCount; row++) {
+      counts[Byte.toUnsignedInt(styleColumn.getByte(row))]++;
+    }
+    final Map<String, Long> countsByStyle = new HashMap<>();
+    for (int i = 0; i < caseStyleNames.size(); i++) {
+      if (counts[i + 1] > 0) {
+        countsByStyle.put(caseStyleNames.get(i), counts[i + 1]);
+      }
+    }
+    return Map.copyOf(countsByStyle);
+  }
+
+  private int styleIdOf(@Nullable final String caseStyleName) {
+    if (caseStyleName == null) {
+      return 0;
+    }
+    final int index = caseStyleNames.indexOf(caseStyleName);
+    return index < 0 ? -1 : index + 1;
+  }
+}
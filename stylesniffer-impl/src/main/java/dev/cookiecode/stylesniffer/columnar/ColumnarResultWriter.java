@@ -0,0 +1,344 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.columnar;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.checkFromToIndex;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.lexer.IdentifierKind;
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Writes classification results in a compact columnar file, read back by {@link
+ * ColumnarResultReader}.
+ *
+ * <p>Each row is an identifier and its case style. The identifiers are dictionary-encoded: each
+ * distinct identifier is stored once and the rows hold its index. The case style of a row is a
+ * single byte, indexing the case styles registered in the sniffer (sorted by name). The offset of
+ * each identifier in its source and its {@link IdentifierKind} can be stored in two optional
+ * columns.
+ *
+ * <p>The rows are streamed: each column is written to its own temporary file, next to the target
+ * file, and the columns are concatenated into the target file when the writer is closed. Only the
+ * dictionary is kept in memory, the identifiers being looked up in place.
+ *
+ * <p>The file is laid out as follows, all the numbers being big-endian:
+ *
+ * <pre>
+ * header      magic, format version, flags, case style count (ints), row count (long),
+ *             dictionary size, dictionary char count (ints)
+ * case styles the names of the case styles, in {@link java.io.DataOutput#writeUTF(String)} format
+ * dictionary  the index of the first char of each entry, then the char count (ints), then the
+ *             chars of all the entries (UTF-16)
+ * columns     identifier: the dictionary index of each row (ints)
+ *             style: 0 for an unclassified row, else 1 + the index of its case style (bytes)
+ *             offset (optional): the offset of each row in its source, -1 if unknown (longs)
+ *             kind (optional): 0 if unknown, else 1 + the ordinal of its kind (bytes)
+ * </pre>
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class ColumnarResultWriter implements Closeable {
+
+  static final int MAGIC = 0x53535231; // "SSR1"
+  static final int FORMAT_VERSION = 1;
+  static final int HEADER_SIZE = Integer.BYTES * 4 + Long.BYTES + Integer.BYTES * 2;
+
+  static final int OFFSETS_FLAG = 1;
+  static final int KINDS_FLAG = 2;
+
+  static final byte UNCLASSIFIED = 0;
+  static final byte UNKNOWN_KIND = 0;
+  static final long UNKNOWN_OFFSET = -1;
+
+  /** The style ids are bytes, 0 standing for unclassified rows. */
+  static final int MAX_CASE_STYLES = 255;
+
+  /** The chars of the dictionary are held in a single array while it is written. */
+  static final int MAX_DICTIONARY_CHARS = Integer.MAX_VALUE - 8;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path file;
+  private final List<String> caseStyleNames;
+  private final Map<String, Byte> styleIdsByName = new HashMap<>();
+  private final Map<CaseStyle, Byte> styleIds = new IdentityHashMap<>();
+  private final IdentifierDictionary dictionary = new IdentifierDictionary();
+  private final List<ColumnFile> columnFiles = new ArrayList<>();
+  private final ColumnFile identifierColumn;
+  private final ColumnFile styleColumn;
+  @Nullable private final ColumnFile offsetColumn;
+  @Nullable private final ColumnFile kindColumn;
+  private long rowCount;
+  private boolean closed;
+
+  /**
+   * Creates a writer without the optional columns.
+   *
+   * @param file the file to write
+   * @param styleSniffer the sniffer whose case styles are stored in the file
+   * @throws IOException if the temporary files cannot be created
+   */
+  public ColumnarResultWriter(@NonNull final Path file, @NonNull final StyleSniffer styleSniffer)
+      throws IOException {
+    this(file, styleSniffer, false, false);
+  }
+
+  /**
+   * Creates a writer.
+   *
+   * @param file the file to write
+   * @param styleSniffer the sniffer whose case styles are stored in the file
+   * @param withOffsets {@code true} to store the offset of each identifier in its source
+   * @param withKinds {@code true} to store the kind of each identifier
+   * @throws IOException if the temporary files cannot be created
+   * @throws IllegalArgumentException if the sniffer has more than 255 case styles
+   */
+  public ColumnarResultWriter(
+      @NonNull final Path file,
+      @NonNull final StyleSniffer styleSniffer,
+      final boolean withOffsets,
+      final boolean withKinds)
+      throws IOException {
+    this.file = file;
+    this.caseStyleNames = styleSniffer.getSupportedCaseStyles().stream().sorted().toList();
+    if (caseStyleNames.size() > MAX_CASE_STYLES) {
+      throw new IllegalArgumentException(
+          String.format(
+              "At most %d case styles can be stored, %d are registered",
+              MAX_CASE_STYLES, caseStyleNames.size()));
+    }
+    for (int i = 0; i < caseStyleNames.size(); i++) {
+      styleIdsByName.put(caseStyleNames.get(i), (byte) (i + 1));
+    }
+    this.identifierColumn = newColumn("identifiers");
+    this.styleColumn = newColumn("styles");
+    this.offsetColumn = withOffsets ? newColumn("offsets") : null;
+    this.kindColumn = withKinds ? newColumn("kinds") : null;
+  }
+
+  /**
+   * Writes a row.
+   *
+   * @param text the text holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @param caseStyle the case style of the identifier, {@code null} if it matches none
+   * @throws IOException if the row cannot be written
+   */
+  public void write(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @Nullable final CaseStyle caseStyle)
+      throws IOException {
+    write(text, start, end, caseStyle, UNKNOWN_OFFSET, null);
+  }
+
+  /**
+   * Writes a row, with its optional columns.
+   *
+   * @param text the text holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @param caseStyle the case style of the identifier, {@code null} if it matches none
+   * @param offset the offset of the identifier in its source, -1 if unknown; ignored unless the
+   *     offsets are stored
+   * @param kind the kind of the identifier, {@code null} if unknown; ignored unless the kinds are
+   *     stored
+   * @throws IOException if the row cannot be written
+   * @throws IllegalArgumentException if the case style is not registered in the sniffer
+   * @throws IllegalStateException if the writer is closed or the dictionary is full
+   */
+  public void write(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @Nullable final CaseStyle caseStyle,
+      final long offset,
+      @Nullable final IdentifierKind kind)
+      throws IOException {
+    if (closed) {
+      throw new IllegalStateException("The writer is closed");
+    }
+    checkFromToIndex(start, end, text.length());
+    final byte styleId = caseStyle == null ? UNCLASSIFIED : styleIdOf(caseStyle);
+    identifierColumn.ensureRemaining(Integer.BYTES).putInt(dictionary.indexOf(text, start, end));
+    styleColumn.ensureRemaining(1).put(styleId);
+    if (offsetColumn != null) {
+      offsetColumn.ensureRemaining(Long.BYTES).putLong(offset);
+    }
+    if (kindColumn != null) {
+      kindColumn.ensureRemaining(1).put(kind == null ? UNKNOWN_KIND : (byte) (kind.ordinal() + 1));
+    }
+    rowCount++;
+  }
+
+  /**
+   * @return the number of rows written so far
+   */
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Writes the file, concatenating the columns after the header and the dictionary, and deletes the
+   * temporary files.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      for (final var columnFile : columnFiles) {
+        columnFile.flush();
+      }
+      try (var target = FileChannel.open(file, WRITE, CREATE, TRUNCATE_EXISTING)) {
+        writeFully(target, header());
+        dictionary.writeTo(target, ByteBuffer.allocate(BUFFER_SIZE));
+        for (final var columnFile : columnFiles) {
+          columnFile.transferTo(target);
+        }
+      }
+    } finally {
+      for (final var columnFile : columnFiles) {
+        columnFile.delete();
+      }
+    }
+  }
+
+  private byte styleIdOf(final CaseStyle caseStyle) {
+    var styleId = styleIds.get(caseStyle);
+    if (styleId == null) {
+      styleId = styleIdsByName.get(caseStyle.getName());
+      if (styleId == null) {
+        throw new IllegalArgumentException(
+            String.format("The case style %s is not registered", caseStyle.getName()));
+      }
+      styleIds.put(caseStyle, styleId);
+    }
+    return styleId;
+  }
+
+  private ColumnFile newColumn(final String name) throws IOException {
+    final var directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    final var columnFile =
+        new ColumnFile(Files.createTempFile(directory, file.getFileName().toString(), "." + name));
+    columnFiles.add(columnFile);
+    return columnFile;
+  }
+
+  private ByteBuffer header() throws IOException {
+    final var names = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(names)) {
+      for (final var caseStyleName : caseStyleNames) {
+        out.writeUTF(caseStyleName);
+      }
+    }
+    final int flags =
+        (offsetColumn != null ? OFFSETS_FLAG : 0) | (kindColumn != null ? KINDS_FLAG : 0);
+    return ByteBuffer.allocate(HEADER_SIZE + names.size())
+        .putInt(MAGIC)
+        .putInt(FORMAT_VERSION)
+        .putInt(flags)
+        .putInt(caseStyleNames.size())
+        .putLong(rowCount)
+        .putInt(dictionary.size())
+        .putInt(dictionary.charCount())
+        .put(names.toByteArray())
+        .flip();
+  }
+
+  static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /** Temporary file receiving the values of a column through a buffer. */
+  private static final class ColumnFile {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private ColumnFile(final Path path) throws IOException {
+      this.path = path;
+      this.channel = FileChannel.open(path, READ, WRITE);
+    }
+
+    private ByteBuffer ensureRemaining(final int size) throws IOException {
+      if (buffer.remaining() < size) {
+        flush();
+      }
+      return buffer;
+    }
+
+    private void flush() throws IOException {
+      writeFully(channel, buffer.flip());
+      buffer.clear();
+    }
+
+    private void transferTo(final FileChannel target) throws IOException {
+      final long size = channel.size();
+      long position = 0;
+      while (position < size) {
+        position += channel.transferTo(position, size - position, target);
+      }
+    }
+
+    private void delete() throws IOException {
+      try {
+        channel.close();
+      } finally {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.columnar;
+
+import static dev.cookiecode.stylesniffer.columnar.ColumnarResultWriter.MAX_DICTIONARY_CHARS;
+import static dev.cookiecode.stylesniffer.columnar.ColumnarResultWriter.writeFully;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.hash;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Dictionary assigning consecutive indexes to distinct identifiers, looked up in place: no {@link
+ * String} is created per lookup.
+ *
+ * <p>The chars of the entries are appended to a single array, the entries are found through an open
+ * addressing hash table whose slots hold both the hash and the index of an entry, so that the chars
+ * of an entry are only compared when the hashes are equal.
+ *
+ * @author Sebastien Vermeille
+ */
+final class IdentifierDictionary {
+
+  private static final long EMPTY = -1;
+
+  private char[] chars = new char[4096];
+  private int charCount;
+  // the index of the first char of each entry, followed by the char count
+  private int[] starts = new int[257];
+  private int size;
+  // the hash of the entry in the high half, its index in the low half
+  private long[] slots = newSlots(512);
+
+  /**
+   * Returns the index of the given identifier, adding it if it is not in the dictionary yet.
+   *
+   * @param text the text holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @return the index of the identifier
+   * @throws IllegalStateException if the identifier does not fit in the dictionary
+   */
+  int indexOf(final CharSequence text, final int start, final int end) {
+    final int hash = hash(text, start, end);
+    final int mask = slots.length - 1;
+    int slot = hash & mask;
+    long entry;
+    while ((entry = slots[slot]) != EMPTY) {
+      if ((int) (entry >>> 32) == hash && equals((int) entry, text, start, end)) {
+        return (int) entry;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return add(slot, hash, text, start, end);
+  }
+
+  /**
+   * @return the number of entries
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return the number of chars of all the entries
+   */
+  int charCount() {
+    return charCount;
+  }
+
+  /**
+   * @return the index of the first char of each entry, followed by the char count
+   */
+  int[] starts() {
+    return Arrays.copyOf(starts, size + 1);
+  }
+
+  /**
+   * @return the chars of all the entries
+   */
+  char[] chars() {
+    return Arrays.copyOf(chars, charCount);
+  }
+
+  /**
+   * Writes the index of the first char of each entry, followed by the char count, then the chars of
+   * all the entries. The values go through the given buffer, the chars alone taking up to 4 GB.
+   *
+   * @param channel the channel to write to
+   * @param buffer the buffer holding the values being written, big-endian
+   * @throws IOException if the values cannot be written
+   */
+  void writeTo(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+    for (int i = 0; i <= size; ) {
+      final int count = Math.min(size + 1 - i, buffer.capacity() / Integer.BYTES);
+      buffer.clear().asIntBuffer().put(starts, i, count);
+      writeFully(channel, buffer.limit(count * Integer.BYTES));
+      i += count;
+    }
+    for (int i = 0; i < charCount; ) {
+      final int count = Math.min(charCount - i, buffer.capacity() / Character.BYTES);
+      buffer.clear().asCharBuffer().put(chars, i, count);
+      writeFully(channel, buffer.limit(count * Character.BYTES));
+      i += count;
+    }
+  }
+
+  private int add(
+      final int slot, final int hash, final CharSequence text, final int start, final int end) {
+    final int length = end - start;
+    if (length > MAX_DICTIONARY_CHARS - charCount) {
+      throw new IllegalStateException("The dictionary cannot hold more identifiers");
+    }
+    if (charCount + length > chars.length) {
+      final long grownLength = Math.max(charCount + length, chars.length * 2L);
+      chars = Arrays.copyOf(chars, (int) Math.min(grownLength, MAX_DICTIONARY_CHARS));
+    }
+    for (int i = start; i < end; i++) {
+      chars[charCount++] = text.charAt(i);
+    }
+    if (size + 1 == starts.length) {
+      starts = Arrays.copyOf(starts, starts.length * 2);
+    }
+    final int index = size++;
+    starts[size] = charCount;
+    slots[slot] = (long) hash << 32 | index;
+    // keeps the table at most half full
+    if (size * 2 > slots.length) {
+      rehash();
+    }
+    return index;
+  }
+
+  private boolean equals(final int index, final CharSequence text, final int start, final int end) {
+    final int entryStart = starts[index];
+    if (starts[index + 1] - entryStart != end - start) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (chars[entryStart + i - start] != text.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void rehash() {
+    final var previousSlots = slots;
+    slots = newSlots(slots.length * 2);
+    final int mask = slots.length - 1;
+    for (final long entry : previousSlots) {
+      if (entry != EMPTY) {
+        int slot = (int) (entry >>> 32) & mask;
+        while (slots[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+        slots[slot] = entry;
+      }
+    }
+  }
+
+  private static long[] newSlots(final int length) {
+    final var slots = new long[length];
+    Arrays.fill(slots, EMPTY);
+    return slots;
+  }
+}
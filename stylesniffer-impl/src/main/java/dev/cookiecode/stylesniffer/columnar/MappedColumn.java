@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.columnar;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Column of fixed-width values mapped in memory.
+ *
+ * <p>A mapped buffer cannot exceed 2 GB, so the column is mapped in chunks of {@value #CHUNK_SIZE}
+ * bytes. The widths of the values divide the chunk size: no value straddles two chunks.
+ *
+ * @author Sebastien Vermeille
+ */
+final class MappedColumn {
+
+  static final int CHUNK_SHIFT = 30;
+  static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private final MappedByteBuffer[] chunks;
+
+  private MappedColumn(final MappedByteBuffer[] chunks) {
+    this.chunks = chunks;
+  }
+
+  /**
+   * Maps a section of a file.
+   *
+   * @param channel the channel of the file, which may be closed once the column is mapped
+   * @param position the position of the section in the file
+   * @param size the size of the section in bytes
+   * @return the column
+   * @throws IOException if the section cannot be mapped
+   */
+  static MappedColumn map(final FileChannel channel, final long position, final long size)
+      throws IOException {
+    final var chunks = new MappedByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT)];
+    for (int i = 0; i < chunks.length; i++) {
+      final long chunkPosition = (long) i << CHUNK_SHIFT;
+      chunks[i] =
+          channel.map(
+              READ_ONLY, position + chunkPosition, Math.min(CHUNK_SIZE, size - chunkPosition));
+    }
+    return new MappedColumn(chunks);
+  }
+
+  byte getByte(final long index) {
+    return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK));
+  }
+
+  int getInt(final long index) {
+    final long position = index * Integer.BYTES;
+    return chunks[(int) (position >>> CHUNK_SHIFT)].getInt((int) (position & CHUNK_MASK));
+  }
+
+  long getLong(final long index) {
+    final long position = index * Long.BYTES;
+    return chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & CHUNK_MASK));
+  }
+
+  char getChar(final long index) {
+    final long position = index * Character.BYTES;
+    return chunks[(int) (position >>> CHUNK_SHIFT)].getChar((int) (position & CHUNK_MASK));
+  }
+
+  /**
+   * Reads eight consecutive bytes, the first one being the most significant.
+   *
+   * @param index the index of the first byte, a multiple of 8
+   */
+  long getEightBytes(final long index) {
+    return chunks[(int) (index >>> CHUNK_SHIFT)].getLong((int) (index & CHUNK_MASK));
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.convert;
+
+import static java.util.Objects.checkFromToIndex;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.WordCursor;
+import dev.cookiecode.stylesniffer.api.WordFormat;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import lombok.NonNull;
+
+/**
+ * Converts identifiers from any case style to a target {@link CaseStyle}, e.g. {@code
+ * parseHTTPResponse} to {@code parse_http_response}.
+ *
+ * <p>The identifier is split into words by a {@link WordCursor} (acronyms and digits included),
+ * then each word is written using the {@link WordFormat} of the target style. The words are written
+ * in a single pass into a buffer reused across calls: converting to a {@code String} allocates the
+ * resulting string only, converting into an {@link Appendable} allocates nothing.
+ *
+ * <p>Only the case styles providing a {@link CaseStyle#getWordFormat() word format} can be used as
+ * targets; all the built-in case styles do.
+ *
+ * <p>Instances are not thread-safe: use one converter per thread.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class CaseConverter {
+
+  private static final int DEFAULT_BUFFER_SIZE = 64;
+
+  private final WordCursor cursor = new WordCursor();
+  private char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+  private CharBuffer bufferView = CharBuffer.wrap(buffer);
+
+  /**
+   * Converts the given identifier.
+   *
+   * @param name the identifier to convert
+   * @param target the case style to convert to
+   * @return the converted identifier, empty if the identifier holds no word
+   * @throws StyleSnifferException if the target case style does not provide a word format
+   */
+  public String convert(@NonNull final CharSequence name, @NonNull final CaseStyle target) {
+    return convert(name, 0, name.length(), target);
+  }
+
+  /**
+   * Converts the identifier held by the given range.
+   *
+   * @param text the characters holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @param target the case style to convert to
+   * @return the converted identifier, empty if the identifier holds no word
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   * @throws StyleSnifferException if the target case style does not provide a word format
+   */
+  public String convert(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @NonNull final CaseStyle target) {
+    final int length = write(text, start, end, target);
+    return new String(buffer, 0, length);
+  }
+
+  /**
+   * Converts the identifier held by the given range and appends it to the given builder.
+   *
+   * @param text the characters holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @param target the case style to convert to
+   * @param out the builder to append to
+   * @return the given builder
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   * @throws StyleSnifferException if the target case style does not provide a word format
+   */
+  public StringBuilder convert(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @NonNull final CaseStyle target,
+      @NonNull final StringBuilder out) {
+    final int length = write(text, start, end, target);
+    return out.append(buffer, 0, length);
+  }
+
+  /**
+   * Converts the identifier held by the given range and appends it to the given sink.
+   *
+   * @param text the characters holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @param target the case style to convert to
+   * @param out the sink to append to (writer, builder, buffer, ...)
+   * @param <A> the type of the sink
+   * @return the given sink
+   * @throws IOException if the sink fails
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   * @throws StyleSnifferException if the target case style does not provide a word format
+   */
+  public <A extends Appendable> A convert(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @NonNull final CaseStyle target,
+      @NonNull final A out)
+      throws IOException {
+    final int length = write(text, start, end, target);
+    out.append(bufferView, 0, length);
+    return out;
+  }
+
+  /**
+   * Writes the converted identifier at the beginning of the buffer.
+   *
+   * @return the length of the converted identifier
+   */
+  private int write(
+      final CharSequence text, final int start, final int end, final CaseStyle target) {
+    checkFromToIndex(start, end, text.length());
+    final var format =
+        target
+            .getWordFormat()
+            .orElseThrow(
+                () ->
+                    new StyleSnifferException(
+                        String.format(
+                            "Cannot convert to %s: it does not provide a word format",
+                            target.getName())));
+    // every word is at least one character long, hence followed by at most one separator
+    ensureCapacity(2 * (end - start));
+
+    cursor.reset(text, start, end);
+    int length = 0;
+    var letterCase = format.firstWord();
+    while (cursor.next()) {
+      if (length > 0 && format.hasSeparator()) {
+        buffer[length++] = format.separator();
+      }
+      final int wordEnd = cursor.wordEnd();
+      for (int i = cursor.wordStart(); i < wordEnd; i++) {
+        buffer[length] = letterCase.apply(text.charAt(i), i == cursor.wordStart());
+        length++;
+      }
+      letterCase = format.otherWords();
+    }
+    return length;
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (buffer.length < capacity) {
+      buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+      bufferView = CharBuffer.wrap(buffer);
+    }
+  }
+}
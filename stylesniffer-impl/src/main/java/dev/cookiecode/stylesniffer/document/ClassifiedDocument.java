@@ -0,0 +1,426 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.document;
+
+import static dev.cookiecode.stylesniffer.tokenizer.IdentifierExtractor.isSeparator;
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.checkIndex;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.tokenizer.IdentifierConsumer;
+import dev.cookiecode.stylesniffer.tokenizer.IdentifierExtractor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NonNull;
+
+/**
+ * Keeps the case style of every identifier of an open document up to date while it is edited, so
+ * that a convention report of a large file is refreshed without scanning it again.
+ *
+ * <p>An edit only scans again the run of characters between the separators surrounding it (see
+ * {@link IdentifierExtractor}): the identifiers of that run are classified again and the counts per
+ * case style updated, the other identifiers are kept as they are.
+ *
+ * <p>The text is stored in a gap buffer whose gap follows the edits, so that typing moves no
+ * character. The identifiers are stored in blocks of a few hundreds, their offsets being relative
+ * to the base offset of their block: an edit only updates the offsets of the identifiers of its
+ * block and the base offsets of the following blocks.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class ClassifiedDocument {
+
+  static final int BLOCK_CAPACITY = 256;
+  private static final int MIN_CAPACITY = 16;
+
+  private final StyleSniffer styleSniffer;
+  private final IdentifierExtractor extractor;
+  private final GapText text;
+  private final IdentifierConsumer identifierCollector = this::insertIdentifier;
+
+  // the identifiers in document order, no block is empty
+  private final List<Block> blocks = new ArrayList<>();
+  private int identifierCount;
+  // position where the next identifier found by the extractor is inserted
+  private int insertionBlock;
+  private int insertionIndex;
+
+  private final Map<CaseStyle, int[]> counts = new HashMap<>();
+  private int unclassifiedCount;
+
+  /**
+   * Creates a document and classifies all its identifiers.
+   *
+   * @param styleSniffer the sniffer classifying the identifiers
+   * @param text the initial text of the document
+   */
+  public ClassifiedDocument(
+      @NonNull final StyleSniffer styleSniffer, @NonNull final CharSequence text) {
+    this(styleSniffer, new IdentifierExtractor(), text);
+  }
+
+  /**
+   * Creates a document and classifies all its identifiers.
+   *
+   * @param styleSniffer the sniffer classifying the identifiers
+   * @param extractor the extractor finding the identifiers, only used by this document
+   * @param text the initial text of the document
+   */
+  public ClassifiedDocument(
+      @NonNull final StyleSniffer styleSniffer,
+      @NonNull final IdentifierExtractor extractor,
+      @NonNull final CharSequence text) {
+    this.styleSniffer = styleSniffer;
+    this.extractor = extractor;
+    this.text = new GapText(text);
+    extractor.extract(this.text, 0, this.text.length(), identifierCollector);
+  }
+
+  /**
+   * Applies an edit to the text and classifies again the identifiers around it.
+   *
+   * @param offset the index of the first replaced character
+   * @param removedLength the number of characters removed at {@code offset}
+   * @param insertedText the text inserted at {@code offset}, empty for a deletion
+   * @throws IndexOutOfBoundsException if the removed characters are not within the text
+   */
+  public void applyEdit(
+      final int offset, final int removedLength, @NonNull final CharSequence insertedText) {
+    final int oldLength = text.length();
+    checkFromIndexSize(offset, removedLength, oldLength);
+
+    // the identifiers found between two separators only depend on the characters between them
+    int runStart = offset;
+    while (runStart > 0 && !isSeparator(text.charAt(runStart - 1))) {
+      runStart--;
+    }
+    int oldRunEnd = offset + removedLength;
+    while (oldRunEnd < oldLength && !isSeparator(text.charAt(oldRunEnd))) {
+      oldRunEnd++;
+    }
+
+    locate(runStart);
+    removeIdentifiersBefore(oldRunEnd);
+    shiftFollowingIdentifiers(insertedText.length() - removedLength);
+
+    text.replace(offset, removedLength, insertedText);
+    final int runEnd = oldRunEnd - removedLength + insertedText.length();
+    extractor.extract(text, runStart, runEnd, identifierCollector);
+  }
+
+  /**
+   * @return the current text of the document
+   */
+  public String getText() {
+    return text.toString();
+  }
+
+  /**
+   * @return the number of identifiers of the document
+   */
+  public int getIdentifierCount() {
+    return identifierCount;
+  }
+
+  /**
+   * @return the number of identifiers matching no case style
+   */
+  public int getUnclassifiedIdentifierCount() {
+    return unclassifiedCount;
+  }
+
+  /**
+   * Returns the number of identifiers of each case style, the case styles matched by no identifier
+   * being left out.
+   *
+   * @return the number of identifiers by case style name
+   */
+  public Map<String, Integer> getCaseStyleCounts() {
+    final Map<String, Integer> caseStyleCounts = new HashMap<>();
+    counts.forEach(
+        (caseStyle, count) -> {
+          if (count[0] > 0) {
+            caseStyleCounts.merge(caseStyle.getName(), count[0], Integer::sum);
+          }
+        });
+    return Map.copyOf(caseStyleCounts);
+  }
+
+  /**
+   * Returns the case style of the identifier at the given offset.
+   *
+   * @param offset the index of any character of the identifier
+   * @return an {@link Optional} containing the case style of the identifier, or an empty {@code
+   *     Optional} if there is no identifier at this offset or if it matches no case style
+   * @throws IndexOutOfBoundsException if the offset is not within the text
+   */
+  public Optional<CaseStyle> getCaseStyleAt(final int offset) {
+    checkIndex(offset, text.length());
+    // the last identifier starting at or before the offset
+    locate(offset + 1);
+    if (insertionIndex == 0) {
+      if (insertionBlock == 0) {
+        return Optional.empty();
+      }
+      insertionBlock--;
+      insertionIndex = blocks.get(insertionBlock).size;
+    }
+    final var block = blocks.get(insertionBlock);
+    final int index = insertionIndex - 1;
+    if (block.base + block.ends[index] <= offset) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(block.caseStyles[index]);
+  }
+
+  /**
+   * Sets the insertion position to the first identifier starting at or after the given offset, or
+   * after the last identifier.
+   */
+  private void locate(final int offset) {
+    int low = 0;
+    int high = blocks.size();
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (blocks.get(middle).startOf(0) < offset) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    if (low == 0) {
+      insertionBlock = 0;
+      insertionIndex = 0;
+      return;
+    }
+    // the first identifier of the block low - 1 starts before the offset
+    final var block = blocks.get(low - 1);
+    int index = 1;
+    int end = block.size;
+    while (index < end) {
+      final int middle = (index + end) >>> 1;
+      if (block.startOf(middle) < offset) {
+        index = middle + 1;
+      } else {
+        end = middle;
+      }
+    }
+    insertionBlock = low - 1;
+    insertionIndex = index;
+  }
+
+  /** Removes the identifiers from the insertion position that start before the given offset. */
+  private void removeIdentifiersBefore(final int offset) {
+    while (insertionBlock < blocks.size()) {
+      final var block = blocks.get(insertionBlock);
+      int end = insertionIndex;
+      while (end < block.size && block.startOf(end) < offset) {
+        count(block.caseStyles[end], -1);
+        end++;
+      }
+      block.remove(insertionIndex, end);
+      identifierCount -= end - insertionIndex;
+      if (insertionIndex < block.size) {
+        return;
+      }
+      if (block.size == 0) {
+        blocks.remove(insertionBlock);
+      } else {
+        insertionBlock++;
+      }
+      insertionIndex = 0;
+    }
+  }
+
+  /** Shifts the identifiers from the insertion position by the given number of characters. */
+  private void shiftFollowingIdentifiers(final int delta) {
+    if (insertionBlock < blocks.size()) {
+      final var block = blocks.get(insertionBlock);
+      for (int i = insertionIndex; i < block.size; i++) {
+        block.starts[i] += delta;
+        block.ends[i] += delta;
+      }
+    }
+    for (int i = insertionBlock + 1; i < blocks.size(); i++) {
+      blocks.get(i).base += delta;
+    }
+  }
+
+  /** Called by the extractor for each identifier of the scanned run, in order. */
+  private void insertIdentifier(final CharSequence chars, final int start, final int end) {
+    final var caseStyle = styleSniffer.getCaseStyle(chars, start, end).orElse(null);
+    if (insertionBlock == blocks.size()) {
+      if (insertionBlock > 0) {
+        // appends to the last block rather than creating a block per identifier
+        insertionBlock--;
+        insertionIndex = blocks.get(insertionBlock).size;
+      } else {
+        blocks.add(new Block(start));
+      }
+    }
+    var block = blocks.get(insertionBlock);
+    if (block.size == BLOCK_CAPACITY) {
+      blocks.add(insertionBlock + 1, block.split());
+      if (insertionIndex > block.size) {
+        insertionIndex -= block.size;
+        block = blocks.get(++insertionBlock);
+      }
+    }
+    block.insert(insertionIndex++, start, end, caseStyle);
+    identifierCount++;
+    count(caseStyle, 1);
+  }
+
+  private void count(final CaseStyle caseStyle, final int delta) {
+    if (caseStyle == null) {
+      unclassifiedCount += delta;
+    } else {
+      counts.computeIfAbsent(caseStyle, style -> new int[1])[0] += delta;
+    }
+  }
+
+  /** Identifiers whose offsets are relative to the base offset of the block. */
+  private static final class Block {
+
+    private int base;
+    private int size;
+    private final int[] starts = new int[BLOCK_CAPACITY];
+    private final int[] ends = new int[BLOCK_CAPACITY];
+    private final CaseStyle[] caseStyles = new CaseStyle[BLOCK_CAPACITY];
+
+    private Block(final int base) {
+      this.base = base;
+    }
+
+    private int startOf(final int index) {
+      return base + starts[index];
+    }
+
+    private void insert(final int index, final int start, final int end, final CaseStyle style) {
+      final int moved = size - index;
+      System.arraycopy(starts, index, starts, index + 1, moved);
+      System.arraycopy(ends, index, ends, index + 1, moved);
+      System.arraycopy(caseStyles, index, caseStyles, index + 1, moved);
+      starts[index] = start - base;
+      ends[index] = end - base;
+      caseStyles[index] = style;
+      size++;
+    }
+
+    private void remove(final int from, final int to) {
+      final int moved = size - to;
+      System.arraycopy(starts, to, starts, from, moved);
+      System.arraycopy(ends, to, ends, from, moved);
+      System.arraycopy(caseStyles, to, caseStyles, from, moved);
+      size -= to - from;
+      Arrays.fill(caseStyles, size, size + to - from, null);
+    }
+
+    /** Moves the second half of the identifiers to a new block, returned. */
+    private Block split() {
+      final int half = size / 2;
+      final var second = new Block(base);
+      System.arraycopy(starts, half, second.starts, 0, size - half);
+      System.arraycopy(ends, half, second.ends, 0, size - half);
+      System.arraycopy(caseStyles, half, second.caseStyles, 0, size - half);
+      second.size = size - half;
+      Arrays.fill(caseStyles, half, size, null);
+      size = half;
+      return second;
+    }
+  }
+
+  /** Text in a gap buffer: the characters are stored around a gap following the edits. */
+  private static final class GapText implements CharSequence {
+
+    private char[] chars;
+    private int gapStart;
+    private int gapEnd;
+
+    private GapText(final CharSequence text) {
+      chars = new char[Math.max(MIN_CAPACITY, text.length() * 2)];
+      for (int i = 0; i < text.length(); i++) {
+        chars[i] = text.charAt(i);
+      }
+      gapStart = text.length();
+      gapEnd = chars.length;
+    }
+
+    @Override
+    public int length() {
+      return chars.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public char charAt(final int index) {
+      return index < gapStart ? chars[index] : chars[index + gapEnd - gapStart];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      return toString().substring(start, end);
+    }
+
+    private void replace(final int offset, final int removedLength, final CharSequence inserted) {
+      moveGap(offset);
+      gapEnd += removedLength;
+      if (gapEnd - gapStart < inserted.length()) {
+        final int tail = chars.length - gapEnd;
+        final var grown = new char[Math.max(chars.length * 2, length() + inserted.length() * 2)];
+        System.arraycopy(chars, 0, grown, 0, gapStart);
+        System.arraycopy(chars, gapEnd, grown, grown.length - tail, tail);
+        chars = grown;
+        gapEnd = grown.length - tail;
+      }
+      for (int i = 0; i < inserted.length(); i++) {
+        chars[gapStart++] = inserted.charAt(i);
+      }
+    }
+
+    private void moveGap(final int offset) {
+      if (offset < gapStart) {
+        final int moved = gapStart - offset;
+        System.arraycopy(chars, offset, chars, gapEnd - moved, moved);
+        gapStart -= moved;
+        gapEnd -= moved;
+      } else if (offset > gapStart) {
+        final int moved = offset - gapStart;
+        System.arraycopy(chars, gapEnd, chars, gapStart, moved);
+        gapStart += moved;
+        gapEnd += moved;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return new String(chars, 0, gapStart) + new String(chars, gapEnd, chars.length - gapEnd);
+    }
+  }
+}
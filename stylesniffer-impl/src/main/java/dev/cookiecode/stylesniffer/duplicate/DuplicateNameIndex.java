@@ -0,0 +1,267 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.duplicate;
+
+import dev.cookiecode.stylesniffer.api.WordCursor;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * Index grouping names by their lowercased words, to find the names spelled in several case styles
+ * ({@code user_id}, {@code userId}, {@code USER_ID}, ...) among millions of names.
+ *
+ * <p>Each name is hashed once by a {@link WordKeyHasher} and looked up in an open addressing table
+ * of groups: adding a name takes a time proportional to its length, so indexing is linear in the
+ * total length of the names. The words of a name are compared with the ones of the group having the
+ * same key before it joins the group, so that two word sequences with the same 64-bit key are never
+ * mixed up.
+ *
+ * <p>Each distinct spelling is stored once: the chars of the names are appended to a single array,
+ * and the names of a group are linked together, so that no object is created per name.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class DuplicateNameIndex {
+
+  private static final int NO_NAME = -1;
+
+  private final WordKeyHasher hasher = new WordKeyHasher();
+  private final WordCursor cursor = new WordCursor();
+
+  private char[] chars = new char[4096];
+  private CharBuffer charsView = CharBuffer.wrap(chars);
+  private int charCount;
+  // the index of the first char of each name, followed by the char count
+  private int[] starts = new int[257];
+  // the next name of the group of each name, or NO_NAME
+  private int[] nextNames = new int[256];
+  private final BitSet firstNames = new BitSet();
+  private int size;
+  // the first name of each group, stored as name + 1 so that 0 is an empty slot
+  private int[] groups = new int[512];
+  // the key of each group, next to its slot so that probing reads no name
+  private long[] groupKeys = new long[512];
+  private int groupCount;
+  private int duplicateGroupCount;
+
+  /**
+   * Adds a name.
+   *
+   * @param name the name to add
+   * @return the index of the name
+   * @see #add(CharSequence, int, int)
+   */
+  public int add(@NonNull final CharSequence name) {
+    return add(name, 0, name.length());
+  }
+
+  /**
+   * Adds the name held by the given range, unless the same spelling has already been added.
+   *
+   * @param text the characters holding the name
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
+   * @return the index of the name, the one of the same spelling if it has already been added, or -1
+   *     if the range holds no word
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   * @throws IllegalStateException if the index cannot hold more chars
+   */
+  public int add(@NonNull final CharSequence text, final int start, final int end) {
+    if (!cursor.reset(text, start, end).next()) {
+      return NO_NAME;
+    }
+    final long key = hasher.hash(text, start, end);
+    final int mask = groups.length - 1;
+    int slot = (int) key & mask;
+    int group;
+    while ((group = groups[slot]) != 0) {
+      final int firstName = group - 1;
+      if (groupKeys[slot] == key
+          && hasher.hasSameWords(
+              charsView, starts[firstName], starts[firstName + 1], text, start, end)) {
+        return addToGroup(firstName, text, start, end);
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    final int name = store(text, start, end);
+    firstNames.set(name);
+    groups[slot] = name + 1;
+    groupKeys[slot] = key;
+    groupCount++;
+    // keeps the table at most half full
+    if (groupCount * 2 > groups.length) {
+      rehash();
+    }
+    return name;
+  }
+
+  /**
+   * @return the number of distinct spellings
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the number of distinct word sequences
+   */
+  public int getGroupCount() {
+    return groupCount;
+  }
+
+  /**
+   * @return the number of word sequences having several spellings
+   */
+  public int getDuplicateGroupCount() {
+    return duplicateGroupCount;
+  }
+
+  /**
+   * Returns the added spellings having the same words as the given name, the name included if it
+   * has been added.
+   *
+   * @param name the name to look up
+   * @return the spellings, in the order they were added
+   */
+  public List<String> getSpellings(@NonNull final CharSequence name) {
+    if (!cursor.reset(name).next()) {
+      return List.of();
+    }
+    final long key = hasher.hash(name);
+    final int mask = groups.length - 1;
+    int slot = (int) key & mask;
+    int group;
+    while ((group = groups[slot]) != 0) {
+      final int firstName = group - 1;
+      if (groupKeys[slot] == key
+          && hasher.hasSameWords(
+              charsView, starts[firstName], starts[firstName + 1], name, 0, name.length())) {
+        return spellingsOf(firstName);
+      }
+      slot = (slot + 1) & mask;
+    }
+    return List.of();
+  }
+
+  /**
+   * Hands over the spellings of each word sequence having several of them.
+   *
+   * @param consumer the consumer receiving the spellings of each group, in the order they were
+   *     added, the groups coming in the order of their first spelling
+   */
+  public void forEachDuplicateGroup(@NonNull final Consumer<List<String>> consumer) {
+    for (int name = firstNames.nextSetBit(0); name >= 0; name = firstNames.nextSetBit(name + 1)) {
+      if (nextNames[name] != NO_NAME) {
+        consumer.accept(spellingsOf(name));
+      }
+    }
+  }
+
+  private int addToGroup(
+      final int firstName, final CharSequence text, final int start, final int end) {
+    int lastName = firstName;
+    for (int name = firstName; name != NO_NAME; name = nextNames[name]) {
+      if (isSpelledAs(name, text, start, end)) {
+        return name;
+      }
+      lastName = name;
+    }
+    if (lastName == firstName) {
+      duplicateGroupCount++;
+    }
+    final int name = store(text, start, end);
+    nextNames[lastName] = name;
+    return name;
+  }
+
+  private List<String> spellingsOf(final int firstName) {
+    final List<String> spellings = new ArrayList<>();
+    for (int name = firstName; name != NO_NAME; name = nextNames[name]) {
+      spellings.add(new String(chars, starts[name], starts[name + 1] - starts[name]));
+    }
+    return spellings;
+  }
+
+  private boolean isSpelledAs(
+      final int name, final CharSequence text, final int start, final int end) {
+    final int nameStart = starts[name];
+    if (starts[name + 1] - nameStart != end - start) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (chars[nameStart + i - start] != text.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int store(final CharSequence text, final int start, final int end) {
+    final int length = end - start;
+    if (length > Integer.MAX_VALUE - 8 - charCount) {
+      throw new IllegalStateException("The index cannot hold more names");
+    }
+    if (charCount + length > chars.length) {
+      final long grownLength = Math.max(charCount + length, chars.length * 2L);
+      chars = Arrays.copyOf(chars, (int) Math.min(grownLength, Integer.MAX_VALUE - 8));
+      charsView = CharBuffer.wrap(chars);
+    }
+    for (int i = start; i < end; i++) {
+      chars[charCount++] = text.charAt(i);
+    }
+    if (size + 1 == starts.length) {
+      starts = Arrays.copyOf(starts, starts.length * 2);
+      nextNames = Arrays.copyOf(nextNames, starts.length);
+    }
+    final int name = size++;
+    starts[size] = charCount;
+    nextNames[name] = NO_NAME;
+    return name;
+  }
+
+  private void rehash() {
+    final var previousGroups = groups;
+    final var previousGroupKeys = groupKeys;
+    groups = new int[groups.length * 2];
+    groupKeys = new long[groups.length];
+    final int mask = groups.length - 1;
+    for (int i = 0; i < previousGroups.length; i++) {
+      if (previousGroups[i] != 0) {
+        int slot = (int) previousGroupKeys[i] & mask;
+        while (groups[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        groups[slot] = previousGroups[i];
+        groupKeys[slot] = previousGroupKeys[i];
+      }
+    }
+  }
+}
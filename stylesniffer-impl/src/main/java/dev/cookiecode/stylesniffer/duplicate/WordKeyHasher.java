@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.duplicate;
+
+import dev.cookiecode.stylesniffer.api.WordCursor;
+import lombok.NonNull;
+
+/**
+ * Computes a 64-bit key of the lowercased words of an identifier, the same for all its spellings:
+ * {@code user_id}, {@code userId}, {@code UserId}, {@code USER_ID} and {@code user-id} have the
+ * same key.
+ *
+ * <p>The identifier is split into words by a {@link WordCursor}, the segmentation shared by the
+ * usual case styles (acronyms and their plural included), and each character is lowercased and
+ * hashed as it is read: nothing is allocated. The digits are words of their own, so that {@code
+ * user2Id} and {@code user_2_id} have the same key. The words are hashed with a separator between
+ * them, so that {@code userId} and {@code useRid} differ. The key is the 64-bit FNV-1a hash of the
+ * sequence, mixed by the finalizer of MurmurHash3 so that any of its bits can index a hash table.
+ * The words themselves are spelled out by converting the identifier to {@code snake_case} with a
+ * {@link dev.cookiecode.stylesniffer.convert.CaseConverter}.
+ *
+ * <p>Different word sequences may have the same key: {@link #hasSameWords(CharSequence, int, int,
+ * CharSequence, int, int)} tells them apart, again without allocating.
+ *
+ * <p>Instances are not thread-safe: use one hasher per thread.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class WordKeyHasher {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  // outside of the range of the chars, so that no char is mistaken for it
+  private static final int WORD_SEPARATOR = 0x10000;
+
+  private static final int END = -1;
+
+  private final WordStream words = new WordStream();
+  private final WordStream otherWords = new WordStream();
+
+  /**
+   * Computes the key of the given identifier.
+   *
+   * @param name the identifier
+   * @return the key of the words of the identifier
+   */
+  public long hash(@NonNull final CharSequence name) {
+    return hash(name, 0, name.length());
+  }
+
+  /**
+   * Computes the key of the identifier held by the given range.
+   *
+   * @param text the characters holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @return the key of the words of the identifier, the same for all the ranges holding no word
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  public long hash(@NonNull final CharSequence text, final int start, final int end) {
+    words.reset(text, start, end);
+    long hash = FNV_OFFSET_BASIS;
+    int token;
+    while ((token = words.next()) != END) {
+      hash = (hash ^ token) * FNV_PRIME;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    return hash ^ (hash >>> 33);
+  }
+
+  /**
+   * Tells whether two identifiers have the same lowercased words, i.e. are spellings of the same
+   * name.
+   *
+   * @param text the characters holding the first identifier
+   * @param start the index of the first character of the first identifier (inclusive)
+   * @param end the index after the last character of the first identifier (exclusive)
+   * @param otherText the characters holding the second identifier
+   * @param otherStart the index of the first character of the second identifier (inclusive)
+   * @param otherEnd the index after the last character of the second identifier (exclusive)
+   * @return {@code true} if both identifiers have the same words
+   * @throws IndexOutOfBoundsException if a range is not within its text
+   */
+  public boolean hasSameWords(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @NonNull final CharSequence otherText,
+      final int otherStart,
+      final int otherEnd) {
+    words.reset(text, start, end);
+    otherWords.reset(otherText, otherStart, otherEnd);
+    int token;
+    do {
+      token = words.next();
+      if (token != otherWords.next()) {
+        return false;
+      }
+    } while (token != END);
+    return true;
+  }
+
+  /**
+   * The lowercased chars of the words of an identifier, with a {@link #WORD_SEPARATOR} between
+   * them. The digits are read as words of their own, since the segmentation sticks them to the word
+   * they follow in {@code user2Id} but not in {@code user_2_id}.
+   */
+  private static final class WordStream {
+
+    private final WordCursor cursor = new WordCursor();
+    private CharSequence text = "";
+    private int index;
+    private int wordEnd;
+    private boolean firstWord;
+    private boolean separated;
+
+    void reset(final CharSequence text, final int start, final int end) {
+      cursor.reset(text, start, end);
+      this.text = text;
+      index = start;
+      wordEnd = start;
+      firstWord = true;
+      separated = false;
+    }
+
+    /**
+     * @return the next lowercased char, {@link #WORD_SEPARATOR} between two words, or {@link #END}
+     */
+    int next() {
+      if (index == wordEnd) {
+        if (!cursor.next()) {
+          return END;
+        }
+        index = cursor.wordStart();
+        wordEnd = cursor.wordEnd();
+        if (!firstWord) {
+          return WORD_SEPARATOR;
+        }
+        firstWord = false;
+      } else if (!separated
+          && index > cursor.wordStart()
+          && Character.isDigit(text.charAt(index)) != Character.isDigit(text.charAt(index - 1))) {
+        // user2Id: the 2 ends the word user
+        separated = true;
+        return WORD_SEPARATOR;
+      }
+      separated = false;
+      return Character.toLowerCase(text.charAt(index++));
+    }
+  }
+}
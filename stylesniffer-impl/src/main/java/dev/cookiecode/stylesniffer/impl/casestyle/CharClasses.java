@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.impl.casestyle;
+
+import static java.lang.Character.isLowerCase;
+import static java.lang.Character.isUpperCase;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.NonNull;
+
+/**
+ * Summarizes the classes of the characters of a name: upper case letters, lower case letters,
+ * underscores, dashes and any other character.
+ *
+ * <p>Names of at least {@link #VECTOR_THRESHOLD} characters are summarized with the Vector API when
+ * the {@code jdk.incubator.vector} module is enabled ({@code --add-modules jdk.incubator.vector}),
+ * several characters per instruction. Otherwise the characters are classified one at a time. Both
+ * paths produce the same summary.
+ *
+ * @author Sebastien Vermeille
+ */
+final class CharClasses {
+
+  static final int UPPER = 1;
+  static final int LOWER = 1 << 1;
+  static final int UNDERSCORE = 1 << 2;
+  static final int DASH = 1 << 3;
+  static final int OTHER = 1 << 4;
+
+  static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+  /**
+   * The length from which the Vector API is used, below it the scalar loop is faster. Can be
+   * overridden with the {@code stylesniffer.vector.threshold} system property.
+   */
+  static final int VECTOR_THRESHOLD = Integer.getInteger("stylesniffer.vector.threshold", 32);
+
+  private static final boolean VECTORIZED = isVectorModuleEnabled();
+
+  private CharClasses() {}
+
+  /**
+   * Summarizes the classes of the characters in the given range.
+   *
+   * <p>The summary is returned as soon as a character of one of the {@code stopAt} classes is met:
+   * the classes of the characters after it may then be missing.
+   *
+   * @param text the characters holding the name
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
+   * @param stopAt the classes ending the summary, {@code 0} to summarize the whole range
+   * @return the classes of the characters, as a combination of {@link #UPPER}, {@link #LOWER},
+   *     {@link #UNDERSCORE}, {@link #DASH} and {@link #OTHER}
+   */
+  static int summarize(
+      @NonNull final CharSequence text, final int start, final int end, final int stopAt) {
+    if (VECTORIZED && end - start >= VECTOR_THRESHOLD) {
+      return VectorCharClasses.summarize(text, start, end, stopAt);
+    }
+    return summarizeScalar(text, start, end, stopAt);
+  }
+
+  @VisibleForTesting
+  static int summarizeScalar(
+      @NonNull final CharSequence text, final int start, final int end, final int stopAt) {
+    int classes = 0;
+    for (int i = start; i < end && (classes & stopAt) == 0; i++) {
+      classes |= classOf(text.charAt(i));
+    }
+    return classes;
+  }
+
+  static int classOf(final char c) {
+    if (c == '_') {
+      return UNDERSCORE;
+    } else if (c == '-') {
+      return DASH;
+    } else if (isLowerCase(c)) {
+      return LOWER;
+    } else if (isUpperCase(c)) {
+      return UPPER;
+    }
+    return OTHER;
+  }
+
+  /**
+   * Tells whether long names are summarized with the Vector API.
+   *
+   * @return {@code true} if the {@code jdk.incubator.vector} module is enabled
+   */
+  static boolean isVectorized() {
+    return VECTORIZED;
+  }
+
+  private static boolean isVectorModuleEnabled() {
+    if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+      return false;
+    }
+    try {
+      return VectorCharClasses.isSupported();
+    } catch (LinkageError e) {
+      // the module is there but cannot be linked, e.g. not readable from this module
+      return false;
+    }
+  }
+}
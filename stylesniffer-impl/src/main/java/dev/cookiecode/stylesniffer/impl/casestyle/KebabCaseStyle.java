@@ -22,12 +22,22 @@
  */
 package dev.cookiecode.stylesniffer.impl.casestyle;
 
-import static java.lang.Character.isLowerCase;
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.LOWER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.DASH;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.OTHER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.UNDERSCORE;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.UPPER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.classOf;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.summarize;
+import static java.util.Objects.checkFromToIndex;
 import static java.util.Set.of;
 
 import dev.cookiecode.stylesniffer.annotation.RegisterCaseStyle;
 import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
 import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.CaseStyleAutomaton;
+import dev.cookiecode.stylesniffer.api.WordFormat;
+import java.util.Optional;
 import java.util.Set;
 import lombok.NonNull;
 
@@ -42,6 +52,8 @@ import lombok.NonNull;
 public class KebabCaseStyle extends BaseCaseStyle {
 
   private static final char SEPARATOR = '-';
+  private static final WordFormat WORD_FORMAT = new WordFormat(SEPARATOR, LOWER, LOWER);
+  private static final CaseStyleAutomaton AUTOMATON = new KebabCaseAutomaton();
 
   /**
    * Checks if the given name matches the snake_case style.
@@ -51,7 +63,13 @@ public class KebabCaseStyle extends BaseCaseStyle {
    */
   @Override
   public boolean matches(@NonNull final String name) {
-    return this.isKebabCase(name);
+    return this.isKebabCase(name, 0, name.length());
+  }
+
+  @Override
+  public boolean matches(@NonNull final CharSequence text, final int start, final int end) {
+    checkFromToIndex(start, end, text.length());
+    return this.isKebabCase(text, start, end);
   }
 
   @Override
@@ -64,26 +82,56 @@ public class KebabCaseStyle extends BaseCaseStyle {
     return of(this.getName(), "lisp-case");
   }
 
+  @Override
+  public Optional<WordFormat> getWordFormat() {
+    return Optional.of(WORD_FORMAT);
+  }
+
+  @Override
+  public Optional<CaseStyleAutomaton> getAutomaton() {
+    return Optional.of(AUTOMATON);
+  }
+
   /**
    * Determines if the given name is in snake_case style.
    *
    * <p>Checks if the name consists entirely of lowercase letters and underscores, with at least one
    * underscore present, and no other characters or uppercase letters.
    *
-   * @param name the name to check
+   * @param name the characters holding the name to check
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
    * @return {@code true} if the name is in snake_case, {@code false} otherwise
    */
-  private boolean isKebabCase(@NonNull final String name) {
-    // Check if the name is all lowercase and contains underscores
-    boolean hasDash = false;
-    for (int i = 0; i < name.length(); i++) {
-      final char c = name.charAt(i);
-      if (c == SEPARATOR) {
-        hasDash = true;
-      } else if (!isLowerCase(c)) {
-        return false;
-      }
+  private boolean isKebabCase(@NonNull final CharSequence name, final int start, final int end) {
+    final int rejected = UPPER | UNDERSCORE | OTHER;
+    final int classes = summarize(name, start, end, rejected);
+    return (classes & rejected) == 0 && (classes & DASH) != 0;
+  }
+
+  /** Reads kebab-case names, remembering whether a dash was read. */
+  private static final class KebabCaseAutomaton implements CaseStyleAutomaton {
+
+    private static final int NO_DASH = 0;
+    private static final int HAS_DASH = 1;
+
+    @Override
+    public int initialState() {
+      return NO_DASH;
+    }
+
+    @Override
+    public int nextState(final int state, final char c) {
+      return switch (classOf(c)) {
+        case DASH -> HAS_DASH;
+        case CharClasses.LOWER -> state;
+        default -> REJECTED;
+      };
+    }
+
+    @Override
+    public boolean isAccepting(final int state) {
+      return state == HAS_DASH;
     }
-    return hasDash;
   }
 }
@@ -22,13 +22,20 @@
  */
 package dev.cookiecode.stylesniffer.impl.casestyle;
 
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.CAPITALIZED;
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.LOWER;
+import static dev.cookiecode.stylesniffer.api.WordFormat.NO_SEPARATOR;
 import static java.lang.Character.isLowerCase;
 import static java.lang.Character.isUpperCase;
+import static java.util.Objects.checkFromToIndex;
 import static java.util.Set.of;
 
 import dev.cookiecode.stylesniffer.annotation.RegisterCaseStyle;
 import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
 import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.CaseStyleAutomaton;
+import dev.cookiecode.stylesniffer.api.WordFormat;
+import java.util.Optional;
 import java.util.Set;
 import lombok.NonNull;
 
@@ -43,6 +50,9 @@ import lombok.NonNull;
 @RegisterCaseStyle
 public class LowerCamelCaseStyle extends BaseCaseStyle {
 
+  private static final WordFormat WORD_FORMAT = new WordFormat(NO_SEPARATOR, LOWER, CAPITALIZED);
+  private static final CaseStyleAutomaton AUTOMATON = new LowerCamelCaseAutomaton();
+
   /**
    * Checks if the given name matches the CamelCase style.
    *
@@ -51,7 +61,13 @@ public class LowerCamelCaseStyle extends BaseCaseStyle {
    */
   @Override
   public boolean matches(@NonNull final String name) {
-    return this.isLowerCamelCase(name);
+    return this.isLowerCamelCase(name, 0, name.length());
+  }
+
+  @Override
+  public boolean matches(@NonNull final CharSequence text, final int start, final int end) {
+    checkFromToIndex(start, end, text.length());
+    return this.isLowerCamelCase(text, start, end);
   }
 
   @Override
@@ -64,28 +80,41 @@ public class LowerCamelCaseStyle extends BaseCaseStyle {
     return of(this.getName(), "LowerCamelCase");
   }
 
+  @Override
+  public Optional<WordFormat> getWordFormat() {
+    return Optional.of(WORD_FORMAT);
+  }
+
+  @Override
+  public Optional<CaseStyleAutomaton> getAutomaton() {
+    return Optional.of(AUTOMATON);
+  }
+
   /**
    * Determines if the given name is in CamelCase style.
    *
    * <p>Checks if the first character is lowercase and each subsequent word starts with an uppercase
    * letter, with no underscores or spaces.
    *
-   * @param name the name to check
+   * @param name the characters holding the name to check
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
    * @return {@code true} if the name is in CamelCase, {@code false} otherwise
    */
-  private boolean isLowerCamelCase(@NonNull final String name) {
-    if (name.isEmpty()) {
+  private boolean isLowerCamelCase(
+      @NonNull final CharSequence name, final int start, final int end) {
+    if (start == end) {
       return false;
     }
 
     // The first character must be lowercase
-    if (!isLowerCase(name.charAt(0))) {
+    if (!isLowerCase(name.charAt(start))) {
       return false;
     }
 
     // Ensure the rest of the string follows the LowerCamelCase rules
     boolean hasUpperCase = false;
-    for (int i = 1; i < name.length(); i++) {
+    for (int i = start + 1; i < end; i++) {
       final char c = name.charAt(i);
 
       if (isUpperCase(c)) {
@@ -106,4 +135,31 @@ public class LowerCamelCaseStyle extends BaseCaseStyle {
 
     return true;
   }
+
+  /** Reads camelCase names, remembering the letter case of the last character. */
+  private static final class LowerCamelCaseAutomaton implements CaseStyleAutomaton {
+
+    private static final int EMPTY = 0;
+    private static final int AFTER_LOWER_CASE = 1;
+    private static final int AFTER_UPPER_CASE = 2;
+
+    @Override
+    public int initialState() {
+      return EMPTY;
+    }
+
+    @Override
+    public int nextState(final int state, final char c) {
+      if (isLowerCase(c)) {
+        return AFTER_LOWER_CASE;
+      }
+      // consecutive uppercase letters are not allowed, nor a leading one
+      return isUpperCase(c) && state == AFTER_LOWER_CASE ? AFTER_UPPER_CASE : REJECTED;
+    }
+
+    @Override
+    public boolean isAccepting(final int state) {
+      return state != EMPTY;
+    }
+  }
 }
@@ -22,11 +22,17 @@
  */
 package dev.cookiecode.stylesniffer.impl.casestyle;
 
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.CAPITALIZED;
+import static dev.cookiecode.stylesniffer.api.WordFormat.NO_SEPARATOR;
 import static java.lang.Character.isUpperCase;
+import static java.util.Objects.checkFromToIndex;
 
 import dev.cookiecode.stylesniffer.annotation.RegisterCaseStyle;
 import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
 import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.CaseStyleAutomaton;
+import dev.cookiecode.stylesniffer.api.WordFormat;
+import java.util.Optional;
 import java.util.Set;
 import lombok.NonNull;
 
@@ -41,6 +47,10 @@ import lombok.NonNull;
 @RegisterCaseStyle
 public class PascalCaseStyle extends BaseCaseStyle {
 
+  private static final WordFormat WORD_FORMAT =
+      new WordFormat(NO_SEPARATOR, CAPITALIZED, CAPITALIZED);
+  private static final CaseStyleAutomaton AUTOMATON = new PascalCaseAutomaton();
+
   /**
    * Checks if the given name matches the PascalCase style.
    *
@@ -49,7 +59,13 @@ public class PascalCaseStyle extends BaseCaseStyle {
    */
   @Override
   public boolean matches(@NonNull final String name) {
-    return this.isPascalCase(name);
+    return this.isPascalCase(name, 0, name.length());
+  }
+
+  @Override
+  public boolean matches(@NonNull final CharSequence text, final int start, final int end) {
+    checkFromToIndex(start, end, text.length());
+    return this.isPascalCase(text, start, end);
   }
 
   @Override
@@ -62,8 +78,21 @@ public class PascalCaseStyle extends BaseCaseStyle {
     return Set.of(this.getName(), "UpperCamelCase", "CamelCase");
   }
 
-  private Set<Character> invalidCharacters() {
-    return Set.of('_', ' ', '-', '*', ',', '\"', '\'', '#', '$', '@');
+  @Override
+  public Optional<WordFormat> getWordFormat() {
+    return Optional.of(WORD_FORMAT);
+  }
+
+  @Override
+  public Optional<CaseStyleAutomaton> getAutomaton() {
+    return Optional.of(AUTOMATON);
+  }
+
+  private static boolean isInvalidCharacter(final char c) {
+    return switch (c) {
+      case '_', ' ', '-', '*', ',', '\"', '\'', '#', '$', '@' -> true;
+      default -> false;
+    };
   }
 
   /**
@@ -74,38 +103,53 @@ public class PascalCaseStyle extends BaseCaseStyle {
    * method also ensures that sequences of uppercase letters are allowed if preceded by a lowercase
    * letter.
    *
-   * @param name the name to check
+   * @param name the characters holding the name to check
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
    * @return {@code true} if the name is in PascalCase, {@code false} otherwise
    */
-  private boolean isPascalCase(@NonNull final String name) {
-    return !containsInvalidCharacters(name)
-        && startsWithUpperCase(name)
-        && followsPascalCasePattern(name);
+  private boolean isPascalCase(@NonNull final CharSequence name, final int start, final int end) {
+    return start < end
+        && !containsInvalidCharacters(name, start, end)
+        && startsWithUpperCase(name, start);
+  }
+
+  private boolean startsWithUpperCase(@NonNull final CharSequence name, final int start) {
+    return isUpperCase(name.charAt(start));
   }
 
-  private boolean startsWithUpperCase(@NonNull final String name) {
-    return isUpperCase(name.charAt(0));
+  private boolean containsInvalidCharacters(
+      @NonNull final CharSequence name, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (isInvalidCharacter(name.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
   }
 
-  private boolean followsPascalCasePattern(@NonNull final String name) {
-    boolean previousIsUpperCase = false;
+  /** Reads PascalCase names, remembering whether the leading uppercase letter was read. */
+  private static final class PascalCaseAutomaton implements CaseStyleAutomaton {
 
-    for (int i = 1; i < name.length(); i++) {
-      char currentChar = name.charAt(i);
+    private static final int EMPTY = 0;
+    private static final int STARTED = 1;
 
-      if (isUpperCase(currentChar)) {
-        if (previousIsUpperCase) {
-          continue;
-        }
-        previousIsUpperCase = true;
-      } else {
-        previousIsUpperCase = false;
+    @Override
+    public int initialState() {
+      return EMPTY;
+    }
+
+    @Override
+    public int nextState(final int state, final char c) {
+      if (state == EMPTY) {
+        return isUpperCase(c) ? STARTED : REJECTED;
       }
+      return isInvalidCharacter(c) ? REJECTED : STARTED;
     }
-    return true;
-  }
 
-  private boolean containsInvalidCharacters(@NonNull String name) {
-    return name.chars().anyMatch(c -> invalidCharacters().contains((char) c));
+    @Override
+    public boolean isAccepting(final int state) {
+      return state == STARTED;
+    }
   }
 }
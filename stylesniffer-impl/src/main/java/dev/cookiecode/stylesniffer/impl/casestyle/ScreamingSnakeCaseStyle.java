@@ -22,9 +22,15 @@
  */
 package dev.cookiecode.stylesniffer.impl.casestyle;
 
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.UPPER;
+import static java.util.Objects.checkFromToIndex;
+
 import dev.cookiecode.stylesniffer.annotation.RegisterCaseStyle;
 import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
 import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.CaseStyleAutomaton;
+import dev.cookiecode.stylesniffer.api.WordFormat;
+import java.util.Optional;
 import java.util.Set;
 import lombok.NonNull;
 
@@ -40,10 +46,18 @@ import lombok.NonNull;
 public class ScreamingSnakeCaseStyle extends BaseCaseStyle {
 
   private static final char UNDERSCORE = '_';
+  private static final WordFormat WORD_FORMAT = new WordFormat(UNDERSCORE, UPPER, UPPER);
+  private static final CaseStyleAutomaton AUTOMATON = new ScreamingSnakeCaseAutomaton();
 
   @Override
   public boolean matches(@NonNull final String name) {
-    return this.isScreamingSnakeCase(name);
+    return this.isScreamingSnakeCase(name, 0, name.length());
+  }
+
+  @Override
+  public boolean matches(@NonNull final CharSequence text, final int start, final int end) {
+    checkFromToIndex(start, end, text.length());
+    return this.isScreamingSnakeCase(text, start, end);
   }
 
   @Override
@@ -56,17 +70,30 @@ public class ScreamingSnakeCaseStyle extends BaseCaseStyle {
     return Set.of(this.getName());
   }
 
+  @Override
+  public Optional<WordFormat> getWordFormat() {
+    return Optional.of(WORD_FORMAT);
+  }
+
+  @Override
+  public Optional<CaseStyleAutomaton> getAutomaton() {
+    return Optional.of(AUTOMATON);
+  }
+
   /**
    * Determines if the given name is in UPPER_SNAKE_CASE style.
    *
    * <p>Checks if the name consists entirely of uppercase letters and underscores, with at least one
    * underscore present, and no other characters or lowercase letters.
    *
-   * @param name the name to check
+   * @param name the characters holding the name to check
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
    * @return {@code true} if the name is in UPPER_SNAKE_CASE, {@code false} otherwise
    */
-  private boolean isScreamingSnakeCase(@NonNull final String name) {
-    if (name.isEmpty()) {
+  private boolean isScreamingSnakeCase(
+      @NonNull final CharSequence name, final int start, final int end) {
+    if (start == end) {
       return false;
     }
 
@@ -74,11 +101,11 @@ public class ScreamingSnakeCaseStyle extends BaseCaseStyle {
     boolean lastWasUnderscore = false;
 
     // Check if the string starts or ends with an underscore
-    if (name.charAt(0) == UNDERSCORE || name.charAt(name.length() - 1) == UNDERSCORE) {
+    if (name.charAt(start) == UNDERSCORE || name.charAt(end - 1) == UNDERSCORE) {
       return false;
     }
 
-    for (int i = 0; i < name.length(); i++) {
+    for (int i = start; i < end; i++) {
       final char c = name.charAt(i);
 
       if (c == UNDERSCORE) {
@@ -99,4 +126,38 @@ public class ScreamingSnakeCaseStyle extends BaseCaseStyle {
     // At least one underscore must be present
     return hasUnderscore;
   }
+
+  /**
+   * Reads UPPER_SNAKE_CASE names: the states tell whether the last character is an underscore and
+   * whether an underscore was read.
+   */
+  private static final class ScreamingSnakeCaseAutomaton implements CaseStyleAutomaton {
+
+    private static final int EMPTY = 0;
+    private static final int FIRST_WORD = 1;
+    private static final int AFTER_UNDERSCORE = 2;
+    private static final int NEXT_WORD = 3;
+
+    @Override
+    public int initialState() {
+      return EMPTY;
+    }
+
+    @Override
+    public int nextState(final int state, final char c) {
+      if (Character.isUpperCase(c)) {
+        return state == EMPTY || state == FIRST_WORD ? FIRST_WORD : NEXT_WORD;
+      }
+      // an underscore neither starts the name nor follows another one
+      if (c == UNDERSCORE && (state == FIRST_WORD || state == NEXT_WORD)) {
+        return AFTER_UNDERSCORE;
+      }
+      return REJECTED;
+    }
+
+    @Override
+    public boolean isAccepting(final int state) {
+      return state == NEXT_WORD;
+    }
+  }
 }
@@ -22,11 +22,20 @@
  */
 package dev.cookiecode.stylesniffer.impl.casestyle;
 
-import static java.lang.Character.isLowerCase;
+import static dev.cookiecode.stylesniffer.api.WordFormat.LetterCase.LOWER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.DASH;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.OTHER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.UPPER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.classOf;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.summarize;
+import static java.util.Objects.checkFromToIndex;
 
 import dev.cookiecode.stylesniffer.annotation.RegisterCaseStyle;
 import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
 import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.CaseStyleAutomaton;
+import dev.cookiecode.stylesniffer.api.WordFormat;
+import java.util.Optional;
 import java.util.Set;
 import lombok.NonNull;
 
@@ -41,6 +50,8 @@ import lombok.NonNull;
 public class SnakeCaseStyle extends BaseCaseStyle {
 
   private static final char UNDERSCORE = '_';
+  private static final WordFormat WORD_FORMAT = new WordFormat(UNDERSCORE, LOWER, LOWER);
+  private static final CaseStyleAutomaton AUTOMATON = new SnakeCaseAutomaton();
 
   /**
    * Checks if the given name matches the snake_case style.
@@ -50,7 +61,13 @@ public class SnakeCaseStyle extends BaseCaseStyle {
    */
   @Override
   public boolean matches(@NonNull final String name) {
-    return this.isSnakeCase(name);
+    return this.isSnakeCase(name, 0, name.length());
+  }
+
+  @Override
+  public boolean matches(@NonNull final CharSequence text, final int start, final int end) {
+    checkFromToIndex(start, end, text.length());
+    return this.isSnakeCase(text, start, end);
   }
 
   @Override
@@ -63,26 +80,56 @@ public class SnakeCaseStyle extends BaseCaseStyle {
     return Set.of(this.getName());
   }
 
+  @Override
+  public Optional<WordFormat> getWordFormat() {
+    return Optional.of(WORD_FORMAT);
+  }
+
+  @Override
+  public Optional<CaseStyleAutomaton> getAutomaton() {
+    return Optional.of(AUTOMATON);
+  }
+
   /**
    * Determines if the given name is in snake_case style.
    *
    * <p>Checks if the name consists entirely of lowercase letters and underscores, with at least one
    * underscore present, and no other characters or uppercase letters.
    *
-   * @param name the name to check
+   * @param name the characters holding the name to check
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
    * @return {@code true} if the name is in snake_case, {@code false} otherwise
    */
-  private boolean isSnakeCase(@NonNull final String name) {
-    // Check if the name is all lowercase and contains underscores
-    boolean hasUnderscore = false;
-    for (int i = 0; i < name.length(); i++) {
-      final char c = name.charAt(i);
-      if (c == UNDERSCORE) {
-        hasUnderscore = true;
-      } else if (!isLowerCase(c)) {
-        return false;
-      }
+  private boolean isSnakeCase(@NonNull final CharSequence name, final int start, final int end) {
+    final int rejected = UPPER | DASH | OTHER;
+    final int classes = summarize(name, start, end, rejected);
+    return (classes & rejected) == 0 && (classes & CharClasses.UNDERSCORE) != 0;
+  }
+
+  /** Reads snake_case names, remembering whether an underscore was read. */
+  private static final class SnakeCaseAutomaton implements CaseStyleAutomaton {
+
+    private static final int NO_UNDERSCORE = 0;
+    private static final int HAS_UNDERSCORE = 1;
+
+    @Override
+    public int initialState() {
+      return NO_UNDERSCORE;
+    }
+
+    @Override
+    public int nextState(final int state, final char c) {
+      return switch (classOf(c)) {
+        case CharClasses.UNDERSCORE -> HAS_UNDERSCORE;
+        case CharClasses.LOWER -> state;
+        default -> REJECTED;
+      };
+    }
+
+    @Override
+    public boolean isAccepting(final int state) {
+      return state == HAS_UNDERSCORE;
     }
-    return hasUnderscore;
   }
 }
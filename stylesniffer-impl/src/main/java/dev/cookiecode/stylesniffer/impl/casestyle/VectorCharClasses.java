@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.impl.casestyle;
+
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.DASH;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.LOWER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.OTHER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.UNDERSCORE;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.UPPER;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_GT;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_LE;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.NonNull;
+
+/**
+ * Vector API implementation of {@link CharClasses#summarize(CharSequence, int, int, int)}.
+ *
+ * <p>The characters are copied by chunks into an array reused by each thread, then compared a whole
+ * vector at a time (8 to 32 characters depending on the CPU) against the ASCII ranges of each
+ * class. The resulting masks are merged over the chunk and reduced once to the summary. A chunk
+ * holding a non ASCII character is classified by the scalar loop instead, so that letters keep the
+ * {@link Character#isUpperCase(char)} and {@link Character#isLowerCase(char)} semantics.
+ *
+ * <p>This class is only loaded when the {@code jdk.incubator.vector} module is enabled.
+ *
+ * @author Sebastien Vermeille
+ */
+final class VectorCharClasses {
+
+  private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+  private static final int CHUNK_LENGTH = 256;
+  private static final short MAX_ASCII = 0x7F;
+  private static final short LETTER_COUNT = 'z' - 'a' + 1;
+
+  /** The array the chunks are copied into, one per thread so that summarizing allocates nothing. */
+  private static final ThreadLocal<char[]> CHUNKS =
+      ThreadLocal.withInitial(() -> new char[CHUNK_LENGTH]);
+
+  private VectorCharClasses() {}
+
+  static boolean isSupported() {
+    return SPECIES.length() > 1;
+  }
+
+  static int summarize(
+      @NonNull final CharSequence text, final int start, final int end, final int stopAt) {
+    final var chunk = CHUNKS.get();
+    int classes = 0;
+    for (int offset = start; offset < end && (classes & stopAt) == 0; offset += CHUNK_LENGTH) {
+      final int length = Math.min(CHUNK_LENGTH, end - offset);
+      copy(text, offset, offset + length, chunk);
+      classes |= summarizeChunk(chunk, length);
+    }
+    return classes;
+  }
+
+  private static int summarizeChunk(final char[] chunk, final int length) {
+    final var none = SPECIES.maskAll(false);
+    VectorMask<Short> upper = none;
+    VectorMask<Short> lower = none;
+    VectorMask<Short> underscore = none;
+    VectorMask<Short> dash = none;
+    VectorMask<Short> other = none;
+    VectorMask<Short> nonAscii = none;
+
+    final int bound = SPECIES.loopBound(length);
+    for (int i = 0; i < bound; i += SPECIES.length()) {
+      final var chars = ShortVector.fromCharArray(SPECIES, chunk, i);
+      // a single unsigned comparison checks both bounds of a range
+      final var isUpper = chars.sub((short) 'A').compare(UNSIGNED_LE, LETTER_COUNT - 1);
+      final var isLower = chars.sub((short) 'a').compare(UNSIGNED_LE, LETTER_COUNT - 1);
+      final var isUnderscore = chars.eq((short) '_');
+      final var isDash = chars.eq((short) '-');
+      upper = upper.or(isUpper);
+      lower = lower.or(isLower);
+      underscore = underscore.or(isUnderscore);
+      dash = dash.or(isDash);
+      other = other.or(isUpper.or(isLower).or(isUnderscore).or(isDash).not());
+      nonAscii = nonAscii.or(chars.compare(UNSIGNED_GT, MAX_ASCII));
+    }
+    if (nonAscii.anyTrue()) {
+      return summarizeScalar(chunk, 0, length);
+    }
+
+    int classes = summarizeScalar(chunk, bound, length);
+    classes |= upper.anyTrue() ? UPPER : 0;
+    classes |= lower.anyTrue() ? LOWER : 0;
+    classes |= underscore.anyTrue() ? UNDERSCORE : 0;
+    classes |= dash.anyTrue() ? DASH : 0;
+    classes |= other.anyTrue() ? OTHER : 0;
+    return classes;
+  }
+
+  private static int summarizeScalar(final char[] chunk, final int from, final int to) {
+    int classes = 0;
+    for (int i = from; i < to; i++) {
+      classes |= CharClasses.classOf(chunk[i]);
+    }
+    return classes;
+  }
+
+  private static void copy(
+      final CharSequence text, final int start, final int end, final char[] destination) {
+    if (text instanceof String string) {
+      string.getChars(start, end, destination, 0);
+    } else if (text instanceof StringBuilder builder) {
+      builder.getChars(start, end, destination, 0);
+    } else {
+      for (int i = start; i < end; i++) {
+        destination[i - start] = text.charAt(i);
+      }
+    }
+  }
+}
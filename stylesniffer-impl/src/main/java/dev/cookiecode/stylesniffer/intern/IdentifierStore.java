@@ -0,0 +1,492 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.intern;
+
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.replaceAtomically;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.checkIndex;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ObjIntConsumer;
+import lombok.NonNull;
+
+/**
+ * Set of distinct identifiers stored as a minimal acyclic automaton, each identifier having an int
+ * id and the id of its case style.
+ *
+ * <p>The automaton shares the prefixes and the suffixes of the identifiers: the memory it takes is
+ * a fraction of the one of a {@code HashMap<String, CaseStyle>} holding the same identifiers, which
+ * makes it suitable for deduplicating and classifying hundreds of millions of identifiers. Each
+ * state is a range of transitions, sorted by label; each transition holds its label, its target and
+ * the number of identifiers accepted before it within its state. The id of an identifier is its
+ * rank in the ascending order of the identifiers: it is the sum of these numbers along its path
+ * (perfect hashing), and the identifier of an id is found by walking the automaton the other way.
+ * The case style of each identifier is a byte indexing the case styles sorted by name, 0 meaning
+ * that it matched none.
+ *
+ * <p>Stores are built by an {@link IdentifierStoreBuilder}, or from unsorted identifiers by {@link
+ * #of(Iterable, StyleSniffer)}, and are written to and read from files with {@link #writeTo(Path)}
+ * and {@link #read(Path)}.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class IdentifierStore {
+
+  static final byte UNCLASSIFIED = 0;
+  static final int MAX_CASE_STYLES = 255;
+
+  private static final int MAGIC = 0x53534931; // "SSI1"
+  private static final int FORMAT_VERSION = 1;
+  // magic, format version, size, root, state count, transition count and case style count
+  private static final int HEADER_SIZE = Integer.BYTES * 7;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final List<String> caseStyleNames;
+  private final int size;
+  private final int root;
+  private final int[] firstTransitions;
+  private final char[] labels;
+  private final int[] targets;
+  private final int[] offsets;
+  private final byte[] styles;
+
+  IdentifierStore(
+      final List<String> caseStyleNames,
+      final int size,
+      final int root,
+      final int[] firstTransitions,
+      final char[] labels,
+      final int[] targets,
+      final int[] offsets,
+      final byte[] styles) {
+    this.caseStyleNames = caseStyleNames;
+    this.size = size;
+    this.root = root;
+    this.firstTransitions = firstTransitions;
+    this.labels = labels;
+    this.targets = targets;
+    this.offsets = offsets;
+    this.styles = styles;
+  }
+
+  /**
+   * Stores the given identifiers, in any order.
+   *
+   * <p>The identifiers are copied and sorted before being added to an {@link
+   * IdentifierStoreBuilder}: feed the builder directly when the identifiers are already sorted.
+   * Empty identifiers are left out.
+   *
+   * @param identifiers the identifiers, duplicates being stored once
+   * @param styleSniffer the sniffer classifying the identifiers
+   * @return the store
+   * @throws IllegalArgumentException if the sniffer has more than 255 case styles
+   */
+  public static IdentifierStore of(
+      @NonNull final Iterable<? extends CharSequence> identifiers,
+      @NonNull final StyleSniffer styleSniffer) {
+    final List<String> sortedIdentifiers = new ArrayList<>();
+    for (final var identifier : identifiers) {
+      if (!identifier.isEmpty()) {
+        sortedIdentifiers.add(identifier.toString());
+      }
+    }
+    sortedIdentifiers.sort(null);
+
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+    for (final var identifier : sortedIdentifiers) {
+      builder.add(identifier);
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return the number of identifiers
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the names of the case styles, sorted
+   */
+  public List<String> getCaseStyleNames() {
+    return caseStyleNames;
+  }
+
+  /**
+   * @param identifier the identifier to look up
+   * @return {@code true} if the identifier is in the store
+   */
+  public boolean contains(@NonNull final CharSequence identifier) {
+    return indexOf(identifier, 0, identifier.length()) >= 0;
+  }
+
+  /**
+   * Returns the id of an identifier, read in place.
+   *
+   * @param text the text holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @return the id of the identifier, or -1 if it is not in the store
+   */
+  public int indexOf(@NonNull final CharSequence text, final int start, final int end) {
+    if (size == 0 || start == end) {
+      return -1;
+    }
+    int state = root;
+    int id = 0;
+    for (int i = start; i < end; i++) {
+      final int transition =
+          Arrays.binarySearch(
+              labels, firstTransitions[state], firstTransitions[state + 1], text.charAt(i));
+      if (transition < 0) {
+        return -1;
+      }
+      id += offsets[transition];
+      state = targets[transition];
+    }
+    return isFinal(firstTransitions, offsets, state) ? id : -1;
+  }
+
+  /**
+   * Returns the identifier having the given id.
+   *
+   * @param id the id of the identifier
+   * @return the identifier
+   * @throws IndexOutOfBoundsException if the id is not within the store
+   */
+  public String getIdentifier(final int id) {
+    checkIndex(id, size);
+    final var identifier = new StringBuilder();
+    appendIdentifier(id, identifier);
+    return identifier.toString();
+  }
+
+  /**
+   * Returns the case style of an identifier.
+   *
+   * @param id the id of the identifier
+   * @return an {@link Optional} containing the case style name, or an empty {@code Optional} if the
+   *     identifier matched no case style
+   * @throws IndexOutOfBoundsException if the id is not within the store
+   */
+  public Optional<String> getCaseStyleName(final int id) {
+    checkIndex(id, size);
+    final int styleId = Byte.toUnsignedInt(styles[id]);
+    return styleId == UNCLASSIFIED
+        ? Optional.empty()
+        : Optional.of(caseStyleNames.get(styleId - 1));
+  }
+
+  /**
+   * Hands over each identifier with its id, in ascending order.
+   *
+   * <p>The identifiers are spelled out while the automaton is walked, into a single buffer: the
+   * {@link CharSequence} handed to the consumer is only valid until it returns.
+   *
+   * @param consumer the consumer receiving each identifier and its id
+   */
+  public void forEach(@NonNull final ObjIntConsumer<CharSequence> consumer) {
+    if (size == 0) {
+      return;
+    }
+    final var identifier = new StringBuilder();
+    // the next transition and the end of the transitions of the state at each depth of the path
+    int[] nextTransitions = new int[16];
+    int[] transitionEnds = new int[16];
+    nextTransitions[0] = firstTransitions[root];
+    transitionEnds[0] = firstTransitions[root + 1];
+    int depth = 0;
+    int id = 0;
+    while (depth >= 0) {
+      if (nextTransitions[depth] == transitionEnds[depth]) {
+        depth--;
+        continue;
+      }
+      final int transition = nextTransitions[depth]++;
+      identifier.setLength(depth);
+      identifier.append(labels[transition]);
+      final int target = targets[transition];
+      if (isFinal(firstTransitions, offsets, target)) {
+        consumer.accept(identifier, id++);
+      }
+      if (++depth == nextTransitions.length) {
+        nextTransitions = Arrays.copyOf(nextTransitions, depth * 2);
+        transitionEnds = Arrays.copyOf(transitionEnds, depth * 2);
+      }
+      nextTransitions[depth] = firstTransitions[target];
+      transitionEnds[depth] = firstTransitions[target + 1];
+    }
+  }
+
+  /**
+   * Hands over each identifier of the given case style with its id, in ascending order.
+   *
+   * <p>The ids are found by scanning the case styles, and only the matching identifiers are spelled
+   * out, into a single buffer: the {@link CharSequence} handed to the consumer is only valid until
+   * it returns.
+   *
+   * @param caseStyleName the name of the case style, {@code null} for the unclassified identifiers
+   * @param consumer the consumer receiving each identifier and its id
+   * @return the number of identifiers handed to the consumer
+   */
+  public int forEach(
+      @Nullable final String caseStyleName, @NonNull final ObjIntConsumer<CharSequence> consumer) {
+    final int styleId =
+        caseStyleName == null ? UNCLASSIFIED : caseStyleNames.indexOf(caseStyleName) + 1;
+    if (caseStyleName != null && styleId == UNCLASSIFIED) {
+      return 0;
+    }
+    final var identifier = new StringBuilder();
+    int count = 0;
+    for (int id = 0; id < size; id++) {
+      if (Byte.toUnsignedInt(styles[id]) == styleId) {
+        identifier.setLength(0);
+        appendIdentifier(id, identifier);
+        consumer.accept(identifier, id);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Writes the store to a file, replacing it atomically.
+   *
+   * @param file the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public void writeTo(@NonNull final Path file) throws IOException {
+    replaceAtomically(file, this::write);
+  }
+
+  private void write(final Path file) throws IOException {
+    try (var channel = FileChannel.open(file, WRITE)) {
+      final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      buffer
+          .putInt(MAGIC)
+          .putInt(FORMAT_VERSION)
+          .putInt(size)
+          .putInt(root)
+          .putInt(firstTransitions.length - 1)
+          .putInt(labels.length)
+          .putInt(caseStyleNames.size());
+      for (final var caseStyleName : caseStyleNames) {
+        final var bytes = caseStyleName.getBytes(UTF_8);
+        flush(channel, buffer, Short.BYTES + bytes.length);
+        buffer.putShort((short) bytes.length).put(bytes);
+      }
+      putInts(channel, buffer, firstTransitions);
+      for (int i = 0; i < labels.length; ) {
+        final int count = Math.min(labels.length - i, flush(channel, buffer, Character.BYTES));
+        buffer.asCharBuffer().put(labels, i, count);
+        buffer.position(buffer.position() + count * Character.BYTES);
+        i += count;
+      }
+      putInts(channel, buffer, targets);
+      putInts(channel, buffer, offsets);
+      for (int i = 0; i < styles.length; ) {
+        final int count = Math.min(styles.length - i, flush(channel, buffer, 1));
+        buffer.put(styles, i, count);
+        i += count;
+      }
+      flush(channel, buffer, BUFFER_SIZE);
+    }
+  }
+
+  /**
+   * Reads a store written by {@link #writeTo(Path)}.
+   *
+   * @param file the file to read
+   * @return the store
+   * @throws IOException if the file cannot be read
+   * @throws StyleSnifferException if the file is not an identifier store or is truncated
+   */
+  public static IdentifierStore read(@NonNull final Path file) throws IOException {
+    try (var channel = FileChannel.open(file, READ)) {
+      final var buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+      fill(file, channel, buffer, HEADER_SIZE);
+      if (buffer.getInt() != MAGIC) {
+        throw new StyleSnifferException(String.format("%s is not an identifier store", file));
+      }
+      if (buffer.getInt() != FORMAT_VERSION) {
+        throw new StyleSnifferException(
+            String.format("%s has been written in an unsupported format version", file));
+      }
+      final int size = buffer.getInt();
+      final int root = buffer.getInt();
+      final int stateCount = buffer.getInt();
+      final int transitionCount = buffer.getInt();
+      final int caseStyleCount = buffer.getInt();
+      if (size < 0
+          || root < 0
+          || root >= stateCount
+          || transitionCount < 0
+          || caseStyleCount > MAX_CASE_STYLES
+          || caseStyleCount < 0) {
+        throw new StyleSnifferException(String.format("%s is not an identifier store", file));
+      }
+
+      final List<String> caseStyleNames = new ArrayList<>();
+      for (int i = 0; i < caseStyleCount; i++) {
+        fill(file, channel, buffer, Short.BYTES);
+        final var bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        fill(file, channel, buffer, bytes.length);
+        buffer.get(bytes);
+        caseStyleNames.add(new String(bytes, UTF_8));
+      }
+      final var firstTransitions = getInts(file, channel, buffer, stateCount + 1);
+      final var labels = new char[transitionCount];
+      for (int i = 0; i < labels.length; ) {
+        fill(file, channel, buffer, Character.BYTES);
+        final int count = Math.min(labels.length - i, buffer.remaining() / Character.BYTES);
+        buffer.asCharBuffer().get(labels, i, count);
+        buffer.position(buffer.position() + count * Character.BYTES);
+        i += count;
+      }
+      final var targets = getInts(file, channel, buffer, transitionCount);
+      final var offsets = getInts(file, channel, buffer, transitionCount);
+      final var styles = new byte[size];
+      for (int i = 0; i < styles.length; ) {
+        fill(file, channel, buffer, 1);
+        final int count = Math.min(styles.length - i, buffer.remaining());
+        buffer.get(styles, i, count);
+        i += count;
+      }
+      if (buffer.hasRemaining() || channel.position() != channel.size()) {
+        throw new StyleSnifferException(String.format("%s is not an identifier store", file));
+      }
+      return new IdentifierStore(
+          List.copyOf(caseStyleNames),
+          size,
+          root,
+          firstTransitions,
+          labels,
+          targets,
+          offsets,
+          styles);
+    }
+  }
+
+  /**
+   * Tells whether identifiers end at the given state: the states without transitions always end
+   * one, and the first transition of the others counts the identifier ending at their state.
+   */
+  static boolean isFinal(final int[] firstTransitions, final int[] offsets, final int state) {
+    final int first = firstTransitions[state];
+    return first == firstTransitions[state + 1] || offsets[first] == 1;
+  }
+
+  private void appendIdentifier(int id, final StringBuilder identifier) {
+    int state = root;
+    while (id > 0 || !isFinal(firstTransitions, offsets, state)) {
+      // the last transition counting at most id identifiers before it
+      int low = firstTransitions[state];
+      int high = firstTransitions[state + 1] - 1;
+      while (low < high) {
+        final int middle = (low + high + 1) >>> 1;
+        if (offsets[middle] <= id) {
+          low = middle;
+        } else {
+          high = middle - 1;
+        }
+      }
+      id -= offsets[low];
+      identifier.append(labels[low]);
+      state = targets[low];
+    }
+  }
+
+  private static void putInts(
+      final FileChannel channel, final ByteBuffer buffer, final int[] values) throws IOException {
+    for (int i = 0; i < values.length; ) {
+      final int count = Math.min(values.length - i, flush(channel, buffer, Integer.BYTES));
+      buffer.asIntBuffer().put(values, i, count);
+      buffer.position(buffer.position() + count * Integer.BYTES);
+      i += count;
+    }
+  }
+
+  private static int[] getInts(
+      final Path file, final FileChannel channel, final ByteBuffer buffer, final int length)
+      throws IOException {
+    final var values = new int[length];
+    for (int i = 0; i < values.length; ) {
+      fill(file, channel, buffer, Integer.BYTES);
+      final int count = Math.min(values.length - i, buffer.remaining() / Integer.BYTES);
+      buffer.asIntBuffer().get(values, i, count);
+      buffer.position(buffer.position() + count * Integer.BYTES);
+      i += count;
+    }
+    return values;
+  }
+
+  /**
+   * Writes the buffer out if it cannot hold the given number of bytes.
+   *
+   * @return the number of values of the given size the buffer can hold
+   */
+  private static int flush(final FileChannel channel, final ByteBuffer buffer, final int byteCount)
+      throws IOException {
+    if (buffer.remaining() < byteCount) {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+    return buffer.remaining() / byteCount;
+  }
+
+  /** Reads from the channel, if needed, so that the buffer holds at least the given byte count. */
+  private static void fill(
+      final Path file, final FileChannel channel, final ByteBuffer buffer, final int byteCount)
+      throws IOException {
+    if (buffer.remaining() < byteCount) {
+      buffer.compact();
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          break;
+        }
+      }
+      buffer.flip();
+      if (buffer.remaining() < byteCount) {
+        throw new StyleSnifferException(String.format("%s is truncated", file));
+      }
+    }
+  }
+}
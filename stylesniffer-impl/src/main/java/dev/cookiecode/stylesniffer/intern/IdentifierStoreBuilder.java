@@ -0,0 +1,341 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.intern;
+
+import static dev.cookiecode.stylesniffer.intern.IdentifierStore.MAX_CASE_STYLES;
+import static dev.cookiecode.stylesniffer.intern.IdentifierStore.UNCLASSIFIED;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.mix;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Builds an {@link IdentifierStore} from identifiers added in ascending order.
+ *
+ * <p>The identifiers are added to a minimal acyclic automaton as they come (incremental
+ * construction of Daciuk et al.): the states of the previous identifier which are not on the path
+ * of the new one can no longer change, so they are frozen, a frozen state being replaced by an
+ * equivalent one when there is already one. Prefixes ({@code get}, {@code set}) and suffixes
+ * ({@code _id}, {@code Id}) shared by the identifiers are thus stored once, and the memory needed
+ * by the builder is the one of the minimal automaton, plus the path of the last identifier.
+ *
+ * <p>Each identifier is classified when it is added, its id being its rank in the ascending order.
+ * Unsorted identifiers can be stored with {@link IdentifierStore#of(Iterable, StyleSniffer)}.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Sebastien Vermeille
+ */
+public class IdentifierStoreBuilder {
+
+  private final StyleSniffer styleSniffer;
+  private final List<String> caseStyleNames;
+  private final Map<CaseStyle, Byte> styleIds = new IdentityHashMap<>();
+
+  // frozen states: the transitions of state i are in [firstTransitions[i], firstTransitions[i + 1])
+  private int[] firstTransitions = new int[1025];
+  private int stateCount;
+  private char[] labels = new char[1024];
+  private int[] targets = new int[1024];
+  // number of identifiers before each transition within its state, see IdentifierStore
+  private int[] offsets = new int[1024];
+  private int transitionCount;
+  // number of identifiers accepted from each frozen state
+  private int[] identifierCounts = new int[1024];
+  // frozen states by content, stored as state + 1 so that 0 is an empty slot
+  private int[] register = new int[1024];
+
+  // states of the path of the last identifier, which are not frozen yet
+  private final List<PathState> path = new ArrayList<>(List.of(new PathState()));
+  private char[] previous = new char[64];
+  private int previousLength;
+
+  private byte[] styles = new byte[1024];
+  private int size;
+  private boolean built;
+
+  /**
+   * Creates a builder classifying the identifiers with the given sniffer.
+   *
+   * @param styleSniffer the sniffer classifying the identifiers
+   * @throws IllegalArgumentException if the sniffer has more than 255 case styles
+   */
+  public IdentifierStoreBuilder(@NonNull final StyleSniffer styleSniffer) {
+    this.styleSniffer = styleSniffer;
+    this.caseStyleNames = styleSniffer.getSupportedCaseStyles().stream().sorted().toList();
+    if (caseStyleNames.size() > MAX_CASE_STYLES) {
+      throw new IllegalArgumentException(
+          String.format(
+              "At most %d case styles can be stored, %d are registered",
+              MAX_CASE_STYLES, caseStyleNames.size()));
+    }
+  }
+
+  /**
+   * Adds an identifier.
+   *
+   * @param identifier the identifier, greater than or equal to the previous one
+   * @return the id of the identifier
+   * @see #add(CharSequence, int, int)
+   */
+  public int add(@NonNull final CharSequence identifier) {
+    return add(identifier, 0, identifier.length());
+  }
+
+  /**
+   * Adds an identifier, read in place.
+   *
+   * <p>The identifiers are compared as {@link String#compareTo(String)} does. Adding the same
+   * identifier as the previous one returns its id again.
+   *
+   * @param text the text holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @return the id of the identifier
+   * @throws IllegalArgumentException if the identifier is empty or lower than the previous one
+   * @throws IllegalStateException if the store has already been built or is full
+   */
+  public int add(@NonNull final CharSequence text, final int start, final int end) {
+    if (built) {
+      throw new IllegalStateException("The store has already been built");
+    }
+    final int length = end - start;
+    if (length == 0) {
+      throw new IllegalArgumentException("Empty identifiers cannot be stored");
+    }
+
+    int prefixLength = 0;
+    while (prefixLength < Math.min(previousLength, length)
+        && previous[prefixLength] == text.charAt(start + prefixLength)) {
+      prefixLength++;
+    }
+    if (prefixLength == length && prefixLength == previousLength) {
+      return size - 1;
+    }
+    if (prefixLength < previousLength
+        && (prefixLength == length || text.charAt(start + prefixLength) < previous[prefixLength])) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Identifiers must be added in ascending order: %s follows %s",
+              text.subSequence(start, end), new String(previous, 0, previousLength)));
+    }
+    if (size == Integer.MAX_VALUE) {
+      throw new IllegalStateException("The store cannot hold more identifiers");
+    }
+
+    freezePath(prefixLength);
+    while (path.size() <= length) {
+      path.add(new PathState());
+    }
+    if (previous.length < length) {
+      previous = Arrays.copyOf(previous, Math.max(length, previous.length * 2));
+    }
+    for (int i = prefixLength; i < length; i++) {
+      final char label = text.charAt(start + i);
+      path.get(i).addTransition(label);
+      path.get(i + 1).clear();
+      previous[i] = label;
+    }
+    path.get(length).isFinal = true;
+    previousLength = length;
+
+    if (size == styles.length) {
+      styles = Arrays.copyOf(styles, styles.length * 2);
+    }
+    styles[size] =
+        styleSniffer.getCaseStyle(text, start, end).map(this::styleIdOf).orElse(UNCLASSIFIED);
+    return size++;
+  }
+
+  /**
+   * @return the number of identifiers added so far
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Freezes the remaining states and returns the store.
+   *
+   * @return the store holding the added identifiers
+   * @throws IllegalStateException if the store has already been built
+   */
+  public IdentifierStore build() {
+    if (built) {
+      throw new IllegalStateException("The store has already been built");
+    }
+    built = true;
+    freezePath(0);
+    final int root = freeze(path.get(0));
+    return new IdentifierStore(
+        List.copyOf(caseStyleNames),
+        size,
+        root,
+        Arrays.copyOf(firstTransitions, stateCount + 1),
+        Arrays.copyOf(labels, transitionCount),
+        Arrays.copyOf(targets, transitionCount),
+        Arrays.copyOf(offsets, transitionCount),
+        Arrays.copyOf(styles, size));
+  }
+
+  private byte styleIdOf(final CaseStyle caseStyle) {
+    return styleIds.computeIfAbsent(
+        caseStyle,
+        style -> {
+          final int index = caseStyleNames.indexOf(style.getName());
+          return index < 0 ? UNCLASSIFIED : (byte) (index + 1);
+        });
+  }
+
+  /** Freezes the states of the path of the previous identifier deeper than the given depth. */
+  private void freezePath(final int depth) {
+    for (int i = previousLength; i > depth; i--) {
+      final var parent = path.get(i - 1);
+      parent.targets[parent.size - 1] = freeze(path.get(i));
+    }
+  }
+
+  /** Returns the frozen state equivalent to the given one, freezing it if there is none. */
+  private int freeze(final PathState state) {
+    final int mask = register.length - 1;
+    int slot = state.hash() & mask;
+    int registered;
+    while ((registered = register[slot]) != 0) {
+      if (equals(registered - 1, state)) {
+        return registered - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    if (transitionCount > Integer.MAX_VALUE - 8 - state.size) {
+      throw new IllegalStateException("The store cannot hold more transitions");
+    }
+    ensureCapacity(state.size);
+    final int frozen = stateCount++;
+    int identifierCount = state.isFinal ? 1 : 0;
+    for (int i = 0; i < state.size; i++) {
+      labels[transitionCount] = state.labels[i];
+      targets[transitionCount] = state.targets[i];
+      offsets[transitionCount] = identifierCount;
+      identifierCount += identifierCounts[state.targets[i]];
+      transitionCount++;
+    }
+    firstTransitions[frozen + 1] = transitionCount;
+    identifierCounts[frozen] = identifierCount;
+
+    register[slot] = frozen + 1;
+    // keeps the register at most half full
+    if (stateCount * 2 > register.length) {
+      rehash();
+    }
+    return frozen;
+  }
+
+  private boolean equals(final int frozen, final PathState state) {
+    final int first = firstTransitions[frozen];
+    if (firstTransitions[frozen + 1] - first != state.size
+        || IdentifierStore.isFinal(firstTransitions, offsets, frozen) != state.isFinal) {
+      return false;
+    }
+    for (int i = 0; i < state.size; i++) {
+      if (labels[first + i] != state.labels[i] || targets[first + i] != state.targets[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void ensureCapacity(final int addedTransitions) {
+    if (stateCount + 2 > firstTransitions.length) {
+      firstTransitions = Arrays.copyOf(firstTransitions, firstTransitions.length * 2);
+      identifierCounts = Arrays.copyOf(identifierCounts, firstTransitions.length);
+    }
+    if (transitionCount + addedTransitions > labels.length) {
+      final long grownLength = Math.max(transitionCount + addedTransitions, labels.length * 2L);
+      final int capacity = (int) Math.min(grownLength, Integer.MAX_VALUE - 8);
+      labels = Arrays.copyOf(labels, capacity);
+      targets = Arrays.copyOf(targets, capacity);
+      offsets = Arrays.copyOf(offsets, capacity);
+    }
+  }
+
+  private void rehash() {
+    register = new int[register.length * 2];
+    final int mask = register.length - 1;
+    for (int state = 0; state < stateCount; state++) {
+      int slot = hash(state) & mask;
+      while (register[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      register[slot] = state + 1;
+    }
+  }
+
+  private int hash(final int frozen) {
+    int hash = IdentifierStore.isFinal(firstTransitions, offsets, frozen) ? 1 : 0;
+    for (int i = firstTransitions[frozen]; i < firstTransitions[frozen + 1]; i++) {
+      hash = PathState.hash(hash, labels[i], targets[i]);
+    }
+    return mix(hash);
+  }
+
+  /** State of the path of the last identifier, whose last transition may still change. */
+  private static final class PathState {
+
+    private char[] labels = new char[4];
+    private int[] targets = new int[4];
+    private int size;
+    private boolean isFinal;
+
+    void addTransition(final char label) {
+      if (size == labels.length) {
+        labels = Arrays.copyOf(labels, size * 2);
+        targets = Arrays.copyOf(targets, size * 2);
+      }
+      labels[size++] = label;
+    }
+
+    void clear() {
+      size = 0;
+      isFinal = false;
+    }
+
+    int hash() {
+      int hash = isFinal ? 1 : 0;
+      for (int i = 0; i < size; i++) {
+        hash = hash(hash, labels[i], targets[i]);
+      }
+      return mix(hash);
+    }
+
+    static int hash(final int hash, final char label, final int target) {
+      return (hash * 31 + label) * 31 + target;
+    }
+  }
+}
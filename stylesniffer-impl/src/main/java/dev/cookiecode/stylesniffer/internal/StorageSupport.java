@@ -0,0 +1,229 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Helpers shared by the classes storing their data in files: fingerprints of the registered case
+ * styles, atomic replacement and memory mapping of the files, and the hash of the names stored in
+ * hash tables.
+ *
+ * <p>The package is not exported by the module: these helpers are not part of the API.
+ *
+ * @author Sebastien Vermeille
+ */
+@UtilityClass
+public final class StorageSupport {
+
+  /**
+   * Version of the classification rules of the bundled case styles and lexers, summed up in every
+   * fingerprint: it must be bumped whenever a change to them can classify a name differently, so
+   * that the files written by previous releases are ignored. The implementation version of the
+   * classes is summed up as well, but it is missing when they are not loaded from a released jar
+   * and stays the same across the snapshots of a release.
+   */
+  public static final int RULES_VERSION = 1;
+
+  /** Writes the content of a file. */
+  @FunctionalInterface
+  public interface ContentWriter {
+
+    /**
+     * @param file the file to write, already created
+     * @throws IOException if the file cannot be written
+     */
+    void writeTo(Path file) throws IOException;
+  }
+
+  /**
+   * @return a new SHA-256 digest
+   */
+  public static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is supported by every Java platform", e);
+    }
+  }
+
+  /**
+   * Adds a string to a digest, followed by a separator so that consecutive strings cannot be
+   * confused with their concatenation.
+   *
+   * @param digest the digest to update
+   * @param value the string to add
+   */
+  public static void update(@NonNull final MessageDigest digest, @NonNull final String value) {
+    digest.update(value.getBytes(UTF_8));
+    digest.update((byte) 0);
+  }
+
+  /**
+   * Creates a digest summing up what a classification depends on: the registered case styles, in
+   * matching order since a name is classified as the first case style matching it, along with the
+   * version of their classes and the {@link #RULES_VERSION version of the classification rules}.
+   *
+   * @param format the name and version of the format of the file storing the results
+   * @param styleSniffer the sniffer whose case styles are summed up
+   * @return the digest, to which other dependencies of the stored results can be added
+   */
+  public static MessageDigest caseStylesDigest(
+      @NonNull final String format, @NonNull final StyleSniffer styleSniffer) {
+    final var digest = newDigest();
+    update(digest, format);
+    update(digest, "rules " + RULES_VERSION);
+    update(digest, versionOf(StyleSniffer.class));
+    for (final var name : styleSniffer.getSupportedCaseStyles()) {
+      update(digest, name);
+      styleSniffer
+          .getCaseStyleWithVariantOrName(name)
+          .ifPresent(
+              caseStyle -> {
+                update(digest, caseStyle.getClass().getName());
+                update(digest, versionOf(caseStyle.getClass()));
+              });
+    }
+    return digest;
+  }
+
+  /**
+   * @param digest the digest to complete
+   * @return the first 64 bits of the digest
+   */
+  public static long fingerprint(@NonNull final MessageDigest digest) {
+    return ByteBuffer.wrap(digest.digest()).getLong();
+  }
+
+  /**
+   * Replaces a file atomically: its content is written to a temporary file of the same directory,
+   * which is then moved over it, so that readers never see a partially written file.
+   *
+   * @param file the file to replace, created with its parent directories if it does not exist
+   * @param writer the writer of the content
+   * @throws IOException if the file cannot be written
+   */
+  public static void replaceAtomically(
+      @NonNull final Path file, @NonNull final ContentWriter writer) throws IOException {
+    final var directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    final var temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), "");
+    try {
+      writer.writeTo(temporaryFile);
+      Files.move(temporaryFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  /**
+   * Replaces a file atomically with the remaining bytes of a buffer.
+   *
+   * @param file the file to replace, created with its parent directories if it does not exist
+   * @param buffer the content of the file
+   * @throws IOException if the file cannot be written
+   * @see #replaceAtomically(Path, ContentWriter)
+   */
+  public static void replaceAtomically(@NonNull final Path file, @NonNull final ByteBuffer buffer)
+      throws IOException {
+    replaceAtomically(
+        file,
+        temporaryFile -> {
+          try (var channel = FileChannel.open(temporaryFile, WRITE)) {
+            while (buffer.hasRemaining()) {
+              channel.write(buffer);
+            }
+          }
+        });
+  }
+
+  /**
+   * Maps a whole file in read-only mode.
+   *
+   * @param file the file to map
+   * @return the mapped content, or an empty buffer if the file is larger than 2 GB
+   * @throws IOException if the file cannot be read
+   */
+  public static ByteBuffer mapReadOnly(@NonNull final Path file) throws IOException {
+    try (var channel = FileChannel.open(file, READ)) {
+      final long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        return ByteBuffer.allocate(0);
+      }
+      // the mapping remains valid once the channel is closed
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+  }
+
+  /**
+   * Hashes a range of characters for a hash table.
+   *
+   * @param text the characters
+   * @param start the index of the first character (inclusive)
+   * @param end the index after the last character (exclusive)
+   * @return the hash of the range, the same as the hash of the equal ranges of any text
+   */
+  public static int hash(@NonNull final CharSequence text, final int start, final int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + text.charAt(i);
+    }
+    // names differing by their last char have close hashes, which would cluster in the table
+    return mix(hash);
+  }
+
+  /**
+   * Spreads the bits of a hash (finalizer of MurmurHash3), so that close hashes land on distant
+   * slots of a hash table.
+   *
+   * @param hash the hash to mix
+   * @return the mixed hash
+   */
+  public static int mix(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static String versionOf(final Class<?> clazz) {
+    return Objects.toString(clazz.getPackage().getImplementationVersion(), "");
+  }
+}
@@ -20,35 +20,39 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package dev.cookiecode.stylesniffer.annotation.processor;
+package dev.cookiecode.stylesniffer.jfr;
 
-import lombok.experimental.Delegate;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.NonNull;
 
 /**
- * Wrapper for Thymeleaf template engine pre-configured for the project
+ * JDK Flight Recorder event measuring the instantiation of a single {@link CaseStyle}.
+ *
+ * <p>The event is disabled by default.
  *
  * @author Sebastien Vermeille
- * @see TemplateEngine
  */
-public class ProcessorTemplateEngine {
-
-  private static final String TEMPLATES_DIR = "templates/";
-  private static final String TEMPLATE_EXTENSION = ".tpl";
-  private static final String TEMPLATE_MODE = "TEXT";
-  private static final String TEMPLATE_ENCODING = "UTF-8";
+@Name(CaseStyleInstantiationEvent.NAME)
+@Label("Case Style Instantiation")
+@Category({"StyleSniffer"})
+@Description("Time spent instantiating a registered case style")
+@Enabled(false)
+@StackTrace(false)
+public final class CaseStyleInstantiationEvent extends Event {
 
-  @Delegate(types = TemplateEngine.class)
-  private final TemplateEngine templateEngine = new TemplateEngine();
+  public static final String NAME = "dev.cookiecode.stylesniffer.CaseStyleInstantiation";
 
-  public ProcessorTemplateEngine() {
-    final var templateResolver = new ClassLoaderTemplateResolver();
-    templateResolver.setPrefix(TEMPLATES_DIR);
-    templateResolver.setSuffix(TEMPLATE_EXTENSION);
-    templateResolver.setTemplateMode(TEMPLATE_MODE);
-    templateResolver.setCharacterEncoding(TEMPLATE_ENCODING);
+  @Label("Case Style Class")
+  private final Class<?> caseStyleClass;
 
-    templateEngine.setTemplateResolver(templateResolver);
+  public CaseStyleInstantiationEvent(@NonNull final Class<? extends CaseStyle> caseStyleClass) {
+    this.caseStyleClass = caseStyleClass;
   }
 }
@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted each time the case styles registry of a sniffer is swapped.
+ *
+ * <p>The event is disabled by default.
+ *
+ * @author Sebastien Vermeille
+ */
+@Name(CaseStyleRegistrationEvent.NAME)
+@Label("Case Style Registration")
+@Category({"StyleSniffer"})
+@Description("Registration of case style classes, ending with the swap of the registry")
+@Enabled(false)
+@StackTrace(false)
+public final class CaseStyleRegistrationEvent extends Event {
+
+  public static final String NAME = "dev.cookiecode.stylesniffer.CaseStyleRegistration";
+
+  @Label("Requested Classes")
+  @Description("Number of classes submitted for registration")
+  private int requestedCount;
+
+  @Label("Registered Styles")
+  @Description("Number of case styles actually added to the registry")
+  private int registeredCount;
+
+  @Label("Registry Size")
+  @Description("Number of case styles in the registry after the swap")
+  private int registrySize;
+
+  /**
+   * Sets the outcome of the registration.
+   *
+   * @param requestedCount the number of classes submitted for registration
+   * @param registeredCount the number of case styles added to the registry
+   * @param registrySize the number of case styles in the registry after the swap
+   */
+  public void setResult(
+      final int requestedCount, final int registeredCount, final int registrySize) {
+    this.requestedCount = requestedCount;
+    this.registeredCount = registeredCount;
+    this.registrySize = registrySize;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.jfr;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import jakarta.annotation.Nullable;
+import java.util.concurrent.ThreadLocalRandom;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted for a sample of the {@code getCaseStyle} calls.
+ *
+ * <p>The event is disabled by default. Once enabled in a recording, only one call out of {@value
+ * #DEFAULT_SAMPLE_RATE} (configurable through the {@value #SAMPLE_RATE_PROPERTY} system property)
+ * is recorded to keep the overhead low on high throughput services.
+ *
+ * @author Sebastien Vermeille
+ */
+@Name(ClassificationEvent.NAME)
+@Label("Case Style Classification")
+@Category({"StyleSniffer"})
+@Description("Sampled classification of an input against the registered case styles")
+@Enabled(false)
+@StackTrace(false)
+public final class ClassificationEvent extends Event {
+
+  public static final String NAME = "dev.cookiecode.stylesniffer.Classification";
+  public static final String SAMPLE_RATE_PROPERTY =
+      "dev.cookiecode.stylesniffer.jfr.classificationSampleRate";
+  static final int DEFAULT_SAMPLE_RATE = 100;
+
+  private static final int SAMPLE_RATE =
+      Math.max(1, Integer.getInteger(SAMPLE_RATE_PROPERTY, DEFAULT_SAMPLE_RATE));
+
+  @Label("Input Length")
+  private int inputLength;
+
+  @Label("Matched Style")
+  private String matchedStyle;
+
+  /**
+   * Decides whether the current call should be recorded.
+   *
+   * @return {@code true} for roughly one call out of the configured sample rate
+   */
+  public static boolean isSampled() {
+    return SAMPLE_RATE == 1 || ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+  }
+
+  /**
+   * Sets the outcome of the classification.
+   *
+   * @param inputLength the length of the classified input
+   * @param caseStyle the matching case style, {@code null} if no style matched
+   */
+  public void setResult(final int inputLength, @Nullable final CaseStyle caseStyle) {
+    this.inputLength = inputLength;
+    this.matchedStyle = caseStyle == null ? null : caseStyle.getName();
+  }
+}
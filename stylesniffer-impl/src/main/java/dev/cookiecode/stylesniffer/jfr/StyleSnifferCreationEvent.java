@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event measuring the creation of a sniffer by {@link
+ * dev.cookiecode.stylesniffer.StyleSnifferFactory}.
+ *
+ * <p>The event is disabled by default.
+ *
+ * @author Sebastien Vermeille
+ */
+@Name(StyleSnifferCreationEvent.NAME)
+@Label("StyleSniffer Creation")
+@Category({"StyleSniffer"})
+@Description("Time spent creating a StyleSniffer, including the instantiation of all its styles")
+@Enabled(false)
+@StackTrace(false)
+public final class StyleSnifferCreationEvent extends Event {
+
+  public static final String NAME = "dev.cookiecode.stylesniffer.StyleSnifferCreation";
+
+  @Label("Case Style Classes")
+  private int caseStyleClassCount;
+
+  /**
+   * @param caseStyleClassCount the number of case style classes handed to the sniffer
+   */
+  public void setCaseStyleClassCount(final int caseStyleClassCount) {
+    this.caseStyleClassCount = caseStyleClassCount;
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.convert.CaseConverter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import lombok.NonNull;
+
+/**
+ * Rewrites the object keys of a JSON document to a target {@link CaseStyle}, e.g. {@code
+ * {"user_id": 1}} to {@code {"userId": 1}}, while copying everything else byte for byte.
+ *
+ * <p>The document is streamed from an {@link InputStream} to an {@link OutputStream} through fixed
+ * size buffers: no tree is built, so the memory used does not depend on the size of the document. A
+ * sequence of documents, such as NDJSON, is rewritten the same way. The input is not validated,
+ * malformed JSON is copied as well as it can be.
+ *
+ * <p>A key is rewritten only if it is written in one of the case styles known by the {@link
+ * StyleSniffer} and does not already match the target style: keys such as {@code $ref} or {@code
+ * 2024} are left untouched, as are keys holding escape sequences, keys starting or ending with
+ * whitespace and keys holding other characters than letters, digits and the separator of their
+ * style, such as {@code Foo.Bar}.
+ *
+ * <p>The outcome of every key is memoized, so that the keys repeated across the objects of a
+ * payload are classified and converted once; the memo is kept across documents and cleared when it
+ * is full. Instances are not thread-safe: use one rewriter per thread.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class JsonKeyRewriter {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MEMO_CAPACITY = 4096; // must be a power of two
+  private static final int MAX_MEMOIZED_KEYS = MEMO_CAPACITY / 2;
+
+  private final StyleSniffer styleSniffer;
+  private final CaseStyle target;
+  private final CaseConverter converter = new CaseConverter();
+  private final KeyCopier copier = new KeyCopier();
+
+  private final byte[] output = new byte[BUFFER_SIZE];
+  private int outputLength;
+
+  private final byte[][] memoizedKeys = new byte[MEMO_CAPACITY][];
+  private final byte[][] memoizedRewrites = new byte[MEMO_CAPACITY][];
+  private int memoizedKeyCount;
+
+  /**
+   * Creates a rewriter.
+   *
+   * @param styleSniffer the style sniffer recognizing the keys to rewrite
+   * @param target the case style to rewrite the keys to
+   * @throws StyleSnifferException if the target case style does not provide a word format
+   */
+  public JsonKeyRewriter(
+      @NonNull final StyleSniffer styleSniffer, @NonNull final CaseStyle target) {
+    if (target.getWordFormat().isEmpty()) {
+      throw new StyleSnifferException(
+          String.format(
+              "Cannot convert to %s: it does not provide a word format", target.getName()));
+    }
+    this.styleSniffer = styleSniffer;
+    this.target = target;
+  }
+
+  /**
+   * Rewrites the keys of the documents read from {@code in} and writes the result to {@code out}.
+   * Neither stream is closed.
+   *
+   * @param in the JSON input
+   * @param out the output receiving the rewritten JSON
+   * @return the number of keys which have been rewritten
+   * @throws IOException if reading or writing fails
+   */
+  public long rewrite(@NonNull final InputStream in, @NonNull final OutputStream out)
+      throws IOException {
+    outputLength = 0;
+    copier.out = out;
+    copier.rewrittenKeys = 0;
+    try {
+      copier.scan(in);
+    } finally {
+      copier.out = null;
+    }
+    out.write(output, 0, outputLength);
+    outputLength = 0;
+    return copier.rewrittenKeys;
+  }
+
+  /** Copies the bytes of the documents to the output, rewriting their keys. */
+  private final class KeyCopier extends JsonKeyScanner {
+
+    private OutputStream out;
+    private long rewrittenKeys;
+
+    @Override
+    void onBytes(final byte[] bytes, final int from, final int length) throws IOException {
+      write(out, bytes, from, length);
+    }
+
+    @Override
+    void onKey(final byte[] key, final int length, final boolean escaped) throws IOException {
+      if (writeKey(out, key, length, escaped)) {
+        rewrittenKeys++;
+      }
+    }
+
+    @Override
+    void onOpen(final boolean object) {
+      // the keys are rewritten wherever they are nested
+    }
+
+    @Override
+    void onTruncatedKey(final byte[] key, final int length) throws IOException {
+      // truncated document: the key is copied as is
+      write(out, key, 0, length);
+    }
+  }
+
+  /**
+   * Writes the rewritten form of the buffered key, computing and memoizing it on first sight.
+   *
+   * @return {@code true} if the key has been rewritten, {@code false} if it has been copied as is
+   */
+  private boolean writeKey(
+      final OutputStream out, final byte[] key, final int keyLength, final boolean keyEscaped)
+      throws IOException {
+    int slot = JsonKeyScanner.hash(key, keyLength) & (MEMO_CAPACITY - 1);
+    byte[] memoizedKey;
+    while ((memoizedKey = memoizedKeys[slot]) != null) {
+      if (Arrays.equals(memoizedKey, 0, memoizedKey.length, key, 0, keyLength)) {
+        final var rewrite = memoizedRewrites[slot];
+        write(out, rewrite, 0, rewrite.length);
+        return rewrite != memoizedKey;
+      }
+      slot = (slot + 1) & (MEMO_CAPACITY - 1);
+    }
+
+    final var originalKey = Arrays.copyOf(key, keyLength);
+    final var rewrite = keyEscaped ? originalKey : rewrite(originalKey);
+    if (memoizedKeyCount == MAX_MEMOIZED_KEYS) {
+      Arrays.fill(memoizedKeys, null);
+      Arrays.fill(memoizedRewrites, null);
+      memoizedKeyCount = 0;
+      slot = JsonKeyScanner.hash(key, keyLength) & (MEMO_CAPACITY - 1);
+    }
+    memoizedKeys[slot] = originalKey;
+    memoizedRewrites[slot] = rewrite;
+    memoizedKeyCount++;
+    write(out, rewrite, 0, rewrite.length);
+    return rewrite != originalKey;
+  }
+
+  /**
+   * Computes the rewritten form of a key.
+   *
+   * @return the rewritten key, or the given array if the key is to be copied as is
+   */
+  private byte[] rewrite(final byte[] originalKey) {
+    if (originalKey.length > 0
+        && (isTrimmed(originalKey[0]) || isTrimmed(originalKey[originalKey.length - 1]))) {
+      // the sniffer classifies the trimmed name: the conversion would drop the whitespace
+      return originalKey;
+    }
+    final var name = new String(originalKey, UTF_8);
+    final var source = styleSniffer.getCaseStyle(name);
+    if (source.isEmpty() || !isWordsOnly(name, source.get()) || target.matches(name)) {
+      return originalKey;
+    }
+    final var rewrite = converter.convert(name, target).getBytes(UTF_8);
+    return Arrays.equals(rewrite, originalKey) ? originalKey : rewrite;
+  }
+
+  /**
+   * Tells whether the name holds letters, digits and separators of its case style only: the
+   * conversion drops any other character, which could turn distinct keys such as {@code Foo.Bar}
+   * and {@code Foo/Bar} into the same one.
+   */
+  private static boolean isWordsOnly(final String name, final CaseStyle source) {
+    final var format = source.getWordFormat();
+    if (format.isEmpty()) {
+      return false;
+    }
+    final char separator = format.get().separator();
+    for (int i = 0; i < name.length(); i++) {
+      final char c = name.charAt(i);
+      if (!Character.isLetterOrDigit(c) && (c != separator || !format.get().hasSeparator())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Tells whether {@link String#trim()} removes the char encoded by the given byte. */
+  private static boolean isTrimmed(final byte b) {
+    // the bytes of the multibyte chars are negative
+    return b >= 0 && b <= ' ';
+  }
+
+  private void write(final OutputStream out, final byte[] bytes, final int from, final int length)
+      throws IOException {
+    if (outputLength + length > output.length) {
+      out.write(output, 0, outputLength);
+      outputLength = 0;
+      if (length > output.length) {
+        out.write(bytes, from, length);
+        return;
+      }
+    }
+    System.arraycopy(bytes, from, output, outputLength, length);
+    outputLength += length;
+  }
+}
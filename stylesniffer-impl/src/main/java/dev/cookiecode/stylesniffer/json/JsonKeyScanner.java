@@ -0,0 +1,246 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Byte level tokenizer shared by {@link JsonKeyRewriter} and {@link JsonKeyValidator}: it streams
+ * JSON documents through a fixed size buffer and hands the object keys to {@link #onKey}, along
+ * with the runs of bytes found between them to {@link #onBytes}.
+ *
+ * <p>Only the structure is tracked (strings, escape sequences and the nesting of the containers):
+ * the input is not validated, and malformed JSON is scanned as well as it can be. A sequence of
+ * documents, such as NDJSON, is scanned the same way.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Sebastien Vermeille
+ */
+abstract class JsonKeyScanner {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final int OUTSIDE_STRING = 0;
+  private static final int IN_VALUE = 1;
+  private static final int IN_VALUE_ESCAPE = 2;
+  private static final int IN_KEY = 3;
+  private static final int IN_KEY_ESCAPE = 4;
+
+  private final byte[] input = new byte[BUFFER_SIZE];
+
+  private byte[] key = new byte[64];
+  private int keyLength;
+  private boolean keyEscaped;
+
+  /** One entry per open container, {@code true} for objects and {@code false} for arrays. */
+  private boolean[] objects = new boolean[32];
+
+  private int depth;
+
+  /**
+   * Hands the bytes of the documents which are not part of a key, in order: the quotes enclosing
+   * the keys belong to these bytes.
+   *
+   * @param bytes the buffer holding the bytes, only valid until the method returns
+   * @param from the index of the first byte
+   * @param length the number of bytes
+   * @throws IOException if the bytes cannot be handled
+   */
+  abstract void onBytes(byte[] bytes, int from, int length) throws IOException;
+
+  /**
+   * Hands a key, between the bytes preceding and following it.
+   *
+   * @param key the buffer holding the bytes of the key, escape sequences left as is, only valid
+   *     until the method returns
+   * @param length the number of bytes of the key
+   * @param escaped {@code true} if the key holds escape sequences
+   * @throws IOException if the key cannot be handled
+   */
+  abstract void onKey(byte[] key, int length, boolean escaped) throws IOException;
+
+  /**
+   * Notifies that a container is opened, before it is counted in {@link #depth()}.
+   *
+   * @param object {@code true} for an object, {@code false} for an array
+   */
+  abstract void onOpen(boolean object);
+
+  /**
+   * Hands the bytes of the key the input ends in, which is truncated.
+   *
+   * @param key the buffer holding the bytes of the key, only valid until the method returns
+   * @param length the number of bytes of the key
+   * @throws IOException if the key cannot be handled
+   */
+  abstract void onTruncatedKey(byte[] key, int length) throws IOException;
+
+  /**
+   * @return the number of open containers
+   */
+  final int depth() {
+    return depth;
+  }
+
+  /**
+   * @param level the level of an open container, {@code 0} for the outermost one
+   * @return {@code true} if the container is an object, {@code false} if it is an array
+   */
+  final boolean isObject(final int level) {
+    return objects[level];
+  }
+
+  /**
+   * Scans the documents read from the given stream, which is not closed.
+   *
+   * @param in the JSON or NDJSON input
+   * @throws IOException if reading fails or if a handler fails
+   */
+  final void scan(final InputStream in) throws IOException {
+    depth = 0;
+    int state = OUTSIDE_STRING;
+    boolean expectKey = false;
+
+    int read;
+    while ((read = in.read(input)) != -1) {
+      // first byte outside the keys which has not been handed yet
+      int runStart = 0;
+      int i = 0;
+      while (i < read) {
+        switch (state) {
+          case IN_VALUE -> {
+            i = skipStringContent(i, read);
+            if (i < read) {
+              state = input[i++] == '\\' ? IN_VALUE_ESCAPE : OUTSIDE_STRING;
+            }
+          }
+          case IN_VALUE_ESCAPE -> {
+            i++;
+            state = IN_VALUE;
+          }
+          case IN_KEY -> {
+            final int runEnd = skipStringContent(i, read);
+            appendToKey(i, runEnd - i);
+            i = runEnd;
+            if (i < read) {
+              if (input[i] == '\\') {
+                keyEscaped = true;
+                appendToKey(i++, 1);
+                state = IN_KEY_ESCAPE;
+              } else {
+                onKey(key, keyLength, keyEscaped);
+                // the closing quote starts the next run
+                runStart = i++;
+                state = OUTSIDE_STRING;
+              }
+            }
+          }
+          case IN_KEY_ESCAPE -> {
+            appendToKey(i++, 1);
+            state = IN_KEY;
+          }
+          default -> {
+            switch (input[i++]) {
+              case '"' -> {
+                if (expectKey) {
+                  onBytes(input, runStart, i - runStart);
+                  keyLength = 0;
+                  keyEscaped = false;
+                  state = IN_KEY;
+                  expectKey = false;
+                } else {
+                  state = IN_VALUE;
+                }
+              }
+              case '{' -> {
+                push(true);
+                expectKey = true;
+              }
+              case '[' -> {
+                push(false);
+                expectKey = false;
+              }
+              case '}', ']' -> {
+                depth = Math.max(depth - 1, 0);
+                expectKey = false;
+              }
+              case ',' -> expectKey = depth > 0 && objects[depth - 1];
+              default -> {
+                // whitespace, ':' and the characters of numbers and literals
+              }
+            }
+          }
+        }
+      }
+      if (state != IN_KEY && state != IN_KEY_ESCAPE) {
+        onBytes(input, runStart, read - runStart);
+      }
+    }
+    if (state == IN_KEY || state == IN_KEY_ESCAPE) {
+      onTruncatedKey(key, keyLength);
+    }
+  }
+
+  /**
+   * Hashes the bytes of a key, for the open addressing tables of the keys.
+   *
+   * @param bytes the buffer holding the key
+   * @param length the number of bytes of the key
+   * @return the hash
+   */
+  static int hash(final byte[] bytes, final int length) {
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  /** Returns the index of the first quote or backslash of the input, or {@code end}. */
+  private int skipStringContent(final int from, final int end) {
+    int i = from;
+    while (i < end && input[i] != '"' && input[i] != '\\') {
+      i++;
+    }
+    return i;
+  }
+
+  private void appendToKey(final int from, final int length) {
+    if (keyLength + length > key.length) {
+      key = Arrays.copyOf(key, Math.max(keyLength + length, key.length * 2));
+    }
+    System.arraycopy(input, from, key, keyLength, length);
+    keyLength += length;
+  }
+
+  private void push(final boolean object) {
+    onOpen(object);
+    if (depth == objects.length) {
+      objects = Arrays.copyOf(objects, depth * 2);
+    }
+    objects[depth++] = object;
+  }
+}
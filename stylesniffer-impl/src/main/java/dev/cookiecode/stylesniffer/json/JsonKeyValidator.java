@@ -0,0 +1,366 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.NonNull;
+
+/**
+ * Checks that the object keys of JSON documents follow an expected {@link CaseStyle}.
+ *
+ * <p>The documents are tokenized straight from their bytes, without materializing any object, so
+ * that exports of any size (including NDJSON, one document per line) are validated without being
+ * loaded: the memory used depends on the number of distinct key paths, each of them holding its
+ * count of violations, not on the size of the documents. Only the structure is tracked: the input
+ * is not validated, and malformed JSON is checked as well as it can be.
+ *
+ * <p>Each distinct key is decoded and classified once by the {@link StyleSniffer}: the outcome is
+ * kept in an intern table per thread, so repeated keys cost a hash lookup. Violations are
+ * aggregated per path, array elements sharing the same path ({@code $.users[*].first_name}).
+ *
+ * <p>A validator is thread-safe. The files given to {@link #validate(Collection)} are processed in
+ * parallel (common fork-join pool) unless the validator has been created sequential.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class JsonKeyValidator {
+
+  private static final int INTERN_TABLE_CAPACITY = 4096; // must be a power of two
+  private static final int MAX_INTERNED_KEYS = INTERN_TABLE_CAPACITY / 2;
+
+  private final StyleSniffer styleSniffer;
+  private final CaseStyle expectedStyle;
+  private final boolean parallel;
+  private final ThreadLocal<KeyTable> keyTables = ThreadLocal.withInitial(KeyTable::new);
+
+  /**
+   * Creates a validator processing the files in parallel.
+   *
+   * @param styleSniffer the style sniffer detecting the style of the offending keys
+   * @param expectedStyle the case style every key must follow
+   */
+  public JsonKeyValidator(
+      @NonNull final StyleSniffer styleSniffer, @NonNull final CaseStyle expectedStyle) {
+    this(styleSniffer, expectedStyle, true);
+  }
+
+  /**
+   * Creates a validator.
+   *
+   * @param styleSniffer the style sniffer detecting the style of the offending keys
+   * @param expectedStyle the case style every key must follow
+   * @param parallel {@code true} to process the files in parallel, {@code false} to process them in
+   *     order on the calling thread
+   */
+  public JsonKeyValidator(
+      @NonNull final StyleSniffer styleSniffer,
+      @NonNull final CaseStyle expectedStyle,
+      final boolean parallel) {
+    this.styleSniffer = styleSniffer;
+    this.expectedStyle = expectedStyle;
+    this.parallel = parallel;
+  }
+
+  /**
+   * Validates the keys of the documents read from the given stream, which is not closed.
+   *
+   * @param in the JSON or NDJSON input
+   * @return the validation report
+   * @throws IOException if reading fails
+   */
+  public JsonValidationReport validate(@NonNull final InputStream in) throws IOException {
+    return new KeyWalker(keyTables.get()).walk(in);
+  }
+
+  /**
+   * Validates the keys of the given files and merges the outcomes: the occurrences of a violation
+   * found at the same path in several files are summed up.
+   *
+   * @param files the JSON or NDJSON files
+   * @return the merged validation report
+   * @throws IOException if a file cannot be read
+   */
+  public JsonValidationReport validate(@NonNull final Collection<Path> files) throws IOException {
+    final Stream<Path> stream = parallel ? files.parallelStream() : files.stream();
+    try {
+      return stream
+          .map(this::uncheckedValidate)
+          .reduce(new JsonValidationReport(0, List.of()), JsonKeyValidator::merge);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private JsonValidationReport uncheckedValidate(final Path file) {
+    try (var in = Files.newInputStream(file)) {
+      return validate(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static JsonValidationReport merge(
+      final JsonValidationReport first, final JsonValidationReport second) {
+    if (second.violations().isEmpty()) {
+      return new JsonValidationReport(
+          first.checkedKeys() + second.checkedKeys(), first.violations());
+    }
+    final Map<String, JsonKeyViolation> violations = new LinkedHashMap<>();
+    for (final var violation : first.violations()) {
+      violations.put(violation.path(), violation);
+    }
+    for (final var violation : second.violations()) {
+      violations.merge(
+          violation.path(),
+          violation,
+          (a, b) ->
+              new JsonKeyViolation(
+                  a.path(), a.key(), a.detectedStyle(), a.occurrences() + b.occurrences()));
+    }
+    return new JsonValidationReport(
+        first.checkedKeys() + second.checkedKeys(), List.copyOf(violations.values()));
+  }
+
+  /** Outcome of the classification of a distinct key. */
+  private record InternedKey(String name, boolean valid, @Nullable CaseStyle detectedStyle) {}
+
+  /** Open addressing table interning the keys by their bytes; cleared when it is full. */
+  private final class KeyTable {
+
+    private final byte[][] keys = new byte[INTERN_TABLE_CAPACITY][];
+    private final InternedKey[] values = new InternedKey[INTERN_TABLE_CAPACITY];
+    private int size;
+
+    InternedKey intern(final byte[] key, final int length, final boolean escaped) {
+      int slot = JsonKeyScanner.hash(key, length) & (INTERN_TABLE_CAPACITY - 1);
+      byte[] candidate;
+      while ((candidate = keys[slot]) != null) {
+        if (Arrays.equals(candidate, 0, candidate.length, key, 0, length)) {
+          return values[slot];
+        }
+        slot = (slot + 1) & (INTERN_TABLE_CAPACITY - 1);
+      }
+
+      final var name = decode(key, length, escaped);
+      final var interned =
+          expectedStyle.matches(name)
+              ? new InternedKey(name, true, expectedStyle)
+              : new InternedKey(name, false, styleSniffer.getCaseStyle(name).orElse(null));
+      if (size == MAX_INTERNED_KEYS) {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+        slot = JsonKeyScanner.hash(key, length) & (INTERN_TABLE_CAPACITY - 1);
+      }
+      keys[slot] = Arrays.copyOf(key, length);
+      values[slot] = interned;
+      size++;
+      return interned;
+    }
+
+    private static String decode(final byte[] key, final int length, final boolean escaped) {
+      final var raw = new String(key, 0, length, UTF_8);
+      if (!escaped) {
+        return raw;
+      }
+      final var name = new StringBuilder(raw.length());
+      for (int i = 0; i < raw.length(); i++) {
+        final char c = raw.charAt(i);
+        if (c != '\\' || i + 1 == raw.length()) {
+          name.append(c);
+          continue;
+        }
+        final char escape = raw.charAt(++i);
+        switch (escape) {
+          case 'b' -> name.append('\b');
+          case 'f' -> name.append('\f');
+          case 'n' -> name.append('\n');
+          case 'r' -> name.append('\r');
+          case 't' -> name.append('\t');
+          case 'u' -> {
+            if (isHexQuad(raw, i + 1)) {
+              name.append((char) Integer.parseInt(raw, i + 1, i + 5, 16));
+              i += 4;
+            } else {
+              name.append('\\').append(escape);
+            }
+          }
+          default -> name.append(escape);
+        }
+      }
+      return name.toString();
+    }
+
+    private static boolean isHexQuad(final String text, final int from) {
+      if (from + 4 > text.length()) {
+        return false;
+      }
+      for (int i = from; i < from + 4; i++) {
+        if (!HexFormat.isHexDigit(text.charAt(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /** A path of the documents, holding the number of violations found there. */
+  private static final class PathNode {
+
+    @Nullable private final PathNode parent;
+    private final String segment;
+    @Nullable private final InternedKey key;
+    @Nullable private Map<String, PathNode> members;
+    @Nullable private PathNode elements;
+    private long violations;
+
+    PathNode(
+        @Nullable final PathNode parent, final String segment, @Nullable final InternedKey key) {
+      this.parent = parent;
+      this.segment = segment;
+      this.key = key;
+    }
+
+    PathNode member(final InternedKey key) {
+      if (members == null) {
+        members = new LinkedHashMap<>();
+      }
+      return members.computeIfAbsent(key.name(), name -> new PathNode(this, "." + name, key));
+    }
+
+    PathNode elements() {
+      if (elements == null) {
+        elements = new PathNode(this, "[*]", null);
+      }
+      return elements;
+    }
+
+    String path() {
+      return parent == null ? segment : parent.path() + segment;
+    }
+
+    void collectViolations(final List<JsonKeyViolation> violations) {
+      if (this.violations > 0 && key != null) {
+        violations.add(
+            new JsonKeyViolation(path(), key.name(), key.detectedStyle(), this.violations));
+      }
+      if (members != null) {
+        for (final var member : members.values()) {
+          member.collectViolations(violations);
+        }
+      }
+      if (elements != null) {
+        elements.collectViolations(violations);
+      }
+    }
+  }
+
+  /** Walks the documents of a stream, tracking the path of every key. */
+  private static final class KeyWalker extends JsonKeyScanner {
+
+    private final KeyTable keyTable;
+    private final PathNode root = new PathNode(null, "$", null);
+
+    /** The path of every open container, and the last member read for the objects. */
+    private PathNode[] containers = new PathNode[32];
+
+    private PathNode[] members = new PathNode[32];
+    private long checkedKeys;
+
+    KeyWalker(final KeyTable keyTable) {
+      this.keyTable = keyTable;
+    }
+
+    JsonValidationReport walk(final InputStream in) throws IOException {
+      scan(in);
+      final var violations = new ArrayList<JsonKeyViolation>();
+      root.collectViolations(violations);
+      return new JsonValidationReport(checkedKeys, List.copyOf(violations));
+    }
+
+    @Override
+    void onBytes(final byte[] bytes, final int from, final int length) {
+      // only the keys are checked
+    }
+
+    @Override
+    void onKey(final byte[] key, final int length, final boolean escaped) {
+      final var interned = keyTable.intern(key, length, escaped);
+      checkedKeys++;
+      final int depth = depth();
+      if (depth == 0) {
+        return;
+      }
+      final var member = containers[depth - 1].member(interned);
+      members[depth - 1] = member;
+      if (!interned.valid()) {
+        member.violations++;
+      }
+    }
+
+    @Override
+    void onOpen(final boolean object) {
+      final int depth = depth();
+      final PathNode container;
+      if (depth == 0) {
+        container = root;
+      } else if (!isObject(depth - 1)) {
+        container = containers[depth - 1].elements();
+      } else if (members[depth - 1] != null) {
+        container = members[depth - 1];
+      } else {
+        // malformed document, such as an object opened in place of a key
+        container = containers[depth - 1];
+      }
+
+      if (depth == containers.length) {
+        containers = Arrays.copyOf(containers, depth * 2);
+        members = Arrays.copyOf(members, depth * 2);
+      }
+      containers[depth] = container;
+      members[depth] = null;
+    }
+
+    @Override
+    void onTruncatedKey(final byte[] key, final int length) {
+      // truncated document: the key is not checked
+    }
+  }
+}
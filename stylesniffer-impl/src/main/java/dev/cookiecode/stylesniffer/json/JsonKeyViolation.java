@@ -0,0 +1,45 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.json;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import jakarta.annotation.Nullable;
+import lombok.NonNull;
+
+/**
+ * A JSON key which does not follow the expected case style, aggregated over all its occurrences at
+ * the same path.
+ *
+ * @param path the path of the key, e.g. {@code $.users[*].first_name}: object members are written
+ *     {@code .name} and the elements of an array {@code [*]}
+ * @param key the key, escape sequences decoded
+ * @param detectedStyle the case style the key is written in, or {@code null} if it matches none of
+ *     the known case styles
+ * @param occurrences the number of times the key has been found at this path
+ * @author Sebastien Vermeille
+ */
+public record JsonKeyViolation(
+    @NonNull String path,
+    @NonNull String key,
+    @Nullable CaseStyle detectedStyle,
+    long occurrences) {}
@@ -0,0 +1,46 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.json;
+
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Outcome of a {@link JsonKeyValidator} run.
+ *
+ * @param checkedKeys the number of keys which have been checked, repetitions included
+ * @param violations the keys which do not follow the expected case style, one per path, in the
+ *     order they have first been found
+ * @author Sebastien Vermeille
+ */
+public record JsonValidationReport(long checkedKeys, @NonNull List<JsonKeyViolation> violations) {
+
+  /**
+   * Tells whether all the checked keys follow the expected case style.
+   *
+   * @return {@code true} if no violation has been found
+   */
+  public boolean isValid() {
+    return violations.isEmpty();
+  }
+}
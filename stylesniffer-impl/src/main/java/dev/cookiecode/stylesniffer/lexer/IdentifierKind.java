@@ -0,0 +1,44 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+/**
+ * The role of an identifier in a source file, as reported by a {@link SourceLexer}.
+ *
+ * <p>Naming conventions are usually defined per kind, e.g. {@code PascalCase} for types and {@code
+ * SCREAMING_SNAKE_CASE} for constants.
+ *
+ * @author Sebastien Vermeille
+ */
+public enum IdentifierKind {
+  /** A class, interface, enum, record, object, type alias, table or view. */
+  TYPE,
+  /** A method, function, procedure or trigger. */
+  METHOD,
+  /** A field, property, attribute or column. */
+  FIELD,
+  /** A constant: static final field, enum constant, {@code const} declaration, ... */
+  CONSTANT,
+  /** A local variable, parameter or alias. */
+  VARIABLE
+}
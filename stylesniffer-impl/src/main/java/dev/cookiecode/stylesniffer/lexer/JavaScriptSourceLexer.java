@@ -0,0 +1,559 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.isDigit;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.peek;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.startsWith;
+
+import java.util.Arrays;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * {@link SourceLexer} for JavaScript sources.
+ *
+ * <p>{@code class} declares types, {@code function} declarations and class methods are methods,
+ * class fields are fields. Bindings introduced by {@code const} are {@link IdentifierKind#CONSTANT
+ * constants}, bindings introduced by {@code let} or {@code var}, as well as parameters, are {@link
+ * IdentifierKind#VARIABLE variables}. Destructuring patterns are supported, the property keys they
+ * mention are skipped.
+ *
+ * <p>Import statements are skipped, as well as the content of template literals and regular
+ * expression literals.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class JavaScriptSourceLexer implements SourceLexer {
+
+  private static final KeywordSet KEYWORDS =
+      KeywordSet.of(
+          "await",
+          "break",
+          "case",
+          "catch",
+          "class",
+          "const",
+          "continue",
+          "debugger",
+          "default",
+          "delete",
+          "do",
+          "else",
+          "export",
+          "extends",
+          "false",
+          "finally",
+          "for",
+          "function",
+          "if",
+          "import",
+          "in",
+          "instanceof",
+          "let",
+          "new",
+          "null",
+          "of",
+          "return",
+          "super",
+          "switch",
+          "this",
+          "throw",
+          "true",
+          "try",
+          "typeof",
+          "var",
+          "void",
+          "while",
+          "with",
+          "yield");
+
+  // class member modifiers, only modifiers when they are followed by the member name
+  private static final KeywordSet MEMBER_MODIFIERS =
+      KeywordSet.of("static", "async", "get", "set", "accessor");
+
+  @Override
+  public String getLanguage() {
+    return "JavaScript";
+  }
+
+  @Override
+  public Set<String> getFileExtensions() {
+    return Set.of("js", "mjs", "cjs");
+  }
+
+  @Override
+  public int lex(
+      @NonNull final CharSequence source, @NonNull final LexedIdentifierConsumer consumer) {
+    return new Scan(source, consumer).run();
+  }
+
+  /** State of a single lexing run. */
+  private static final class Scan {
+
+    // frames: what an opening brace, bracket or parenthesis started
+    private static final byte NONE = 0;
+    private static final byte CLASS_BODY = 1;
+    private static final byte CODE = 2;
+    private static final byte PATTERN = 3; // destructuring pattern of a declaration
+    private static final byte PARAMETERS = 4;
+    private static final byte GROUP = 5; // other parentheses and brackets
+
+    // states: what the next word means
+    private static final int STATEMENT = 0;
+    private static final int EXPRESSION = 1;
+    private static final int BINDING = 2; // declared name expected, see bindingKind
+    private static final int FUNCTION_NAME = 3;
+    private static final int FUNCTION_TAIL = 4; // between the parameters and the body
+    private static final int CLASS_NAME = 5;
+    private static final int CLASS_HEADER = 6; // between the class name and its body
+    private static final int MEMBER = 7; // class member name expected
+    private static final int SKIP = 8; // import statements
+
+    private final CharSequence text;
+    private final LexedIdentifierConsumer consumer;
+    private int count;
+
+    private byte[] frames = new byte[16];
+    private int depth;
+
+    private int state = STATEMENT;
+    private IdentifierKind bindingKind = VARIABLE;
+    private int declarationDepth = -1;
+    private int pendingStart = -1;
+    private int pendingEnd;
+    private boolean pendingAfterDot;
+    private boolean dotBefore;
+    private boolean valueBefore;
+    private boolean typeNext;
+
+    Scan(final CharSequence text, final LexedIdentifierConsumer consumer) {
+      this.text = text;
+      this.consumer = consumer;
+    }
+
+    int run() {
+      final int length = text.length();
+      int i = 0;
+      while (i < length) {
+        final char c = text.charAt(i);
+        if (c == '\n') {
+          onNewLine();
+          i++;
+        } else if (c <= ' ') {
+          i++;
+        } else if (c == '/' && startsWith(text, i + 1, '/')) {
+          i = SourceScanner.skipLineComment(text, i + 2);
+        } else if (c == '/' && startsWith(text, i + 1, '*')) {
+          i = SourceScanner.skipBlockComment(text, i + 2, false);
+        } else if (c == '/' && !valueBefore) {
+          onLiteral();
+          i = skipRegularExpression(i + 1);
+        } else if (c == '"' || c == '\'') {
+          onLiteral();
+          i = SourceScanner.skipQuoted(text, i + 1, c, true);
+        } else if (c == '`') {
+          onLiteral();
+          i = SourceScanner.skipTemplate(text, i + 1, '`', false, true);
+        } else if (Character.isJavaIdentifierStart(c)) {
+          final int end = SourceScanner.scanIdentifier(text, i + 1);
+          onWord(i, end);
+          i = end;
+        } else if (isDigit(c)) {
+          onLiteral();
+          i = SourceScanner.skipNumber(text, i);
+        } else {
+          i = onSymbol(c, i);
+        }
+      }
+      flushReference();
+      return count;
+    }
+
+    private int skipRegularExpression(final int from) {
+      final int length = text.length();
+      boolean characterClass = false;
+      int i = from;
+      while (i < length) {
+        final char c = text.charAt(i);
+        if (c == '\\') {
+          i += 2;
+          continue;
+        }
+        if (c == '\n') {
+          return i;
+        }
+        if (c == '[') {
+          characterClass = true;
+        } else if (c == ']') {
+          characterClass = false;
+        } else if (c == '/' && !characterClass) {
+          // flags
+          return SourceScanner.scanIdentifier(text, i + 1);
+        }
+        i++;
+      }
+      return length;
+    }
+
+    private void onNewLine() {
+      // class fields may omit the semicolon
+      if (top() == CLASS_BODY && state == EXPRESSION) {
+        flushReference();
+        state = MEMBER;
+      } else if (state == SKIP && valueBefore) {
+        state = STATEMENT;
+      }
+    }
+
+    private void onLiteral() {
+      dotBefore = false;
+      valueBefore = true;
+      if (state == SKIP) {
+        return;
+      }
+      flushReference();
+      state = EXPRESSION;
+    }
+
+    private void onWord(final int start, final int end) {
+      final boolean afterDot = dotBefore;
+      dotBefore = false;
+      if (state == SKIP) {
+        // the module specifier ends the import, see onLiteral
+        valueBefore = false;
+        return;
+      }
+      final String keyword = afterDot || state == MEMBER ? null : KEYWORDS.find(text, start, end);
+      if (keyword != null) {
+        onKeyword(keyword, start);
+        return;
+      }
+      valueBefore = true;
+      final char next = peek(text, end);
+      if (typeNext) {
+        typeNext = false;
+        emit(start, end, TYPE, false);
+        state = EXPRESSION;
+        return;
+      }
+      switch (state) {
+        case BINDING -> {
+          if (top() == PATTERN && next == ':') {
+            // property key of a destructuring pattern: { key: name }
+            return;
+          }
+          emit(start, end, bindingKind, true);
+          state = EXPRESSION;
+        }
+        case FUNCTION_NAME -> emit(start, end, METHOD, true);
+        case CLASS_NAME -> {
+          emit(start, end, TYPE, true);
+          state = CLASS_HEADER;
+        }
+        case CLASS_HEADER -> emit(start, end, TYPE, false);
+        case MEMBER -> onMember(start, end, next);
+        default -> {
+          flushReference();
+          setPending(start, end, afterDot);
+          state = EXPRESSION;
+        }
+      }
+    }
+
+    private void onMember(final int start, final int end, final char next) {
+      if (MEMBER_MODIFIERS.contains(text, start, end)
+          && (Character.isJavaIdentifierStart(next) || next == '#' || next == '*')) {
+        return;
+      }
+      if (next == '(') {
+        if (!(end - start == "constructor".length() && isWord(start, "constructor"))) {
+          emit(start, end, METHOD, true);
+        }
+        state = FUNCTION_NAME;
+      } else {
+        emit(start, end, FIELD, true);
+        state = EXPRESSION;
+      }
+    }
+
+    private void onKeyword(final String keyword, final int start) {
+      flushReference();
+      valueBefore = false;
+      switch (keyword) {
+        case "const", "let", "var" -> {
+          bindingKind = "const".equals(keyword) ? CONSTANT : VARIABLE;
+          declarationDepth = depth;
+          state = BINDING;
+        }
+        case "function" -> state = FUNCTION_NAME;
+        case "class" -> state = CLASS_NAME;
+        case "new" -> {
+          typeNext = true;
+          state = EXPRESSION;
+        }
+        case "import" -> {
+          // import statement, not import() or import.meta
+          final char next = peek(text, start + keyword.length());
+          state = next == '(' || next == '.' ? EXPRESSION : SKIP;
+        }
+        case "catch" -> state = FUNCTION_NAME;
+        case "extends" -> state = state == CLASS_HEADER ? CLASS_HEADER : EXPRESSION;
+        case "this", "super", "true", "false", "null" -> {
+          valueBefore = true;
+          state = EXPRESSION;
+        }
+        case "else", "do", "try", "finally", "export", "default" -> state = STATEMENT;
+        default -> state = EXPRESSION;
+      }
+    }
+
+    private int onSymbol(final char c, final int i) {
+      if (c == '#') {
+        // private class member, the name follows
+        return i + 1;
+      }
+      dotBefore = false;
+      valueBefore = c == ')' || c == ']' || c == '}';
+      if (state == SKIP) {
+        if (c == ';') {
+          state = STATEMENT;
+        }
+        return i + 1;
+      }
+      final char next = i + 1 < text.length() ? text.charAt(i + 1) : 0;
+      switch (c) {
+        case '.' -> {
+          if (next == '.' && startsWith(text, i + 2, '.')) {
+            // rest element or spread
+            if (state != BINDING) {
+              onOperator();
+            }
+            return i + 3;
+          }
+          flushReference();
+          if (state != CLASS_HEADER) {
+            state = EXPRESSION;
+          }
+          dotBefore = true;
+        }
+        case '?' -> {
+          if (next == '.') {
+            flushReference();
+            state = EXPRESSION;
+            dotBefore = true;
+            return i + 2;
+          }
+          onOperator();
+        }
+        case '(' -> onOpenParenthesis();
+        case '[' -> {
+          if (state == BINDING) {
+            push(PATTERN);
+          } else {
+            flushReference();
+            push(GROUP);
+            state = EXPRESSION;
+          }
+        }
+        case '{' -> onOpenBrace();
+        case ')', ']' -> onClose();
+        case '}' -> onCloseBrace();
+        case ';' -> {
+          flushReference();
+          declarationDepth = -1;
+          state = top() == CLASS_BODY ? MEMBER : STATEMENT;
+        }
+        case ',' -> onComma();
+        case '=' -> {
+          flushReference();
+          if (next == '>') {
+            // arrow function
+            state = EXPRESSION;
+            return i + 2;
+          }
+          state = EXPRESSION;
+          if (next == '=') {
+            return startsWith(text, i + 2, '=') ? i + 3 : i + 2;
+          }
+        }
+        case ':' -> {
+          // { key: name } keeps declaring within destructuring patterns
+          if (state != BINDING || top() != PATTERN) {
+            onOperator();
+          }
+        }
+        case '*' -> {
+          if (state != FUNCTION_NAME && state != MEMBER) {
+            onOperator();
+          }
+        }
+        default -> {
+          onOperator();
+          if (next == '=' || (next == c && (c == '+' || c == '-' || c == '&' || c == '|'))) {
+            valueBefore = c == '+' || c == '-';
+            return i + 2;
+          }
+        }
+      }
+      return i + 1;
+    }
+
+    private void onOpenParenthesis() {
+      if (state == FUNCTION_NAME) {
+        push(PARAMETERS);
+        bindingKind = VARIABLE;
+        declarationDepth = depth;
+        state = BINDING;
+        return;
+      }
+      if (pendingStart >= 0) {
+        emitPending(METHOD, false);
+      }
+      push(GROUP);
+      state = EXPRESSION;
+    }
+
+    private void onOpenBrace() {
+      flushReference();
+      if (state == BINDING) {
+        push(PATTERN);
+        return;
+      }
+      if (state == CLASS_NAME || state == CLASS_HEADER) {
+        push(CLASS_BODY);
+        state = MEMBER;
+      } else {
+        push(CODE);
+        state = STATEMENT;
+      }
+    }
+
+    private void onClose() {
+      flushReference();
+      final byte frame = depth > 0 && top() != CODE && top() != CLASS_BODY ? pop() : NONE;
+      if (frame == PARAMETERS) {
+        declarationDepth = -1;
+        state = FUNCTION_TAIL;
+      } else {
+        state = EXPRESSION;
+      }
+    }
+
+    private void onCloseBrace() {
+      flushReference();
+      if (top() == PATTERN) {
+        pop();
+        state = EXPRESSION;
+        return;
+      }
+      while (depth > 0 && top() != CODE && top() != CLASS_BODY) {
+        pop();
+      }
+      if (depth > 0) {
+        pop();
+      }
+      final byte top = top();
+      if (top == CLASS_BODY) {
+        state = MEMBER;
+      } else if (top == NONE || top == CODE) {
+        state = STATEMENT;
+        valueBefore = false;
+      } else {
+        state = EXPRESSION;
+      }
+    }
+
+    private void onComma() {
+      flushReference();
+      if (top() == PATTERN || (top() == PARAMETERS && depth == declarationDepth)) {
+        state = BINDING;
+      } else if (depth == declarationDepth) {
+        // next declarator: let first = 1, second = 2;
+        state = BINDING;
+      } else {
+        state = EXPRESSION;
+      }
+    }
+
+    private void onOperator() {
+      flushReference();
+      if (state != CLASS_HEADER) {
+        state = EXPRESSION;
+      }
+    }
+
+    private boolean isWord(final int start, final String word) {
+      for (int i = 0; i < word.length(); i++) {
+        if (text.charAt(start + i) != word.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void setPending(final int start, final int end, final boolean afterDot) {
+      pendingStart = start;
+      pendingEnd = end;
+      pendingAfterDot = afterDot;
+    }
+
+    /** Emits the pending word, if any, as a reference to a property or a variable. */
+    private void flushReference() {
+      if (pendingStart >= 0) {
+        emitPending(pendingAfterDot ? FIELD : VARIABLE, false);
+      }
+    }
+
+    private void emitPending(final IdentifierKind kind, final boolean declaration) {
+      emit(pendingStart, pendingEnd, kind, declaration);
+      pendingStart = -1;
+    }
+
+    private void emit(
+        final int start, final int end, final IdentifierKind kind, final boolean declaration) {
+      consumer.accept(text, start, end, kind, declaration);
+      count++;
+    }
+
+    private void push(final byte frame) {
+      if (depth == frames.length) {
+        frames = Arrays.copyOf(frames, depth * 2);
+      }
+      frames[depth++] = frame;
+    }
+
+    private byte pop() {
+      return frames[--depth];
+    }
+
+    private byte top() {
+      return depth == 0 ? NONE : frames[depth - 1];
+    }
+  }
+}
@@ -0,0 +1,947 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.isDigit;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.peek;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.skipWhitespace;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.startsWith;
+
+import java.util.Arrays;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * {@link SourceLexer} for Java sources.
+ *
+ * <p>Declarations are recognized from their shape ({@code Type name}, {@code Type name(}, {@code
+ * class Name}, ...) and from the enclosing block: a variable declared directly in a class body is a
+ * {@link IdentifierKind#FIELD field}, or a {@link IdentifierKind#CONSTANT constant} if it is {@code
+ * static final} or declared in an interface; enum constants are constants; variables declared in
+ * code blocks, parameter lists and resources are {@link IdentifierKind#VARIABLE variables}; record
+ * components are fields. The type parameters of types and methods are declared types.
+ *
+ * <p>Package and import declarations are skipped, as are statement labels. The qualifiers of a
+ * qualified name are told apart by the Java naming conventions: a capitalized qualifier is an
+ * enclosing type (or the type of {@code Map.of()}), the other qualifiers of a type name, or those
+ * before a capitalized qualifier, are packages and are not reported.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class JavaSourceLexer implements SourceLexer {
+
+  private static final KeywordSet KEYWORDS =
+      KeywordSet.of(
+          "abstract",
+          "assert",
+          "boolean",
+          "break",
+          "byte",
+          "case",
+          "catch",
+          "char",
+          "class",
+          "const",
+          "continue",
+          "default",
+          "do",
+          "double",
+          "else",
+          "enum",
+          "extends",
+          "final",
+          "finally",
+          "float",
+          "for",
+          "goto",
+          "if",
+          "implements",
+          "import",
+          "instanceof",
+          "int",
+          "interface",
+          "long",
+          "native",
+          "new",
+          "package",
+          "private",
+          "protected",
+          "public",
+          "return",
+          "short",
+          "static",
+          "strictfp",
+          "super",
+          "switch",
+          "synchronized",
+          "this",
+          "throw",
+          "throws",
+          "transient",
+          "try",
+          "void",
+          "volatile",
+          "while",
+          "true",
+          "false",
+          "null",
+          "var",
+          "record",
+          "yield",
+          "sealed",
+          "permits");
+
+  @Override
+  public String getLanguage() {
+    return "Java";
+  }
+
+  @Override
+  public Set<String> getFileExtensions() {
+    return Set.of("java");
+  }
+
+  @Override
+  public int lex(
+      @NonNull final CharSequence source, @NonNull final LexedIdentifierConsumer consumer) {
+    return new Scan(source, consumer).run();
+  }
+
+  /** State of a single lexing run. */
+  private static final class Scan {
+
+    // frames: what an opening brace or parenthesis started
+    private static final String NON_SEALED = "non-sealed";
+
+    private static final byte NONE = 0;
+    private static final byte TYPE_BODY = 1;
+    private static final byte INTERFACE_BODY = 2;
+    private static final byte ENUM_CONSTANTS = 3;
+    private static final byte CODE = 4;
+    private static final byte PARAMETERS = 5;
+    private static final byte RECORD_COMPONENTS = 6;
+    private static final byte RESOURCES = 7;
+    private static final byte FOR_HEADER = 8;
+    private static final byte CONDITION = 9;
+    private static final byte ARGUMENTS = 10;
+    private static final byte NEW_ARGUMENTS = 11;
+    private static final byte ANNOTATION_ARGUMENTS = 12;
+
+    // states: what the next word means
+    private static final int START = 0; // first word of a statement or declaration
+    private static final int FIRST = 1; // first word pending, either a type or a reference
+    private static final int TYPE_ARGUMENTS = 2; // inside the <...> of a declared type
+    private static final int AFTER_TYPE = 3; // the type of a declaration is complete
+    private static final int NAME = 4; // declared name pending
+    private static final int EXPRESSION = 5;
+    private static final int TYPE_NAME = 6; // after class, interface, enum or record
+    private static final int TYPE_HEADER = 7; // between the type name and its body
+    private static final int METHOD_TAIL = 8; // between the parameters and the method body
+    private static final int NEW = 9;
+    private static final int PATTERN_TYPE = 10; // after instanceof
+    private static final int PATTERN_NAME = 11;
+    private static final int SKIP = 12; // package, import, break and continue
+    private static final int TYPE_PARAMETERS = 13; // inside the <...> declaring type parameters
+
+    private final CharSequence text;
+    private final LexedIdentifierConsumer consumer;
+    private int count;
+
+    private byte[] frames = new byte[16];
+    private int depth;
+
+    private int state = START;
+    private int pendingStart = -1;
+    private int pendingEnd;
+    private boolean pendingAfterDot;
+    // start and end of each qualifier of the pending word, such as java and util in java.util.List
+    private int[] qualifiers = new int[8];
+    private int qualifierCount;
+    private boolean qualifiedAfterDot;
+    private boolean dotBefore;
+    private int angleDepth;
+    private int typeArgumentsResume;
+    private boolean typeParametersAllowed;
+    private boolean typeParameterNext;
+    private byte typeBody;
+    private byte nextParenthesis = NONE;
+    private boolean staticModifier;
+    private boolean finalModifier;
+    private boolean declaring;
+    private boolean annotationNext;
+    private boolean annotationArguments;
+    private boolean methodReferenceNext;
+
+    Scan(final CharSequence text, final LexedIdentifierConsumer consumer) {
+      this.text = text;
+      this.consumer = consumer;
+    }
+
+    int run() {
+      final int length = text.length();
+      int i = 0;
+      while (i < length) {
+        final char c = text.charAt(i);
+        if (c <= ' ') {
+          i++;
+        } else if (c == '/' && startsWith(text, i + 1, '/')) {
+          i = SourceScanner.skipLineComment(text, i + 2);
+        } else if (c == '/' && startsWith(text, i + 1, '*')) {
+          i = SourceScanner.skipBlockComment(text, i + 2, false);
+        } else if (c == '"') {
+          onLiteral();
+          i =
+              startsWith(text, i + 1, '"', '"')
+                  ? SourceScanner.skipTripleQuoted(text, i + 3, '"', true)
+                  : SourceScanner.skipQuoted(text, i + 1, '"', true);
+        } else if (c == '\'') {
+          onLiteral();
+          i = SourceScanner.skipQuoted(text, i + 1, '\'', true);
+        } else if (c == 'n' && isNonSealed(i)) {
+          onKeyword("sealed", i + NON_SEALED.length(), false);
+          i += NON_SEALED.length();
+        } else if (Character.isJavaIdentifierStart(c)) {
+          final int end = SourceScanner.scanIdentifier(text, i + 1);
+          onWord(i, end);
+          i = end;
+        } else if (isDigit(c)) {
+          onLiteral();
+          i = SourceScanner.skipNumber(text, i);
+        } else {
+          final boolean dot = c == '.';
+          i = onSymbol(c, i);
+          dotBefore = dot;
+        }
+      }
+      flushReference();
+      return count;
+    }
+
+    private boolean isNonSealed(final int i) {
+      final int end = i + NON_SEALED.length();
+      if (end > text.length()
+          || (end < text.length() && Character.isJavaIdentifierPart(text.charAt(end)))) {
+        return false;
+      }
+      for (int j = 0; j < NON_SEALED.length(); j++) {
+        if (text.charAt(i + j) != NON_SEALED.charAt(j)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void onLiteral() {
+      dotBefore = false;
+      if (state == SKIP) {
+        return;
+      }
+      flushReference();
+      state = EXPRESSION;
+    }
+
+    private void onWord(final int start, final int end) {
+      final boolean afterDot = dotBefore;
+      dotBefore = false;
+      final String keyword = KEYWORDS.find(text, start, end);
+      if (keyword != null && !isContextualIdentifier(keyword, end, afterDot)) {
+        annotationNext = false;
+        methodReferenceNext = false;
+        onKeyword(keyword, end, afterDot);
+        return;
+      }
+      if (state == SKIP) {
+        return;
+      }
+      if (annotationNext) {
+        annotationNext = isQualifier(end);
+        emitTypeName(start, end);
+        annotationArguments = peek(text, end) == '(';
+        return;
+      }
+      if (methodReferenceNext) {
+        methodReferenceNext = false;
+        emit(start, end, METHOD, false);
+        state = EXPRESSION;
+        return;
+      }
+      switch (state) {
+        case START -> {
+          if (top() == ENUM_CONSTANTS) {
+            emit(start, end, CONSTANT, true);
+            state = EXPRESSION;
+          } else {
+            setPending(start, end, afterDot);
+            state = FIRST;
+          }
+        }
+        case FIRST -> {
+          // "Type name": the pending word was a type
+          emitPending(TYPE, false);
+          setPending(start, end, false);
+          state = NAME;
+        }
+        case AFTER_TYPE -> {
+          setPending(start, end, false);
+          state = NAME;
+        }
+        case TYPE_ARGUMENTS, TYPE_HEADER, METHOD_TAIL, NEW -> emitTypeName(start, end);
+        case TYPE_PARAMETERS -> {
+          emit(start, end, TYPE, typeParameterNext);
+          typeParameterNext = false;
+        }
+        case TYPE_NAME -> {
+          emit(start, end, TYPE, true);
+          typeParametersAllowed = true;
+          state = TYPE_HEADER;
+        }
+        case PATTERN_TYPE -> {
+          emitTypeName(start, end);
+          if (!isQualifier(end)) {
+            state = PATTERN_NAME;
+          }
+        }
+        case PATTERN_NAME -> {
+          emit(start, end, VARIABLE, true);
+          state = EXPRESSION;
+        }
+        default -> {
+          if (!afterDot) {
+            flushReference();
+          }
+          setPending(start, end, afterDot);
+          state = EXPRESSION;
+        }
+      }
+    }
+
+    private boolean isContextualIdentifier(
+        final String keyword, final int end, final boolean afterDot) {
+      return switch (keyword) {
+        case "record" -> state != START || !Character.isJavaIdentifierStart(peek(text, end));
+        case "var", "yield", "sealed", "permits" ->
+            afterDot || state == FIRST || state == NAME || state == EXPRESSION;
+        default -> false;
+      };
+    }
+
+    private void onKeyword(final String keyword, final int end, final boolean afterDot) {
+      if (state == SKIP) {
+        return;
+      }
+      flushReference();
+      switch (keyword) {
+        case "package", "import", "break", "continue" -> state = SKIP;
+        case "class", "interface", "enum", "record" -> {
+          if (afterDot) {
+            // Foo.class
+            state = EXPRESSION;
+          } else {
+            typeBody =
+                switch (keyword) {
+                  case "interface" -> INTERFACE_BODY;
+                  case "enum" -> ENUM_CONSTANTS;
+                  default -> TYPE_BODY;
+                };
+            state = TYPE_NAME;
+          }
+        }
+        case "boolean",
+            "byte",
+            "char",
+            "short",
+            "int",
+            "long",
+            "float",
+            "double",
+            "void",
+            "var" -> {
+          if (state == START || state == FIRST) {
+            state = AFTER_TYPE;
+          } else if (state == NAME) {
+            state = EXPRESSION;
+          }
+        }
+        case "static",
+            "final",
+            "public",
+            "protected",
+            "private",
+            "abstract",
+            "native",
+            "transient",
+            "volatile",
+            "strictfp",
+            "sealed",
+            "default" -> {
+          staticModifier |= "static".equals(keyword);
+          finalModifier |= "final".equals(keyword);
+          if (state == METHOD_TAIL) {
+            // default value of an annotation member
+            state = EXPRESSION;
+          } else if (state != TYPE_ARGUMENTS) {
+            state = START;
+          }
+        }
+        case "synchronized" -> {
+          if (peek(text, end) == '(') {
+            nextParenthesis = CONDITION;
+            state = EXPRESSION;
+          } else {
+            state = START;
+          }
+        }
+        case "new" -> state = NEW;
+        case "instanceof" -> state = PATTERN_TYPE;
+        case "if", "while", "switch" -> {
+          nextParenthesis = CONDITION;
+          state = EXPRESSION;
+        }
+        case "for" -> {
+          nextParenthesis = FOR_HEADER;
+          state = START;
+        }
+        case "catch", "try" -> {
+          nextParenthesis = RESOURCES;
+          state = START;
+        }
+        case "else", "do", "finally" -> state = START;
+        case "extends", "implements", "throws", "permits", "super" -> {
+          typeParametersAllowed = false;
+          if (state != TYPE_ARGUMENTS
+              && state != TYPE_PARAMETERS
+              && state != TYPE_HEADER
+              && state != METHOD_TAIL) {
+            state = EXPRESSION;
+          }
+        }
+        default -> state = EXPRESSION;
+      }
+    }
+
+    private int onSymbol(final char c, final int i) {
+      if (state == SKIP) {
+        if (c == ';') {
+          state = START;
+        }
+        return i + 1;
+      }
+      final char next = i + 1 < text.length() ? text.charAt(i + 1) : 0;
+      switch (c) {
+        case '.' -> {
+          return onDot(i);
+        }
+        case '(' -> onOpenParenthesis();
+        case ')' -> onCloseParenthesis(i);
+        case '{' -> onOpenBrace();
+        case '}' -> onCloseBrace();
+        case ';' -> onSemicolon();
+        case ',' -> onComma();
+        case '<' -> {
+          return onLess(i, next);
+        }
+        case '>' -> {
+          return onGreater(i);
+        }
+        case '@' -> {
+          if (state == NAME || state == FIRST) {
+            flushReference();
+            state = START;
+          }
+          annotationNext = true;
+        }
+        case '[' -> onOpenBracket(i);
+        case ']' -> {
+          if (state != AFTER_TYPE
+              && state != NAME
+              && state != TYPE_ARGUMENTS
+              && state != TYPE_PARAMETERS) {
+            onOperator();
+          }
+        }
+        case '?', '&' -> {
+          if (state != TYPE_ARGUMENTS && state != TYPE_PARAMETERS && state != TYPE_HEADER) {
+            onOperator();
+          }
+          if (c == '&' && next == '&') {
+            return i + 2;
+          }
+        }
+        case '|' -> {
+          if (state == FIRST && top() == RESOURCES) {
+            // multi-catch: catch (FirstException | SecondException e)
+            emitPending(TYPE, false);
+            state = START;
+          } else {
+            onOperator();
+          }
+        }
+        case ':' -> {
+          if (next == ':') {
+            if (pendingStart >= 0 && Character.isUpperCase(text.charAt(pendingStart))) {
+              // Type::method
+              emitPending(TYPE, false);
+            }
+            flushReference();
+            methodReferenceNext = true;
+            state = EXPRESSION;
+            return i + 2;
+          }
+          if (state == NAME) {
+            // enhanced for loop: for (Type name : values)
+            declare();
+          } else if (state == FIRST && qualifierCount == 0 && !pendingAfterDot) {
+            // statement label
+            pendingStart = -1;
+            state = START;
+            return i + 1;
+          }
+          onOperator();
+        }
+        case '=' -> {
+          if (next == '=') {
+            onOperator();
+            return i + 2;
+          }
+          if (state == NAME) {
+            declare();
+          }
+          onOperator();
+        }
+        case '-' -> {
+          onOperator();
+          if (next == '>' || next == '-' || next == '=') {
+            return i + 2;
+          }
+        }
+        default -> {
+          onOperator();
+          // compound assignments and increments are not assignments of a declared name
+          if (next == '=' || (next == c && (c == '+' || c == '|'))) {
+            return i + 2;
+          }
+        }
+      }
+      return i + 1;
+    }
+
+    private int onDot(final int i) {
+      if (annotationNext) {
+        // qualified annotation name
+        return i + 1;
+      }
+      if (startsWith(text, i + 1, '.', '.')) {
+        // varargs: Type... name
+        if (pendingStart >= 0 && state == FIRST) {
+          emitPending(TYPE, false);
+        }
+        state = AFTER_TYPE;
+        return i + 3;
+      }
+      switch (state) {
+        case FIRST -> {
+          // qualified name at the beginning of a statement: keep looking for "Type name"
+          qualifyPending();
+          state = START;
+        }
+        case TYPE_ARGUMENTS, TYPE_PARAMETERS, TYPE_HEADER, METHOD_TAIL, NEW, PATTERN_TYPE -> {
+          // qualified type name
+        }
+        default -> {
+          qualifyPending();
+          state = EXPRESSION;
+        }
+      }
+      return i + 1;
+    }
+
+    private void onOpenParenthesis() {
+      if (annotationArguments) {
+        annotationArguments = false;
+        push(ANNOTATION_ARGUMENTS);
+        state = EXPRESSION;
+        return;
+      }
+      if (nextParenthesis != NONE) {
+        flushReference();
+        push(nextParenthesis);
+        state = nextParenthesis == CONDITION ? EXPRESSION : START;
+        nextParenthesis = NONE;
+        return;
+      }
+      switch (state) {
+        case FIRST -> {
+          if (isTypeBody(top())) {
+            // constructor declaration
+            emitPending(TYPE, false);
+            pushParameters();
+          } else {
+            emitPending(METHOD, false);
+            push(ARGUMENTS);
+            state = EXPRESSION;
+          }
+        }
+        case NAME -> {
+          emitPending(METHOD, true);
+          pushParameters();
+        }
+        case TYPE_HEADER -> {
+          typeParametersAllowed = false;
+          push(RECORD_COMPONENTS);
+          state = START;
+        }
+        case NEW -> {
+          push(NEW_ARGUMENTS);
+          state = EXPRESSION;
+        }
+        default -> {
+          if (pendingStart >= 0) {
+            emitPending(METHOD, false);
+          }
+          push(ARGUMENTS);
+          state = EXPRESSION;
+        }
+      }
+    }
+
+    private void pushParameters() {
+      push(PARAMETERS);
+      staticModifier = false;
+      finalModifier = false;
+      state = START;
+    }
+
+    private void onCloseParenthesis(final int i) {
+      if (state == NAME) {
+        declare();
+      }
+      flushReference();
+      annotationArguments = false;
+      final byte frame = isParenthesis(top()) ? pop() : NONE;
+      switch (frame) {
+        case PARAMETERS -> state = METHOD_TAIL;
+        case RECORD_COMPONENTS -> state = TYPE_HEADER;
+        case RESOURCES, FOR_HEADER, CONDITION, ANNOTATION_ARGUMENTS -> state = START;
+        case NEW_ARGUMENTS -> {
+          state = EXPRESSION;
+          if (peek(text, i + 1) == '{') {
+            // anonymous class
+            typeBody = TYPE_BODY;
+            state = TYPE_HEADER;
+          }
+        }
+        default -> state = EXPRESSION;
+      }
+    }
+
+    private void onOpenBrace() {
+      flushReference();
+      push(state == TYPE_HEADER ? typeBody : CODE);
+      nextParenthesis = NONE;
+      resetStatement();
+    }
+
+    private void onCloseBrace() {
+      flushReference();
+      while (depth > 0 && isParenthesis(top())) {
+        pop();
+      }
+      if (depth > 0) {
+        pop();
+      }
+      resetStatement();
+      if (depth > 0 && isParenthesis(top())) {
+        state = EXPRESSION;
+      }
+    }
+
+    private void onSemicolon() {
+      if (state == NAME) {
+        declare();
+      }
+      flushReference();
+      final byte top = top();
+      if (top == FOR_HEADER) {
+        state = EXPRESSION;
+      } else if (top == RESOURCES) {
+        state = START;
+      } else {
+        if (top == ENUM_CONSTANTS) {
+          frames[depth - 1] = TYPE_BODY;
+        }
+        resetStatement();
+      }
+    }
+
+    private void onComma() {
+      if (state == TYPE_PARAMETERS) {
+        typeParameterNext = angleDepth == 1;
+        return;
+      }
+      if (state == TYPE_ARGUMENTS || state == TYPE_HEADER || state == METHOD_TAIL || state == NEW) {
+        return;
+      }
+      if (state == NAME) {
+        declare();
+      }
+      flushReference();
+      final byte top = top();
+      if (top == PARAMETERS || top == RECORD_COMPONENTS || top == ENUM_CONSTANTS) {
+        state = START;
+      } else if (declaring && !isParenthesis(top)) {
+        // next declarator: int first, second;
+        state = AFTER_TYPE;
+      } else {
+        state = EXPRESSION;
+      }
+    }
+
+    private int onLess(final int i, final char next) {
+      switch (state) {
+        case FIRST -> {
+          emitPending(TYPE, false);
+          openTypeArguments(AFTER_TYPE);
+        }
+        case START -> {
+          if (isTypeBody(top())) {
+            // type parameters of a generic method or constructor
+            openTypeParameters(START);
+          } else {
+            openTypeArguments(START);
+          }
+        }
+        case TYPE_ARGUMENTS, TYPE_PARAMETERS -> angleDepth++;
+        case TYPE_HEADER -> {
+          if (typeParametersAllowed) {
+            openTypeParameters(TYPE_HEADER);
+          }
+        }
+        case METHOD_TAIL, NEW -> {
+          // diamond
+        }
+        default -> {
+          onOperator();
+          return next == '<' || next == '=' ? i + 2 : i + 1;
+        }
+      }
+      return i + 1;
+    }
+
+    private void openTypeArguments(final int resume) {
+      typeArgumentsResume = resume;
+      angleDepth = 1;
+      state = TYPE_ARGUMENTS;
+    }
+
+    private void openTypeParameters(final int resume) {
+      openTypeArguments(resume);
+      typeParametersAllowed = false;
+      typeParameterNext = true;
+      state = TYPE_PARAMETERS;
+    }
+
+    private int onGreater(final int i) {
+      switch (state) {
+        case TYPE_ARGUMENTS, TYPE_PARAMETERS -> {
+          if (--angleDepth == 0) {
+            state = typeArgumentsResume;
+          }
+        }
+        case TYPE_HEADER, METHOD_TAIL, NEW -> {
+          // type parameters or diamond
+        }
+        default -> {
+          // comparison or shift, possibly compound
+          onOperator();
+          int end = i + 1;
+          while (end < text.length() && (text.charAt(end) == '>' || text.charAt(end) == '=')) {
+            end++;
+          }
+          return end;
+        }
+      }
+      return i + 1;
+    }
+
+    private void onOpenBracket(final int i) {
+      switch (state) {
+        case FIRST -> {
+          if (peek(text, i + 1) == ']') {
+            // array type: Type[] name
+            emitPending(TYPE, false);
+            state = AFTER_TYPE;
+          } else {
+            // array access: values[0] = value
+            onOperator();
+          }
+        }
+        case AFTER_TYPE, NAME, TYPE_ARGUMENTS, TYPE_PARAMETERS, NEW -> {
+          // array dimensions
+        }
+        default -> onOperator();
+      }
+    }
+
+    private void onOperator() {
+      flushReference();
+      if (state != TYPE_HEADER && state != METHOD_TAIL) {
+        state = EXPRESSION;
+      }
+    }
+
+    /** Declares the pending name according to the enclosing block. */
+    private void declare() {
+      final IdentifierKind kind =
+          switch (top()) {
+            case TYPE_BODY -> staticModifier && finalModifier ? CONSTANT : FIELD;
+            case INTERFACE_BODY -> CONSTANT;
+            case RECORD_COMPONENTS, ENUM_CONSTANTS -> FIELD;
+            default -> VARIABLE;
+          };
+      emitPending(kind, true);
+      declaring = true;
+      state = EXPRESSION;
+    }
+
+    private void resetStatement() {
+      state = START;
+      typeParametersAllowed = false;
+      staticModifier = false;
+      finalModifier = false;
+      declaring = false;
+      angleDepth = 0;
+    }
+
+    private void setPending(final int start, final int end, final boolean afterDot) {
+      pendingStart = start;
+      pendingEnd = end;
+      pendingAfterDot = afterDot;
+    }
+
+    /** Emits the pending word, if any, as a reference to a field or a variable. */
+    private void flushReference() {
+      if (pendingStart >= 0) {
+        emitPending(pendingAfterDot ? FIELD : VARIABLE, false);
+      } else {
+        // Foo.class, Outer.this
+        emitQualifiers(false);
+      }
+    }
+
+    private void emitPending(final IdentifierKind kind, final boolean declaration) {
+      if (pendingStart >= 0) {
+        emitQualifiers(kind == TYPE);
+        emit(pendingStart, pendingEnd, kind, declaration);
+        pendingStart = -1;
+      }
+    }
+
+    /** Turns the pending word into a qualifier of the next one. */
+    private void qualifyPending() {
+      if (pendingStart < 0) {
+        return;
+      }
+      if (qualifierCount == 0) {
+        qualifiedAfterDot = pendingAfterDot;
+      }
+      if (qualifierCount * 2 == qualifiers.length) {
+        qualifiers = Arrays.copyOf(qualifiers, qualifiers.length * 2);
+      }
+      qualifiers[qualifierCount * 2] = pendingStart;
+      qualifiers[qualifierCount * 2 + 1] = pendingEnd;
+      qualifierCount++;
+      pendingStart = -1;
+    }
+
+    /**
+     * Emits the qualifiers of the pending word: the capitalized ones are types, the others are
+     * packages if they qualify a type name or come before a type, else the variable and the fields
+     * the expression starts with.
+     */
+    private void emitQualifiers(final boolean typeName) {
+      int lastType = -1;
+      for (int q = 0; q < qualifierCount; q++) {
+        if (Character.isUpperCase(text.charAt(qualifiers[q * 2]))) {
+          lastType = q;
+        }
+      }
+      for (int q = 0; q < qualifierCount; q++) {
+        final int start = qualifiers[q * 2];
+        final int end = qualifiers[q * 2 + 1];
+        if (Character.isUpperCase(text.charAt(start))) {
+          emit(start, end, TYPE, false);
+        } else if (!typeName && q > lastType) {
+          emit(start, end, q == 0 && !qualifiedAfterDot ? VARIABLE : FIELD, false);
+        }
+      }
+      qualifierCount = 0;
+    }
+
+    /** Emits a word of a type name, unless it is a package qualifying the type. */
+    private void emitTypeName(final int start, final int end) {
+      if (!isQualifier(end) || Character.isUpperCase(text.charAt(start))) {
+        emit(start, end, TYPE, false);
+      }
+    }
+
+    /** Tells whether the word ending at the given index is followed by a dot, but not varargs. */
+    private boolean isQualifier(final int end) {
+      final int i = skipWhitespace(text, end);
+      return startsWith(text, i, '.') && !startsWith(text, i + 1, '.');
+    }
+
+    private void emit(
+        final int start, final int end, final IdentifierKind kind, final boolean declaration) {
+      consumer.accept(text, start, end, kind, declaration);
+      count++;
+    }
+
+    private void push(final byte frame) {
+      if (depth == frames.length) {
+        frames = Arrays.copyOf(frames, depth * 2);
+      }
+      frames[depth++] = frame;
+    }
+
+    private byte pop() {
+      return frames[--depth];
+    }
+
+    private byte top() {
+      return depth == 0 ? NONE : frames[depth - 1];
+    }
+
+    private static boolean isTypeBody(final byte frame) {
+      return frame == TYPE_BODY || frame == INTERFACE_BODY || frame == ENUM_CONSTANTS;
+    }
+
+    private static boolean isParenthesis(final byte frame) {
+      return frame >= PARAMETERS;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Immutable set of keywords that can be probed with a range of characters, without creating a
+ * {@link String} for the probed word.
+ *
+ * <p>The keywords are stored in an open addressing table. A lookup hashes the range once and
+ * usually compares it against a single candidate.
+ *
+ * @author Sebastien Vermeille
+ */
+final class KeywordSet {
+
+  private final String[] table;
+  private final int mask;
+  private final boolean ignoreCase;
+
+  private KeywordSet(final boolean ignoreCase, final String... keywords) {
+    final int capacity = Integer.highestOneBit(Math.max(keywords.length, 1) * 4 - 1) << 1;
+    this.table = new String[capacity];
+    this.mask = capacity - 1;
+    this.ignoreCase = ignoreCase;
+    for (final var keyword : keywords) {
+      int slot = hash(keyword, 0, keyword.length()) & mask;
+      while (table[slot] != null && !table[slot].equals(keyword)) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = keyword;
+    }
+  }
+
+  /**
+   * Creates a case-sensitive keyword set.
+   *
+   * @param keywords the keywords
+   * @return the keyword set
+   */
+  static KeywordSet of(final String... keywords) {
+    return new KeywordSet(false, keywords);
+  }
+
+  /**
+   * Creates a keyword set ignoring the case of the ASCII letters.
+   *
+   * @param keywords the keywords, in lower case
+   * @return the keyword set
+   */
+  static KeywordSet ofIgnoringCase(final String... keywords) {
+    return new KeywordSet(true, keywords);
+  }
+
+  /**
+   * Looks up the given range.
+   *
+   * @param text the text holding the word
+   * @param start the index of the first character of the word (inclusive)
+   * @param end the index after the last character of the word (exclusive)
+   * @return the keyword instance matching the word, so that callers can {@code switch} on it, or
+   *     {@code null} if the word is not a keyword
+   */
+  @Nullable
+  String find(final CharSequence text, final int start, final int end) {
+    int slot = hash(text, start, end) & mask;
+    String candidate;
+    while ((candidate = table[slot]) != null) {
+      if (matches(candidate, text, start, end)) {
+        return candidate;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return null;
+  }
+
+  boolean contains(final CharSequence text, final int start, final int end) {
+    return find(text, start, end) != null;
+  }
+
+  private boolean matches(
+      final String keyword, final CharSequence text, final int start, final int end) {
+    if (keyword.length() != end - start) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (keyword.charAt(i - start) != normalize(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int hash(final CharSequence text, final int start, final int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + normalize(text.charAt(i));
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  private char normalize(final char c) {
+    return ignoreCase && c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+}
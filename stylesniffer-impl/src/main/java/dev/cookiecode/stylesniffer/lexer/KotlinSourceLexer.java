@@ -0,0 +1,759 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.isDigit;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.peek;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.startsWith;
+
+import java.util.Arrays;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * {@link SourceLexer} for Kotlin sources and scripts.
+ *
+ * <p>Kotlin declarations are introduced by keywords: {@code class}, {@code interface}, {@code
+ * object} and {@code typealias} declare types, {@code fun} declares methods and {@code val} or
+ * {@code var} declare properties ({@link IdentifierKind#FIELD fields}) or, within a function body,
+ * local {@link IdentifierKind#VARIABLE variables}. {@code const val} properties and enum entries
+ * are {@link IdentifierKind#CONSTANT constants}, function and constructor parameters are variables.
+ *
+ * <p>Package and import directives are skipped, as well as the content of string templates.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class KotlinSourceLexer implements SourceLexer {
+
+  private static final KeywordSet KEYWORDS =
+      KeywordSet.of(
+          "as",
+          "break",
+          "class",
+          "continue",
+          "do",
+          "else",
+          "false",
+          "for",
+          "fun",
+          "if",
+          "in",
+          "interface",
+          "is",
+          "null",
+          "object",
+          "package",
+          "return",
+          "super",
+          "this",
+          "throw",
+          "true",
+          "try",
+          "typealias",
+          "typeof",
+          "val",
+          "var",
+          "when",
+          "while");
+
+  // soft keywords and modifiers, only keywords when they are followed by another word
+  private static final KeywordSet MODIFIERS =
+      KeywordSet.of(
+          "abstract",
+          "actual",
+          "annotation",
+          "companion",
+          "const",
+          "crossinline",
+          "data",
+          "enum",
+          "expect",
+          "external",
+          "final",
+          "import",
+          "infix",
+          "inline",
+          "inner",
+          "internal",
+          "lateinit",
+          "noinline",
+          "open",
+          "operator",
+          "override",
+          "private",
+          "protected",
+          "public",
+          "reified",
+          "sealed",
+          "suspend",
+          "tailrec",
+          "value",
+          "vararg");
+
+  @Override
+  public String getLanguage() {
+    return "Kotlin";
+  }
+
+  @Override
+  public Set<String> getFileExtensions() {
+    return Set.of("kt", "kts");
+  }
+
+  @Override
+  public int lex(
+      @NonNull final CharSequence source, @NonNull final LexedIdentifierConsumer consumer) {
+    return new Scan(source, consumer).run();
+  }
+
+  /** State of a single lexing run. */
+  private static final class Scan {
+
+    // frames: what an opening brace or parenthesis started
+    private static final byte NONE = 0;
+    private static final byte CLASS_BODY = 1;
+    private static final byte ENUM_ENTRIES = 2;
+    private static final byte CODE = 3;
+    private static final byte PARAMETERS = 4;
+    private static final byte CONSTRUCTOR = 5;
+    private static final byte SUPER_ARGUMENTS = 6;
+    private static final byte LOOP = 7;
+    private static final byte DESTRUCTURING = 8;
+    private static final byte ARGUMENTS = 9;
+    private static final byte ANNOTATION_ARGUMENTS = 10;
+
+    // states: what the next word means
+    private static final int START = 0;
+    private static final int EXPRESSION = 1;
+    private static final int PROPERTY_NAME = 2; // after val or var
+    private static final int AFTER_DECLARATION = 3; // a ':' introduces the declared type
+    private static final int FUNCTION_NAME = 4; // after fun
+    private static final int FUNCTION_TAIL = 5; // between the parameters and the body
+    private static final int TYPE_NAME = 6; // after class, interface, object or typealias
+    private static final int TYPE_HEADER = 7; // between the type name and its body
+    private static final int TYPE_REFERENCE = 8; // see typeResume
+    private static final int SKIP = 9; // package and import directives
+
+    private final CharSequence text;
+    private final LexedIdentifierConsumer consumer;
+    private int count;
+
+    private byte[] frames = new byte[16];
+    private int depth;
+
+    private int state = START;
+    private int typeResume;
+    private int angleDepth;
+    private int pendingStart = -1;
+    private int pendingEnd;
+    private boolean pendingAfterDot;
+    private boolean dotBefore;
+    private IdentifierKind propertyKind;
+    private byte typeBody = CLASS_BODY;
+    private byte nextParenthesis = NONE;
+    private boolean constModifier;
+    private boolean enumModifier;
+    private boolean supertypes;
+    private boolean typeNext;
+    private boolean annotationNext;
+    private boolean labelNext;
+    private boolean methodReferenceNext;
+
+    Scan(final CharSequence text, final LexedIdentifierConsumer consumer) {
+      this.text = text;
+      this.consumer = consumer;
+    }
+
+    int run() {
+      final int length = text.length();
+      int i = 0;
+      while (i < length) {
+        final char c = text.charAt(i);
+        if (c == '\n') {
+          onNewLine();
+          i++;
+        } else if (c <= ' ') {
+          i++;
+        } else if (c == '/' && startsWith(text, i + 1, '/')) {
+          i = SourceScanner.skipLineComment(text, i + 2);
+        } else if (c == '/' && startsWith(text, i + 1, '*')) {
+          i = SourceScanner.skipBlockComment(text, i + 2, true);
+        } else if (c == '"') {
+          onLiteral();
+          final boolean triple = startsWith(text, i + 1, '"', '"');
+          i = SourceScanner.skipTemplate(text, i + (triple ? 3 : 1), '"', triple, false);
+        } else if (c == '\'') {
+          onLiteral();
+          i = SourceScanner.skipQuoted(text, i + 1, '\'', true);
+        } else if (c == '`') {
+          // escaped name, e.g. a test function name with spaces
+          onLiteral();
+          i = SourceScanner.skipQuoted(text, i + 1, '`', false);
+        } else if (Character.isJavaIdentifierStart(c) && c != '$') {
+          final int end = SourceScanner.scanIdentifier(text, i + 1);
+          onWord(i, end);
+          i = end;
+        } else if (isDigit(c)) {
+          onLiteral();
+          i = SourceScanner.skipNumber(text, i);
+        } else {
+          i = onSymbol(c, i);
+        }
+      }
+      flushReference();
+      return count;
+    }
+
+    private void onNewLine() {
+      // a line feed ends a statement unless it is inside parentheses
+      if (state == SKIP
+          || ((state == EXPRESSION || state == AFTER_DECLARATION || state == TYPE_REFERENCE)
+              && !isParenthesis(top()))) {
+        flushReference();
+        state = START;
+        angleDepth = 0;
+      }
+    }
+
+    private void onLiteral() {
+      dotBefore = false;
+      if (state == SKIP) {
+        return;
+      }
+      exitType();
+      flushReference();
+      state = EXPRESSION;
+    }
+
+    private void onWord(final int start, final int end) {
+      final boolean afterDot = dotBefore;
+      dotBefore = false;
+      if (state == SKIP) {
+        return;
+      }
+      if (labelNext) {
+        // this@Outer, return@forEach
+        labelNext = false;
+        return;
+      }
+      if (annotationNext) {
+        if (peek(text, end) != ':') {
+          // not a use-site target such as @file: or @get:
+          annotationNext = false;
+          emit(start, end, TYPE, false);
+          if (peek(text, end) == '(') {
+            nextParenthesis = ANNOTATION_ARGUMENTS;
+          }
+        }
+        return;
+      }
+      final char next = peek(text, end);
+      switch (state) {
+        case PROPERTY_NAME -> {
+          if (next == '.' || next == '<') {
+            // receiver of an extension property
+            emit(start, end, TYPE, false);
+          } else {
+            emit(start, end, propertyKind, true);
+            state = AFTER_DECLARATION;
+          }
+          return;
+        }
+        case FUNCTION_NAME -> {
+          if (next == '(') {
+            emit(start, end, METHOD, true);
+          } else if (!isKeyword(start, end)) {
+            // receiver of an extension function or type parameter
+            emit(start, end, TYPE, false);
+          }
+          return;
+        }
+        case TYPE_NAME -> {
+          emit(start, end, TYPE, true);
+          state = TYPE_HEADER;
+          return;
+        }
+        default -> {
+          // keywords and modifiers are handled below
+        }
+      }
+      if (methodReferenceNext) {
+        methodReferenceNext = false;
+        if (!isKeyword(start, end)) {
+          emit(start, end, METHOD, false);
+        }
+        state = EXPRESSION;
+        return;
+      }
+      final String keyword = KEYWORDS.find(text, start, end);
+      if ((state == TYPE_REFERENCE || state == TYPE_HEADER)
+          && (matches(start, end, "in") || matches(start, end, "out"))) {
+        // variance
+        return;
+      }
+      if (keyword != null && !afterDot) {
+        onKeyword(keyword, next);
+        return;
+      }
+      if (!afterDot && onSoftKeyword(start, end, next)) {
+        return;
+      }
+      if (typeNext) {
+        emit(start, end, TYPE, false);
+        typeNext = next == '.';
+        return;
+      }
+      switch (state) {
+        case TYPE_REFERENCE, TYPE_HEADER -> emit(start, end, TYPE, false);
+        case START -> {
+          final byte top = top();
+          if (top == ENUM_ENTRIES) {
+            emit(start, end, CONSTANT, true);
+            state = EXPRESSION;
+          } else if ((top == PARAMETERS || top == CONSTRUCTOR) && next == ':') {
+            emit(start, end, VARIABLE, true);
+            state = AFTER_DECLARATION;
+          } else if (top == LOOP || top == DESTRUCTURING) {
+            emit(start, end, VARIABLE, true);
+            state = EXPRESSION;
+          } else {
+            setPending(start, end, afterDot);
+            state = EXPRESSION;
+          }
+        }
+        default -> {
+          flushReference();
+          setPending(start, end, afterDot);
+          state = EXPRESSION;
+        }
+      }
+    }
+
+    private boolean isKeyword(final int start, final int end) {
+      return KEYWORDS.contains(text, start, end);
+    }
+
+    private void onKeyword(final String keyword, final char next) {
+      flushReference();
+      exitType();
+      switch (keyword) {
+        case "package" -> state = SKIP;
+        case "val", "var" -> {
+          propertyKind = constModifier ? CONSTANT : propertyKind();
+          constModifier = false;
+          state = PROPERTY_NAME;
+        }
+        case "fun" -> state = FUNCTION_NAME;
+        case "class", "interface", "object", "typealias" -> {
+          typeBody = enumModifier ? ENUM_ENTRIES : CLASS_BODY;
+          enumModifier = false;
+          supertypes = false;
+          // companion and anonymous objects have no name
+          state =
+              "object".equals(keyword) && (next == '{' || next == ':') ? TYPE_HEADER : TYPE_NAME;
+        }
+        case "is", "as" -> {
+          typeNext = true;
+          state = EXPRESSION;
+        }
+        case "for" -> {
+          nextParenthesis = LOOP;
+          state = EXPRESSION;
+        }
+        default -> state = EXPRESSION;
+      }
+    }
+
+    private boolean onSoftKeyword(final int start, final int end, final char next) {
+      if (matches(start, end, "by")
+          && (state == TYPE_REFERENCE || state == TYPE_HEADER || state == AFTER_DECLARATION)) {
+        // delegation
+        exitType();
+        flushReference();
+        state = EXPRESSION;
+        return true;
+      }
+      if (matches(start, end, "where")
+          && (state == TYPE_REFERENCE || state == TYPE_HEADER || state == FUNCTION_TAIL)) {
+        // generic constraints
+        if (state != TYPE_REFERENCE) {
+          enterType(state);
+        }
+        return true;
+      }
+      if (state != START && state != TYPE_HEADER && state != FUNCTION_TAIL) {
+        return false;
+      }
+      if (matches(start, end, "constructor")) {
+        nextParenthesis = state == TYPE_HEADER ? CONSTRUCTOR : PARAMETERS;
+        return true;
+      }
+      if ((matches(start, end, "init") || matches(start, end, "finally")) && next == '{') {
+        return true;
+      }
+      if (matches(start, end, "catch") && next == '(') {
+        nextParenthesis = PARAMETERS;
+        return true;
+      }
+      if ((matches(start, end, "get") || matches(start, end, "set"))
+          && (next == '(' || next == '=')) {
+        // property accessor
+        return true;
+      }
+      final String modifier = MODIFIERS.find(text, start, end);
+      if (modifier == null || !(Character.isJavaIdentifierStart(next) || next == '@')) {
+        return false;
+      }
+      switch (modifier) {
+        case "import" -> state = SKIP;
+        case "const" -> constModifier = true;
+        case "enum" -> enumModifier = true;
+        default -> {
+          // other modifiers do not change the kind of the declaration
+        }
+      }
+      return true;
+    }
+
+    private IdentifierKind propertyKind() {
+      return switch (top()) {
+        case NONE, CLASS_BODY, ENUM_ENTRIES, CONSTRUCTOR -> FIELD;
+        default -> VARIABLE;
+      };
+    }
+
+    private int onSymbol(final char c, final int i) {
+      final boolean afterDot = dotBefore;
+      dotBefore = false;
+      if (state == SKIP) {
+        return i + 1;
+      }
+      final char next = i + 1 < text.length() ? text.charAt(i + 1) : 0;
+      if (state == TYPE_REFERENCE && isTypeSymbol(c)) {
+        if (c == '<') {
+          angleDepth++;
+        } else if (c == '>') {
+          angleDepth--;
+        }
+        dotBefore = c == '.';
+        return i + 1;
+      }
+      exitType();
+      switch (c) {
+        case '.' -> {
+          if (next == '.') {
+            onOperator();
+            return i + 2;
+          }
+          onDot();
+        }
+        case '?' -> {
+          if (next == '.') {
+            onDot();
+            return i + 2;
+          }
+          if (typeNext) {
+            // safe cast: as? Type
+            return i + 1;
+          }
+          if (state != PROPERTY_NAME && state != FUNCTION_NAME) {
+            onOperator();
+          }
+          return next == ':' ? i + 2 : i + 1;
+        }
+        case '(' -> onOpenParenthesis();
+        case ')' -> onCloseParenthesis();
+        case '{' -> onOpenBrace();
+        case '}' -> onCloseBrace();
+        case ';' -> onSemicolon();
+        case ',' -> onComma();
+        case ':' -> {
+          if (next == ':') {
+            flushReference();
+            methodReferenceNext = true;
+            state = EXPRESSION;
+            return i + 2;
+          }
+          onColon();
+        }
+        case '=' -> {
+          flushReference();
+          state = EXPRESSION;
+          if (next == '=') {
+            return startsWith(text, i + 2, '=') ? i + 3 : i + 2;
+          }
+        }
+        case '@' -> {
+          if (i > 0 && Character.isJavaIdentifierPart(text.charAt(i - 1))) {
+            // label definition (loop@) or reference (this@Outer)
+            if (pendingEnd == i) {
+              pendingStart = -1;
+            }
+            labelNext = Character.isJavaIdentifierStart(next);
+          } else {
+            annotationNext = true;
+          }
+        }
+        case '<', '>' -> {
+          if (state == FUNCTION_NAME || state == PROPERTY_NAME || state == TYPE_HEADER) {
+            // type parameters
+            return i + 1;
+          }
+          onOperator();
+        }
+        case '-' -> {
+          onOperator();
+          if (next == '>' || next == '-' || next == '=') {
+            return i + 2;
+          }
+        }
+        default -> {
+          if (afterDot && c == '*') {
+            // import wildcard
+            return i + 1;
+          }
+          onOperator();
+          if (next == '=' || (next == c && (c == '+' || c == '&' || c == '|'))) {
+            return i + 2;
+          }
+        }
+      }
+      return i + 1;
+    }
+
+    private boolean isTypeSymbol(final char c) {
+      return switch (c) {
+        case '.', '?', '<', '@' -> true;
+        case '>', ',', '*' -> angleDepth > 0;
+        default -> false;
+      };
+    }
+
+    private void onDot() {
+      if (state != FUNCTION_NAME && state != PROPERTY_NAME && state != TYPE_HEADER) {
+        flushReference();
+        state = EXPRESSION;
+      }
+      dotBefore = true;
+    }
+
+    private void onColon() {
+      if (annotationNext) {
+        // use-site target: @get:Annotation
+        return;
+      }
+      flushReference();
+      switch (state) {
+        case AFTER_DECLARATION -> enterType(EXPRESSION);
+        case FUNCTION_TAIL -> enterType(FUNCTION_TAIL);
+        case TYPE_NAME, TYPE_HEADER -> {
+          supertypes = true;
+          state = TYPE_HEADER;
+        }
+        default -> state = EXPRESSION;
+      }
+    }
+
+    private void onOpenParenthesis() {
+      if (nextParenthesis != NONE) {
+        flushReference();
+        push(nextParenthesis);
+        state = nextParenthesis == ANNOTATION_ARGUMENTS ? EXPRESSION : START;
+        nextParenthesis = NONE;
+        return;
+      }
+      switch (state) {
+        case FUNCTION_NAME -> {
+          push(PARAMETERS);
+          state = START;
+        }
+        case TYPE_NAME, TYPE_HEADER -> {
+          push(supertypes ? SUPER_ARGUMENTS : CONSTRUCTOR);
+          state = supertypes ? EXPRESSION : START;
+        }
+        case PROPERTY_NAME -> {
+          // destructuring declaration: val (first, second) = pair
+          push(DESTRUCTURING);
+          state = START;
+        }
+        default -> {
+          if (state == START && top() == LOOP) {
+            // destructuring loop variable: for ((key, value) in map)
+            push(DESTRUCTURING);
+            return;
+          }
+          if (pendingStart >= 0) {
+            emitPending(METHOD, false);
+          }
+          push(ARGUMENTS);
+          state = EXPRESSION;
+        }
+      }
+    }
+
+    private void onCloseParenthesis() {
+      flushReference();
+      final byte frame = isParenthesis(top()) ? pop() : NONE;
+      state =
+          switch (frame) {
+            case PARAMETERS -> FUNCTION_TAIL;
+            case CONSTRUCTOR, SUPER_ARGUMENTS -> TYPE_HEADER;
+            case DESTRUCTURING -> AFTER_DECLARATION;
+            case LOOP, ANNOTATION_ARGUMENTS -> START;
+            default -> EXPRESSION;
+          };
+    }
+
+    private void onOpenBrace() {
+      flushReference();
+      push(state == TYPE_NAME || state == TYPE_HEADER ? typeBody : CODE);
+      resetStatement();
+    }
+
+    private void onCloseBrace() {
+      flushReference();
+      while (depth > 0 && isParenthesis(top())) {
+        pop();
+      }
+      if (depth > 0) {
+        pop();
+      }
+      resetStatement();
+      if (depth > 0 && isParenthesis(top())) {
+        state = EXPRESSION;
+      }
+    }
+
+    private void onSemicolon() {
+      flushReference();
+      if (top() == ENUM_ENTRIES) {
+        frames[depth - 1] = CLASS_BODY;
+      }
+      resetStatement();
+    }
+
+    private void onComma() {
+      flushReference();
+      if (state == TYPE_HEADER) {
+        // supertypes or type parameters
+        return;
+      }
+      state =
+          switch (top()) {
+            case PARAMETERS, CONSTRUCTOR, ENUM_ENTRIES, DESTRUCTURING -> START;
+            default -> EXPRESSION;
+          };
+    }
+
+    private void onOperator() {
+      flushReference();
+      typeNext = false;
+      if (state != TYPE_HEADER) {
+        state = EXPRESSION;
+      }
+    }
+
+    private void enterType(final int resume) {
+      typeResume = resume;
+      angleDepth = 0;
+      state = TYPE_REFERENCE;
+    }
+
+    private void exitType() {
+      if (state == TYPE_REFERENCE) {
+        state = typeResume;
+        angleDepth = 0;
+      }
+    }
+
+    private void resetStatement() {
+      state = START;
+      constModifier = false;
+      enumModifier = false;
+      typeNext = false;
+      nextParenthesis = NONE;
+    }
+
+    private boolean matches(final int start, final int end, final String word) {
+      if (end - start != word.length()) {
+        return false;
+      }
+      for (int i = start; i < end; i++) {
+        if (text.charAt(i) != word.charAt(i - start)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void setPending(final int start, final int end, final boolean afterDot) {
+      pendingStart = start;
+      pendingEnd = end;
+      pendingAfterDot = afterDot;
+    }
+
+    /** Emits the pending word, if any, as a reference to a property or a variable. */
+    private void flushReference() {
+      if (pendingStart >= 0) {
+        emitPending(pendingAfterDot ? FIELD : VARIABLE, false);
+      }
+    }
+
+    private void emitPending(final IdentifierKind kind, final boolean declaration) {
+      if (pendingStart >= 0) {
+        emit(pendingStart, pendingEnd, kind, declaration);
+        pendingStart = -1;
+      }
+    }
+
+    private void emit(
+        final int start, final int end, final IdentifierKind kind, final boolean declaration) {
+      consumer.accept(text, start, end, kind, declaration);
+      count++;
+    }
+
+    private void push(final byte frame) {
+      if (depth == frames.length) {
+        frames = Arrays.copyOf(frames, depth * 2);
+      }
+      frames[depth++] = frame;
+    }
+
+    private byte pop() {
+      return frames[--depth];
+    }
+
+    private byte top() {
+      return depth == 0 ? NONE : frames[depth - 1];
+    }
+
+    private static boolean isParenthesis(final byte frame) {
+      return frame >= PARAMETERS;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+/**
+ * Receives the identifiers found by a {@link SourceLexer}.
+ *
+ * <p>Identifiers are handed over as ranges of the lexed source, no {@link String} is created per
+ * identifier. They can be classified in place through {@link
+ * dev.cookiecode.stylesniffer.StyleSniffer#getCaseStyle(CharSequence, int, int)}.
+ *
+ * @author Sebastien Vermeille
+ */
+@FunctionalInterface
+public interface LexedIdentifierConsumer {
+
+  /**
+   * Called for each identifier, in source order.
+   *
+   * @param source the lexed source
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @param kind the role of the identifier
+   * @param declaration {@code true} if the identifier is declared at this position, {@code false}
+   *     if it is only used (its kind is then a best effort guess)
+   */
+  void accept(CharSequence source, int start, int end, IdentifierKind kind, boolean declaration);
+}
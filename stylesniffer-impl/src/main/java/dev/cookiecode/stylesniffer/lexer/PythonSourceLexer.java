@@ -0,0 +1,667 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.isDigit;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.peekOnLine;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.startsWith;
+
+import java.util.Arrays;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * {@link SourceLexer} for Python sources.
+ *
+ * <p>{@code class} declares types and {@code def} declares methods. Assignment targets are
+ * declarations whose kind depends on the enclosing block, which is tracked through the indentation:
+ * assignments in a class body and to {@code self} attributes declare {@link IdentifierKind#FIELD
+ * fields}, the other assignments, parameters, loop variables and {@code as} targets declare {@link
+ * IdentifierKind#VARIABLE variables}. Python has no constants, except assignments annotated with
+ * {@code Final} which declare {@link IdentifierKind#CONSTANT constants}.
+ *
+ * <p>Import statements are skipped.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class PythonSourceLexer implements SourceLexer {
+
+  private static final KeywordSet KEYWORDS =
+      KeywordSet.of(
+          "False",
+          "None",
+          "True",
+          "and",
+          "as",
+          "assert",
+          "async",
+          "await",
+          "break",
+          "class",
+          "continue",
+          "def",
+          "del",
+          "elif",
+          "else",
+          "except",
+          "finally",
+          "for",
+          "from",
+          "global",
+          "if",
+          "import",
+          "in",
+          "is",
+          "lambda",
+          "nonlocal",
+          "not",
+          "or",
+          "pass",
+          "raise",
+          "return",
+          "try",
+          "while",
+          "with",
+          "yield");
+
+  private static final String FINAL = "Final";
+  private static final int TAB_SIZE = 8;
+
+  @Override
+  public String getLanguage() {
+    return "Python";
+  }
+
+  @Override
+  public Set<String> getFileExtensions() {
+    return Set.of("py", "pyi");
+  }
+
+  @Override
+  public int lex(
+      @NonNull final CharSequence source, @NonNull final LexedIdentifierConsumer consumer) {
+    return new Scan(source, consumer).run();
+  }
+
+  /** State of a single lexing run. */
+  private static final class Scan {
+
+    // blocks, tracked along with the indentation of their header
+    private static final byte MODULE = 0;
+    private static final byte CLASS = 1;
+    private static final byte FUNCTION = 2;
+
+    // states: what the next word means
+    private static final int STATEMENT = 0; // first word of a statement
+    private static final int EXPRESSION = 1;
+    private static final int CLASS_NAME = 2;
+    private static final int FUNCTION_NAME = 3;
+    private static final int PARAMETER = 4; // parameter name expected
+    private static final int ANNOTATION = 5; // type annotation, see annotationDepth
+    private static final int TARGETS = 6; // assignment or loop targets, see targetsEnd
+    private static final int AS_NAME = 7;
+    private static final int SKIP = 8; // import, global and nonlocal statements
+    private static final int BASES = 9; // base classes, see basesDepth
+
+    private final CharSequence text;
+    private final LexedIdentifierConsumer consumer;
+    private int count;
+
+    private byte[] blocks = new byte[16];
+    private int[] blockIndents = new int[16];
+    private int depth;
+
+    private int state = STATEMENT;
+    private boolean lineStart = true;
+    private int lineIndent;
+    private int bracketDepth;
+    private int parameterDepth = -1;
+    private int annotationDepth;
+    private int annotationResume;
+    private int basesDepth;
+    private int targetsEnd;
+    private IdentifierKind targetsKind;
+    private boolean annotatedAssignment;
+    private int pendingStart = -1;
+    private int pendingEnd;
+    private boolean pendingAfterDot;
+    private boolean dotBefore;
+    private boolean selfAttribute;
+    private boolean decoratorNext;
+
+    Scan(final CharSequence text, final LexedIdentifierConsumer consumer) {
+      this.text = text;
+      this.consumer = consumer;
+    }
+
+    int run() {
+      final int length = text.length();
+      int i = 0;
+      while (i < length) {
+        final char c = text.charAt(i);
+        if (c == '\n') {
+          onNewLine(i);
+          i++;
+        } else if (c <= ' ') {
+          i++;
+        } else if (c == '#') {
+          i = SourceScanner.skipLineComment(text, i + 1);
+        } else if (c == '\\' && startsWith(text, i + 1, '\n')) {
+          // explicit line joining
+          i += 2;
+        } else {
+          if (lineStart) {
+            onIndentation(i);
+          }
+          if (c == '"' || c == '\'') {
+            onLiteral();
+            i = skipString(i);
+          } else if (Character.isUnicodeIdentifierStart(c) || c == '_') {
+            int end = i + 1;
+            while (end < length && Character.isUnicodeIdentifierPart(text.charAt(end))) {
+              end++;
+            }
+            if (end < length && isStringPrefix(i, end, text.charAt(end))) {
+              onLiteral();
+              i = skipString(end);
+            } else {
+              onWord(i, end);
+              i = end;
+            }
+          } else if (isDigit(c)) {
+            onLiteral();
+            i = SourceScanner.skipNumber(text, i);
+          } else {
+            i = onSymbol(c, i);
+          }
+        }
+      }
+      flushReference();
+      return count;
+    }
+
+    private int skipString(final int quoteIndex) {
+      final char quote = text.charAt(quoteIndex);
+      return startsWith(text, quoteIndex + 1, quote, quote)
+          ? SourceScanner.skipTripleQuoted(text, quoteIndex + 3, quote, true)
+          : SourceScanner.skipQuoted(text, quoteIndex + 1, quote, true);
+    }
+
+    private boolean isStringPrefix(final int start, final int end, final char next) {
+      if ((next != '"' && next != '\'') || end - start > 2) {
+        return false;
+      }
+      for (int i = start; i < end; i++) {
+        switch (text.charAt(i)) {
+          case 'r', 'R', 'b', 'B', 'u', 'U', 'f', 'F' -> {
+            // valid prefix character
+          }
+          default -> {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
+    private void onNewLine(final int i) {
+      if (bracketDepth > 0 || (i > 0 && text.charAt(i - 1) == '\\')) {
+        // implicit or explicit line joining
+        return;
+      }
+      endStatement();
+      lineStart = true;
+    }
+
+    /** Closes the blocks whose body is not indented below the current line. */
+    private void onIndentation(final int i) {
+      lineStart = false;
+      int column = 0;
+      for (int j = i - 1; j >= 0 && text.charAt(j) != '\n'; j--) {
+        column++;
+      }
+      int indent = 0;
+      for (int j = i - column; j < i; j++) {
+        indent = text.charAt(j) == '\t' ? (indent / TAB_SIZE + 1) * TAB_SIZE : indent + 1;
+      }
+      lineIndent = indent;
+      while (depth > 0 && blockIndents[depth - 1] >= indent) {
+        depth--;
+      }
+    }
+
+    private void onLiteral() {
+      dotBefore = false;
+      if (state == SKIP) {
+        return;
+      }
+      flushReference();
+      if (state != ANNOTATION && state != PARAMETER) {
+        state = EXPRESSION;
+      }
+    }
+
+    private void onWord(final int start, final int end) {
+      final boolean afterDot = dotBefore;
+      dotBefore = false;
+      if (state == SKIP) {
+        return;
+      }
+      final String keyword = afterDot ? null : KEYWORDS.find(text, start, end);
+      if (keyword != null) {
+        onKeyword(keyword, end);
+        return;
+      }
+      if (decoratorNext) {
+        decoratorNext = false;
+        emit(start, end, METHOD, false);
+        state = EXPRESSION;
+        return;
+      }
+      switch (state) {
+        case CLASS_NAME -> {
+          emit(start, end, TYPE, true);
+          openBlock(CLASS);
+          state = EXPRESSION;
+          if (peekOnLine(text, end) == '(') {
+            basesDepth = bracketDepth + 1;
+            state = BASES;
+          }
+        }
+        case FUNCTION_NAME -> {
+          emit(start, end, METHOD, true);
+          openBlock(FUNCTION);
+          state = EXPRESSION;
+          parameterDepth = bracketDepth + 1;
+        }
+        case PARAMETER -> {
+          emit(start, end, VARIABLE, true);
+          state = EXPRESSION;
+        }
+        case ANNOTATION -> emit(start, end, TYPE, false);
+        case BASES -> {
+          // class keyword arguments such as metaclass=... are not base classes
+          if (peekOnLine(text, end) != '=') {
+            emit(start, end, TYPE, false);
+          }
+        }
+        case AS_NAME -> {
+          emit(start, end, VARIABLE, true);
+          state = EXPRESSION;
+        }
+        case TARGETS -> {
+          if (start < targetsEnd) {
+            emit(start, end, targetsKind, true);
+          } else {
+            flushReference();
+            setPending(start, end, afterDot);
+            state = EXPRESSION;
+          }
+        }
+        case STATEMENT -> onStatementWord(start, end);
+        default -> {
+          if (selfAttribute && afterDot) {
+            selfAttribute = false;
+            onSelfAttribute(start, end);
+            return;
+          }
+          flushReference();
+          setPending(start, end, afterDot);
+        }
+      }
+    }
+
+    private void onStatementWord(final int start, final int end) {
+      final int targets = findAssignment(end);
+      if (targets >= 0) {
+        // name = ..., first, second = ..., name: int = ...
+        annotatedAssignment = text.charAt(targets) == ':';
+        targetsEnd = targets;
+        targetsKind = annotatedAssignment && isFinalAnnotation(targets) ? CONSTANT : blockKind();
+        emit(start, end, targetsKind, true);
+        state = TARGETS;
+        return;
+      }
+      if (peekOnLine(text, end) == '.'
+          && (matches(start, end, "self") || matches(start, end, "cls"))) {
+        selfAttribute = true;
+        state = EXPRESSION;
+        return;
+      }
+      setPending(start, end, false);
+      state = EXPRESSION;
+    }
+
+    private void onSelfAttribute(final int start, final int end) {
+      final char next = peekOnLine(text, end);
+      final boolean assigned =
+          (next == '=' && !startsWith(text, SourceScanner.skipWhitespace(text, end) + 1, '='))
+              || next == ':';
+      if (assigned && depth > 0 && blocks[depth - 1] == FUNCTION) {
+        emit(start, end, FIELD, true);
+        // self.name: annotation = value
+        openTargets(end);
+        annotatedAssignment = next == ':';
+      } else {
+        setPending(start, end, true);
+      }
+    }
+
+    /**
+     * Looks for a simple assignment whose first target ends at the given index: {@code name =},
+     * {@code first, *rest =} or {@code name: annotation}.
+     *
+     * @return the index of the {@code =} or {@code :} ending the targets, or {@code -1} if the
+     *     statement is not an assignment
+     */
+    private int findAssignment(final int firstTargetEnd) {
+      final int length = text.length();
+      int i = firstTargetEnd;
+      while (true) {
+        i = skipBlanks(i);
+        if (i >= length) {
+          return -1;
+        }
+        final char c = text.charAt(i);
+        if (c == '=' || c == ':') {
+          return startsWith(text, i + 1, '=') ? -1 : i;
+        }
+        if (c != ',') {
+          return -1;
+        }
+        i = skipBlanks(i + 1);
+        if (i < length && text.charAt(i) == '*') {
+          i++;
+        }
+        if (i >= length || !Character.isUnicodeIdentifierStart(text.charAt(i))) {
+          return -1;
+        }
+        while (i < length && Character.isUnicodeIdentifierPart(text.charAt(i))) {
+          i++;
+        }
+      }
+    }
+
+    private int skipBlanks(final int from) {
+      int i = from;
+      while (i < text.length() && (text.charAt(i) == ' ' || text.charAt(i) == '\t')) {
+        i++;
+      }
+      return i;
+    }
+
+    private boolean isFinalAnnotation(final int targetsEnd) {
+      int i = SourceScanner.skipWhitespace(text, targetsEnd + 1);
+      if (matchesAt(i, "typing.")) {
+        i += "typing.".length();
+      }
+      return matchesAt(i, FINAL)
+          && (i + FINAL.length() == text.length()
+              || !Character.isUnicodeIdentifierPart(text.charAt(i + FINAL.length())));
+    }
+
+    private void onKeyword(final String keyword, final int end) {
+      flushReference();
+      switch (keyword) {
+        case "class" -> state = CLASS_NAME;
+        case "def" -> state = FUNCTION_NAME;
+        case "import", "global", "nonlocal" -> state = SKIP;
+        case "from" -> state = state == STATEMENT ? SKIP : EXPRESSION;
+        case "as" -> state = AS_NAME;
+        case "for" -> openTargets(find(end, " in "));
+        case "lambda" -> openTargets(find(end, ":"));
+        case "async" -> {
+          // async def, async for, async with
+        }
+        default -> state = EXPRESSION;
+      }
+    }
+
+    private int onSymbol(final char c, final int i) {
+      dotBefore = false;
+      if (state == SKIP) {
+        switch (c) {
+          case '(' -> bracketDepth++;
+          case ')' -> bracketDepth = Math.max(0, bracketDepth - 1);
+          case ';' -> endStatement();
+          default -> {
+            // skipped
+          }
+        }
+        return i + 1;
+      }
+      final char next = i + 1 < text.length() ? text.charAt(i + 1) : 0;
+      switch (c) {
+        case '.' -> {
+          if (state != ANNOTATION) {
+            flushReference();
+            if (state != TARGETS) {
+              state = EXPRESSION;
+            }
+          }
+          dotBefore = true;
+        }
+        case '(', '[', '{' -> {
+          if (pendingStart >= 0) {
+            emitPending(c == '(' ? METHOD : VARIABLE, false);
+          }
+          bracketDepth++;
+          if (state != ANNOTATION && state != TARGETS && state != BASES) {
+            state = bracketDepth == parameterDepth && c == '(' ? PARAMETER : EXPRESSION;
+          }
+        }
+        case ')', ']', '}' -> {
+          flushReference();
+          if (bracketDepth == parameterDepth) {
+            parameterDepth = -1;
+          }
+          if (state == ANNOTATION && bracketDepth == annotationDepth) {
+            state = annotationResume;
+          } else if (state == BASES && bracketDepth == basesDepth) {
+            state = EXPRESSION;
+          }
+          bracketDepth = Math.max(0, bracketDepth - 1);
+        }
+        case ',' -> {
+          flushReference();
+          if (state == TARGETS || state == BASES) {
+            break;
+          }
+          if (bracketDepth == parameterDepth) {
+            state = PARAMETER;
+          } else if (state != ANNOTATION || bracketDepth == annotationDepth) {
+            state = EXPRESSION;
+          }
+        }
+        case ':' -> onColon(next);
+        case '=' -> {
+          flushReference();
+          state = EXPRESSION;
+          if (next == '=') {
+            return i + 2;
+          }
+        }
+        case '-' -> {
+          flushReference();
+          if (next == '>') {
+            // return annotation
+            openAnnotation(EXPRESSION);
+            return i + 2;
+          }
+          state = EXPRESSION;
+        }
+        case '@' -> {
+          flushReference();
+          decoratorNext = state == STATEMENT;
+          state = EXPRESSION;
+        }
+        case ';' -> endStatement();
+        case '*', '/' -> {
+          // unpacking and positional-only markers of parameter lists
+          if (state != PARAMETER && state != TARGETS) {
+            onOperator();
+          }
+        }
+        default -> onOperator();
+      }
+      return i + 1;
+    }
+
+    private void onColon(final char next) {
+      flushReference();
+      if (next == '=') {
+        // walrus operator
+        state = EXPRESSION;
+        return;
+      }
+      if (state == TARGETS && annotatedAssignment) {
+        // annotated assignment
+        openAnnotation(EXPRESSION);
+        return;
+      }
+      if (bracketDepth == parameterDepth && parameterDepth >= 0) {
+        // parameter annotation
+        openAnnotation(EXPRESSION);
+        return;
+      }
+      if (bracketDepth == 0) {
+        // end of a compound statement header: a simple statement may follow on the same line
+        state = STATEMENT;
+      } else {
+        state = EXPRESSION;
+      }
+    }
+
+    private void onOperator() {
+      flushReference();
+      if (state != ANNOTATION) {
+        state = EXPRESSION;
+      }
+    }
+
+    private void openAnnotation(final int resume) {
+      annotationDepth = bracketDepth;
+      annotationResume = resume;
+      state = ANNOTATION;
+    }
+
+    private void endStatement() {
+      flushReference();
+      state = STATEMENT;
+      parameterDepth = -1;
+      targetsEnd = -1;
+      annotatedAssignment = false;
+      selfAttribute = false;
+      decoratorNext = false;
+    }
+
+    private void openBlock(final byte block) {
+      if (depth == blocks.length) {
+        blocks = Arrays.copyOf(blocks, depth * 2);
+        blockIndents = Arrays.copyOf(blockIndents, depth * 2);
+      }
+      blocks[depth] = block;
+      blockIndents[depth++] = lineIndent;
+    }
+
+    private IdentifierKind blockKind() {
+      return depth > 0 && blocks[depth - 1] == CLASS ? FIELD : VARIABLE;
+    }
+
+    private void openTargets(final int end) {
+      targetsEnd = end;
+      targetsKind = VARIABLE;
+      annotatedAssignment = false;
+      state = TARGETS;
+    }
+
+    /**
+     * Finds the given delimiter, the search stops at the end of the logical line.
+     *
+     * @return the index of the delimiter or of the end of the line
+     */
+    private int find(final int from, final String delimiter) {
+      final int length = text.length();
+      int brackets = bracketDepth;
+      for (int i = from; i < length; i++) {
+        final char c = text.charAt(i);
+        if (c == '\n' && brackets == 0) {
+          return i;
+        } else if (c == '(' || c == '[' || c == '{') {
+          brackets++;
+        } else if (c == ')' || c == ']' || c == '}') {
+          brackets--;
+        } else if (matchesAt(i, delimiter)) {
+          return i;
+        }
+      }
+      return length;
+    }
+
+    private boolean matchesAt(final int at, final String word) {
+      if (at + word.length() > text.length()) {
+        return false;
+      }
+      for (int i = 0; i < word.length(); i++) {
+        if (text.charAt(at + i) != word.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean matches(final int start, final int end, final String word) {
+      return end - start == word.length() && matchesAt(start, word);
+    }
+
+    private void setPending(final int start, final int end, final boolean afterDot) {
+      pendingStart = start;
+      pendingEnd = end;
+      pendingAfterDot = afterDot;
+    }
+
+    /** Emits the pending word, if any, as a reference to an attribute or a variable. */
+    private void flushReference() {
+      if (pendingStart >= 0) {
+        emit(pendingStart, pendingEnd, pendingAfterDot ? FIELD : VARIABLE, false);
+        pendingStart = -1;
+      }
+    }
+
+    private void emitPending(final IdentifierKind kind, final boolean declaration) {
+      emit(pendingStart, pendingEnd, kind, declaration);
+      pendingStart = -1;
+    }
+
+    private void emit(
+        final int start, final int end, final IdentifierKind kind, final boolean declaration) {
+      consumer.accept(text, start, end, kind, declaration);
+      count++;
+    }
+  }
+}
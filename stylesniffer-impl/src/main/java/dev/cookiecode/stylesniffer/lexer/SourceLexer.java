@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * Lexer of a programming language, reporting the identifiers of a source file along with their
+ * {@link IdentifierKind}.
+ *
+ * <p>Unlike a plain token extraction, a lexer skips the keywords, comments and literals of its
+ * language and tells declarations apart from usages. Lexers are hand-written single pass scanners:
+ * they do not build any syntax tree and do not allocate anything per identifier.
+ *
+ * <p>This is a service provider interface: implementations listed in {@code
+ * META-INF/services/dev.cookiecode.stylesniffer.lexer.SourceLexer} are discovered by {@link
+ * SourceLexers}. Implementations must be stateless and thread-safe.
+ *
+ * @author Sebastien Vermeille
+ */
+public interface SourceLexer {
+
+  /**
+   * @return the name of the lexed language, e.g. {@code Java}
+   */
+  String getLanguage();
+
+  /**
+   * @return the extensions (lower case, without the dot) of the files written in this language
+   */
+  Set<String> getFileExtensions();
+
+  /**
+   * Lexes the given source.
+   *
+   * <p>Invalid sources are lexed on a best effort basis, this method never fails because of the
+   * content of the source.
+   *
+   * @param source the complete source file
+   * @param consumer the consumer receiving each identifier
+   * @return the number of identifiers handed to the consumer
+   */
+  int lex(@NonNull CharSequence source, @NonNull LexedIdentifierConsumer consumer);
+}
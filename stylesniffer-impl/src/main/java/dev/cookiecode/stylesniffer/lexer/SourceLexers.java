@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Registry of the {@link SourceLexer}s available on the classpath.
+ *
+ * <p>Lexers are discovered through {@link ServiceLoader} the first time this class is used, the
+ * lookups themselves are plain map reads.
+ *
+ * @author Sebastien Vermeille
+ */
+@UtilityClass
+public final class SourceLexers {
+
+  /**
+   * Returns the lexer handling the given file, based on its extension.
+   *
+   * @param fileName the name (or path) of the file
+   * @return the lexer, or an empty optional if the extension is not supported
+   */
+  public static Optional<SourceLexer> forFileName(@NonNull final String fileName) {
+    final int dot = fileName.lastIndexOf('.');
+    if (dot < 0 || dot < Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\'))) {
+      return Optional.empty();
+    }
+    final var extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    return Optional.ofNullable(Registry.BY_EXTENSION.get(extension));
+  }
+
+  /**
+   * Returns the lexer of the given language.
+   *
+   * @param language the language name, as returned by {@link SourceLexer#getLanguage()}, the case
+   *     is ignored
+   * @return the lexer, or an empty optional if the language is not supported
+   */
+  public static Optional<SourceLexer> forLanguage(@NonNull final String language) {
+    return Optional.ofNullable(Registry.BY_LANGUAGE.get(language.toLowerCase(Locale.ROOT)));
+  }
+
+  /**
+   * Returns the names of the supported languages.
+   *
+   * @return the language names, in discovery order
+   */
+  public static Set<String> getSupportedLanguages() {
+    return Registry.LANGUAGES;
+  }
+
+  /** Lazily initialized holder of the discovered lexers. */
+  private static final class Registry {
+
+    private static final Map<String, SourceLexer> BY_EXTENSION;
+    private static final Map<String, SourceLexer> BY_LANGUAGE;
+    private static final Set<String> LANGUAGES;
+
+    static {
+      final var byExtension = new LinkedHashMap<String, SourceLexer>();
+      final var byLanguage = new LinkedHashMap<String, SourceLexer>();
+      final var languages = new LinkedHashSet<String>();
+      final var loader = ServiceLoader.load(SourceLexer.class, SourceLexer.class.getClassLoader());
+      for (final var lexer : loader) {
+        // the first lexer discovered for a language or an extension wins
+        byLanguage.putIfAbsent(lexer.getLanguage().toLowerCase(Locale.ROOT), lexer);
+        languages.add(lexer.getLanguage());
+        for (final var extension : lexer.getFileExtensions()) {
+          byExtension.putIfAbsent(extension.toLowerCase(Locale.ROOT), lexer);
+        }
+      }
+      BY_EXTENSION = unmodifiableMap(byExtension);
+      BY_LANGUAGE = unmodifiableMap(byLanguage);
+      LANGUAGES = unmodifiableSet(languages);
+    }
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+/**
+ * Character level helpers shared by the {@link SourceLexer} implementations: skipping comments and
+ * literals, scanning words and peeking ahead.
+ *
+ * <p>All the methods take the index of the first character to examine and return the index of the
+ * first character that has not been consumed. Unterminated comments and literals end at the end of
+ * the source, never with an exception.
+ *
+ * @author Sebastien Vermeille
+ */
+final class SourceScanner {
+
+  private SourceScanner() {
+    // utility class
+  }
+
+  /**
+   * Skips a line comment, the line feed ending it is not consumed.
+   *
+   * @param text the source
+   * @param from the index following the comment opener
+   * @return the index of the line feed ending the comment, or the length of the source
+   */
+  static int skipLineComment(final CharSequence text, final int from) {
+    final int length = text.length();
+    int i = from;
+    while (i < length && text.charAt(i) != '\n') {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Skips a {@code /* ... *&#47;} block comment.
+   *
+   * @param text the source
+   * @param from the index following the {@code /*} opener
+   * @param nested {@code true} if block comments nest (Kotlin), {@code false} otherwise
+   * @return the index following the comment
+   */
+  static int skipBlockComment(final CharSequence text, final int from, final boolean nested) {
+    final int length = text.length();
+    int depth = 1;
+    int i = from;
+    while (i + 1 < length) {
+      final char c = text.charAt(i);
+      if (c == '*' && text.charAt(i + 1) == '/') {
+        i += 2;
+        if (--depth == 0) {
+          return i;
+        }
+      } else if (nested && c == '/' && text.charAt(i + 1) == '*') {
+        i += 2;
+        depth++;
+      } else {
+        i++;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Skips a single line quoted literal. An unterminated literal ends at the end of its line.
+   *
+   * @param text the source
+   * @param from the index following the opening quote
+   * @param quote the closing quote
+   * @param backslashEscapes {@code true} if a backslash escapes the next character
+   * @return the index following the closing quote
+   */
+  static int skipQuoted(
+      final CharSequence text, final int from, final char quote, final boolean backslashEscapes) {
+    final int length = text.length();
+    int i = from;
+    while (i < length) {
+      final char c = text.charAt(i);
+      if (c == quote) {
+        return i + 1;
+      }
+      if (c == '\n') {
+        return i;
+      }
+      i += backslashEscapes && c == '\\' ? 2 : 1;
+    }
+    return length;
+  }
+
+  /**
+   * Skips a literal delimited by three quotes ({@code """} text blocks, Python triple-quoted
+   * strings, Kotlin raw strings).
+   *
+   * @param text the source
+   * @param from the index following the three opening quotes
+   * @param quote the quote character
+   * @param backslashEscapes {@code true} if a backslash escapes the next character
+   * @return the index following the three closing quotes
+   */
+  static int skipTripleQuoted(
+      final CharSequence text, final int from, final char quote, final boolean backslashEscapes) {
+    final int length = text.length();
+    int i = from;
+    while (i < length) {
+      final char c = text.charAt(i);
+      if (c == quote && startsWith(text, i + 1, quote, quote)) {
+        return i + 3;
+      }
+      i += backslashEscapes && c == '\\' ? 2 : 1;
+    }
+    return length;
+  }
+
+  /**
+   * Skips a template literal whose {@code ${...}} placeholders may themselves contain literals
+   * (JavaScript template literals, Kotlin strings).
+   *
+   * @param text the source
+   * @param from the index following the opening quote(s)
+   * @param quote the quote character
+   * @param triple {@code true} if the literal is delimited by three quotes, without escapes
+   * @param multiline {@code true} if the literal may span several lines
+   * @return the index following the closing quote(s)
+   */
+  static int skipTemplate(
+      final CharSequence text,
+      final int from,
+      final char quote,
+      final boolean triple,
+      final boolean multiline) {
+    final int length = text.length();
+    int i = from;
+    while (i < length) {
+      final char c = text.charAt(i);
+      if (c == quote && (!triple || startsWith(text, i + 1, quote, quote))) {
+        return i + (triple ? 3 : 1);
+      } else if (c == '\\' && !triple) {
+        i += 2;
+      } else if (c == '$' && i + 1 < length && text.charAt(i + 1) == '{') {
+        i = skipPlaceholder(text, i + 2, quote, multiline);
+      } else if (c == '\n' && !triple && !multiline) {
+        return i;
+      } else {
+        i++;
+      }
+    }
+    return length;
+  }
+
+  private static int skipPlaceholder(
+      final CharSequence text, final int from, final char quote, final boolean multiline) {
+    final int length = text.length();
+    int depth = 1;
+    int i = from;
+    while (i < length) {
+      final char c = text.charAt(i);
+      if (c == '}' && --depth == 0) {
+        return i + 1;
+      } else if (c == '{') {
+        depth++;
+      } else if (c == quote) {
+        i = skipTemplate(text, i + 1, quote, false, multiline);
+        continue;
+      } else if (c == '"' || c == '\'') {
+        i = skipQuoted(text, i + 1, c, true);
+        continue;
+      }
+      i++;
+    }
+    return length;
+  }
+
+  /**
+   * Skips a number literal, including its radix prefix, digit separators, fraction, exponent and
+   * type suffix. A dot is only part of the number if it is followed by a digit, so that ranges
+   * ({@code 1..10}) and member accesses are preserved.
+   *
+   * @param text the source
+   * @param from the index of the first digit
+   * @return the index following the number
+   */
+  static int skipNumber(final CharSequence text, final int from) {
+    final int length = text.length();
+    int i = from;
+    while (i < length) {
+      final char c = text.charAt(i);
+      if (Character.isLetterOrDigit(c) || c == '_') {
+        i++;
+      } else if ((c == '+' || c == '-') && isExponent(text.charAt(i - 1), text, from)) {
+        i++;
+      } else if (c == '.' && i + 1 < length && isDigit(text.charAt(i + 1))) {
+        i++;
+      } else {
+        break;
+      }
+    }
+    return i;
+  }
+
+  private static boolean isExponent(final char previous, final CharSequence text, final int from) {
+    final boolean hex = from + 1 < text.length() && (text.charAt(from + 1) | 0x20) == 'x';
+    return (previous | 0x20) == (hex ? 'p' : 'e');
+  }
+
+  /**
+   * Scans a Java-like identifier (letters, digits, {@code _} and {@code $}).
+   *
+   * @param text the source
+   * @param from the index following the first character of the identifier
+   * @return the index following the identifier
+   */
+  static int scanIdentifier(final CharSequence text, final int from) {
+    final int length = text.length();
+    int i = from;
+    while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Returns the index of the first non whitespace character.
+   *
+   * @param text the source
+   * @param from the index to start from
+   * @return the index of the first non whitespace character, or the length of the source
+   */
+  static int skipWhitespace(final CharSequence text, final int from) {
+    final int length = text.length();
+    int i = from;
+    while (i < length && text.charAt(i) <= ' ') {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Returns the first non whitespace character, comments are not skipped.
+   *
+   * @param text the source
+   * @param from the index to start from
+   * @return the first non whitespace character, or {@code 0} at the end of the source
+   */
+  static char peek(final CharSequence text, final int from) {
+    final int i = skipWhitespace(text, from);
+    return i < text.length() ? text.charAt(i) : 0;
+  }
+
+  /**
+   * Returns the first character that is not a space or a tab, the lookahead stops at line feeds.
+   *
+   * @param text the source
+   * @param from the index to start from
+   * @return the first character that is not a space or a tab, or {@code 0} at the end of the source
+   */
+  static char peekOnLine(final CharSequence text, final int from) {
+    final int length = text.length();
+    int i = from;
+    while (i < length && (text.charAt(i) == ' ' || text.charAt(i) == '\t')) {
+      i++;
+    }
+    return i < length ? text.charAt(i) : 0;
+  }
+
+  static boolean startsWith(final CharSequence text, final int at, final char first) {
+    return at < text.length() && text.charAt(at) == first;
+  }
+
+  static boolean startsWith(
+      final CharSequence text, final int at, final char first, final char second) {
+    return at + 1 < text.length() && text.charAt(at) == first && text.charAt(at + 1) == second;
+  }
+
+  static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -0,0 +1,732 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.isDigit;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.peek;
+import static dev.cookiecode.stylesniffer.lexer.SourceScanner.startsWith;
+
+import java.util.Arrays;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * {@link SourceLexer} for SQL scripts.
+ *
+ * <p>The lexer understands the common subset of the SQL dialects. Tables, views, user defined types
+ * and common table expressions are {@link IdentifierKind#TYPE types}, columns and column aliases
+ * are {@link IdentifierKind#FIELD fields}, functions, procedures and triggers are {@link
+ * IdentifierKind#METHOD methods}, table aliases, parameters and variables are {@link
+ * IdentifierKind#VARIABLE variables}.
+ *
+ * <p>Keywords and built-in data types are recognized regardless of their case. Quoted identifiers
+ * ({@code "name"} and {@code `name`}) are reported without their quotes. String literals, including
+ * dollar-quoted bodies, are skipped.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class SqlSourceLexer implements SourceLexer {
+
+  private static final KeywordSet KEYWORDS =
+      KeywordSet.ofIgnoringCase(
+          // statements and clauses
+          "add",
+          "after",
+          "all",
+          "alter",
+          "and",
+          "any",
+          "as",
+          "asc",
+          "before",
+          "begin",
+          "between",
+          "by",
+          "call",
+          "cascade",
+          "case",
+          "cast",
+          "check",
+          "collate",
+          "column",
+          "commit",
+          "constraint",
+          "create",
+          "cross",
+          "current_date",
+          "current_time",
+          "current_timestamp",
+          "declare",
+          "default",
+          "delete",
+          "desc",
+          "distinct",
+          "drop",
+          "each",
+          "else",
+          "end",
+          "except",
+          "exec",
+          "execute",
+          "exists",
+          "false",
+          "fetch",
+          "for",
+          "foreign",
+          "from",
+          "full",
+          "function",
+          "global",
+          "grant",
+          "group",
+          "having",
+          "if",
+          "ilike",
+          "in",
+          "index",
+          "inner",
+          "inout",
+          "insert",
+          "intersect",
+          "interval",
+          "into",
+          "is",
+          "join",
+          "key",
+          "language",
+          "lateral",
+          "left",
+          "like",
+          "limit",
+          "local",
+          "materialized",
+          "natural",
+          "not",
+          "null",
+          "of",
+          "offset",
+          "on",
+          "only",
+          "or",
+          "order",
+          "out",
+          "outer",
+          "over",
+          "partition",
+          "primary",
+          "procedure",
+          "recursive",
+          "references",
+          "replace",
+          "restrict",
+          "return",
+          "returning",
+          "returns",
+          "revoke",
+          "right",
+          "rollback",
+          "select",
+          "set",
+          "table",
+          "temp",
+          "temporary",
+          "then",
+          "to",
+          "trigger",
+          "true",
+          "truncate",
+          "type",
+          "union",
+          "unique",
+          "unlogged",
+          "update",
+          "using",
+          "values",
+          "view",
+          "when",
+          "where",
+          "with",
+          "without",
+          // built-in data types
+          "bigint",
+          "bigserial",
+          "binary",
+          "bit",
+          "blob",
+          "bool",
+          "boolean",
+          "bytea",
+          "char",
+          "character",
+          "clob",
+          "date",
+          "datetime",
+          "decimal",
+          "double",
+          "float",
+          "int",
+          "integer",
+          "json",
+          "jsonb",
+          "money",
+          "nchar",
+          "number",
+          "numeric",
+          "nvarchar",
+          "precision",
+          "real",
+          "serial",
+          "smallint",
+          "text",
+          "time",
+          "timestamp",
+          "timestamptz",
+          "tinyint",
+          "uuid",
+          "varbinary",
+          "varchar",
+          "varchar2",
+          "varying",
+          "xml",
+          "zone");
+
+  // keywords starting a table constraint rather than a column definition
+  private static final KeywordSet CONSTRAINTS =
+      KeywordSet.ofIgnoringCase(
+          "constraint", "primary", "foreign", "unique", "check", "key", "index", "exclude");
+
+  @Override
+  public String getLanguage() {
+    return "SQL";
+  }
+
+  @Override
+  public Set<String> getFileExtensions() {
+    return Set.of("sql");
+  }
+
+  @Override
+  public int lex(
+      @NonNull final CharSequence source, @NonNull final LexedIdentifierConsumer consumer) {
+    return new Scan(source, consumer).run();
+  }
+
+  /** State of a single lexing run. */
+  private static final class Scan {
+
+    // frames: what an opening parenthesis started
+    private static final byte GROUP = 0;
+    private static final byte COLUMNS = 1; // column definitions of CREATE TABLE
+    private static final byte PARAMETERS = 2; // parameters of CREATE FUNCTION
+    private static final byte CAST = 3;
+
+    // clauses: where the current query stands
+    private static final byte NONE = 0;
+    private static final byte SELECT_LIST = 1;
+    private static final byte FROM = 2;
+    private static final byte WITH = 3;
+    private static final byte DECLARE = 4;
+    private static final byte DELETE = 5;
+    private static final byte OTHER = 6;
+
+    // states: what the next word means
+    private static final int STATEMENT = 0;
+    private static final int EXPRESSION = 1;
+    private static final int CREATE = 2;
+    private static final int TYPE_NAME = 3; // CREATE TABLE, VIEW or TYPE
+    private static final int TYPE_BODY = 4; // between a created type name and its columns
+    private static final int METHOD_NAME = 5; // CREATE FUNCTION, PROCEDURE or TRIGGER
+    private static final int METHOD_HEADER = 6; // between a created method name and its parameters
+    private static final int UNREPORTED_NAME = 7; // index names, languages
+    private static final int TABLE_REFERENCE = 8;
+    private static final int ALIAS = 9; // table alias
+    private static final int COLUMN = 10; // column definition
+    private static final int DATA_TYPE = 11; // type of a column, a parameter or a variable
+    private static final int PARAMETER = 12;
+    private static final int COLUMN_ALIAS = 13;
+    private static final int TYPE_REFERENCE = 14;
+    private static final int CTE_NAME = 15;
+    private static final int VARIABLE_NAME = 16;
+    private static final int CALL = 17;
+    private static final int SKIP = 18; // table constraint
+
+    private final CharSequence text;
+    private final LexedIdentifierConsumer consumer;
+    private int count;
+
+    private byte[] frames = new byte[16];
+    private byte[] savedClauses = new byte[16];
+    private int[] savedStates = new int[16];
+    private int depth;
+
+    private int state = STATEMENT;
+    private byte clause = NONE;
+    private String lastKeyword;
+    private boolean onTable; // CREATE INDEX and CREATE TRIGGER: ON introduces a table
+    private boolean castNext;
+
+    Scan(final CharSequence text, final LexedIdentifierConsumer consumer) {
+      this.text = text;
+      this.consumer = consumer;
+    }
+
+    int run() {
+      final int length = text.length();
+      int i = 0;
+      while (i < length) {
+        final char c = text.charAt(i);
+        if (c <= ' ') {
+          i++;
+        } else if (c == '-' && startsWith(text, i + 1, '-')) {
+          i = SourceScanner.skipLineComment(text, i + 2);
+        } else if (c == '/' && startsWith(text, i + 1, '*')) {
+          i = SourceScanner.skipBlockComment(text, i + 2, false);
+        } else if (c == '\'') {
+          onLiteral();
+          i = SourceScanner.skipQuoted(text, i + 1, c, false);
+        } else if (c == '"' || c == '`') {
+          final int end = SourceScanner.skipQuoted(text, i + 1, c, false);
+          if (end - i > 2 && text.charAt(end - 1) == c) {
+            onWord(i + 1, end - 1, end, true);
+          }
+          i = end;
+        } else if (c == '$') {
+          i = onDollar(i);
+        } else if (Character.isJavaIdentifierStart(c)) {
+          final int end = SourceScanner.scanIdentifier(text, i + 1);
+          onWord(i, end, end, false);
+          i = end;
+        } else if (isDigit(c)) {
+          onLiteral();
+          i = SourceScanner.skipNumber(text, i);
+        } else {
+          i = onSymbol(c, i);
+        }
+      }
+      return count;
+    }
+
+    /** Skips a positional parameter ({@code $1}) or a dollar-quoted string ({@code $$...$$}). */
+    private int onDollar(final int start) {
+      final int length = text.length();
+      int tagEnd = start + 1;
+      while (tagEnd < length && Character.isJavaIdentifierPart(text.charAt(tagEnd))) {
+        if (text.charAt(tagEnd) == '$') {
+          break;
+        }
+        tagEnd++;
+      }
+      if (tagEnd >= length || text.charAt(tagEnd) != '$') {
+        onLiteral();
+        return tagEnd;
+      }
+      onLiteral();
+      final int tagLength = tagEnd + 1 - start;
+      for (int i = tagEnd + 1; i + tagLength <= length; i++) {
+        if (text.charAt(i) == '$' && regionMatches(i, start, tagLength)) {
+          return i + tagLength;
+        }
+      }
+      return length;
+    }
+
+    private boolean regionMatches(final int at, final int other, final int length) {
+      for (int i = 0; i < length; i++) {
+        if (text.charAt(at + i) != text.charAt(other + i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void onLiteral() {
+      if (state != SKIP) {
+        state = EXPRESSION;
+      }
+    }
+
+    private void onWord(final int start, final int end, final int after, final boolean quoted) {
+      if (state == SKIP) {
+        return;
+      }
+      if (state == COLUMN) {
+        onColumn(start, end, quoted);
+        return;
+      }
+      final String keyword = quoted ? null : KEYWORDS.find(text, start, end);
+      if (keyword != null) {
+        onKeyword(keyword);
+        lastKeyword = keyword;
+        return;
+      }
+      lastKeyword = null;
+      final char next = peek(text, after);
+      switch (state) {
+        case TYPE_NAME -> {
+          if (next != '.') {
+            emit(start, end, TYPE, true);
+            state = TYPE_BODY;
+          }
+        }
+        case METHOD_NAME -> {
+          if (next != '.') {
+            emit(start, end, METHOD, true);
+            state = METHOD_HEADER;
+          }
+        }
+        case UNREPORTED_NAME -> state = EXPRESSION;
+        case TABLE_REFERENCE -> {
+          // the schema of a qualified table name is not reported
+          if (next != '.') {
+            emit(start, end, TYPE, false);
+            state = ALIAS;
+          }
+        }
+        case ALIAS -> {
+          emit(start, end, VARIABLE, true);
+          state = EXPRESSION;
+        }
+        case PARAMETER, VARIABLE_NAME -> {
+          emit(start, end, VARIABLE, true);
+          state = DATA_TYPE;
+        }
+        case DATA_TYPE, TYPE_REFERENCE -> {
+          emit(start, end, TYPE, false);
+          state = EXPRESSION;
+        }
+        case COLUMN_ALIAS -> {
+          emit(start, end, FIELD, true);
+          state = EXPRESSION;
+        }
+        case CTE_NAME -> {
+          emit(start, end, TYPE, true);
+          state = EXPRESSION;
+        }
+        case CALL -> {
+          if (next != '.') {
+            emit(start, end, METHOD, false);
+            state = EXPRESSION;
+          }
+        }
+        default -> {
+          // column, unless qualifying something or called
+          final IdentifierKind kind = next == '(' ? METHOD : next == '.' ? VARIABLE : FIELD;
+          emit(start, end, kind, false);
+          state = EXPRESSION;
+        }
+      }
+    }
+
+    private void onColumn(final int start, final int end, final boolean quoted) {
+      if (!quoted && CONSTRAINTS.contains(text, start, end)) {
+        state = SKIP;
+      } else if (quoted || !"column".equals(KEYWORDS.find(text, start, end))) {
+        // column names are often keywords (type, date, key...), they are reported anyway
+        emit(start, end, FIELD, true);
+        state = DATA_TYPE;
+      }
+    }
+
+    private void onKeyword(final String keyword) {
+      switch (keyword) {
+        case "select" -> {
+          clause = SELECT_LIST;
+          state = EXPRESSION;
+        }
+        case "delete" -> {
+          clause = DELETE;
+          state = EXPRESSION;
+        }
+        case "from" -> {
+          // not the FROM of EXTRACT(... FROM ...) or SUBSTRING(... FROM ...)
+          if (clause == SELECT_LIST || clause == DELETE || clause == FROM) {
+            clause = FROM;
+            state = TABLE_REFERENCE;
+          } else {
+            state = EXPRESSION;
+          }
+        }
+        case "join" -> {
+          clause = FROM;
+          state = TABLE_REFERENCE;
+        }
+        case "into", "references", "truncate" -> {
+          clause = OTHER;
+          state = TABLE_REFERENCE;
+        }
+        case "update" -> {
+          // not ON UPDATE nor FOR UPDATE
+          if (!"on".equals(lastKeyword) && !"for".equals(lastKeyword)) {
+            clause = OTHER;
+            state = TABLE_REFERENCE;
+          }
+        }
+        case "table" -> {
+          if (state == CREATE) {
+            state = TYPE_NAME;
+          } else if (state == DATA_TYPE) {
+            // RETURNS TABLE (...)
+            state = TYPE_BODY;
+          } else {
+            state = TABLE_REFERENCE;
+          }
+        }
+        case "view", "type" -> state = state == CREATE ? TYPE_NAME : EXPRESSION;
+        case "function", "procedure", "trigger" -> {
+          if (state == CREATE) {
+            onTable = "trigger".equals(keyword);
+            state = METHOD_NAME;
+          } else {
+            state = EXPRESSION;
+          }
+        }
+        case "index" -> {
+          if (state == CREATE) {
+            onTable = true;
+            state = UNREPORTED_NAME;
+          } else {
+            state = EXPRESSION;
+          }
+        }
+        case "create" -> state = CREATE;
+        case "language" -> state = UNREPORTED_NAME;
+        case "or",
+            "replace",
+            "temporary",
+            "temp",
+            "unique",
+            "materialized",
+            "global",
+            "local",
+            "unlogged" -> {
+          if (state != CREATE) {
+            state = EXPRESSION;
+          }
+        }
+        case "if", "not", "exists", "only", "lateral", "recursive", "column" -> {
+          // modifiers of the name that follows
+          if (state == EXPRESSION || state == DATA_TYPE || state == ALIAS) {
+            state = EXPRESSION;
+          }
+        }
+        case "on" -> {
+          if (onTable) {
+            onTable = false;
+            state = TABLE_REFERENCE;
+          } else {
+            // join conditions stay within the FROM clause
+            if (clause != FROM) {
+              clause = OTHER;
+            }
+            state = EXPRESSION;
+          }
+        }
+        case "as" -> onAs();
+        case "with" -> {
+          // not TIMESTAMP WITH TIME ZONE
+          if (state == STATEMENT) {
+            clause = WITH;
+            state = CTE_NAME;
+          }
+        }
+        case "declare" -> {
+          clause = DECLARE;
+          state = VARIABLE_NAME;
+        }
+        case "add" -> state = COLUMN;
+        case "returns" -> state = DATA_TYPE;
+        case "cast" -> {
+          castNext = true;
+          state = EXPRESSION;
+        }
+        case "call", "exec", "execute" -> state = CALL;
+        case "in", "out", "inout" -> {
+          if (state != PARAMETER) {
+            state = EXPRESSION;
+          }
+        }
+        case "begin" -> {
+          clause = NONE;
+          state = STATEMENT;
+        }
+        case "union", "intersect", "except" -> {
+          clause = NONE;
+          state = EXPRESSION;
+        }
+        case "where", "group", "order", "having", "set", "values", "limit", "returning" -> {
+          clause = OTHER;
+          state = EXPRESSION;
+        }
+        default -> state = EXPRESSION;
+      }
+    }
+
+    private void onAs() {
+      if (depth > 0 && frames[depth - 1] == CAST) {
+        state = TYPE_REFERENCE;
+      } else if (state == ALIAS || clause == FROM) {
+        state = ALIAS;
+      } else if (clause == SELECT_LIST) {
+        state = COLUMN_ALIAS;
+      } else {
+        state = EXPRESSION;
+      }
+    }
+
+    private int onSymbol(final char c, final int i) {
+      lastKeyword = null;
+      final char next = i + 1 < text.length() ? text.charAt(i + 1) : 0;
+      switch (c) {
+        case '(' -> onOpenParenthesis();
+        case ')' -> onCloseParenthesis();
+        case ',' -> onComma();
+        case ';' -> {
+          depth = 0;
+          clause = NONE;
+          state = STATEMENT;
+          onTable = false;
+          castNext = false;
+        }
+        case '.' -> {
+          // qualified names keep the current state
+        }
+        case ':' -> {
+          if (next == ':') {
+            // PostgreSQL cast: value::type
+            if (state != SKIP) {
+              state = TYPE_REFERENCE;
+            }
+            return i + 2;
+          }
+          return onParameter(i, false);
+        }
+        case '@' -> {
+          if (next == '@') {
+            // system variable
+            return SourceScanner.scanIdentifier(text, i + 2);
+          }
+          return onParameter(i, state == VARIABLE_NAME || state == METHOD_HEADER);
+        }
+        default -> {
+          if (state != SKIP) {
+            state = EXPRESSION;
+          }
+        }
+      }
+      return i + 1;
+    }
+
+    /** Reports a bind parameter ({@code :name}) or a variable ({@code @name}). */
+    private int onParameter(final int i, final boolean declaration) {
+      if (i + 1 >= text.length() || !Character.isJavaIdentifierStart(text.charAt(i + 1))) {
+        return i + 1;
+      }
+      final int end = SourceScanner.scanIdentifier(text, i + 2);
+      if (state != SKIP) {
+        emit(i + 1, end, VARIABLE, declaration);
+        if (declaration) {
+          if (state == METHOD_HEADER) {
+            // T-SQL procedure parameters: CREATE PROCEDURE name @first INT, @second INT AS ...
+            clause = DECLARE;
+          }
+          state = DATA_TYPE;
+        } else {
+          state = EXPRESSION;
+        }
+      }
+      return end;
+    }
+
+    private void onOpenParenthesis() {
+      if (state == SKIP) {
+        push(GROUP, SKIP);
+      } else if (state == TYPE_BODY) {
+        push(COLUMNS, EXPRESSION);
+        state = COLUMN;
+      } else if (state == METHOD_HEADER) {
+        push(PARAMETERS, EXPRESSION);
+        state = PARAMETER;
+      } else if (castNext) {
+        castNext = false;
+        push(CAST, EXPRESSION);
+        state = EXPRESSION;
+      } else {
+        // a subquery in a FROM clause may be followed by an alias
+        push(GROUP, state == TABLE_REFERENCE ? ALIAS : EXPRESSION);
+        state = EXPRESSION;
+      }
+    }
+
+    private void onCloseParenthesis() {
+      if (depth == 0) {
+        state = EXPRESSION;
+        return;
+      }
+      depth--;
+      clause = savedClauses[depth];
+      state = savedStates[depth];
+    }
+
+    private void onComma() {
+      final byte frame = depth == 0 ? GROUP : frames[depth - 1];
+      if (frame == COLUMNS) {
+        state = COLUMN;
+      } else if (frame == PARAMETERS) {
+        state = PARAMETER;
+      } else if (state == SKIP) {
+        // still within the skipped table constraint
+      } else if (clause == FROM) {
+        state = TABLE_REFERENCE;
+      } else if (clause == WITH) {
+        state = CTE_NAME;
+      } else if (clause == DECLARE) {
+        state = VARIABLE_NAME;
+      } else {
+        state = EXPRESSION;
+      }
+    }
+
+    private void emit(
+        final int start, final int end, final IdentifierKind kind, final boolean declaration) {
+      consumer.accept(text, start, end, kind, declaration);
+      count++;
+    }
+
+    private void push(final byte frame, final int stateAfterClose) {
+      if (depth == frames.length) {
+        frames = Arrays.copyOf(frames, depth * 2);
+        savedClauses = Arrays.copyOf(savedClauses, depth * 2);
+        savedStates = Arrays.copyOf(savedStates, depth * 2);
+      }
+      frames[depth] = frame;
+      savedClauses[depth] = clause;
+      savedStates[depth] = stateAfterClose;
+      depth++;
+      clause = NONE;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.metrics;
+
+import dev.cookiecode.stylesniffer.IncrementalClassifier;
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import jakarta.annotation.Nullable;
+import java.util.Optional;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * {@link StyleSniffer} decorator recording the classifications into a {@link StyleSnifferMetrics}.
+ *
+ * <p>Only the {@code getCaseStyle} methods are instrumented, the other methods are plain
+ * delegations. When the metrics are disabled, the call goes straight to the delegate: no clock is
+ * read and no counter is touched.
+ *
+ * @author Sebastien Vermeille
+ */
+public class InstrumentedStyleSniffer implements StyleSniffer {
+
+  private final StyleSniffer delegate;
+  private final StyleSnifferMetrics metrics;
+
+  public InstrumentedStyleSniffer(
+      @NonNull final StyleSniffer delegate, @NonNull final StyleSnifferMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Optional<CaseStyle> getCaseStyle(@Nullable final String name) {
+    if (!metrics.isEnabled()) {
+      return delegate.getCaseStyle(name);
+    }
+
+    final long start = System.nanoTime();
+    final var result = delegate.getCaseStyle(name);
+    final long elapsed = System.nanoTime() - start;
+    record(result, result.isEmpty() && (name == null || isBlank(name, 0, name.length())), elapsed);
+    return result;
+  }
+
+  @Override
+  public Optional<CaseStyle> getCaseStyle(
+      @NonNull final CharSequence text, final int start, final int end) {
+    if (!metrics.isEnabled()) {
+      return delegate.getCaseStyle(text, start, end);
+    }
+
+    final long startTime = System.nanoTime();
+    final var result = delegate.getCaseStyle(text, start, end);
+    final long elapsed = System.nanoTime() - startTime;
+    record(result, result.isEmpty() && isBlank(text, start, end), elapsed);
+    return result;
+  }
+
+  private void record(
+      final Optional<CaseStyle> result, final boolean rejectedInput, final long elapsed) {
+    if (result.isPresent()) {
+      metrics.recordHit(result.get(), elapsed);
+    } else if (rejectedInput) {
+      metrics.recordRejectedInput(elapsed);
+    } else {
+      metrics.recordNoMatch(elapsed);
+    }
+  }
+
+  @Override
+  public Optional<CaseStyle> getCaseStyleWithVariantOrName(@Nullable final String variantOrName) {
+    return delegate.getCaseStyleWithVariantOrName(variantOrName);
+  }
+
+  @Override
+  public Set<String> getSupportedCaseStyles() {
+    return delegate.getSupportedCaseStyles();
+  }
+
+  @Override
+  public Set<String> getSupportedCaseStylesIncludingVariants() {
+    return delegate.getSupportedCaseStylesIncludingVariants();
+  }
+
+  @Override
+  public IncrementalClassifier newIncrementalClassifier() {
+    return delegate.newIncrementalClassifier();
+  }
+
+  /**
+   * Mirrors the sanity checks of {@link dev.cookiecode.stylesniffer.StyleSnifferImpl}: blank inputs
+   * (as defined by {@link String#trim()}) are rejected before any case style is evaluated.
+   */
+  private static boolean isBlank(final CharSequence text, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (text.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram using power-of-two nanosecond buckets.
+ *
+ * <p>Bucket {@code i} counts the samples within {@code [2^i, 2^(i+1))} nanoseconds (bucket {@code
+ * 0} also receives samples of {@code 0ns}). Every bucket is backed by a {@link LongAdder} so that
+ * concurrent writers never contend on the same counter; recording a sample is a couple of
+ * arithmetic instructions plus two striped increments.
+ *
+ * <p>The resolution is intentionally coarse (factor 2 between buckets): it is meant to spot
+ * regressions and tail latencies in production, not to benchmark.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class LatencyHistogram {
+
+  static final int BUCKET_COUNT = Long.SIZE;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+  private final LongAdder totalNanos = new LongAdder();
+
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a latency sample. Negative values (clock adjustments) are recorded as {@code 0}.
+   *
+   * @param nanos the measured latency in nanoseconds
+   */
+  public void record(final long nanos) {
+    final long sample = Math.max(0L, nanos);
+    buckets[bucketIndex(sample)].increment();
+    totalNanos.add(sample);
+  }
+
+  /**
+   * Takes a point in time copy of the histogram.
+   *
+   * <p>The snapshot is not atomic with regard to concurrent writers: samples recorded while the
+   * snapshot is taken may or may not be part of it.
+   *
+   * @return the snapshot
+   */
+  public Snapshot snapshot() {
+    final var counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets[i].sum();
+    }
+    return new Snapshot(counts, totalNanos.sum());
+  }
+
+  /** Resets all the buckets. Samples recorded concurrently to a reset may be lost. */
+  public void reset() {
+    for (final var bucket : buckets) {
+      bucket.reset();
+    }
+    totalNanos.reset();
+  }
+
+  static int bucketIndex(final long nanos) {
+    return nanos == 0 ? 0 : (Long.SIZE - 1) - Long.numberOfLeadingZeros(nanos);
+  }
+
+  static long bucketUpperBound(final int index) {
+    return index >= Long.SIZE - 2 ? Long.MAX_VALUE : (1L << (index + 1)) - 1;
+  }
+
+  /**
+   * Immutable copy of a {@link LatencyHistogram}.
+   *
+   * @param bucketCounts the number of samples per power-of-two bucket
+   * @param totalNanos the sum of all the recorded samples
+   */
+  public record Snapshot(long[] bucketCounts, long totalNanos) {
+
+    public Snapshot {
+      bucketCounts = bucketCounts.clone();
+    }
+
+    @Override
+    public long[] bucketCounts() {
+      return bucketCounts.clone();
+    }
+
+    /**
+     * Returns the number of samples in this snapshot.
+     *
+     * @return the number of samples
+     */
+    public long count() {
+      return Arrays.stream(bucketCounts).sum();
+    }
+
+    /**
+     * Returns the mean latency of this snapshot.
+     *
+     * @return the mean latency in nanoseconds, or {@code 0} if no sample was recorded
+     */
+    public double meanNanos() {
+      final long count = count();
+      return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile.
+     *
+     * <p>Since samples are grouped into power-of-two buckets, the returned value is the upper bound
+     * of the bucket containing the requested rank.
+     *
+     * @param percentile the percentile to compute, between {@code 0} and {@code 100}
+     * @return the upper bound of the percentile in nanoseconds, or {@code 0} if no sample was
+     *     recorded
+     */
+    public long percentileNanos(final double percentile) {
+      if (percentile < 0 || percentile > 100) {
+        throw new IllegalArgumentException("Percentile must be within [0, 100]: " + percentile);
+      }
+      final long count = count();
+      if (count == 0) {
+        return 0;
+      }
+      final long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100));
+      long seen = 0;
+      for (int i = 0; i < bucketCounts.length; i++) {
+        seen += bucketCounts[i];
+        if (seen >= rank) {
+          return bucketUpperBound(i);
+        }
+      }
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof Snapshot snapshot
+          && totalNanos == snapshot.totalNanos
+          && Arrays.equals(bucketCounts, snapshot.bucketCounts);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Arrays.hashCode(bucketCounts) + Long.hashCode(totalNanos);
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot[count=" + count() + ", totalNanos=" + totalNanos + "]";
+    }
+  }
+}
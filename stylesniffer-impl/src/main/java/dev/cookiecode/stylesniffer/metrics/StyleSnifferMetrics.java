@@ -0,0 +1,203 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.metrics;
+
+import static java.util.stream.Collectors.toMap;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import lombok.NonNull;
+
+/**
+ * Collects the runtime metrics of a {@link dev.cookiecode.stylesniffer.StyleSniffer}.
+ *
+ * <p>All the counters are backed by {@link LongAdder}s so that recording from many threads does not
+ * create contention. Values are only aggregated when they are pulled, either through {@link
+ * #snapshot()} or through JMX once {@link #registerMBean()} has been called.
+ *
+ * <p>Metrics are recorded by an {@link InstrumentedStyleSniffer}. When {@link #setEnabled(boolean)
+ * disabled}, the instrumented sniffer bypasses the recording entirely.
+ *
+ * @author Sebastien Vermeille
+ */
+public class StyleSnifferMetrics implements StyleSnifferMetricsMXBean {
+
+  static final String DEFAULT_OBJECT_NAME = "dev.cookiecode.stylesniffer:type=StyleSnifferMetrics";
+
+  private final Map<String, LongAdder> hitsByStyle = new ConcurrentHashMap<>();
+  private final LongAdder noMatches = new LongAdder();
+  private final LongAdder rejectedInputs = new LongAdder();
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  private volatile boolean enabled = true;
+
+  /**
+   * Records a classification that matched the given case style.
+   *
+   * @param caseStyle the matching case style
+   * @param nanos the classification latency in nanoseconds
+   */
+  public void recordHit(@NonNull final CaseStyle caseStyle, final long nanos) {
+    final var name = caseStyle.getName();
+    var counter = hitsByStyle.get(name);
+    if (counter == null) {
+      counter = hitsByStyle.computeIfAbsent(name, key -> new LongAdder());
+    }
+    counter.increment();
+    latency.record(nanos);
+  }
+
+  /**
+   * Records a classification of a valid input that did not match any case style.
+   *
+   * @param nanos the classification latency in nanoseconds
+   */
+  public void recordNoMatch(final long nanos) {
+    noMatches.increment();
+    latency.record(nanos);
+  }
+
+  /**
+   * Records an input rejected by the sanity checks ({@code null} or blank input).
+   *
+   * @param nanos the classification latency in nanoseconds
+   */
+  public void recordRejectedInput(final long nanos) {
+    rejectedInputs.increment();
+    latency.record(nanos);
+  }
+
+  /**
+   * Takes a point in time copy of all the metrics.
+   *
+   * @return the snapshot
+   */
+  public StyleSnifferMetricsSnapshot snapshot() {
+    return new StyleSnifferMetricsSnapshot(
+        getHitCountsByStyle(), noMatches.sum(), rejectedInputs.sum(), latency.snapshot());
+  }
+
+  /**
+   * Registers this instance in the platform MBean server using the default object name {@value
+   * #DEFAULT_OBJECT_NAME}.
+   *
+   * @return the object name under which the MBean has been registered
+   * @throws StyleSnifferException if the registration fails
+   */
+  public ObjectName registerMBean() {
+    return registerMBean(DEFAULT_OBJECT_NAME);
+  }
+
+  /**
+   * Registers this instance in the platform MBean server.
+   *
+   * @param objectName the object name to use, it must be unique within the JVM
+   * @return the object name under which the MBean has been registered
+   * @throws StyleSnifferException if the registration fails
+   */
+  public ObjectName registerMBean(@NonNull final String objectName) {
+    try {
+      final var name = new ObjectName(objectName);
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+      return name;
+    } catch (JMException e) {
+      throw new StyleSnifferException(
+          String.format("Cannot register the metrics MBean %s", objectName), e);
+    }
+  }
+
+  /**
+   * Removes the given MBean from the platform MBean server.
+   *
+   * @param objectName the object name returned by {@link #registerMBean(String)}
+   * @throws StyleSnifferException if the MBean cannot be unregistered
+   */
+  public void unregisterMBean(@NonNull final ObjectName objectName) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    } catch (JMException e) {
+      throw new StyleSnifferException(
+          String.format("Cannot unregister the metrics MBean %s", objectName), e);
+    }
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  public Map<String, Long> getHitCountsByStyle() {
+    return hitsByStyle.entrySet().stream()
+        .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+  }
+
+  @Override
+  public long getNoMatchCount() {
+    return noMatches.sum();
+  }
+
+  @Override
+  public long getRejectedInputCount() {
+    return rejectedInputs.sum();
+  }
+
+  @Override
+  public long getClassificationCount() {
+    return latency.snapshot().count();
+  }
+
+  @Override
+  public double getMeanLatencyNanos() {
+    return latency.snapshot().meanNanos();
+  }
+
+  @Override
+  public long getLatencyP50Nanos() {
+    return latency.snapshot().percentileNanos(50);
+  }
+
+  @Override
+  public long getLatencyP99Nanos() {
+    return latency.snapshot().percentileNanos(99);
+  }
+
+  @Override
+  public void reset() {
+    hitsByStyle.values().forEach(LongAdder::reset);
+    noMatches.reset();
+    rejectedInputs.reset();
+    latency.reset();
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link StyleSnifferMetrics}.
+ *
+ * <p>All the values are computed on demand (pull based), reading them never slows down the
+ * classification hot path.
+ *
+ * @author Sebastien Vermeille
+ */
+public interface StyleSnifferMetricsMXBean {
+
+  /**
+   * @return {@code true} if the instrumentation is currently recording
+   */
+  boolean isEnabled();
+
+  /**
+   * Turns the recording on or off at runtime.
+   *
+   * @param enabled {@code true} to record, {@code false} to bypass the instrumentation
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * @return the number of matches per case style name
+   */
+  Map<String, Long> getHitCountsByStyle();
+
+  /**
+   * @return the number of valid inputs that did not match any case style
+   */
+  long getNoMatchCount();
+
+  /**
+   * @return the number of inputs rejected because they were {@code null} or blank
+   */
+  long getRejectedInputCount();
+
+  /**
+   * @return the total number of recorded classifications (hits, no matches and rejected inputs)
+   */
+  long getClassificationCount();
+
+  /**
+   * @return the mean classification latency in nanoseconds
+   */
+  double getMeanLatencyNanos();
+
+  /**
+   * @return an upper bound of the median classification latency in nanoseconds
+   */
+  long getLatencyP50Nanos();
+
+  /**
+   * @return an upper bound of the 99th percentile classification latency in nanoseconds
+   */
+  long getLatencyP99Nanos();
+
+  /** Resets all the counters. */
+  void reset();
+}
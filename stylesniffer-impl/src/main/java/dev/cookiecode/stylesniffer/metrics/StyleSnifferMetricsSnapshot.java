@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.metrics;
+
+import java.util.Map;
+
+/**
+ * Immutable point in time copy of {@link StyleSnifferMetrics}.
+ *
+ * @param hitsByStyle the number of matches per case style name
+ * @param noMatches the number of valid inputs that did not match any case style
+ * @param rejectedInputs the number of inputs rejected because they were {@code null} or blank
+ * @param latency the classification latency distribution
+ * @author Sebastien Vermeille
+ */
+public record StyleSnifferMetricsSnapshot(
+    Map<String, Long> hitsByStyle,
+    long noMatches,
+    long rejectedInputs,
+    LatencyHistogram.Snapshot latency) {
+
+  public StyleSnifferMetricsSnapshot {
+    hitsByStyle = Map.copyOf(hitsByStyle);
+  }
+
+  /**
+   * Returns the number of inputs that matched a case style.
+   *
+   * @return the sum of all the hits
+   */
+  public long hits() {
+    return hitsByStyle.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * Returns the total number of classifications.
+   *
+   * @return the sum of hits, no matches and rejected inputs
+   */
+  public long classifications() {
+    return hits() + noMatches + rejectedInputs;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.rules;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.lexer.IdentifierKind;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+
+/**
+ * A naming convention: the identifiers of a given kind, declared in the files matching a glob, must
+ * follow a case style.
+ *
+ * @param kind the kind of the identifiers the rule applies to, or {@code null} for all the kinds
+ * @param pathGlob the files the rule applies to, using the {@link
+ *     java.nio.file.FileSystem#getPathMatcher(String) glob syntax} (e.g. {@code src/main/java/**});
+ *     {@link #ANY_PATH} applies to all the files
+ * @param requiredStyle the case style the identifiers must follow
+ * @param exclusions the identifiers exempted from the rule, e.g. {@code serialVersionUID}: an
+ *     identifier is exempted if a pattern matches it entirely
+ * @author Sebastien Vermeille
+ */
+public record NamingRule(
+    @Nullable IdentifierKind kind,
+    @NonNull String pathGlob,
+    @NonNull CaseStyle requiredStyle,
+    @NonNull List<Pattern> exclusions) {
+
+  /** The glob matching all the files. */
+  public static final String ANY_PATH = "**";
+
+  public NamingRule {
+    exclusions = List.copyOf(exclusions);
+  }
+
+  /**
+   * Creates a rule applying to all the files, without exclusion.
+   *
+   * @param kind the kind of the identifiers the rule applies to, or {@code null} for all the kinds
+   * @param requiredStyle the case style the identifiers must follow
+   */
+  public NamingRule(@Nullable final IdentifierKind kind, @NonNull final CaseStyle requiredStyle) {
+    this(kind, ANY_PATH, requiredStyle, List.of());
+  }
+}
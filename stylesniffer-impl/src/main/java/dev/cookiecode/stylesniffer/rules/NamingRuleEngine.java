@@ -0,0 +1,249 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.rules;
+
+import static java.util.Objects.checkFromToIndex;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.lexer.IdentifierKind;
+import dev.cookiecode.stylesniffer.lexer.LexedIdentifierConsumer;
+import jakarta.annotation.Nullable;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import lombok.NonNull;
+
+/**
+ * Checks identifiers against a list of {@link NamingRule}s.
+ *
+ * <p>For a given identifier, the first rule of the list applying to its kind and to its file
+ * decides the case style it must follow; identifiers no rule applies to are not checked. Rules are
+ * therefore listed from the most specific to the most general:
+ *
+ * <pre>{@code
+ * new NamingRuleEngine(styleSniffer, List.of(
+ *     new NamingRule(FIELD, "src/main/resources/db/**", snakeCase, List.of()),
+ *     new NamingRule(TYPE, pascalCase),
+ *     new NamingRule(CONSTANT, screamingSnakeCase),
+ *     new NamingRule(null, camelCase)));
+ * }</pre>
+ *
+ * <p>The rules are compiled once into an index by kind, and the rule applying to each kind is
+ * resolved once per file: checking an identifier costs a single {@link
+ * dev.cookiecode.stylesniffer.api.CaseStyle#matches(CharSequence, int, int)} call, plus a regular
+ * expression match per exclusion of the rule. Violations are handed to a consumer as soon as they
+ * are found, only the offending identifiers are copied into a {@code String}.
+ *
+ * <p>Instances are not thread-safe: use one engine per thread.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class NamingRuleEngine {
+
+  private static final IdentifierKind[] KINDS = IdentifierKind.values();
+  private static final int PATH_CACHE_CAPACITY = 4096;
+
+  private final StyleSniffer styleSniffer;
+  private final List<CompiledRule> rules;
+  private final CompiledRule[][] rulesByKind = new CompiledRule[KINDS.length][];
+
+  private final Map<String, CompiledRule[]> rulesByPath = new HashMap<>();
+  @Nullable private String lastPath;
+  @Nullable private CompiledRule[] lastPathRules;
+
+  /**
+   * Compiles the given rules.
+   *
+   * @param styleSniffer the style sniffer detecting the style of the offending identifiers
+   * @param rules the rules, from the most specific to the most general
+   */
+  public NamingRuleEngine(
+      @NonNull final StyleSniffer styleSniffer, @NonNull final List<NamingRule> rules) {
+    this.styleSniffer = styleSniffer;
+    this.rules = rules.stream().map(CompiledRule::compile).toList();
+    for (final var kind : KINDS) {
+      rulesByKind[kind.ordinal()] =
+          this.rules.stream()
+              .filter(rule -> rule.rule().kind() == null || rule.rule().kind() == kind)
+              .toArray(CompiledRule[]::new);
+    }
+  }
+
+  /**
+   * Checks the given identifier.
+   *
+   * @param identifier the identifier
+   * @param kind the kind of the identifier
+   * @param path the path of the file declaring the identifier
+   * @param violations the consumer receiving the violation, if any
+   * @return {@code true} if the identifier follows the rule applying to it or if no rule applies
+   */
+  public boolean check(
+      @NonNull final String identifier,
+      @NonNull final IdentifierKind kind,
+      @NonNull final String path,
+      @NonNull final Consumer<NamingViolation> violations) {
+    return check(identifier, 0, identifier.length(), kind, path, violations);
+  }
+
+  /**
+   * Checks the identifier held by the given range.
+   *
+   * @param text the characters holding the identifier
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   * @param kind the kind of the identifier
+   * @param path the path of the file declaring the identifier
+   * @param violations the consumer receiving the violation, if any
+   * @return {@code true} if the identifier follows the rule applying to it or if no rule applies
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  public boolean check(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @NonNull final IdentifierKind kind,
+      @NonNull final String path,
+      @NonNull final Consumer<NamingViolation> violations) {
+    checkFromToIndex(start, end, text.length());
+    final var compiledRule = rulesFor(path)[kind.ordinal()];
+    if (compiledRule == null
+        || compiledRule.rule().requiredStyle().matches(text, start, end)
+        || compiledRule.isExcluded(text, start, end)) {
+      return true;
+    }
+
+    violations.accept(
+        new NamingViolation(
+            path,
+            text.subSequence(start, end).toString(),
+            kind,
+            compiledRule.rule(),
+            styleSniffer.getCaseStyle(text, start, end).orElse(null)));
+    return false;
+  }
+
+  /**
+   * Returns a consumer checking the declarations reported by a {@link
+   * dev.cookiecode.stylesniffer.lexer.SourceLexer}, so that a file is lexed and checked in a single
+   * pass:
+   *
+   * <pre>{@code
+   * lexer.lex(source, engine.checking(path, violations::add));
+   * }</pre>
+   *
+   * <p>The identifiers which are only used, not declared, are not checked: their names are chosen
+   * where they are declared.
+   *
+   * @param path the path of the lexed file
+   * @param violations the consumer receiving the violations
+   * @return the consumer to hand to the lexer
+   */
+  public LexedIdentifierConsumer checking(
+      @NonNull final String path, @NonNull final Consumer<NamingViolation> violations) {
+    return (source, start, end, kind, declaration) -> {
+      if (declaration) {
+        check(source, start, end, kind, path, violations);
+      }
+    };
+  }
+
+  /** Returns the rule applying to each kind of identifier in the given file. */
+  private CompiledRule[] rulesFor(final String path) {
+    if (path.equals(lastPath)) {
+      return lastPathRules;
+    }
+    var pathRules = rulesByPath.get(path);
+    if (pathRules == null) {
+      pathRules = resolve(path);
+      if (rulesByPath.size() == PATH_CACHE_CAPACITY) {
+        rulesByPath.clear();
+      }
+      rulesByPath.put(path, pathRules);
+    }
+    lastPath = path;
+    lastPathRules = pathRules;
+    return pathRules;
+  }
+
+  private CompiledRule[] resolve(final String path) {
+    final var file = Path.of(path);
+    final Set<CompiledRule> applicableRules = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (final var rule : rules) {
+      if (rule.appliesTo(file)) {
+        applicableRules.add(rule);
+      }
+    }
+    final var pathRules = new CompiledRule[KINDS.length];
+    for (final var kind : KINDS) {
+      for (final var rule : rulesByKind[kind.ordinal()]) {
+        if (applicableRules.contains(rule)) {
+          pathRules[kind.ordinal()] = rule;
+          break;
+        }
+      }
+    }
+    return pathRules;
+  }
+
+  /**
+   * A rule with its glob and its exclusions compiled.
+   *
+   * @param pathMatcher the matcher of the glob, {@code null} if the rule applies to all the files
+   * @param exclusions a matcher per exclusion, reused across identifiers
+   */
+  private record CompiledRule(
+      NamingRule rule, @Nullable PathMatcher pathMatcher, Matcher[] exclusions) {
+
+    static CompiledRule compile(final NamingRule rule) {
+      final var pathMatcher =
+          NamingRule.ANY_PATH.equals(rule.pathGlob())
+              ? null
+              : FileSystems.getDefault().getPathMatcher("glob:" + rule.pathGlob());
+      final var exclusions =
+          rule.exclusions().stream().map(pattern -> pattern.matcher("")).toArray(Matcher[]::new);
+      return new CompiledRule(rule, pathMatcher, exclusions);
+    }
+
+    boolean appliesTo(final Path file) {
+      return pathMatcher == null || pathMatcher.matches(file);
+    }
+
+    boolean isExcluded(final CharSequence text, final int start, final int end) {
+      for (final var exclusion : exclusions) {
+        if (exclusion.reset(text).region(start, end).matches()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
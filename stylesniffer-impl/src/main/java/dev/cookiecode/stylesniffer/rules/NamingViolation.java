@@ -0,0 +1,46 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.rules;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.lexer.IdentifierKind;
+import jakarta.annotation.Nullable;
+import lombok.NonNull;
+
+/**
+ * An identifier which does not follow the {@link NamingRule} applying to it.
+ *
+ * @param path the path of the file declaring the identifier
+ * @param identifier the identifier
+ * @param kind the kind of the identifier
+ * @param rule the rule the identifier breaks
+ * @param detectedStyle the case style the identifier is written in, or {@code null} if it matches
+ *     none of the known case styles
+ * @author Sebastien Vermeille
+ */
+public record NamingViolation(
+    @NonNull String path,
+    @NonNull String identifier,
+    @NonNull IdentifierKind kind,
+    @NonNull NamingRule rule,
+    @Nullable CaseStyle detectedStyle) {}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.scan;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.lexer.SourceLexers;
+import dev.cookiecode.stylesniffer.tokenizer.IdentifierExtractor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Computes the {@link StyleHistogram} of source files.
+ *
+ * <p>Files written in a language supported by {@link SourceLexers} are lexed, so that their
+ * keywords, comments and literals are not counted. The identifiers of the other files are found by
+ * an {@link IdentifierExtractor}. Files are decoded as UTF-8, malformed bytes being replaced.
+ *
+ * <p>Instances are thread-safe: each thread uses its own extractor.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class FileSummarizer {
+
+  private final StyleSniffer styleSniffer;
+  private final ThreadLocal<IdentifierExtractor> extractors =
+      ThreadLocal.withInitial(IdentifierExtractor::new);
+
+  /**
+   * Creates a summarizer.
+   *
+   * @param styleSniffer the sniffer classifying the identifiers
+   */
+  public FileSummarizer(@NonNull final StyleSniffer styleSniffer) {
+    this.styleSniffer = styleSniffer;
+  }
+
+  /**
+   * @return the sniffer classifying the identifiers
+   */
+  public StyleSniffer getStyleSniffer() {
+    return styleSniffer;
+  }
+
+  /**
+   * Computes the histogram of the given file.
+   *
+   * @param file the file to read
+   * @return the histogram of the identifiers of the file
+   * @throws IOException if the file cannot be read
+   */
+  public StyleHistogram summarize(@NonNull final Path file) throws IOException {
+    return summarize(file.getFileName().toString(), Files.readAllBytes(file));
+  }
+
+  /**
+   * Computes the histogram of the given file content.
+   *
+   * @param fileName the name of the file, telling its language
+   * @param content the content of the file, encoded in UTF-8
+   * @return the histogram of the identifiers of the file
+   */
+  public StyleHistogram summarize(@NonNull final String fileName, @NonNull final byte[] content) {
+    return summarize(fileName, new String(content, UTF_8));
+  }
+
+  /**
+   * Computes the histogram of the given text.
+   *
+   * @param fileName the name of the file, telling its language
+   * @param text the content of the file
+   * @return the histogram of the identifiers of the text
+   */
+  public StyleHistogram summarize(
+      @NonNull final String fileName, @NonNull final CharSequence text) {
+    final var counter = new Counter();
+    final var lexer = SourceLexers.forFileName(fileName);
+    if (lexer.isPresent()) {
+      lexer
+          .get()
+          .lex(text, (source, start, end, kind, declaration) -> counter.add(source, start, end));
+    } else {
+      extractors.get().extract(text, counter::add);
+    }
+    return counter.toHistogram();
+  }
+
+  /** Counts the identifiers of a single text. */
+  private final class Counter {
+
+    private final Map<CaseStyle, long[]> counts = new HashMap<>();
+    private long unclassifiedCount;
+
+    private void add(final CharSequence text, final int start, final int end) {
+      final var caseStyle = styleSniffer.getCaseStyle(text, start, end);
+      if (caseStyle.isPresent()) {
+        counts.computeIfAbsent(caseStyle.get(), style -> new long[1])[0]++;
+      } else {
+        unclassifiedCount++;
+      }
+    }
+
+    private StyleHistogram toHistogram() {
+      final Map<String, Long> countsByStyle = new HashMap<>();
+      counts.forEach(
+          (caseStyle, count) -> countsByStyle.merge(caseStyle.getName(), count[0], Long::sum));
+      return new StyleHistogram(countsByStyle, unclassifiedCount);
+    }
+  }
+}
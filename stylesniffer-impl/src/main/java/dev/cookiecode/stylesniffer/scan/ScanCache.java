@@ -0,0 +1,304 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.scan;
+
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.caseStylesDigest;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.mapReadOnly;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.replaceAtomically;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.update;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.internal.StorageSupport;
+import dev.cookiecode.stylesniffer.lexer.SourceLexer;
+import dev.cookiecode.stylesniffer.lexer.SourceLexers;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+
+/**
+ * On-disk cache of the {@link StyleHistogram} of source files, keyed by the SHA-256 hash of their
+ * content, so that a scan of a whole repository only classifies the files changed since the
+ * previous scan.
+ *
+ * <p>The cache file is memory-mapped when the cache is opened and looked up in place: its entries
+ * are fixed-size records sorted by hash, holding the count of each case style, and are only decoded
+ * when a file hits them. The case styles registered in the sniffer, in matching order, the lexers,
+ * the version of the case style classes and the version of the classification rules are summed up
+ * in a fingerprint stored in the cache file: a cache file written with other case styles or by
+ * another release is ignored, so that it never returns outdated histograms. The cache is bound to
+ * the case styles registered when it is opened.
+ *
+ * <p>{@link #save()} writes the entries of the files summarized since the cache was opened, so that
+ * the cache file does not keep growing with the history of the repository. The file is replaced
+ * atomically.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class ScanCache {
+
+  private static final int MAGIC = 0x53534331; // "SSC1"
+  private static final int FORMAT_VERSION = 1;
+  // magic, entry count and fingerprint
+  private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+  private static final int HASH_SIZE = 32;
+
+  private final Path cacheFile;
+  private final FileSummarizer summarizer;
+  private final List<String> caseStyleNames;
+  private final long fingerprint;
+  private final int entrySize;
+  private final ByteBuffer entries;
+  private final int entryCount;
+  private final Map<ContentHash, StyleHistogram> retainedEntries = new ConcurrentHashMap<>();
+  private final ThreadLocal<MessageDigest> digests =
+      ThreadLocal.withInitial(StorageSupport::newDigest);
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  private ScanCache(
+      final Path cacheFile,
+      final FileSummarizer summarizer,
+      final List<String> caseStyleNames,
+      final long fingerprint,
+      final ByteBuffer entries) {
+    this.cacheFile = cacheFile;
+    this.summarizer = summarizer;
+    this.caseStyleNames = caseStyleNames;
+    this.fingerprint = fingerprint;
+    this.entrySize = entrySize(caseStyleNames);
+    this.entries = entries;
+    this.entryCount = entries.capacity() / entrySize;
+  }
+
+  /**
+   * Opens a cache, mapping its file if it exists and has been written with the same case styles.
+   *
+   * @param cacheFile the cache file, created by {@link #save()} if it does not exist
+   * @param summarizer the summarizer of the files missing from the cache
+   * @return the cache
+   * @throws IOException if the cache file exists but cannot be read
+   */
+  public static ScanCache open(
+      @NonNull final Path cacheFile, @NonNull final FileSummarizer summarizer) throws IOException {
+    final var styleSniffer = summarizer.getStyleSniffer();
+    final long fingerprint = fingerprint(styleSniffer);
+    final var caseStyleNames = styleSniffer.getSupportedCaseStyles().stream().sorted().toList();
+    final var entries = mapEntries(cacheFile, fingerprint, entrySize(caseStyleNames));
+    return new ScanCache(cacheFile, summarizer, caseStyleNames, fingerprint, entries);
+  }
+
+  /**
+   * Returns the histogram of the given file, from the cache if a file with the same content and the
+   * same language has already been summarized.
+   *
+   * @param file the file to summarize
+   * @return the histogram of the identifiers of the file
+   * @throws IOException if the file cannot be read
+   */
+  public StyleHistogram summarize(@NonNull final Path file) throws IOException {
+    final var fileName = file.getFileName().toString();
+    final byte[] content = Files.readAllBytes(file);
+
+    final var digest = digests.get();
+    // the same content is lexed differently depending on the language
+    update(digest, SourceLexers.forFileName(fileName).map(SourceLexer::getLanguage).orElse(""));
+    final var hash = ContentHash.of(digest.digest(content));
+
+    var histogram = retainedEntries.get(hash);
+    if (histogram == null) {
+      histogram = find(hash);
+    }
+    if (histogram == null) {
+      missCount.incrementAndGet();
+      histogram = summarizer.summarize(fileName, content);
+    } else {
+      hitCount.incrementAndGet();
+    }
+    retainedEntries.put(hash, histogram);
+    return histogram;
+  }
+
+  /**
+   * Writes the entries of the files summarized since the cache was opened to the cache file.
+   *
+   * @throws IOException if the cache file cannot be written
+   */
+  public void save() throws IOException {
+    final var hashes = retainedEntries.keySet().stream().sorted().toList();
+    final var buffer = ByteBuffer.allocate(HEADER_SIZE + hashes.size() * entrySize);
+    buffer.putInt(MAGIC).putInt(hashes.size()).putLong(fingerprint);
+    for (final var hash : hashes) {
+      hash.writeTo(buffer);
+      final var histogram = retainedEntries.get(hash);
+      buffer.putInt((int) histogram.unclassifiedCount());
+      for (final var caseStyleName : caseStyleNames) {
+        buffer.putInt(histogram.countsByStyle().getOrDefault(caseStyleName, 0L).intValue());
+      }
+    }
+    buffer.flip();
+    replaceAtomically(cacheFile, buffer);
+  }
+
+  /**
+   * @return the number of files whose histogram has been found in the cache
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return the number of files which have been summarized because they were not in the cache
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /** Binary search of the given hash among the mapped entries. */
+  private StyleHistogram find(final ContentHash hash) {
+    int low = 0;
+    int high = entryCount - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int offset = middle * entrySize;
+      final int comparison = hash.compareTo(entries, offset);
+      if (comparison > 0) {
+        low = middle + 1;
+      } else if (comparison < 0) {
+        high = middle - 1;
+      } else {
+        return readHistogram(offset + HASH_SIZE);
+      }
+    }
+    return null;
+  }
+
+  private StyleHistogram readHistogram(int offset) {
+    final long unclassifiedCount = entries.getInt(offset);
+    final Map<String, Long> countsByStyle = new HashMap<>();
+    for (final var caseStyleName : caseStyleNames) {
+      offset += Integer.BYTES;
+      final int count = entries.getInt(offset);
+      if (count > 0) {
+        countsByStyle.put(caseStyleName, (long) count);
+      }
+    }
+    return new StyleHistogram(countsByStyle, unclassifiedCount);
+  }
+
+  /**
+   * Maps the entries of the cache file, an empty buffer being returned if the file does not exist
+   * or has not been written with the same fingerprint.
+   */
+  private static ByteBuffer mapEntries(
+      final Path cacheFile, final long fingerprint, final int entrySize) throws IOException {
+    if (!Files.isRegularFile(cacheFile)) {
+      return ByteBuffer.allocate(0);
+    }
+    final var buffer = mapReadOnly(cacheFile);
+    if (buffer.capacity() < HEADER_SIZE) {
+      return ByteBuffer.allocate(0);
+    }
+    final int count = buffer.getInt(Integer.BYTES);
+    if (buffer.getInt(0) != MAGIC
+        || buffer.getLong(Integer.BYTES * 2) != fingerprint
+        || count < 0
+        || HEADER_SIZE + (long) count * entrySize != buffer.capacity()) {
+      return ByteBuffer.allocate(0);
+    }
+    return buffer.slice(HEADER_SIZE, count * entrySize);
+  }
+
+  private static int entrySize(final List<String> caseStyleNames) {
+    // hash, unclassified count and count of each case style
+    return HASH_SIZE + Integer.BYTES * (1 + caseStyleNames.size());
+  }
+
+  /**
+   * Sums up everything the histograms depend on besides the content of the files: the format of the
+   * cache, the registered case styles in matching order and the lexers, along with the version of
+   * their classes.
+   */
+  private static long fingerprint(final StyleSniffer styleSniffer) {
+    final var digest = caseStylesDigest("format " + FORMAT_VERSION, styleSniffer);
+    for (final var language : SourceLexers.getSupportedLanguages()) {
+      update(digest, language);
+      SourceLexers.forLanguage(language)
+          .ifPresent(lexer -> update(digest, lexer.getClass().getName()));
+    }
+    return StorageSupport.fingerprint(digest);
+  }
+
+  /** SHA-256 hash, compared as the unsigned sequence of its bytes. */
+  private record ContentHash(long first, long second, long third, long fourth)
+      implements Comparable<ContentHash> {
+
+    static ContentHash of(final byte[] hash) {
+      final var buffer = ByteBuffer.wrap(hash);
+      return new ContentHash(
+          buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    void writeTo(final ByteBuffer buffer) {
+      buffer.putLong(first).putLong(second).putLong(third).putLong(fourth);
+    }
+
+    int compareTo(final ByteBuffer buffer, final int offset) {
+      int comparison = Long.compareUnsigned(first, buffer.getLong(offset));
+      if (comparison == 0) {
+        comparison = Long.compareUnsigned(second, buffer.getLong(offset + Long.BYTES));
+      }
+      if (comparison == 0) {
+        comparison = Long.compareUnsigned(third, buffer.getLong(offset + Long.BYTES * 2));
+      }
+      if (comparison == 0) {
+        comparison = Long.compareUnsigned(fourth, buffer.getLong(offset + Long.BYTES * 3));
+      }
+      return comparison;
+    }
+
+    @Override
+    public int compareTo(final ContentHash other) {
+      int comparison = Long.compareUnsigned(first, other.first);
+      if (comparison == 0) {
+        comparison = Long.compareUnsigned(second, other.second);
+      }
+      if (comparison == 0) {
+        comparison = Long.compareUnsigned(third, other.third);
+      }
+      if (comparison == 0) {
+        comparison = Long.compareUnsigned(fourth, other.fourth);
+      }
+      return comparison;
+    }
+  }
+}
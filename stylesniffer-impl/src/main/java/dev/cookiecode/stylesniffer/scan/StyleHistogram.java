@@ -0,0 +1,52 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.scan;
+
+import java.util.Map;
+
+/**
+ * Number of identifiers of each case style found in a text.
+ *
+ * @param countsByStyle the number of identifiers per case style name, the case styles matched by no
+ *     identifier being left out
+ * @param unclassifiedCount the number of identifiers matching no case style
+ * @author Sebastien Vermeille
+ */
+public record StyleHistogram(Map<String, Long> countsByStyle, long unclassifiedCount) {
+
+  /** The histogram of a text without identifiers. */
+  public static final StyleHistogram EMPTY = new StyleHistogram(Map.of(), 0);
+
+  public StyleHistogram {
+    countsByStyle = Map.copyOf(countsByStyle);
+  }
+
+  /**
+   * Returns the number of identifiers, classified or not.
+   *
+   * @return the sum of the counts and of the unclassified identifiers
+   */
+  public long identifierCount() {
+    return countsByStyle.values().stream().mapToLong(Long::longValue).sum() + unclassifiedCount;
+  }
+}
@@ -0,0 +1,408 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.scan;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.lexer.SourceLexers;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.NonNull;
+
+/**
+ * Keeps the {@link StyleHistogram} of every file of a directory tree up to date, along with their
+ * aggregate, by watching the tree for changes instead of scanning it periodically.
+ *
+ * <p>{@link #start()} registers the directories of the tree with a {@link WatchService} and
+ * summarizes all their files. Then, the events of the watch service are collected until none has
+ * been received for the debounce delay (an editor saving a file or a checkout touching hundreds of
+ * them raise bursts of events), and only the touched files are summarized again. New directories
+ * are registered as they appear and the files of deleted directories are dropped from the index.
+ * When the watch service reports lost events, the whole tree is walked again.
+ *
+ * <p>Files are summarized on a fixed number of threads fed through a bounded queue: when the queue
+ * is full, the watching thread summarizes the files itself, which throttles the collection of the
+ * events. A file touched while it is being summarized is summarized again, the outdated histogram
+ * being discarded.
+ *
+ * <p>Instances are thread-safe: the index can be read from any thread while it is updated.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class StyleWatcher implements Closeable {
+
+  /** The delay without any event after which the collected events are processed. */
+  public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+  // bursts longer than this number of debounce delays are processed before they end
+  private static final int MAX_DEBOUNCES_PER_BATCH = 10;
+  private static final int QUEUED_FILES_PER_THREAD = 64;
+
+  private final Path root;
+  private final FileSummarizer summarizer;
+  private final Duration debounce;
+  private final Predicate<Path> fileFilter;
+  private final ThreadPoolExecutor executor;
+  private final WatchService watchService;
+  private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+  private final AtomicLong generations = new AtomicLong();
+
+  // guarded by this
+  private final Map<Path, Long> pendingGenerations = new HashMap<>();
+  private final Map<Path, StyleHistogram> histograms = new HashMap<>();
+  private final Map<String, Long> aggregateCounts = new HashMap<>();
+  private long aggregateUnclassifiedCount;
+
+  private volatile Thread watchingThread;
+
+  /**
+   * Creates a watcher of the source files supported by {@link SourceLexers}, with the {@link
+   * #DEFAULT_DEBOUNCE} and a thread per available processor, up to 4.
+   *
+   * @param root the root of the watched tree
+   * @param summarizer the summarizer of the files
+   * @throws IOException if the watch service cannot be created
+   */
+  public StyleWatcher(@NonNull final Path root, @NonNull final FileSummarizer summarizer)
+      throws IOException {
+    this(
+        root,
+        summarizer,
+        file -> SourceLexers.forFileName(file.getFileName().toString()).isPresent(),
+        DEFAULT_DEBOUNCE,
+        Math.min(4, Runtime.getRuntime().availableProcessors()));
+  }
+
+  /**
+   * Creates a watcher.
+   *
+   * @param root the root of the watched tree
+   * @param summarizer the summarizer of the files
+   * @param fileFilter the filter selecting the files to summarize
+   * @param debounce the delay without any event after which the collected events are processed
+   * @param threadCount the number of threads summarizing the files
+   * @throws IOException if the watch service cannot be created
+   * @throws IllegalArgumentException if the debounce delay is negative or the thread count is not
+   *     positive
+   */
+  public StyleWatcher(
+      @NonNull final Path root,
+      @NonNull final FileSummarizer summarizer,
+      @NonNull final Predicate<Path> fileFilter,
+      @NonNull final Duration debounce,
+      final int threadCount)
+      throws IOException {
+    if (debounce.isNegative() || threadCount < 1) {
+      throw new IllegalArgumentException(
+          String.format("Invalid debounce %s or thread count %d", debounce, threadCount));
+    }
+    this.root = root.toAbsolutePath().normalize();
+    this.summarizer = summarizer;
+    this.fileFilter = fileFilter;
+    this.debounce = debounce;
+    this.executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            0,
+            MILLISECONDS,
+            new ArrayBlockingQueue<>(threadCount * QUEUED_FILES_PER_THREAD),
+            runnable ->
+                Thread.ofPlatform().daemon().name("stylesniffer-summarizer").unstarted(runnable),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    this.watchService = this.root.getFileSystem().newWatchService();
+  }
+
+  /**
+   * Summarizes all the files of the tree and starts watching it.
+   *
+   * @throws IOException if the tree cannot be walked
+   * @throws StyleSnifferException if a file cannot be summarized
+   * @throws IllegalStateException if the watcher has already been started
+   */
+  public void start() throws IOException {
+    synchronized (this) {
+      if (watchingThread != null) {
+        throw new IllegalStateException("The watcher has already been started");
+      }
+      watchingThread =
+          Thread.ofPlatform().daemon().name("stylesniffer-watcher").unstarted(this::watch);
+    }
+    // directories are registered before their files are read, so that no change is missed
+    final var files = registerTree(root);
+    final List<Future<?>> summaries = new ArrayList<>();
+    for (final var file : files) {
+      summaries.add(schedule(file));
+    }
+    try {
+      for (final var summary : summaries) {
+        summary.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new StyleSnifferException("Cannot summarize the files of " + root, e.getCause());
+    }
+    watchingThread.start();
+  }
+
+  /**
+   * Returns the histogram of the given file.
+   *
+   * @param file the file
+   * @return an {@link Optional} containing the histogram of the file, or an empty {@code Optional}
+   *     if the file is not indexed
+   */
+  public synchronized Optional<StyleHistogram> getHistogram(@NonNull final Path file) {
+    return Optional.ofNullable(histograms.get(file.toAbsolutePath().normalize()));
+  }
+
+  /**
+   * @return the sum of the histograms of all the indexed files
+   */
+  public synchronized StyleHistogram getAggregate() {
+    return new StyleHistogram(aggregateCounts, aggregateUnclassifiedCount);
+  }
+
+  /**
+   * @return the number of indexed files
+   */
+  public synchronized int getFileCount() {
+    return histograms.size();
+  }
+
+  /** Stops watching the tree, the index is no longer updated. */
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+    executor.shutdownNow();
+    try {
+      executor.awaitTermination(1, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        final Set<Path> touchedPaths = new LinkedHashSet<>();
+        boolean overflow = collect(watchService.take(), touchedPaths);
+        // debounce: waits until no event has been received for the debounce delay
+        final long batchDeadline = System.nanoTime() + debounce.toNanos() * MAX_DEBOUNCES_PER_BATCH;
+        WatchKey key;
+        while (System.nanoTime() < batchDeadline
+            && (key = watchService.poll(debounce.toNanos(), NANOSECONDS)) != null) {
+          overflow |= collect(key, touchedPaths);
+        }
+        if (overflow) {
+          touchedPaths.clear();
+          touchedPaths.add(root);
+        }
+        touchedPaths.forEach(this::update);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // closed, stops watching
+    }
+  }
+
+  /**
+   * Adds the paths touched by the events of the given key.
+   *
+   * @return {@code true} if events have been lost
+   */
+  private boolean collect(final WatchKey key, final Set<Path> touchedPaths) {
+    boolean overflow = false;
+    final var directory = watchedDirectories.get(key);
+    for (final var event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        overflow = true;
+      } else if (directory != null) {
+        final var path = directory.resolve((Path) event.context());
+        // the files of a modified directory raise their own events
+        if (event.kind() != ENTRY_MODIFY || !Files.isDirectory(path)) {
+          touchedPaths.add(path);
+        }
+      }
+    }
+    if (!key.reset()) {
+      // the directory is no longer accessible, its files are dropped when its deletion is processed
+      watchedDirectories.remove(key);
+    }
+    return overflow;
+  }
+
+  /** Brings the index of the given path, a file or a directory, in line with the file system. */
+  private void update(final Path path) {
+    if (Files.isDirectory(path)) {
+      try {
+        final var files = registerTree(path);
+        files.forEach(this::schedule);
+        removeAllBut(path, Set.copyOf(files));
+      } catch (IOException | UncheckedIOException e) {
+        // deleted while being walked, its deletion is processed with the next events
+      }
+    } else if (Files.isRegularFile(path)) {
+      if (fileFilter.test(path)) {
+        schedule(path);
+      }
+    } else {
+      remove(path);
+    }
+  }
+
+  /**
+   * Registers the given directory and its subdirectories with the watch service.
+   *
+   * @return the files of the tree accepted by the filter
+   */
+  private List<Path> registerTree(final Path directory) throws IOException {
+    final List<Path> files = new ArrayList<>();
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (final var path : (Iterable<Path>) paths::iterator) {
+        if (Files.isDirectory(path)) {
+          watchedDirectories.put(
+              path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), path);
+        } else if (Files.isRegularFile(path) && fileFilter.test(path)) {
+          files.add(path);
+        }
+      }
+    }
+    return files;
+  }
+
+  private Future<?> schedule(final Path file) {
+    final long generation = generations.incrementAndGet();
+    synchronized (this) {
+      pendingGenerations.put(file, generation);
+    }
+    return executor.submit(() -> summarize(file, generation));
+  }
+
+  private void summarize(final Path file, final long generation) {
+    StyleHistogram histogram;
+    try {
+      histogram = summarizer.summarize(file);
+    } catch (NoSuchFileException e) {
+      histogram = null;
+    } catch (IOException e) {
+      // unreadable: the previous histogram is kept until the file changes again
+      synchronized (this) {
+        pendingGenerations.remove(file, generation);
+      }
+      return;
+    }
+    apply(file, generation, histogram);
+  }
+
+  /**
+   * Replaces the histogram of the given file, unless the file has been touched again or deleted
+   * since this summary was scheduled.
+   *
+   * @param histogram the new histogram, {@code null} to remove the file from the index
+   */
+  private synchronized void apply(
+      final Path file, final long generation, final StyleHistogram histogram) {
+    if (!pendingGenerations.remove(file, generation)) {
+      return;
+    }
+    if (histogram == null) {
+      removeFromIndex(file);
+      return;
+    }
+    final var previous = histograms.put(file, histogram);
+    if (previous != null) {
+      addToAggregate(previous, -1);
+    }
+    addToAggregate(histogram, 1);
+  }
+
+  /** Removes the given file, or the files of the given directory, from the index. */
+  private synchronized void remove(final Path path) {
+    // cancels the pending summaries
+    pendingGenerations.keySet().removeIf(file -> file.startsWith(path));
+    final var removedFiles =
+        histograms.keySet().stream().filter(file -> file.startsWith(path)).toList();
+    removedFiles.forEach(this::removeFromIndex);
+  }
+
+  /** Removes the files of the given directory which are not in the given set from the index. */
+  private synchronized void removeAllBut(final Path directory, final Set<Path> files) {
+    final var removedFiles =
+        histograms.keySet().stream()
+            .filter(file -> file.startsWith(directory) && !files.contains(file))
+            .toList();
+    removedFiles.forEach(this::removeFromIndex);
+  }
+
+  private void removeFromIndex(final Path file) {
+    final var previous = histograms.remove(file);
+    if (previous != null) {
+      addToAggregate(previous, -1);
+    }
+  }
+
+  private void addToAggregate(final StyleHistogram histogram, final int sign) {
+    histogram
+        .countsByStyle()
+        .forEach(
+            (name, count) -> {
+              if (aggregateCounts.merge(name, sign * count, Long::sum) == 0) {
+                aggregateCounts.remove(name);
+              }
+            });
+    aggregateUnclassifiedCount += sign * histogram.unclassifiedCount();
+  }
+}
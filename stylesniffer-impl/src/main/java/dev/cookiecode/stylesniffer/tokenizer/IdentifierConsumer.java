@@ -0,0 +1,47 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.tokenizer;
+
+/**
+ * Receives the identifiers found by an {@link IdentifierExtractor}.
+ *
+ * <p>Identifiers are handed over as slices of the extractor's internal buffer: the {@code text}
+ * instance is reused and its content is overwritten as soon as this method returns. Implementations
+ * must copy the range (e.g. {@code text.subSequence(start, end).toString()}) if they need to keep
+ * it, or, better, classify it in place through {@link
+ * dev.cookiecode.stylesniffer.StyleSniffer#getCaseStyle(CharSequence, int, int)}.
+ *
+ * @author Sebastien Vermeille
+ */
+@FunctionalInterface
+public interface IdentifierConsumer {
+
+  /**
+   * Called for each identifier.
+   *
+   * @param text the characters holding the identifier, only valid during this call
+   * @param start the index of the first character of the identifier (inclusive)
+   * @param end the index after the last character of the identifier (exclusive)
+   */
+  void accept(CharSequence text, int start, int end);
+}
@@ -0,0 +1,386 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.tokenizer;
+
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.checkFromToIndex;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import lombok.NonNull;
+
+/**
+ * Streaming extractor of the identifiers embedded in arbitrary text (logs, SQL, templates,
+ * configuration files, ...).
+ *
+ * <p>An identifier is a run of letters, digits, underscores and single dashes that starts with a
+ * letter or an underscore, e.g. {@code userId}, {@code user_id}, {@code USER_ID} or {@code
+ * user-id}. Runs starting with a digit (numbers, hashes, ...) are skipped, leading and trailing
+ * dashes are dropped and a double dash (SQL comment) ends the identifier.
+ *
+ * <p>Readers and channels are read through a fixed-size buffer that is reused across reads and
+ * across calls. Identifiers straddling two reads are moved to the front of the buffer before the
+ * next read, so that every identifier is handed to the {@link IdentifierConsumer} as a single
+ * contiguous slice of that buffer, without any copy. In-memory texts are scanned in place, the
+ * identifiers being slices of the text itself. Identifiers longer than {@link
+ * #getMaxIdentifierLength()} are skipped.
+ *
+ * <p>The scan starts afresh after each separator (any character other than a letter, a digit, an
+ * underscore or a dash): the identifiers found between two separators do not depend on the rest of
+ * the text, which lets an edited text be scanned again around the edit only.
+ *
+ * <p>Instances are not thread-safe: use one extractor per thread.
+ *
+ * @author Sebastien Vermeille
+ */
+public final class IdentifierExtractor {
+
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+  public static final int DEFAULT_MAX_IDENTIFIER_LENGTH = 256;
+
+  private static final char DASH = '-';
+  private static final int MIN_BYTE_BUFFER_SIZE = 16;
+  private static final int ASCII_SIZE = 128;
+
+  // character classes of the ASCII range, non ASCII characters go through java.lang.Character
+  private static final byte OTHER = 0;
+  private static final byte DIGIT = 1;
+  private static final byte IDENTIFIER_START = 2;
+  private static final byte[] ASCII_CLASSES = new byte[ASCII_SIZE];
+
+  static {
+    for (char c = 0; c < ASCII_SIZE; c++) {
+      if (c >= '0' && c <= '9') {
+        ASCII_CLASSES[c] = DIGIT;
+      } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_') {
+        ASCII_CLASSES[c] = IDENTIFIER_START;
+      }
+    }
+  }
+
+  private final char[] buffer;
+  private final CharBuffer bufferView;
+  private final int maxIdentifierLength;
+
+  // lazily created, only used for byte channels
+  private ByteBuffer byteBuffer;
+  private CharsetDecoder decoder;
+
+  /** Creates an extractor using the default buffer size and maximum identifier length. */
+  public IdentifierExtractor() {
+    this(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_IDENTIFIER_LENGTH);
+  }
+
+  /**
+   * Creates an extractor.
+   *
+   * @param bufferSize the number of characters read at once
+   * @param maxIdentifierLength the length above which identifiers are skipped, the buffer must be
+   *     at least two characters larger so that a partial identifier and a surrogate pair always fit
+   * @throws IllegalArgumentException if the sizes are inconsistent
+   */
+  public IdentifierExtractor(final int bufferSize, final int maxIdentifierLength) {
+    if (maxIdentifierLength < 1 || bufferSize < maxIdentifierLength + 2) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Invalid max identifier length (%d) for a buffer of %d characters",
+              maxIdentifierLength, bufferSize));
+    }
+    this.buffer = new char[bufferSize];
+    this.bufferView = CharBuffer.wrap(buffer);
+    this.maxIdentifierLength = maxIdentifierLength;
+  }
+
+  /**
+   * @return the length above which identifiers are skipped
+   */
+  public int getMaxIdentifierLength() {
+    return maxIdentifierLength;
+  }
+
+  /**
+   * Extracts the identifiers of the given text.
+   *
+   * @param text the text to scan
+   * @param consumer the consumer receiving each identifier
+   * @return the number of identifiers handed to the consumer
+   */
+  public long extract(
+      @NonNull final CharSequence text, @NonNull final IdentifierConsumer consumer) {
+    return extract(text, 0, text.length(), consumer);
+  }
+
+  /**
+   * Extracts the identifiers of the given range of a text, scanning it in place: the consumer
+   * receives the text itself and the indexes of each identifier within it.
+   *
+   * <p>The range is scanned as if it were the whole text, so it should start and end at a
+   * separator, or at the bounds of the text, to find the same identifiers as a full scan.
+   *
+   * @param text the text holding the range to scan
+   * @param start the index of the first character to scan (inclusive)
+   * @param end the index after the last character to scan (exclusive)
+   * @param consumer the consumer receiving each identifier
+   * @return the number of identifiers handed to the consumer
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}
+   */
+  public long extract(
+      @NonNull final CharSequence text,
+      final int start,
+      final int end,
+      @NonNull final IdentifierConsumer consumer) {
+    checkFromToIndex(start, end, text.length());
+    final var scan = new Scan(consumer);
+    for (int i = start; i < end; i++) {
+      scan.accept(text, i, text.charAt(i));
+    }
+    scan.end(text, end);
+    return scan.count;
+  }
+
+  /**
+   * Extracts the identifiers read from the given reader. The reader is not closed.
+   *
+   * @param reader the reader to consume until its end
+   * @param consumer the consumer receiving each identifier
+   * @return the number of identifiers handed to the consumer
+   * @throws IOException if the reader fails
+   */
+  public long extract(@NonNull final Reader reader, @NonNull final IdentifierConsumer consumer)
+      throws IOException {
+    return extract(reader::read, consumer);
+  }
+
+  /**
+   * Extracts the identifiers read from the given UTF-8 channel. The channel is not closed.
+   *
+   * @param channel a blocking channel to consume until its end
+   * @param consumer the consumer receiving each identifier
+   * @return the number of identifiers handed to the consumer
+   * @throws IOException if the channel fails
+   */
+  public long extract(
+      @NonNull final ReadableByteChannel channel, @NonNull final IdentifierConsumer consumer)
+      throws IOException {
+    return extract(channel, UTF_8, consumer);
+  }
+
+  /**
+   * Extracts the identifiers read from the given channel. The channel is not closed.
+   *
+   * <p>Malformed or unmappable input is replaced by the charset's replacement character, which is
+   * not part of any identifier.
+   *
+   * @param channel a blocking channel to consume until its end
+   * @param charset the charset used to decode the bytes
+   * @param consumer the consumer receiving each identifier
+   * @return the number of identifiers handed to the consumer
+   * @throws IOException if the channel fails
+   */
+  public long extract(
+      @NonNull final ReadableByteChannel channel,
+      @NonNull final Charset charset,
+      @NonNull final IdentifierConsumer consumer)
+      throws IOException {
+    if (byteBuffer == null) {
+      // must hold at least one complete code point whatever the buffer size
+      byteBuffer = ByteBuffer.allocate(Math.max(buffer.length, MIN_BYTE_BUFFER_SIZE));
+    }
+    if (decoder == null || !decoder.charset().equals(charset)) {
+      decoder = charset.newDecoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+    }
+    byteBuffer.clear();
+    decoder.reset();
+    return extract(new ChannelSource(channel, byteBuffer, decoder, buffer), consumer);
+  }
+
+  private long extract(final CharSource source, final IdentifierConsumer consumer)
+      throws IOException {
+    final var scan = new Scan(consumer);
+    int carry = 0; // length of the partial identifier moved to the front of the buffer
+
+    while (true) {
+      final int read = source.read(buffer, carry, buffer.length - carry);
+      if (read < 0) {
+        scan.end(bufferView, carry);
+        return scan.count;
+      }
+
+      final int limit = carry + read;
+      for (int i = carry; i < limit; i++) {
+        scan.accept(bufferView, i, buffer[i]);
+      }
+
+      if (scan.identifierStart >= 0) {
+        carry = limit - scan.identifierStart;
+        System.arraycopy(buffer, scan.identifierStart, buffer, 0, carry);
+        scan.identifierStart = 0;
+      } else {
+        carry = 0;
+      }
+    }
+  }
+
+  private static int emit(
+      final CharSequence text, final int start, int end, final IdentifierConsumer consumer) {
+    while (end > start && text.charAt(end - 1) == DASH) {
+      end--;
+    }
+    if (end == start) {
+      return 0;
+    }
+    consumer.accept(text, start, end);
+    return 1;
+  }
+
+  /**
+   * Tells whether the given character ends any identifier and resets the scan.
+   *
+   * @param c the character
+   * @return {@code true} if the character is neither a letter, a digit, an underscore nor a dash
+   */
+  public static boolean isSeparator(final char c) {
+    return characterClass(c) == OTHER && c != DASH;
+  }
+
+  private static byte characterClass(final char c) {
+    if (c < ASCII_SIZE) {
+      return ASCII_CLASSES[c];
+    }
+    if (Character.isLetter(c)) {
+      return IDENTIFIER_START;
+    }
+    return Character.isDigit(c) ? DIGIT : OTHER;
+  }
+
+  /** State of a single extraction, carried across the reads of a streamed input. */
+  private final class Scan {
+
+    private final IdentifierConsumer consumer;
+    private long count;
+    private int identifierStart = -1;
+    private boolean skipping; // true while discarding a run that is not a valid identifier
+
+    private Scan(final IdentifierConsumer consumer) {
+      this.consumer = consumer;
+    }
+
+    /**
+     * Moves the scan over a character.
+     *
+     * @param text the text holding the character, the identifiers are handed as slices of it
+     * @param i the index of the character in the text
+     * @param c the character
+     */
+    private void accept(final CharSequence text, final int i, final char c) {
+      final byte characterClass = characterClass(c);
+      if (characterClass == OTHER && c != DASH) {
+        // separator: ends the current identifier, if any
+        if (identifierStart >= 0) {
+          count += emit(text, identifierStart, i, consumer);
+          identifierStart = -1;
+        }
+        skipping = false;
+      } else if (identifierStart >= 0) {
+        if (i - identifierStart >= maxIdentifierLength) {
+          identifierStart = -1;
+          skipping = true;
+        } else if (c == DASH && text.charAt(i - 1) == DASH) {
+          count += emit(text, identifierStart, i, consumer);
+          identifierStart = -1;
+        }
+      } else if (!skipping) {
+        if (characterClass == IDENTIFIER_START) {
+          identifierStart = i;
+        } else if (characterClass == DIGIT) {
+          skipping = true;
+        }
+      }
+    }
+
+    /** Emits the identifier ending with the text, if any. */
+    private void end(final CharSequence text, final int end) {
+      if (identifierStart >= 0) {
+        count += emit(text, identifierStart, end, consumer);
+        identifierStart = -1;
+      }
+    }
+  }
+
+  /** Minimal abstraction over the supported inputs, shaped after {@link Reader#read(char[])}. */
+  @FunctionalInterface
+  private interface CharSource {
+    int read(char[] destination, int offset, int length) throws IOException;
+  }
+
+  /** Decodes the bytes of a channel straight into the buffer. */
+  private static final class ChannelSource implements CharSource {
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decoder;
+    private final CharBuffer chars;
+    private boolean endOfInput;
+    private boolean flushed;
+
+    private ChannelSource(
+        final ReadableByteChannel channel,
+        final ByteBuffer bytes,
+        final CharsetDecoder decoder,
+        final char[] destination) {
+      this.channel = channel;
+      this.bytes = bytes;
+      this.decoder = decoder;
+      this.chars = CharBuffer.wrap(destination);
+    }
+
+    @Override
+    public int read(final char[] destination, final int offset, final int length)
+        throws IOException {
+      chars.limit(offset + length).position(offset);
+      while (!flushed) {
+        if (!endOfInput && channel.read(bytes) < 0) {
+          endOfInput = true;
+        }
+        bytes.flip();
+        final var result = decoder.decode(bytes, chars, endOfInput);
+        bytes.compact();
+        if (endOfInput && result.isUnderflow()) {
+          flushed = decoder.flush(chars).isUnderflow();
+        }
+
+        final int decoded = chars.position() - offset;
+        if (decoded > 0) {
+          return decoded;
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.vocabulary;
+
+import static dev.cookiecode.stylesniffer.vocabulary.PrecomputedVocabulary.UNKNOWN;
+import static java.util.Objects.checkFromToIndex;
+
+import dev.cookiecode.stylesniffer.IncrementalClassifier;
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import jakarta.annotation.Nullable;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+
+/**
+ * {@link StyleSniffer} decorator looking the names up in a {@link PrecomputedVocabulary} before
+ * classifying them.
+ *
+ * <p>The names of the vocabulary are resolved from the mapped file, without evaluating any case
+ * style; the other names are classified by the delegate. The vocabulary should have been opened
+ * with the delegate, so that both return the same case style instances. The other methods are plain
+ * delegations.
+ *
+ * @author Sebastien Vermeille
+ */
+public class PrecomputedStyleSniffer implements StyleSniffer {
+
+  private final StyleSniffer delegate;
+  private final PrecomputedVocabulary vocabulary;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  public PrecomputedStyleSniffer(
+      @NonNull final StyleSniffer delegate, @NonNull final PrecomputedVocabulary vocabulary) {
+    this.delegate = delegate;
+    this.vocabulary = vocabulary;
+  }
+
+  @Override
+  public Optional<CaseStyle> getCaseStyle(@Nullable final String name) {
+    return name == null ? Optional.empty() : getCaseStyle(name, 0, name.length());
+  }
+
+  @Override
+  public Optional<CaseStyle> getCaseStyle(
+      @NonNull final CharSequence text, final int start, final int end) {
+    checkFromToIndex(start, end, text.length());
+
+    // the names are trimmed the same way the sniffer does before being stored
+    int trimmedStart = start;
+    int trimmedEnd = end;
+    while (trimmedStart < trimmedEnd && text.charAt(trimmedStart) <= ' ') {
+      trimmedStart++;
+    }
+    while (trimmedEnd > trimmedStart && text.charAt(trimmedEnd - 1) <= ' ') {
+      trimmedEnd--;
+    }
+    if (trimmedStart == trimmedEnd) {
+      return Optional.empty();
+    }
+
+    final int index = vocabulary.find(text, trimmedStart, trimmedEnd);
+    if (index == UNKNOWN) {
+      missCount.increment();
+      return delegate.getCaseStyle(text, start, end);
+    }
+    hitCount.increment();
+    return vocabulary.getResult(index);
+  }
+
+  /**
+   * @return the number of names resolved from the vocabulary
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of names which have been classified by the delegate
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  @Override
+  public Optional<CaseStyle> getCaseStyleWithVariantOrName(@Nullable final String variantOrName) {
+    return delegate.getCaseStyleWithVariantOrName(variantOrName);
+  }
+
+  @Override
+  public Set<String> getSupportedCaseStyles() {
+    return delegate.getSupportedCaseStyles();
+  }
+
+  @Override
+  public Set<String> getSupportedCaseStylesIncludingVariants() {
+    return delegate.getSupportedCaseStylesIncludingVariants();
+  }
+
+  @Override
+  public IncrementalClassifier newIncrementalClassifier() {
+    return delegate.newIncrementalClassifier();
+  }
+}
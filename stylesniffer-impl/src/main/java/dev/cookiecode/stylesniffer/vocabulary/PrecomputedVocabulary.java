@@ -0,0 +1,328 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.vocabulary;
+
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.caseStylesDigest;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.hash;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.mapReadOnly;
+import static dev.cookiecode.stylesniffer.internal.StorageSupport.replaceAtomically;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.internal.StorageSupport;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NonNull;
+
+/**
+ * Vocabulary of names whose case style has been computed ahead of time, stored in a file which is
+ * memory-mapped and looked up in place.
+ *
+ * <p>{@link #write(Path, Iterable, StyleSniffer)} classifies the names of a known vocabulary (the
+ * columns of a schema, the members of a public API) once, typically at build time. The file is an
+ * open addressing hash table: each slot holds the hash of a name, the position of its chars and its
+ * case style, the chars of the names being stored after the table as UTF-16. {@link #open(Path,
+ * StyleSniffer)} maps the file without reading it: the lookups only touch the pages of the slots
+ * they probe, so the vocabulary adds nearly nothing to the heap and is warm as soon as it is open.
+ * The file is little-endian, the native order of the common platforms, so that the slots and the
+ * chars are read without swapping their bytes.
+ *
+ * <p>The case styles registered in the sniffer, in matching order, the version of their classes and
+ * the version of the classification rules are summed up in a fingerprint stored in the file: a file
+ * written with other case styles, with the same case styles matched in another order, or by another
+ * release, is ignored, all its names being then unknown, so that it never returns outdated results.
+ * Names are stored trimmed (as defined by {@link String#trim()}) and the names which no case style
+ * matches are stored as well.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @author Sebastien Vermeille
+ * @see PrecomputedStyleSniffer
+ */
+public final class PrecomputedVocabulary {
+
+  static final int UNKNOWN = -1;
+  static final int UNCLASSIFIED = 0;
+
+  private static final int MAGIC = 0x53535631; // "SSV1"
+  private static final int FORMAT_VERSION = 1;
+  // magic, entry count, slot count, char count and fingerprint
+  private static final int HEADER_SIZE = Integer.BYTES * 4 + Long.BYTES;
+  // hash of the name, index of its first char, and its length followed by its case style byte
+  private static final int SLOT_INTS = 3;
+  private static final int SLOT_SIZE = SLOT_INTS * Integer.BYTES;
+  private static final int MAX_CASE_STYLES = 255;
+  private static final int MAX_NAME_LENGTH = (1 << 24) - 1;
+
+  private final IntBuffer slots;
+  private final CharBuffer chars;
+  private final int slotMask;
+  private final int entryCount;
+  // indexed by the case style byte of the slots, unclassified names being at index 0
+  private final List<Optional<CaseStyle>> results;
+
+  private PrecomputedVocabulary(
+      final IntBuffer slots,
+      final CharBuffer chars,
+      final int entryCount,
+      final List<Optional<CaseStyle>> results) {
+    this.slots = slots;
+    this.chars = chars;
+    this.slotMask = slots.capacity() / SLOT_INTS - 1;
+    this.entryCount = entryCount;
+    this.results = results;
+  }
+
+  /**
+   * Classifies the given names and writes them to a vocabulary file, replacing it atomically.
+   *
+   * <p>Blank names and names longer than 16 777 215 characters are left out, duplicates are only
+   * written once.
+   *
+   * @param file the vocabulary file
+   * @param names the names of the vocabulary
+   * @param styleSniffer the sniffer classifying the names
+   * @throws IOException if the file cannot be written
+   * @throws IllegalArgumentException if the sniffer has more than 255 case styles
+   * @throws StyleSnifferException if the vocabulary does not fit in a 2 GB file
+   */
+  public static void write(
+      @NonNull final Path file,
+      @NonNull final Iterable<? extends CharSequence> names,
+      @NonNull final StyleSniffer styleSniffer)
+      throws IOException {
+    final var caseStyleNames = sortedCaseStyleNames(styleSniffer);
+    if (caseStyleNames.size() > MAX_CASE_STYLES) {
+      throw new IllegalArgumentException(
+          String.format(
+              "At most %d case styles can be stored, %d are registered",
+              MAX_CASE_STYLES, caseStyleNames.size()));
+    }
+    final Map<String, Integer> caseStyleIndexes = new HashMap<>();
+    for (int i = 0; i < caseStyleNames.size(); i++) {
+      caseStyleIndexes.put(caseStyleNames.get(i), i + 1);
+    }
+
+    final var distinctNames = new LinkedHashSet<String>();
+    long charCount = 0;
+    for (final var name : names) {
+      final var trimmedName = name.toString().trim();
+      if (!trimmedName.isEmpty()
+          && trimmedName.length() <= MAX_NAME_LENGTH
+          && distinctNames.add(trimmedName)) {
+        charCount += trimmedName.length();
+      }
+    }
+
+    // keeps the table at most half full
+    final long slotCount = Math.max(2L, Long.highestOneBit(distinctNames.size()) * 4);
+    final long size = HEADER_SIZE + slotCount * SLOT_SIZE + charCount * Character.BYTES;
+    if (size > Integer.MAX_VALUE) {
+      throw new StyleSnifferException(
+          String.format(
+              "The vocabulary of %d names does not fit in a 2 GB file", distinctNames.size()));
+    }
+
+    final var buffer = ByteBuffer.allocate((int) size).order(LITTLE_ENDIAN);
+    buffer
+        .putInt(MAGIC)
+        .putInt(distinctNames.size())
+        .putInt((int) slotCount)
+        .putInt((int) charCount)
+        .putLong(fingerprint(styleSniffer));
+    // slices are big-endian whatever the order of the buffer they are taken from
+    final var slotBuffer =
+        buffer.slice(HEADER_SIZE, (int) slotCount * SLOT_SIZE).order(LITTLE_ENDIAN).asIntBuffer();
+    final var charBuffer =
+        buffer
+            .slice(HEADER_SIZE + (int) slotCount * SLOT_SIZE, (int) charCount * Character.BYTES)
+            .order(LITTLE_ENDIAN);
+    final int slotMask = (int) slotCount - 1;
+    int charIndex = 0;
+    for (final var name : distinctNames) {
+      final int caseStyle =
+          styleSniffer
+              .getCaseStyle(name)
+              .map(style -> caseStyleIndexes.getOrDefault(style.getName(), UNCLASSIFIED))
+              .orElse(UNCLASSIFIED);
+      final int hash = hash(name, 0, name.length());
+      int slot = hash & slotMask;
+      while (slotBuffer.get(slot * SLOT_INTS + 2) != 0) {
+        slot = (slot + 1) & slotMask;
+      }
+      slotBuffer.put(slot * SLOT_INTS, hash);
+      slotBuffer.put(slot * SLOT_INTS + 1, charIndex);
+      slotBuffer.put(slot * SLOT_INTS + 2, name.length() << 8 | caseStyle);
+      for (int i = 0; i < name.length(); i++) {
+        charBuffer.putChar(name.charAt(i));
+      }
+      charIndex += name.length();
+    }
+    // the slots and the chars have been written through views of the buffer
+    buffer.rewind();
+    replaceAtomically(file, buffer);
+  }
+
+  /**
+   * Maps a vocabulary file.
+   *
+   * <p>The vocabulary is bound to the case styles registered in the sniffer when it is opened: its
+   * results are the case style instances of this sniffer. If the file has been written with other
+   * case styles, or is not a vocabulary file, the returned vocabulary is empty.
+   *
+   * @param file the vocabulary file
+   * @param styleSniffer the sniffer whose case styles are returned
+   * @return the vocabulary
+   * @throws IOException if the file cannot be read
+   */
+  public static PrecomputedVocabulary open(
+      @NonNull final Path file, @NonNull final StyleSniffer styleSniffer) throws IOException {
+    final var caseStyleNames = sortedCaseStyleNames(styleSniffer);
+    final List<Optional<CaseStyle>> results = new ArrayList<>();
+    results.add(Optional.empty());
+    for (final var caseStyleName : caseStyleNames) {
+      results.add(styleSniffer.getCaseStyleWithVariantOrName(caseStyleName));
+    }
+
+    final var buffer = mapReadOnly(file).order(LITTLE_ENDIAN);
+    if (buffer.capacity() < HEADER_SIZE) {
+      return empty(results);
+    }
+    final int entryCount = buffer.getInt(Integer.BYTES);
+    final int slotCount = buffer.getInt(Integer.BYTES * 2);
+    final int charCount = buffer.getInt(Integer.BYTES * 3);
+    if (buffer.getInt(0) != MAGIC
+        || buffer.getLong(Integer.BYTES * 4) != fingerprint(styleSniffer)
+        || Integer.bitCount(slotCount) != 1
+        || entryCount < 0
+        || entryCount > slotCount / 2
+        || charCount < 0
+        || HEADER_SIZE + (long) slotCount * SLOT_SIZE + (long) charCount * Character.BYTES
+            != buffer.capacity()) {
+      return empty(results);
+    }
+    final int slotsSize = slotCount * SLOT_SIZE;
+    return new PrecomputedVocabulary(
+        buffer.slice(HEADER_SIZE, slotsSize).order(LITTLE_ENDIAN).asIntBuffer(),
+        buffer
+            .slice(HEADER_SIZE + slotsSize, charCount * Character.BYTES)
+            .order(LITTLE_ENDIAN)
+            .asCharBuffer(),
+        entryCount,
+        List.copyOf(results));
+  }
+
+  /**
+   * @return the number of names of the vocabulary
+   */
+  public int getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * Tells whether the given name belongs to the vocabulary, whether a case style matches it or not.
+   *
+   * @param name the name, trimmed before being looked up
+   * @return {@code true} if the name belongs to the vocabulary
+   */
+  public boolean contains(@NonNull final CharSequence name) {
+    final var trimmedName = name.toString().trim();
+    return find(trimmedName, 0, trimmedName.length()) != UNKNOWN;
+  }
+
+  /**
+   * Looks up a name in place.
+   *
+   * @param text the text holding the name, already trimmed
+   * @param start the index of the first character of the name (inclusive)
+   * @param end the index after the last character of the name (exclusive)
+   * @return the index of the result of the name, {@link #UNCLASSIFIED} if no case style matches it,
+   *     or {@link #UNKNOWN} if it does not belong to the vocabulary
+   */
+  int find(final CharSequence text, final int start, final int end) {
+    final int hash = hash(text, start, end);
+    final int length = end - start;
+    int slot = hash & slotMask;
+    int lengthAndCaseStyle;
+    while ((lengthAndCaseStyle = slots.get(slot * SLOT_INTS + 2)) != 0) {
+      if (slots.get(slot * SLOT_INTS) == hash
+          && lengthAndCaseStyle >>> 8 == length
+          && equals(slots.get(slot * SLOT_INTS + 1), text, start, end)) {
+        return lengthAndCaseStyle & 0xff;
+      }
+      slot = (slot + 1) & slotMask;
+    }
+    return UNKNOWN;
+  }
+
+  /**
+   * @param index an index returned by {@link #find(CharSequence, int, int)}, other than {@link
+   *     #UNKNOWN}
+   * @return the case style of the names having this index
+   */
+  Optional<CaseStyle> getResult(final int index) {
+    return index < results.size() ? results.get(index) : Optional.empty();
+  }
+
+  private boolean equals(
+      final int charIndex, final CharSequence text, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (chars.get(charIndex + i - start) != text.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static PrecomputedVocabulary empty(final List<Optional<CaseStyle>> results) {
+    return new PrecomputedVocabulary(
+        IntBuffer.allocate(SLOT_INTS), CharBuffer.allocate(0), 0, List.copyOf(results));
+  }
+
+  private static List<String> sortedCaseStyleNames(final StyleSniffer styleSniffer) {
+    return styleSniffer.getSupportedCaseStyles().stream().sorted().toList();
+  }
+
+  /**
+   * Sums up everything the stored case styles depend on besides the names: the format of the file
+   * and the registered case styles in matching order, along with the version of their classes and
+   * of the classification rules, so that a file written by another release is not trusted. The case
+   * styles are indexed in alphabetical order in the file, but the order in which they are matched
+   * decides the case style of the names matching several of them.
+   */
+  private static long fingerprint(final StyleSniffer styleSniffer) {
+    return StorageSupport.fingerprint(
+        caseStylesDigest("vocabulary format " + FORMAT_VERSION, styleSniffer));
+  }
+}
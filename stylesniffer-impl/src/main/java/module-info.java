@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.KebabCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.LowerCamelCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.PascalCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.ScreamingSnakeCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
+import dev.cookiecode.stylesniffer.lexer.JavaScriptSourceLexer;
+import dev.cookiecode.stylesniffer.lexer.JavaSourceLexer;
+import dev.cookiecode.stylesniffer.lexer.KotlinSourceLexer;
+import dev.cookiecode.stylesniffer.lexer.PythonSourceLexer;
+import dev.cookiecode.stylesniffer.lexer.SourceLexer;
+import dev.cookiecode.stylesniffer.lexer.SqlSourceLexer;
+
+/**
+ * The StyleSniffer implementation: the built-in case styles, the {@link
+ * dev.cookiecode.stylesniffer.StyleSnifferFactory} and the scanning tools.
+ *
+ * <p>Case styles are discovered with the {@link java.util.ServiceLoader}: on the module path, the
+ * modules registering their own case styles declare them with {@code provides
+ * dev.cookiecode.stylesniffer.api.CaseStyle with ...}.
+ *
+ * <p>The {@code jdk.incubator.vector} module is optional: the case styles only use the Vector API
+ * when it is enabled with {@code --add-modules jdk.incubator.vector}.
+ *
+ * @author Sebastien Vermeille
+ */
+module dev.cookiecode.stylesniffer {
+  requires transitive dev.cookiecode.stylesniffer.api;
+  requires java.management;
+  requires jdk.jfr;
+  requires static com.google.common;
+  requires static jakarta.annotation;
+  requires static java.compiler;
+  requires static jdk.incubator.vector;
+  requires static lombok;
+
+  exports dev.cookiecode.stylesniffer;
+  exports dev.cookiecode.stylesniffer.bytecode;
+  exports dev.cookiecode.stylesniffer.columnar;
+  exports dev.cookiecode.stylesniffer.convert;
+  exports dev.cookiecode.stylesniffer.document;
+  exports dev.cookiecode.stylesniffer.duplicate;
+  exports dev.cookiecode.stylesniffer.impl.casestyle;
+  exports dev.cookiecode.stylesniffer.intern;
+  exports dev.cookiecode.stylesniffer.jfr;
+  exports dev.cookiecode.stylesniffer.json;
+  exports dev.cookiecode.stylesniffer.lexer;
+  exports dev.cookiecode.stylesniffer.metrics;
+  exports dev.cookiecode.stylesniffer.rules;
+  exports dev.cookiecode.stylesniffer.scan;
+  exports dev.cookiecode.stylesniffer.tokenizer;
+  exports dev.cookiecode.stylesniffer.vocabulary;
+
+  uses CaseStyle;
+  uses SourceLexer;
+
+  provides CaseStyle with
+      KebabCaseStyle,
+      LowerCamelCaseStyle,
+      PascalCaseStyle,
+      ScreamingSnakeCaseStyle,
+      SnakeCaseStyle;
+  provides SourceLexer with
+      JavaSourceLexer,
+      KotlinSourceLexer,
+      PythonSourceLexer,
+      JavaScriptSourceLexer,
+      SqlSourceLexer;
+}
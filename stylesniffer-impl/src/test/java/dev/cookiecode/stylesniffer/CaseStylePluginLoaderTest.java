@@ -0,0 +1,275 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer;
+
+import static dev.cookiecode.stylesniffer.CaseStylePluginLoader.SERVICE_FILE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.metrics.StyleSnifferMetrics;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class CaseStylePluginLoaderTest {
+
+  private static final String DOT_CASE_STYLE =
+      """
+      package plugin;
+
+      public class DotCaseStyle implements dev.cookiecode.stylesniffer.api.CaseStyle {
+        @Override
+        public boolean matches(String name) {
+          return name.matches("[a-z]+(\\\\.[a-z]+)+");
+        }
+
+        @Override
+        public String getName() {
+          return "%s";
+        }
+      }
+      """;
+
+  private static final String FAILING_CASE_STYLE =
+      """
+      package plugin;
+
+      public class FailingCaseStyle implements dev.cookiecode.stylesniffer.api.CaseStyle {
+        public FailingCaseStyle() {
+          throw new IllegalStateException("Cannot be instantiated");
+        }
+
+        @Override
+        public boolean matches(String name) {
+          return false;
+        }
+
+        @Override
+        public String getName() {
+          return "failing";
+        }
+      }
+      """;
+
+  private static final Pattern CLASS_NAME = Pattern.compile("public class (\\w+)");
+
+  @TempDir private Path tempDir;
+
+  private Path pluginDirectory;
+  private StyleSniffer styleSniffer;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    pluginDirectory = Files.createDirectory(tempDir.resolve("plugins"));
+    styleSniffer = StyleSnifferFactory.createStyleSniffer();
+  }
+
+  @Test
+  void loadAllShouldRegisterTheCaseStylesOfTheJarsGivenAPluginDirectory() throws Exception {
+    // GIVEN
+    writePluginJar(pluginDirectory.resolve("dot-case.jar"), DOT_CASE_STYLE.formatted("dot.case"));
+    final var pluginLoader = new CaseStylePluginLoader(styleSniffer, pluginDirectory);
+
+    // WHEN
+    final var actualPlugins = pluginLoader.loadAll();
+
+    // THEN
+    assertThat(actualPlugins).hasSize(1);
+    assertThat(actualPlugins.get(0).caseStyleClassNames()).containsExactly("plugin.DotCaseStyle");
+    assertThat(styleSniffer.getCaseStyle("user.account.id").map(CaseStyle::getName))
+        .hasValue("dot.case");
+  }
+
+  @Test
+  void unloadShouldRemoveTheCaseStylesOfThePluginGivenALoadedJar() throws Exception {
+    // GIVEN
+    final var jar =
+        writePluginJar(
+            pluginDirectory.resolve("dot-case.jar"), DOT_CASE_STYLE.formatted("dot.case"));
+    final var pluginLoader = new CaseStylePluginLoader(styleSniffer, pluginDirectory);
+    pluginLoader.load(jar);
+
+    // WHEN
+    final var actualResult = pluginLoader.unload(jar);
+
+    // THEN
+    assertThat(actualResult).isTrue();
+    assertThat(pluginLoader.getPlugins()).isEmpty();
+    assertThat(styleSniffer.getSupportedCaseStyles()).doesNotContain("dot.case");
+  }
+
+  @Test
+  void loadAllShouldUnloadThePluginsGivenTheirJarWasRemoved() throws Exception {
+    // GIVEN
+    final var jar =
+        writePluginJar(
+            pluginDirectory.resolve("dot-case.jar"), DOT_CASE_STYLE.formatted("dot.case"));
+    final var pluginLoader = new CaseStylePluginLoader(styleSniffer, pluginDirectory);
+    pluginLoader.loadAll();
+    Files.delete(jar);
+
+    // WHEN
+    final var actualPlugins = pluginLoader.loadAll();
+
+    // THEN
+    assertThat(actualPlugins).isEmpty();
+    assertThat(styleSniffer.getSupportedCaseStyles()).doesNotContain("dot.case");
+  }
+
+  @Test
+  void loadShouldReplaceTheCaseStylesOfThePreviousVersionGivenTheJarChanged() throws Exception {
+    // GIVEN
+    final var jar =
+        writePluginJar(
+            pluginDirectory.resolve("dot-case.jar"), DOT_CASE_STYLE.formatted("dot.case"));
+    final var pluginLoader = new CaseStylePluginLoader(styleSniffer, pluginDirectory);
+    final var firstVersion = pluginLoader.load(jar);
+    final var newJar =
+        writePluginJar(tempDir.resolve("dot-case-2.jar"), DOT_CASE_STYLE.formatted("dot.case.2"));
+    Files.move(newJar, jar, REPLACE_EXISTING);
+
+    // WHEN
+    final var secondVersion = pluginLoader.load(jar);
+
+    // THEN
+    assertThat(secondVersion.hash()).isNotEqualTo(firstVersion.hash());
+    assertThat(styleSniffer.getSupportedCaseStyles())
+        .contains("dot.case.2")
+        .doesNotContain("dot.case");
+  }
+
+  @Test
+  void loadShouldNotRegisterAnyCaseStyleGivenOneCannotBeInstantiated() throws Exception {
+    // GIVEN
+    final var jar =
+        writePluginJar(
+            pluginDirectory.resolve("broken.jar"),
+            DOT_CASE_STYLE.formatted("dot.case"),
+            FAILING_CASE_STYLE);
+    final var pluginLoader = new CaseStylePluginLoader(styleSniffer, pluginDirectory);
+    final var supportedCaseStyles = styleSniffer.getSupportedCaseStyles();
+
+    assertThrows(
+        StyleSnifferException.class,
+        () -> {
+          // WHEN
+          pluginLoader.load(jar);
+        });
+
+    // THEN
+    assertThat(pluginLoader.getPlugins()).isEmpty();
+    assertThat(styleSniffer.getSupportedCaseStyles()).isEqualTo(supportedCaseStyles);
+  }
+
+  @Test
+  void loadAllShouldUseTheDiscoveryCacheGivenAnUnchangedJar() throws Exception {
+    // GIVEN
+    writePluginJar(pluginDirectory.resolve("dot-case.jar"), DOT_CASE_STYLE.formatted("dot.case"));
+    final var cacheFile = tempDir.resolve("cache").resolve("plugins.properties");
+    final var firstRun = new CaseStylePluginLoader(styleSniffer, pluginDirectory, cacheFile);
+    final var hash = firstRun.loadAll().get(0).hash();
+    firstRun.close();
+    assertThat(Files.readString(cacheFile)).contains(hash + "=plugin.DotCaseStyle");
+    // the cache now pretends that the JAR holds no case style
+    Files.writeString(cacheFile, hash + "=\n");
+    final var restartedStyleSniffer = StyleSnifferFactory.createStyleSniffer();
+    final var secondRun =
+        new CaseStylePluginLoader(restartedStyleSniffer, pluginDirectory, cacheFile);
+
+    // WHEN
+    final var actualPlugins = secondRun.loadAll();
+
+    // THEN
+    assertThat(actualPlugins.get(0).caseStyleClassNames()).isEmpty();
+    assertThat(restartedStyleSniffer.getSupportedCaseStyles()).doesNotContain("dot.case");
+  }
+
+  @Test
+  void constructorShouldThrowAStyleSnifferExceptionGivenASnifferNotCreatedByTheFactory() {
+    // GIVEN
+    final var instrumentedStyleSniffer =
+        StyleSnifferFactory.createInstrumentedStyleSniffer(new StyleSnifferMetrics());
+
+    assertThrows(
+        StyleSnifferException.class,
+        () -> {
+          // WHEN
+          new CaseStylePluginLoader(instrumentedStyleSniffer, pluginDirectory);
+        });
+  }
+
+  private Path writePluginJar(final Path jar, final String... sources)
+      throws IOException, URISyntaxException {
+    final var sourceDirectory = Files.createTempDirectory(tempDir, "sources");
+    final var classDirectory = Files.createTempDirectory(tempDir, "classes");
+    final var apiLocation = CaseStyle.class.getProtectionDomain().getCodeSource().getLocation();
+    final var classPath = Path.of(apiLocation.toURI()).toString();
+    final List<String> arguments =
+        new ArrayList<>(List.of("-d", classDirectory.toString(), "-cp", classPath));
+    final List<String> classNames = new ArrayList<>();
+    for (final var source : sources) {
+      final var matcher = CLASS_NAME.matcher(source);
+      assertThat(matcher.find()).isTrue();
+      classNames.add("plugin." + matcher.group(1));
+      final var sourceFile = sourceDirectory.resolve(matcher.group(1) + ".java");
+      Files.writeString(sourceFile, source);
+      arguments.add(sourceFile.toString());
+    }
+    final var compiler = ToolProvider.getSystemJavaCompiler();
+    assertThat(compiler.run(null, null, null, arguments.toArray(String[]::new))).isZero();
+
+    try (var out = new JarOutputStream(Files.newOutputStream(jar));
+        Stream<Path> classFiles = Files.walk(classDirectory)) {
+      out.putNextEntry(new JarEntry(SERVICE_FILE));
+      out.write(String.join("\n", classNames).getBytes(UTF_8));
+      out.closeEntry();
+      for (final var classFile : classFiles.filter(Files::isRegularFile).toList()) {
+        out.putNextEntry(
+            new JarEntry(classDirectory.relativize(classFile).toString().replace('\\', '/')));
+        out.write(Files.readAllBytes(classFile));
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
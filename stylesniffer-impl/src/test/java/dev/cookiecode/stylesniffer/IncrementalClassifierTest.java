@@ -0,0 +1,208 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.PascalCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class IncrementalClassifierTest {
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @Test
+  void getCaseStyleShouldReturnTheMatchOfTheSnifferGivenEachPrefixOfAName() {
+    final var names =
+        List.of("userAccountId", "user_account_id", "user-account-id", "USER_ID", "UserId", "a#b");
+    for (final var name : names) {
+      // GIVEN
+      final var classifier = styleSniffer.newIncrementalClassifier();
+
+      for (int length = 1; length <= name.length(); length++) {
+        // WHEN
+        classifier.append(name.charAt(length - 1));
+
+        // THEN
+        final var prefix = name.substring(0, length);
+        assertThat(classifier.getCaseStyle()).isEqualTo(styleSniffer.getCaseStyle(prefix));
+      }
+    }
+  }
+
+  @Test
+  void deleteLastShouldRestoreThePreviousMatchGivenCharactersWereAppended() {
+    // GIVEN
+    final var classifier = styleSniffer.newIncrementalClassifier();
+    classifier.append("UserAccount");
+    final var expectedCaseStyle = classifier.getCaseStyle();
+    classifier.append("_ID");
+
+    // WHEN
+    classifier.deleteLast(3);
+
+    // THEN
+    assertThat(classifier.length()).isEqualTo(11);
+    assertThat(classifier.getCaseStyle()).isEqualTo(expectedCaseStyle);
+    assertThat(classifier.getCaseStyle().map(CaseStyle::getName)).hasValue("PascalCase");
+  }
+
+  @Test
+  void appendShouldKeepTrackOfTheMatchGivenANameLongerThanTheInitialCapacity() {
+    // GIVEN
+    final var classifier = styleSniffer.newIncrementalClassifier();
+    final var name = "a_very_long_generated_identifier".repeat(10);
+
+    // WHEN
+    classifier.append(name);
+
+    // THEN
+    assertThat(classifier.toString()).isEqualTo(name);
+    assertThat(classifier.getCaseStyle().map(CaseStyle::getName)).hasValue("snake_case");
+  }
+
+  @Test
+  void getCaseStyleShouldReturnAnEmptyOptionalGivenAnEmptyName() {
+    // GIVEN
+    final var classifier = styleSniffer.newIncrementalClassifier();
+    classifier.append("userId");
+
+    // WHEN
+    classifier.clear();
+
+    // THEN
+    assertThat(classifier.getCaseStyle()).isEmpty();
+  }
+
+  @Test
+  void newIncrementalClassifierShouldMatchTheCaseStylesInTheOrderOfTheSnifferGivenTheDefault() {
+    // GIVEN
+    final var pascalCaseStyle = new PascalCaseStyle();
+    final var dotCaseStyle = new DotCaseStyle();
+    final StyleSniffer listedCaseStyles =
+        new ListedCaseStyles(List.of(dotCaseStyle, new SnakeCaseStyle(), pascalCaseStyle));
+    final var classifier = listedCaseStyles.newIncrementalClassifier();
+
+    // WHEN
+    classifier.append("User");
+
+    // THEN
+    assertThat(classifier.getCaseStyle()).hasValue(pascalCaseStyle);
+    assertThat(classifier.getPossibleCaseStyles()).containsExactly(dotCaseStyle, pascalCaseStyle);
+  }
+
+  @Test
+  void getCaseStyleShouldMatchTheWholeNameGivenACaseStyleWithoutAutomaton() {
+    // GIVEN
+    final var dotCaseStyle = new DotCaseStyle();
+    final var classifier = new IncrementalClassifier(List.of(new SnakeCaseStyle(), dotCaseStyle));
+
+    // WHEN
+    classifier.append("user.id");
+
+    // THEN
+    assertThat(classifier.getCaseStyle()).hasValue(dotCaseStyle);
+  }
+
+  @Test
+  void getPossibleCaseStylesShouldOnlyReturnTheCaseStylesNotRejectedYet() {
+    // GIVEN
+    final var dotCaseStyle = new DotCaseStyle();
+    final var pascalCaseStyle = new PascalCaseStyle();
+    final var classifier =
+        new IncrementalClassifier(List.of(new SnakeCaseStyle(), pascalCaseStyle, dotCaseStyle));
+
+    // WHEN
+    classifier.append("User");
+
+    // THEN
+    assertThat(classifier.getPossibleCaseStyles()).containsExactly(pascalCaseStyle, dotCaseStyle);
+  }
+
+  @Test
+  void deleteLastShouldThrowAnIndexOutOfBoundsExceptionGivenMoreCharactersThanTheName() {
+    // GIVEN
+    final var classifier = styleSniffer.newIncrementalClassifier();
+    classifier.append("id");
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> {
+          // WHEN
+          classifier.deleteLast(3);
+        });
+  }
+
+  private static class DotCaseStyle implements CaseStyle {
+
+    @Override
+    public boolean matches(@NonNull final String name) {
+      return name.matches("[a-z]+(\\.[a-z]+)+");
+    }
+
+    @Override
+    public String getName() {
+      return "dot.case";
+    }
+  }
+
+  /** Sniffer relying on the default classifier of the interface. */
+  private record ListedCaseStyles(List<CaseStyle> caseStyles) implements StyleSniffer {
+
+    @Override
+    public Optional<CaseStyle> getCaseStyle(final String name) {
+      return caseStyles.stream().filter(style -> name != null && style.matches(name)).findFirst();
+    }
+
+    @Override
+    public Optional<CaseStyle> getCaseStyleWithVariantOrName(final String variantOrName) {
+      return caseStyles.stream().filter(style -> style.getName().equals(variantOrName)).findFirst();
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStyles() {
+      return caseStyles.stream()
+          .map(CaseStyle::getName)
+          .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStylesIncludingVariants() {
+      return getSupportedCaseStyles();
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.PascalCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class LazyCaseStyleListTest {
+
+  private final List<Class<? extends CaseStyle>> instantiated = new ArrayList<>();
+
+  @Test
+  void sizeShouldNotInstantiateAnyCaseStyleGivenProviders() {
+    // GIVEN
+    final var caseStyles = lazyList();
+
+    // WHEN
+    final var actualSize = caseStyles.size();
+
+    // THEN
+    assertThat(actualSize).isEqualTo(2);
+    assertThat(instantiated).isEmpty();
+  }
+
+  @Test
+  void getShouldOnlyInstantiateTheRequestedCaseStyleGivenItIsReadForTheFirstTime() {
+    // GIVEN
+    final var caseStyles = lazyList();
+
+    // WHEN
+    final var actualCaseStyle = caseStyles.get(1);
+
+    // THEN
+    assertThat(actualCaseStyle).isInstanceOf(SnakeCaseStyle.class);
+    assertThat(instantiated).containsExactly(SnakeCaseStyle.class);
+  }
+
+  @Test
+  void getShouldReturnTheSameInstanceGivenTheCaseStyleIsReadSeveralTimes() {
+    // GIVEN
+    final var caseStyles = lazyList();
+    final var firstRead = caseStyles.get(0);
+
+    // WHEN
+    final var secondRead = caseStyles.get(0);
+
+    // THEN
+    assertThat(secondRead).isSameAs(firstRead);
+    assertThat(instantiated).containsExactly(PascalCaseStyle.class);
+  }
+
+  private LazyCaseStyleList lazyList() {
+    return new LazyCaseStyleList(
+        List.of(
+            provider(PascalCaseStyle.class, PascalCaseStyle::new),
+            provider(SnakeCaseStyle.class, SnakeCaseStyle::new)),
+        provider -> {
+          instantiated.add(provider.type());
+          return provider.get();
+        });
+  }
+
+  private static ServiceLoader.Provider<CaseStyle> provider(
+      final Class<? extends CaseStyle> type, final Supplier<CaseStyle> supplier) {
+    return new ServiceLoader.Provider<>() {
+      @Override
+      public Class<? extends CaseStyle> type() {
+        return type;
+      }
+
+      @Override
+      public CaseStyle get() {
+        return supplier.get();
+      }
+    };
+  }
+}
@@ -45,6 +45,21 @@ class StyleSnifferFactoryTest {
         });
   }
 
+  @Test
+  void createLazyStyleSnifferShouldRecognizeTheSameCaseStylesAsTheEagerOne() {
+    // GIVEN
+    final var lazyStyleSniffer = StyleSnifferFactory.createLazyStyleSniffer();
+
+    // WHEN
+    final var actualCaseStyle = lazyStyleSniffer.getCaseStyle("PascalCaseInput");
+
+    // THEN
+    assertTrue(actualCaseStyle.isPresent());
+    assertEquals(
+        StyleSnifferFactory.createStyleSniffer().getSupportedCaseStyles(),
+        lazyStyleSniffer.getSupportedCaseStyles());
+  }
+
   @Test
   void instantiateStyleSnifferShouldNotThrowExceptions() {
     assertDoesNotThrow(
@@ -26,10 +26,14 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import dev.cookiecode.stylesniffer.api.CaseStyle;
 import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
-import dev.cookiecode.stylesniffer.generated.CaseStyleInjector;
 import dev.cookiecode.stylesniffer.impl.casestyle.PascalCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -159,6 +163,45 @@ class StyleSnifferImplTest {
     assertThat(actualResult).isInstanceOf(PascalCaseStyle.class);
   }
 
+  @Test
+  void provideCaseStyleShouldThrowStyleSnifferExceptionGivenTheProviderFails() {
+    // GIVEN
+    final var provider = failingProvider(FaultyCaseStyleWithRuntimeException.class);
+
+    assertThrows(
+        StyleSnifferException.class,
+        () -> {
+          // WHEN
+          styleSniffer.provideCaseStyle(provider);
+        });
+  }
+
+  @Test
+  void registerCaseStyleProvidersShouldRegisterTheCaseStylesOfTheServiceFiles() {
+    // GIVEN
+    final var providers = ServiceLoader.load(CaseStyle.class).stream().toList();
+
+    // WHEN
+    styleSniffer.registerCaseStyleProviders(providers);
+
+    // THEN
+    assertThat(styleSniffer.getSupportedCaseStyles()).contains(new PascalCaseStyle().getName());
+    assertThat(styleSniffer.getCaseStyle("PascalCaseInput"))
+        .containsInstanceOf(PascalCaseStyle.class);
+  }
+
+  @Test
+  void registerCaseStyleProvidersShouldSkipTheProvidersOfAbstractClasses() {
+    // GIVEN
+    final var providers = List.of(failingProvider(AbstractCaseStyle.class));
+
+    // WHEN
+    styleSniffer.registerCaseStyleProviders(providers);
+
+    // THEN
+    assertThat(styleSniffer.getSupportedCaseStyles()).isEmpty();
+  }
+
   @Test
   void getCaseStyleShouldReturnAnEmptyResultGivenNullInput() {
     // GIVEN
@@ -210,6 +253,56 @@ class StyleSnifferImplTest {
     assertThat(result).isPresent().get().isInstanceOf(pascalCaseImplClass);
   }
 
+  @Test
+  void getCaseStyleWithRangeShouldReturnAPascalCaseCaseStyleGivenTheRangeIsWrittenInPascalCase() {
+    // GIVEN
+    final var text = "new SomePascalCase();";
+    styleSniffer.registerCaseStyleClasses(registeredCaseStyles());
+
+    // WHEN
+    final var result = styleSniffer.getCaseStyle(text, 4, 18);
+
+    // THEN
+    assertThat(result).isPresent().get().isInstanceOf(PascalCaseStyle.class);
+  }
+
+  @Test
+  void getCaseStyleWithRangeShouldIgnoreSurroundingWhitespacesLikeGetCaseStyle() {
+    // GIVEN
+    final var text = "=  some_snake_case \t;";
+    styleSniffer.registerCaseStyleClasses(registeredCaseStyles());
+
+    // WHEN
+    final var result = styleSniffer.getCaseStyle(text, 1, text.length() - 1);
+
+    // THEN
+    assertThat(result).isEqualTo(styleSniffer.getCaseStyle("  some_snake_case \t"));
+    assertThat(result).isPresent().get().isInstanceOf(SnakeCaseStyle.class);
+  }
+
+  @Test
+  void getCaseStyleWithRangeShouldReturnAnEmptyResultGivenABlankRange() {
+    // GIVEN
+    final var text = "a   b";
+    styleSniffer.registerCaseStyleClasses(registeredCaseStyles());
+
+    // WHEN
+    final var result = styleSniffer.getCaseStyle(text, 1, 4);
+
+    // THEN
+    assertThat(result).isNotNull().isEmpty();
+  }
+
+  @Test
+  void getCaseStyleWithRangeShouldThrowAnIndexOutOfBoundsExceptionGivenAnInvalidRange() {
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> {
+          // WHEN
+          styleSniffer.getCaseStyle("someText", 4, 42);
+        });
+  }
+
   @Test
   void ggetCaseStyleWithVariantOrNameShouldReturnAnEmptyResultGivenNullInput() {
     // GIVEN
@@ -251,7 +344,7 @@ class StyleSnifferImplTest {
       getCaseStyleWithVariantOrNameShouldReturnPascalCaseCaseStyleGivenInputIsUpperCamelCaseVariant() {
     // GIVEN
     final String variantName = "UpperCamelCase";
-    styleSniffer = new StyleSnifferImpl(new CaseStyleInjector().getAnnotatedCaseStyles());
+    styleSniffer = new StyleSnifferImpl(registeredCaseStyles());
 
     // WHEN
     final var result = styleSniffer.getCaseStyleWithVariantOrName(variantName);
@@ -264,7 +357,7 @@ class StyleSnifferImplTest {
   void getCaseStyleWithVariantOrNameShouldReturnPascalCaseCaseStyleGivenInputIsUpperCamelCase() {
     // GIVEN
     final String name = "PascalCase";
-    styleSniffer = new StyleSnifferImpl(new CaseStyleInjector().getAnnotatedCaseStyles());
+    styleSniffer = new StyleSnifferImpl(registeredCaseStyles());
 
     // WHEN
     final var result = styleSniffer.getCaseStyleWithVariantOrName(name);
@@ -278,7 +371,7 @@ class StyleSnifferImplTest {
       getSupportedCaseStylesShouldReturnANonEmptyListOfSupportedCaseStylesGivenSomeImplementationExists() {
     // GIVEN
     // case embedded styles implementations
-    styleSniffer.registerCaseStyleClasses(new CaseStyleInjector().getAnnotatedCaseStyles());
+    styleSniffer.registerCaseStyleClasses(registeredCaseStyles());
 
     // WHEN
     final var actuallySupportedCaseStyle = styleSniffer.getSupportedCaseStyles();
@@ -291,7 +384,7 @@ class StyleSnifferImplTest {
   void getSupportedCaseStylesShouldContainsPascalCaseGivenPascalCaseImplementationExist() {
     // GIVEN
     // case embedded styles implementations
-    styleSniffer.registerCaseStyleClasses(new CaseStyleInjector().getAnnotatedCaseStyles());
+    styleSniffer.registerCaseStyleClasses(registeredCaseStyles());
 
     final var pascalCaseStyleName = new PascalCaseStyle().getName();
 
@@ -307,7 +400,7 @@ class StyleSnifferImplTest {
       getSupportedCaseStylesIncludingVariantsShouldContainsPascalCaseAndAllItsVariantsGivenPascalCaseImplementationExist() {
     // GIVEN
     // case embedded styles implementations
-    styleSniffer.registerCaseStyleClasses(new CaseStyleInjector().getAnnotatedCaseStyles());
+    styleSniffer.registerCaseStyleClasses(registeredCaseStyles());
 
     final var pascalCaseStyle = new PascalCaseStyle();
 
@@ -319,4 +412,26 @@ class StyleSnifferImplTest {
         .containsAll(pascalCaseStyle.getVariantNames())
         .contains(pascalCaseStyle.getName());
   }
+
+  private static ServiceLoader.Provider<CaseStyle> failingProvider(
+      final Class<? extends CaseStyle> type) {
+    return new ServiceLoader.Provider<>() {
+      @Override
+      public Class<? extends CaseStyle> type() {
+        return type;
+      }
+
+      @Override
+      public CaseStyle get() {
+        throw new ServiceConfigurationError(type.getName() + " cannot be instantiated");
+      }
+    };
+  }
+
+  /** Lists the case style classes registered as services, as the factory discovers them. */
+  private static List<Class<? extends CaseStyle>> registeredCaseStyles() {
+    return ServiceLoader.load(CaseStyle.class).stream()
+        .<Class<? extends CaseStyle>>map(ServiceLoader.Provider::type)
+        .toList();
+  }
 }
@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.impl.casestyle.KebabCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.LowerCamelCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.PascalCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.ScreamingSnakeCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * <p>Exercises a sniffer created by the factory end to end. This is the only test run by the {@code
+ * native} profile, which builds it into a native image.
+ *
+ * @author Sebastien Vermeille
+ */
+class StyleSnifferSmokeTest {
+
+  @Test
+  void createStyleSnifferShouldRecognizeTheBuiltInCaseStylesGivenTheServiceFiles() {
+    // GIVEN
+    final var styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+    // WHEN
+    final var camelCase = styleSniffer.getCaseStyle("userAccountId");
+    final var pascalCase = styleSniffer.getCaseStyle("UserAccountId");
+    final var snakeCase = styleSniffer.getCaseStyle("user_account_id");
+    final var screamingSnakeCase = styleSniffer.getCaseStyle("USER_ACCOUNT_ID");
+    final var kebabCase = styleSniffer.getCaseStyle("user-account-id");
+
+    // THEN
+    assertThat(camelCase).containsInstanceOf(LowerCamelCaseStyle.class);
+    assertThat(pascalCase).containsInstanceOf(PascalCaseStyle.class);
+    assertThat(snakeCase).containsInstanceOf(SnakeCaseStyle.class);
+    assertThat(screamingSnakeCase).containsInstanceOf(ScreamingSnakeCaseStyle.class);
+    assertThat(kebabCase).containsInstanceOf(KebabCaseStyle.class);
+  }
+}
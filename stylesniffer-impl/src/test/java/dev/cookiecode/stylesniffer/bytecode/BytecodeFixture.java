@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.bytecode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class whose compiled form is scanned by the bytecode tests.
+ *
+ * @author Sebastien Vermeille
+ */
+class BytecodeFixture {
+
+  static final int MAX_RETRIES = 3;
+
+  private final List<String> orderNames = new ArrayList<>();
+  private int données;
+
+  String getFirstOrderName() {
+    final Runnable lambda = () -> orderNames.add("lambda bodies are synthetic");
+    lambda.run();
+    return orderNames.get(données);
+  }
+
+  Object anonymous() {
+    return new Object() {
+      @Override
+      public String toString() {
+        return "anonymous";
+      }
+    };
+  }
+
+  static final class Nested_Type {
+    int legacy_value;
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.bytecode;
+
+import static dev.cookiecode.stylesniffer.bytecode.ClassFileReaderTest.classFile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class BytecodeScannerTest {
+
+  private static final String PACKAGE = "dev/cookiecode/stylesniffer/bytecode/";
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void scanShouldReportTheNamesDeclaredByTheClassesOfAJar() throws IOException {
+    // GIVEN
+    final var jar =
+        jar(
+            "fixture.jar",
+            Map.of(
+                PACKAGE + "BytecodeFixture.class",
+                classFile("BytecodeFixture"),
+                PACKAGE + "BytecodeFixture$Nested_Type.class",
+                classFile("BytecodeFixture$Nested_Type"),
+                "META-INF/versions/21/" + PACKAGE + "BytecodeFixture.class",
+                classFile("BytecodeFixture"),
+                "META-INF/MANIFEST.MF",
+                "Manifest-Version: 1.0\n".getBytes()));
+
+    // WHEN
+    final var names = new ConcurrentLinkedQueue<String>();
+    final var count =
+        new BytecodeScanner()
+            .scan(
+                jar,
+                (className, name, start, end, kind) ->
+                    names.add(name.subSequence(start, end).toString()));
+
+    // THEN
+    assertThat(names)
+        .containsExactlyInAnyOrder(
+            "BytecodeFixture",
+            "MAX_RETRIES",
+            "orderNames",
+            "donn\u00e9es",
+            "getFirstOrderName",
+            "anonymous",
+            "Nested_Type",
+            "legacy_value");
+    assertThat(count).isEqualTo(8L);
+  }
+
+  @Test
+  void scanShouldWalkDirectoriesIncludingTheArchivesTheyContain() throws IOException {
+    // GIVEN
+    final var classes = Files.createDirectories(tempDir.resolve("classes/" + PACKAGE));
+    Files.write(classes.resolve("BytecodeFixture.class"), classFile("BytecodeFixture"));
+    Files.writeString(classes.resolve("notes.txt"), "not scanned");
+    jar("lib.JAR", Map.of("Nested.class", classFile("BytecodeFixture$Nested_Type")));
+
+    // WHEN
+    final var count =
+        new BytecodeScanner(false).scan(tempDir, (className, name, start, end, kind) -> {});
+
+    // THEN
+    assertThat(count).isEqualTo(8L);
+  }
+
+  @Test
+  void scanShouldReportTheFaultyEntryGivenAMalformedClassFile() throws IOException {
+    // GIVEN
+    final var jar = jar("broken.jar", Map.of("Broken.class", new byte[] {1, 2, 3}));
+    final var scanner = new BytecodeScanner();
+
+    // WHEN
+    final var exception =
+        assertThrows(
+            StyleSnifferException.class,
+            () -> scanner.scan(jar, (className, name, start, end, kind) -> {}));
+
+    // THEN
+    assertThat(exception.getMessage()).contains("broken.jar!/Broken.class");
+  }
+
+  @Test
+  void scanShouldAllowClassifyingEachNameInPlace() throws IOException {
+    // GIVEN
+    final var styleSniffer = StyleSnifferFactory.createStyleSniffer();
+    final var file = tempDir.resolve("BytecodeFixture.class");
+    Files.write(file, classFile("BytecodeFixture"));
+
+    // WHEN
+    final var styles = new ConcurrentHashMap<String, String>();
+    new BytecodeScanner()
+        .scan(
+            file,
+            (className, name, start, end, kind) ->
+                styleSniffer
+                    .getCaseStyle(name, start, end)
+                    .ifPresent(
+                        style ->
+                            styles.put(name.subSequence(start, end).toString(), style.getName())));
+
+    // THEN
+    assertThat(styles)
+        .containsEntry("BytecodeFixture", "PascalCase")
+        .containsEntry("MAX_RETRIES", "SCREAMING_SNAKE_CASE")
+        .containsEntry("orderNames", "camelCase")
+        .containsEntry("getFirstOrderName", "camelCase");
+  }
+
+  private Path jar(final String fileName, final Map<String, byte[]> entries) throws IOException {
+    final var jar = tempDir.resolve(fileName);
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (final var entry : entries.entrySet()) {
+        out.putNextEntry(new ZipEntry(entry.getKey()));
+        out.write(entry.getValue());
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.bytecode;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class ClassFileReaderTest {
+
+  private final ClassFileReader reader = new ClassFileReader();
+
+  @Test
+  void readShouldReportTheClassNameAndTheMembersWrittenInTheSource() throws IOException {
+    // GIVEN
+    final var classFile = classFile("BytecodeFixture");
+
+    // WHEN
+    final var names = new ArrayList<String>();
+    final var count = reader.read(classFile, 0, classFile.length, collectingInto(names));
+
+    // THEN
+    assertThat(names)
+        .containsExactly(
+            "dev/cookiecode/stylesniffer/bytecode/BytecodeFixture TYPE BytecodeFixture",
+            "dev/cookiecode/stylesniffer/bytecode/BytecodeFixture CONSTANT MAX_RETRIES",
+            "dev/cookiecode/stylesniffer/bytecode/BytecodeFixture FIELD orderNames",
+            "dev/cookiecode/stylesniffer/bytecode/BytecodeFixture FIELD donn\u00e9es",
+            "dev/cookiecode/stylesniffer/bytecode/BytecodeFixture METHOD getFirstOrderName",
+            "dev/cookiecode/stylesniffer/bytecode/BytecodeFixture METHOD anonymous");
+    assertThat(count).isEqualTo(names.size());
+  }
+
+  @Test
+  void readShouldReportTheSimpleNameOfNestedClasses() throws IOException {
+    // GIVEN
+    final var classFile = classFile("BytecodeFixture$Nested_Type");
+
+    // WHEN
+    final var names = new ArrayList<String>();
+    reader.read(new ByteArrayInputStream(classFile), collectingInto(names));
+
+    // THEN
+    assertThat(names)
+        .containsExactly(
+            "dev/cookiecode/stylesniffer/bytecode/BytecodeFixture$Nested_Type TYPE Nested_Type",
+            "dev/cookiecode/stylesniffer/bytecode/BytecodeFixture$Nested_Type FIELD"
+                + " legacy_value");
+  }
+
+  @Test
+  void readShouldOnlyReportTheMembersOfAnonymousClasses() throws IOException {
+    // GIVEN
+    final var classFile = classFile("BytecodeFixture$1");
+
+    // WHEN
+    final var kinds = new ArrayList<String>();
+    reader.read(
+        classFile,
+        0,
+        classFile.length,
+        (className, name, start, end, kind) ->
+            kinds.add(kind + " " + name.subSequence(start, end)));
+
+    // THEN
+    assertThat(kinds).containsExactly(METHOD + " toString");
+  }
+
+  @Test
+  void readShouldAcceptAClassFileInTheMiddleOfAnArray() throws IOException {
+    // GIVEN
+    final var classFile = classFile("BytecodeFixture$Nested_Type");
+    final var array = new byte[classFile.length + 20];
+    System.arraycopy(classFile, 0, array, 10, classFile.length);
+
+    // WHEN
+    final var kinds = new ArrayList<Object>();
+    reader.read(
+        array, 10, classFile.length, (className, name, start, end, kind) -> kinds.add(kind));
+
+    // THEN
+    assertThat(kinds).containsExactly(TYPE, FIELD);
+  }
+
+  @Test
+  void readShouldThrowAStyleSnifferExceptionGivenSomethingElseThanAClassFile() {
+    // GIVEN
+    final var notAClassFile = "definitely not a class file".getBytes();
+
+    // WHEN / THEN
+    assertThrows(
+        StyleSnifferException.class,
+        () -> reader.read(notAClassFile, 0, notAClassFile.length, (c, n, s, e, k) -> {}));
+  }
+
+  @Test
+  void readShouldThrowAStyleSnifferExceptionGivenATruncatedClassFile() throws IOException {
+    // GIVEN
+    final var classFile = classFile("BytecodeFixture");
+    final var truncated = Arrays.copyOf(classFile, classFile.length / 2);
+
+    // WHEN / THEN
+    assertThrows(
+        StyleSnifferException.class,
+        () -> reader.read(truncated, 0, truncated.length, (c, n, s, e, k) -> {}));
+  }
+
+  @Test
+  void readShouldThrowAStyleSnifferExceptionGivenAClassFileTruncatedInItsConstantPool()
+      throws IOException {
+    // GIVEN
+    final var classFile = classFile("BytecodeFixture");
+    // the bytes following the range are those of the complete class file
+    final int length = 40;
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> reader.read(classFile, 0, length, (c, n, s, e, k) -> {}))
+        .isInstanceOf(StyleSnifferException.class)
+        .hasMessageContaining("constant pool truncated");
+    assertThatThrownBy(
+            () ->
+                reader.read(new ByteArrayInputStream(classFile, 0, length), (c, n, s, e, k) -> {}))
+        .isInstanceOf(StyleSnifferException.class)
+        .hasMessageContaining("constant pool truncated");
+  }
+
+  @Test
+  void readShouldKeepWorkingAfterAMalformedClassFile() throws IOException {
+    // GIVEN
+    final var classFile = classFile("BytecodeFixture");
+    final var truncated = Arrays.copyOf(classFile, 12);
+    assertThrows(
+        StyleSnifferException.class,
+        () -> reader.read(truncated, 0, truncated.length, (c, n, s, e, k) -> {}));
+
+    // WHEN
+    final var kinds = new ArrayList<Object>();
+    reader.read(classFile, 0, classFile.length, (c, name, start, end, kind) -> kinds.add(kind));
+
+    // THEN
+    assertThat(kinds).contains(TYPE, CONSTANT, FIELD, METHOD);
+  }
+
+  static byte[] classFile(final String simpleName) throws IOException {
+    try (var in = ClassFileReaderTest.class.getResourceAsStream(simpleName + ".class")) {
+      return in.readAllBytes();
+    }
+  }
+
+  private static ClassMemberConsumer collectingInto(final List<String> names) {
+    return (className, name, start, end, kind) ->
+        names.add(className + " " + kind + " " + name.subSequence(start, end));
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.lexer.IdentifierKind;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class ColumnarResultReaderTest {
+
+  private static final List<String> IDENTIFIERS =
+      List.of("user_id", "accountName", "MAX_VALUE", "user_id", "42", "OrderService", "user_id");
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @TempDir private Path tempDir;
+
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    file = tempDir.resolve("results.ssr");
+    try (var writer = new ColumnarResultWriter(file, styleSniffer, true, true)) {
+      long offset = 0;
+      for (final var identifier : IDENTIFIERS) {
+        writer.write(
+            identifier,
+            0,
+            identifier.length(),
+            styleSniffer.getCaseStyle(identifier).orElse(null),
+            offset,
+            identifier.equals("42") ? null : IdentifierKind.FIELD);
+        offset += identifier.length() + 1;
+      }
+    }
+  }
+
+  @Test
+  void openShouldReadTheHeaderOfTheFile() throws Exception {
+    // WHEN
+    final var reader = ColumnarResultReader.open(file);
+
+    // THEN
+    assertThat(reader.getRowCount()).isEqualTo(IDENTIFIERS.size());
+    assertThat(reader.getDictionarySize()).isEqualTo(5);
+    assertThat(reader.getCaseStyleNames())
+        .isEqualTo(styleSniffer.getSupportedCaseStyles().stream().sorted().toList());
+    assertThat(reader.hasOffsets()).isTrue();
+    assertThat(reader.hasKinds()).isTrue();
+  }
+
+  @Test
+  void readerShouldReadAnyRowInPlace() throws Exception {
+    // GIVEN
+    final var reader = ColumnarResultReader.open(file);
+
+    // WHEN
+    final var identifier = reader.getIdentifier(5);
+
+    // THEN
+    assertThat(identifier).isEqualTo("OrderService");
+    assertThat(reader.getCaseStyleName(5)).contains("PascalCase");
+    assertThat(reader.getCaseStyleName(4)).isEmpty();
+    assertThat(reader.getOffset(2)).isEqualTo(20);
+    assertThat(reader.getKind(2)).contains(IdentifierKind.FIELD);
+    assertThat(reader.getKind(4)).isEmpty();
+    assertThat(reader.getDictionaryIndex(6)).isEqualTo(reader.getDictionaryIndex(0));
+  }
+
+  @Test
+  void forEachRowShouldHandOverTheRowsOfTheCaseStyle() throws Exception {
+    // GIVEN
+    final var reader = ColumnarResultReader.open(file);
+    final var rows = new ArrayList<Long>();
+
+    // WHEN
+    final var count = reader.forEachRow("snake_case", rows::add);
+
+    // THEN
+    assertThat(rows).containsExactly(0L, 3L, 6L);
+    assertThat(count).isEqualTo(3);
+  }
+
+  @Test
+  void forEachRowShouldFindTheRowsGivenMoreRowsThanAWord() throws Exception {
+    // GIVEN
+    final var manyRows = tempDir.resolve("many.ssr");
+    final var snakeCase = styleSniffer.getCaseStyle("user_id").orElseThrow();
+    try (var writer = new ColumnarResultWriter(manyRows, styleSniffer)) {
+      for (int i = 0; i < 1_000; i++) {
+        writer.write("x", 0, 1, i % 7 == 0 ? snakeCase : null);
+      }
+    }
+    final var reader = ColumnarResultReader.open(manyRows);
+
+    // WHEN
+    final var snakeCaseRows = reader.forEachRow("snake_case", row -> assertThat(row % 7).isZero());
+    final var unclassifiedRows =
+        reader.forEachRow(null, row -> assertThat(row % 7).isNotEqualTo(0L));
+
+    // THEN
+    assertThat(snakeCaseRows).isEqualTo(143);
+    assertThat(unclassifiedRows).isEqualTo(857);
+    assertThat(reader.forEachRow("unknown", row -> {})).isZero();
+  }
+
+  @Test
+  void countRowsByStyleShouldCountTheRowsOfEachCaseStyle() throws Exception {
+    // GIVEN
+    final var reader = ColumnarResultReader.open(file);
+
+    // WHEN
+    final var counts = reader.countRowsByStyle();
+
+    // THEN
+    assertThat(counts)
+        .containsEntry("snake_case", 3L)
+        .containsEntry("camelCase", 1L)
+        .containsEntry("SCREAMING_SNAKE_CASE", 1L)
+        .containsEntry("PascalCase", 1L)
+        .hasSize(4);
+  }
+
+  @Test
+  void getOffsetShouldThrowAnIllegalStateExceptionGivenTheOffsetsAreNotStored() throws Exception {
+    // GIVEN
+    final var withoutOffsets = tempDir.resolve("without-offsets.ssr");
+    try (var writer = new ColumnarResultWriter(withoutOffsets, styleSniffer)) {
+      writer.write("name", 0, 4, null);
+    }
+    final var reader = ColumnarResultReader.open(withoutOffsets);
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> {
+          // WHEN
+          reader.getOffset(0);
+        });
+  }
+
+  @Test
+  void getIdentifierShouldThrowAnIndexOutOfBoundsExceptionGivenAMissingRow() throws Exception {
+    // GIVEN
+    final var reader = ColumnarResultReader.open(file);
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> {
+          // WHEN
+          reader.getIdentifier(IDENTIFIERS.size());
+        });
+  }
+
+  @Test
+  void openShouldThrowAStyleSnifferExceptionGivenATruncatedFile() throws Exception {
+    // GIVEN
+    final var content = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(content, content.length - 1));
+
+    assertThrows(
+        StyleSnifferException.class,
+        () -> {
+          // WHEN
+          ColumnarResultReader.open(file);
+        });
+  }
+
+  @Test
+  void openShouldThrowAStyleSnifferExceptionGivenAnotherFile() throws Exception {
+    // GIVEN
+    Files.writeString(file, "user_id,snake_case\n".repeat(10));
+
+    assertThrows(
+        StyleSnifferException.class,
+        () -> {
+          // WHEN
+          ColumnarResultReader.open(file);
+        });
+  }
+}
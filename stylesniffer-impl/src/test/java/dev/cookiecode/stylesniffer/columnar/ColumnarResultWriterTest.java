@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class ColumnarResultWriterTest {
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void closeShouldWriteTheFileAndDeleteTheTemporaryColumns() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("results.ssr");
+    final var writer = new ColumnarResultWriter(file, styleSniffer, true, true);
+    writer.write("user_id", 0, 7, caseStyleOf("user_id"));
+
+    // WHEN
+    writer.close();
+
+    // THEN
+    try (var files = Files.list(tempDir)) {
+      assertThat(files.toList()).containsExactly(file);
+    }
+    assertThat(writer.getRowCount()).isEqualTo(1);
+  }
+
+  @Test
+  void writeShouldStoreEachDistinctIdentifierOnce() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("results.ssr");
+    final var repeated = tempDir.resolve("repeated.ssr");
+    try (var writer = new ColumnarResultWriter(file, styleSniffer)) {
+      writer.write("user_id", 0, 7, caseStyleOf("user_id"));
+    }
+
+    // WHEN
+    try (var writer = new ColumnarResultWriter(repeated, styleSniffer)) {
+      for (int i = 0; i < 1_000; i++) {
+        writer.write("user_id", 0, 7, caseStyleOf("user_id"));
+      }
+    }
+
+    // THEN
+    // 4 bytes of identifier index and 1 byte of style id per additional row
+    assertThat(Files.size(repeated) - Files.size(file)).isEqualTo(999 * 5);
+  }
+
+  @Test
+  void writeShouldThrowAnIllegalArgumentExceptionGivenAnUnregisteredCaseStyle() throws Exception {
+    // GIVEN
+    final var caseStyle = new UnregisteredCaseStyle();
+    try (var writer = new ColumnarResultWriter(tempDir.resolve("results.ssr"), styleSniffer)) {
+
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> {
+            // WHEN
+            writer.write("name", 0, 4, caseStyle);
+          });
+    }
+  }
+
+  @Test
+  void writeShouldThrowAnIllegalStateExceptionGivenAClosedWriter() throws Exception {
+    // GIVEN
+    final var writer = new ColumnarResultWriter(tempDir.resolve("results.ssr"), styleSniffer);
+    writer.close();
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> {
+          // WHEN
+          writer.write("name", 0, 4, null);
+        });
+  }
+
+  private CaseStyle caseStyleOf(final String name) {
+    return styleSniffer.getCaseStyle(name).orElseThrow();
+  }
+
+  private static final class UnregisteredCaseStyle implements CaseStyle {
+
+    @Override
+    public String getName() {
+      return "unregistered";
+    }
+
+    @Override
+    public boolean matches(final String name) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.columnar;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class IdentifierDictionaryTest {
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void indexOfShouldReturnTheSameIndexGivenTheSameIdentifier() {
+    // GIVEN
+    final var dictionary = new IdentifierDictionary();
+    final int first = dictionary.indexOf("user_id", 0, 7);
+
+    // WHEN
+    final int second = dictionary.indexOf("the user_id", 4, 11);
+
+    // THEN
+    assertThat(second).isEqualTo(first);
+    assertThat(dictionary.size()).isEqualTo(1);
+  }
+
+  @Test
+  void indexOfShouldAssignConsecutiveIndexesGivenManyIdentifiers() {
+    // GIVEN
+    final var dictionary = new IdentifierDictionary();
+
+    // WHEN
+    for (int i = 0; i < 10_000; i++) {
+      final var identifier = "name" + i;
+      assertThat(dictionary.indexOf(identifier, 0, identifier.length())).isEqualTo(i);
+    }
+
+    // THEN
+    assertThat(dictionary.indexOf("name1234", 0, 8)).isEqualTo(1234);
+    assertThat(dictionary.size()).isEqualTo(10_000);
+    final var starts = dictionary.starts();
+    assertThat(starts).hasSize(10_001);
+    assertThat(starts[10_000]).isEqualTo(dictionary.charCount());
+    assertThat(new String(dictionary.chars(), starts[42], starts[43] - starts[42]))
+        .isEqualTo("name42");
+  }
+
+  @Test
+  void writeToShouldWriteTheStartsThenTheCharsGivenABufferSmallerThanTheDictionary()
+      throws Exception {
+    // GIVEN
+    final var dictionary = new IdentifierDictionary();
+    for (int i = 0; i < 100; i++) {
+      final var identifier = "name" + i;
+      dictionary.indexOf(identifier, 0, identifier.length());
+    }
+    final var file = tempDir.resolve("dictionary.bin");
+
+    // WHEN
+    try (var channel = FileChannel.open(file, WRITE, CREATE)) {
+      dictionary.writeTo(channel, ByteBuffer.allocate(12));
+    }
+
+    // THEN
+    final var written = ByteBuffer.wrap(Files.readAllBytes(file));
+    final var starts = new int[dictionary.size() + 1];
+    written.asIntBuffer().get(starts);
+    assertThat(starts).isEqualTo(dictionary.starts());
+    final var chars = new char[dictionary.charCount()];
+    written.position(starts.length * Integer.BYTES).asCharBuffer().get(chars);
+    assertThat(chars).isEqualTo(dictionary.chars());
+    assertThat(written.capacity())
+        .isEqualTo(starts.length * Integer.BYTES + chars.length * Character.BYTES);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.impl.casestyle.KebabCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.LowerCamelCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.PascalCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.ScreamingSnakeCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class CaseConverterTest {
+
+  private static final List<CaseStyle> BUILT_IN_STYLES =
+      List.of(
+          new KebabCaseStyle(),
+          new LowerCamelCaseStyle(),
+          new PascalCaseStyle(),
+          new ScreamingSnakeCaseStyle(),
+          new SnakeCaseStyle());
+
+  private final CaseConverter converter = new CaseConverter();
+
+  @Test
+  void convertShouldWriteTheWordsUsingTheFormatOfTheTargetStyle() {
+    // GIVEN
+    final var name = "parseHTTPResponse";
+
+    // WHEN / THEN
+    assertThat(converter.convert(name, new SnakeCaseStyle())).isEqualTo("parse_http_response");
+    assertThat(converter.convert(name, new ScreamingSnakeCaseStyle()))
+        .isEqualTo("PARSE_HTTP_RESPONSE");
+    assertThat(converter.convert(name, new KebabCaseStyle())).isEqualTo("parse-http-response");
+    assertThat(converter.convert(name, new PascalCaseStyle())).isEqualTo("ParseHttpResponse");
+    assertThat(converter.convert("user_account_id", new LowerCamelCaseStyle()))
+        .isEqualTo("userAccountId");
+    assertThat(converter.convert("MAX_VALUE", new LowerCamelCaseStyle())).isEqualTo("maxValue");
+  }
+
+  @Test
+  void convertShouldKeepThePluralOfAcronymsGivenAnAcronymFollowedByAnS() {
+    // WHEN / THEN
+    assertThat(converter.convert("userIDs", new SnakeCaseStyle())).isEqualTo("user_ids");
+    assertThat(converter.convert("getURLs", new SnakeCaseStyle())).isEqualTo("get_urls");
+    assertThat(converter.convert("getURLsFor", new KebabCaseStyle())).isEqualTo("get-urls-for");
+    assertThat(converter.convert("userIDs", new LowerCamelCaseStyle())).isEqualTo("userIds");
+  }
+
+  @Test
+  void convertShouldProduceNamesMatchedByTheTargetStyle() {
+    // GIVEN
+    final var names = List.of("userAccountId", "user_account_id", "USER-ACCOUNT ID", "XMLParser");
+
+    // WHEN / THEN
+    for (final var target : BUILT_IN_STYLES) {
+      for (final var name : names) {
+        assertThat(target.matches(converter.convert(name, target))).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void convertShouldOnlyConvertTheGivenRange() {
+    // GIVEN
+    final var text = "SELECT user_account_id FROM accounts";
+
+    // WHEN
+    final var converted = converter.convert(text, 7, 22, new LowerCamelCaseStyle());
+
+    // THEN
+    assertThat(converted).isEqualTo("userAccountId");
+  }
+
+  @Test
+  void convertShouldAppendToTheGivenSinks() throws IOException {
+    // GIVEN
+    final var builder = new StringBuilder("{\"");
+    final var writer = new StringWriter();
+    final var text = "user_id";
+
+    // WHEN
+    converter.convert(text, 0, text.length(), new LowerCamelCaseStyle(), builder).append("\"}");
+    converter.convert(text, 0, text.length(), new PascalCaseStyle(), writer);
+
+    // THEN
+    assertThat(builder.toString()).isEqualTo("{\"userId\"}");
+    assertThat(writer.toString()).isEqualTo("UserId");
+  }
+
+  @Test
+  void convertShouldGrowItsBufferGivenLongIdentifiers() {
+    // GIVEN
+    final var name = "a_".repeat(100) + "end";
+
+    // WHEN
+    final var converted = converter.convert(name, new LowerCamelCaseStyle());
+
+    // THEN
+    assertThat(converted).isEqualTo("a" + "A".repeat(99) + "End");
+  }
+
+  @Test
+  void convertShouldReturnAnEmptyStringGivenAnIdentifierWithoutWord() {
+    // WHEN
+    final var converted = converter.convert("__", new SnakeCaseStyle());
+
+    // THEN
+    assertThat(converted).isEmpty();
+  }
+
+  @Test
+  void convertShouldThrowAStyleSnifferExceptionGivenATargetWithoutWordFormat() {
+    // GIVEN
+    final var target =
+        new BaseCaseStyle() {
+          @Override
+          public boolean matches(@NonNull final String name) {
+            return false;
+          }
+
+          @Override
+          public String getName() {
+            return "no format";
+          }
+        };
+
+    // WHEN / THEN
+    assertThrows(StyleSnifferException.class, () -> converter.convert("userId", target));
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class ClassifiedDocumentTest {
+
+  private static final String TEXT = "int user_id = accountName + MAX_VALUE; // some-kebab-value";
+  private static final String ALPHABET = "aAbB_-1 .\n";
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @Test
+  void constructorShouldClassifyAllTheIdentifiersOfTheText() {
+    // WHEN
+    final var document = new ClassifiedDocument(styleSniffer, TEXT);
+
+    // THEN
+    assertThat(document.getIdentifierCount()).isEqualTo(5);
+    assertThat(document.getCaseStyleCounts())
+        .containsEntry("snake_case", 1)
+        .containsEntry("camelCase", 2)
+        .containsEntry("SCREAMING_SNAKE_CASE", 1)
+        .containsEntry("Kebab Case", 1);
+    assertThat(document.getUnclassifiedIdentifierCount()).isZero();
+  }
+
+  @Test
+  void applyEditShouldClassifyAgainTheIdentifierGivenAnEditWithinIt() {
+    // GIVEN
+    final var document = new ClassifiedDocument(styleSniffer, TEXT);
+
+    // WHEN
+    document.applyEdit(TEXT.indexOf("accountName"), 1, "A");
+
+    // THEN
+    assertThat(document.getText()).contains(" AccountName ");
+    assertThat(document.getCaseStyleCounts())
+        .containsEntry("PascalCase", 1)
+        .containsEntry("camelCase", 1);
+    assertThat(document.getIdentifierCount()).isEqualTo(5);
+  }
+
+  @Test
+  void applyEditShouldMergeTheIdentifiersGivenTheSeparatorBetweenThemIsRemoved() {
+    // GIVEN
+    final var document = new ClassifiedDocument(styleSniffer, "first_word second_word");
+
+    // WHEN
+    document.applyEdit(10, 1, "_");
+
+    // THEN
+    assertThat(document.getText()).isEqualTo("first_word_second_word");
+    assertThat(document.getIdentifierCount()).isEqualTo(1);
+    assertThat(document.getCaseStyleCounts()).isEqualTo(Map.of("snake_case", 1));
+  }
+
+  @Test
+  void applyEditShouldSplitTheIdentifierGivenASeparatorIsInserted() {
+    // GIVEN
+    final var document = new ClassifiedDocument(styleSniffer, "first_word_second_word");
+
+    // WHEN
+    document.applyEdit(10, 1, " ");
+
+    // THEN
+    assertThat(document.getIdentifierCount()).isEqualTo(2);
+    assertThat(document.getCaseStyleCounts()).containsEntry("snake_case", 2);
+  }
+
+  @Test
+  void applyEditShouldFindTheSameIdentifiersAsAFullScanGivenRandomEdits() {
+    // GIVEN
+    final var random = new Random(42);
+    final var document = new ClassifiedDocument(styleSniffer, TEXT.repeat(40));
+
+    for (int i = 0; i < 2_000; i++) {
+      // WHEN
+      final int length = document.getText().length();
+      final int offset = random.nextInt(length + 1);
+      final int removedLength = random.nextInt(Math.min(length - offset, 4) + 1);
+      document.applyEdit(offset, removedLength, randomText(random));
+
+      // THEN
+      final var scanned = new ClassifiedDocument(styleSniffer, document.getText());
+      assertThat(document.getIdentifierCount()).isEqualTo(scanned.getIdentifierCount());
+      assertThat(document.getUnclassifiedIdentifierCount())
+          .isEqualTo(scanned.getUnclassifiedIdentifierCount());
+      assertThat(document.getCaseStyleCounts()).isEqualTo(scanned.getCaseStyleCounts());
+    }
+  }
+
+  @Test
+  void getCaseStyleAtShouldReturnTheCaseStyleOfTheIdentifierAtTheOffset() {
+    // GIVEN
+    final var document = new ClassifiedDocument(styleSniffer, TEXT);
+    document.applyEdit(0, 4, "");
+
+    // WHEN
+    final var caseStyle = document.getCaseStyleAt(TEXT.indexOf("MAX_VALUE") - 4 + 3);
+    final var noCaseStyle = document.getCaseStyleAt(TEXT.indexOf('=') - 4);
+
+    // THEN
+    assertThat(caseStyle).isPresent();
+    assertThat(caseStyle.get().getName()).isEqualTo("SCREAMING_SNAKE_CASE");
+    assertThat(noCaseStyle).isEmpty();
+  }
+
+  @Test
+  void getCaseStyleAtShouldReturnAnEmptyOptionalGivenAnOffsetBetweenTheIdentifiersOfManyBlocks() {
+    // GIVEN
+    final var text = " user_id".repeat(1_000);
+    final var document = new ClassifiedDocument(styleSniffer, text);
+
+    for (int offset = 0; offset < text.length(); offset++) {
+      // WHEN
+      final var caseStyle = document.getCaseStyleAt(offset);
+
+      // THEN
+      if (text.charAt(offset) == ' ') {
+        assertThat(caseStyle).isEmpty();
+      } else {
+        assertThat(caseStyle).isPresent();
+        assertThat(caseStyle.get().getName()).isEqualTo("snake_case");
+      }
+    }
+  }
+
+  @Test
+  void applyEditShouldKeepTheTextGivenAnInsertionLongerThanTheGap() {
+    // GIVEN
+    final var document = new ClassifiedDocument(styleSniffer, "user_id");
+    final var inserted = " first_name".repeat(10);
+
+    // WHEN
+    document.applyEdit(7, 0, inserted);
+
+    // THEN
+    assertThat(document.getText()).isEqualTo("user_id" + inserted);
+    assertThat(document.getIdentifierCount()).isEqualTo(11);
+    assertThat(document.getCaseStyleCounts()).isEqualTo(Map.of("snake_case", 11));
+  }
+
+  @Test
+  void applyEditShouldThrowAnIndexOutOfBoundsExceptionGivenCharactersOutsideOfTheText() {
+    // GIVEN
+    final var document = new ClassifiedDocument(styleSniffer, TEXT);
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> {
+          // WHEN
+          document.applyEdit(TEXT.length() - 1, 2, "x");
+        });
+  }
+
+  private static String randomText(final Random random) {
+    final var text = new StringBuilder();
+    for (int i = random.nextInt(5); i > 0; i--) {
+      text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return text.toString();
+  }
+}
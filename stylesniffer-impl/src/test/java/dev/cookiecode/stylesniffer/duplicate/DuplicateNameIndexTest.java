@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.duplicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class DuplicateNameIndexTest {
+
+  private final DuplicateNameIndex index = new DuplicateNameIndex();
+
+  @Test
+  void forEachDuplicateGroupShouldGroupTheSpellingsOfTheSameWords() {
+    // GIVEN
+    List.of("user_id", "accountName", "userId", "order_id", "USER_ID", "ACCOUNT_NAME")
+        .forEach(index::add);
+    final List<List<String>> groups = new ArrayList<>();
+
+    // WHEN
+    index.forEachDuplicateGroup(groups::add);
+
+    // THEN
+    assertThat(groups)
+        .containsExactly(
+            List.of("user_id", "userId", "USER_ID"), List.of("accountName", "ACCOUNT_NAME"));
+    assertThat(index.getDuplicateGroupCount()).isEqualTo(2);
+    assertThat(index.getGroupCount()).isEqualTo(3);
+  }
+
+  @Test
+  void forEachDuplicateGroupShouldGroupTheSpellingsGivenPluralAcronymsAndDigits() {
+    // GIVEN
+    List.of("userIDs", "user_ids", "getURLs", "get_urls", "user2Id", "user_2_id")
+        .forEach(index::add);
+    final List<List<String>> groups = new ArrayList<>();
+
+    // WHEN
+    index.forEachDuplicateGroup(groups::add);
+
+    // THEN
+    assertThat(groups)
+        .containsExactlyInAnyOrder(
+            List.of("userIDs", "user_ids"),
+            List.of("getURLs", "get_urls"),
+            List.of("user2Id", "user_2_id"));
+  }
+
+  @Test
+  void addShouldReturnTheIndexOfTheSameSpellingGivenItHasAlreadyBeenAdded() {
+    // GIVEN
+    final int first = index.add("user_id");
+    index.add("userId");
+
+    // WHEN
+    final int second = index.add("user_id");
+
+    // THEN
+    assertThat(second).isEqualTo(first);
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.getSpellings("user_id")).containsExactly("user_id", "userId");
+  }
+
+  @Test
+  void addShouldIgnoreTheNameGivenItHoldsNoWord() {
+    // WHEN
+    final int name = index.add("__");
+
+    // THEN
+    assertThat(name).isEqualTo(-1);
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  void addShouldReadTheNameInPlaceGivenARangeOfAText() {
+    // GIVEN
+    final var text = "SELECT user_id, USER_ID FROM users";
+
+    // WHEN
+    index.add(text, 7, 14);
+    index.add(text, 16, 23);
+
+    // THEN
+    assertThat(index.getSpellings("UserId")).containsExactly("user_id", "USER_ID");
+  }
+
+  @Test
+  void getSpellingsShouldReturnNothingGivenAnUnknownName() {
+    // GIVEN
+    index.add("user_id");
+
+    // WHEN / THEN
+    assertThat(index.getSpellings("userIds")).isEmpty();
+    assertThat(index.getSpellings("--")).isEmpty();
+  }
+
+  @Test
+  void forEachDuplicateGroupShouldFindTheDuplicatesGivenManyNames() {
+    // GIVEN
+    for (int i = 0; i < 50_000; i++) {
+      final var word = Integer.toString(i, 36).replaceAll("[0-9]", "x");
+      index.add("field_" + word + "_name");
+      if (i % 10 == 0) {
+        index.add("field" + Character.toUpperCase(word.charAt(0)) + word.substring(1) + "Name");
+      }
+    }
+    final List<List<String>> groups = new ArrayList<>();
+
+    // WHEN
+    index.forEachDuplicateGroup(groups::add);
+
+    // THEN
+    assertThat(groups).isNotEmpty().hasSize(index.getDuplicateGroupCount());
+    for (final var group : groups) {
+      assertThat(group).hasSize(2);
+    }
+    assertThat(index.getSpellings("FIELD_A_NAME")).containsExactly("field_a_name", "fieldAName");
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.duplicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class WordKeyHasherTest {
+
+  private final WordKeyHasher hasher = new WordKeyHasher();
+
+  @Test
+  void hashShouldReturnTheSameKeyGivenSpellingsOfTheSameWordsInDifferentCaseStyles() {
+    // GIVEN
+    final var spellings = List.of("user_id", "userId", "UserId", "USER_ID", "user-id", "userID");
+
+    // WHEN
+    final var keys = spellings.stream().map(hasher::hash).distinct().toList();
+
+    // THEN
+    assertThat(keys).hasSize(1);
+  }
+
+  @Test
+  void hashShouldReturnDifferentKeysGivenTheSameLettersSplitIntoOtherWords() {
+    // WHEN
+    final long userId = hasher.hash("userId");
+    final long useRid = hasher.hash("useRid");
+    final long userid = hasher.hash("userid");
+
+    // THEN
+    assertThat(userId).isNotEqualTo(useRid);
+    assertThat(userId).isNotEqualTo(userid);
+  }
+
+  @Test
+  void hashShouldHashTheRangeInPlaceGivenARangeOfAText() {
+    // GIVEN
+    final var text = "int parseHTTPResponse;";
+
+    // WHEN
+    final long key = hasher.hash(text, 4, 21);
+
+    // THEN
+    assertThat(key).isEqualTo(hasher.hash("parse_http_response"));
+  }
+
+  @Test
+  void hasSameWordsShouldCompareTheLowercasedWords() {
+    // WHEN / THEN
+    assertThat(hasher.hasSameWords("base64Encoder", 0, 13, "BASE64_ENCODER", 0, 14)).isTrue();
+    assertThat(hasher.hasSameWords("user2Id", 0, 7, "user_2_id", 0, 9)).isTrue();
+    assertThat(hasher.hasSameWords("userId", 0, 6, "user_ids", 0, 8)).isFalse();
+    assertThat(hasher.hasSameWords("userId", 0, 6, "user", 0, 4)).isFalse();
+    assertThat(hasher.hasSameWords("user", 0, 4, "userId", 0, 6)).isFalse();
+    assertThat(hasher.hasSameWords("userId", 0, 6, "useRid", 0, 6)).isFalse();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.impl.casestyle;
+
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.DASH;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.LOWER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.OTHER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.UNDERSCORE;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.UPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class CharClassesTest {
+
+  @Test
+  void classOfShouldReturnTheClassOfTheCharacterGivenAnyCharacter() {
+    // GIVEN
+    final var characters = "Aa_-1 Éé";
+
+    // WHEN
+    final var actualClasses =
+        characters.chars().map(c -> CharClasses.classOf((char) c)).boxed().toList();
+
+    // THEN
+    assertThat(actualClasses)
+        .containsExactly(UPPER, LOWER, UNDERSCORE, DASH, OTHER, OTHER, UPPER, LOWER);
+  }
+
+  @Test
+  void summarizeShouldReturnAllTheClassesOfTheRangeGivenNoStopClass() {
+    // GIVEN
+    final var text = "#some_Name-#";
+
+    // WHEN
+    final var actualClasses = CharClasses.summarize(text, 1, text.length() - 1, 0);
+
+    // THEN
+    assertThat(actualClasses).isEqualTo(UPPER | LOWER | UNDERSCORE | DASH);
+  }
+
+  @Test
+  void summarizeScalarShouldStopAtTheFirstStopClassGivenOneIsMet() {
+    // GIVEN
+    final var text = "some_Name-";
+
+    // WHEN
+    final var actualClasses = CharClasses.summarizeScalar(text, 0, text.length(), UPPER);
+
+    // THEN
+    assertThat(actualClasses).isEqualTo(UPPER | LOWER | UNDERSCORE);
+  }
+
+  @Test
+  void summarizeShouldReturnTheScalarSummaryGivenANameLongerThanTheVectorThreshold() {
+    // GIVEN
+    final var text = "a_long_generated_identifier-with_1_digit_and_an_Upper_case_letter";
+
+    // WHEN
+    final var actualClasses = CharClasses.summarize(text, 0, text.length(), 0);
+
+    // THEN
+    assertThat(text.length()).isGreaterThanOrEqualTo(CharClasses.VECTOR_THRESHOLD);
+    assertThat(actualClasses).isEqualTo(CharClasses.summarizeScalar(text, 0, text.length(), 0));
+  }
+
+  @Test
+  void isVectorizedShouldReturnTrueGivenTheVectorModuleIsEnabled() {
+    // GIVEN
+    final var vectorModule = ModuleLayer.boot().findModule(CharClasses.VECTOR_MODULE);
+
+    // WHEN
+    final var actualResult = CharClasses.isVectorized();
+
+    // THEN
+    assertThat(actualResult).isEqualTo(vectorModule.isPresent());
+  }
+}
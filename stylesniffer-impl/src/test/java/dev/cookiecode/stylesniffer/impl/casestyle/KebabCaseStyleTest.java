@@ -43,7 +43,11 @@ class KebabCaseStyleTest implements CaseStyleTestKit<KebabCaseStyle> {
 
   @Override
   public List<String> nonMatchingInputs() {
-    return of("SomePascalCase", "someCamelCase", "some_snake_case");
+    return of(
+        "SomePascalCase",
+        "someCamelCase",
+        "some_snake_case",
+        "a-very-long-name-using-such-case-style-but-with-one_underscore");
   }
 
   @Override
@@ -41,7 +41,11 @@ class SnakeCaseStyleTest implements CaseStyleTestKit<SnakeCaseStyle> {
 
   @Override
   public List<String> nonMatchingInputs() {
-    return List.of("SomePascalCase", "someCamelCase", "some-kebab-case");
+    return List.of(
+        "SomePascalCase",
+        "someCamelCase",
+        "some-kebab-case",
+        "a_very_long_name_using_such_case_style_but_with_one_Upper_case_letter");
   }
 
   @Override
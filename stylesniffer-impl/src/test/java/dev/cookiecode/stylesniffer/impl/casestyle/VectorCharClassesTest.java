@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.impl.casestyle;
+
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.LOWER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.OTHER;
+import static dev.cookiecode.stylesniffer.impl.casestyle.CharClasses.UPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.CharBuffer;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * <p>Run with {@code --add-modules jdk.incubator.vector}, as configured in the surefire plugin.
+ *
+ * @author Sebastien Vermeille
+ */
+class VectorCharClassesTest {
+
+  private static final String ALPHABET =
+      "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ_-09 .$";
+
+  @Test
+  void summarizeShouldReturnTheScalarSummaryGivenRandomNamesOfAnyLength() {
+    // GIVEN
+    final var random = new Random(42);
+
+    for (int length = 0; length < 600; length++) {
+      final var name = randomName(random, length, random.nextInt(4));
+
+      // WHEN
+      final var actualClasses = VectorCharClasses.summarize(name, 0, length, 0);
+
+      // THEN
+      assertThat(actualClasses).isEqualTo(CharClasses.summarizeScalar(name, 0, length, 0));
+    }
+  }
+
+  @Test
+  void summarizeShouldReturnTheScalarSummaryGivenNonAsciiLetters() {
+    // GIVEN
+    final var name = "a".repeat(100) + "É" + "é".repeat(100);
+
+    // WHEN
+    final var actualClasses = VectorCharClasses.summarize(name, 0, name.length(), 0);
+
+    // THEN
+    assertThat(actualClasses).isEqualTo(UPPER | LOWER);
+  }
+
+  @Test
+  void summarizeShouldSummarizeTheRangeOnlyGivenAnyCharSequence() {
+    // GIVEN
+    final var name = "#" + "lower".repeat(100) + "#";
+    final var builder = new StringBuilder(name);
+    final var buffer = CharBuffer.wrap(name);
+
+    // WHEN
+    final var actualStringClasses = VectorCharClasses.summarize(name, 1, name.length() - 1, 0);
+    final var actualBuilderClasses = VectorCharClasses.summarize(builder, 1, name.length() - 1, 0);
+    final var actualBufferClasses = VectorCharClasses.summarize(buffer, 0, name.length(), 0);
+
+    // THEN
+    assertThat(actualStringClasses).isEqualTo(LOWER);
+    assertThat(actualBuilderClasses).isEqualTo(LOWER);
+    assertThat(actualBufferClasses).isEqualTo(LOWER | OTHER);
+  }
+
+  @Test
+  void summarizeShouldStopAfterTheChunkHoldingAStopClassGivenOneIsMet() {
+    // GIVEN
+    final var name = "A" + "a".repeat(1000) + "_";
+
+    // WHEN
+    final var actualClasses = VectorCharClasses.summarize(name, 0, name.length(), UPPER);
+
+    // THEN
+    assertThat(actualClasses).isEqualTo(UPPER | LOWER);
+  }
+
+  private static String randomName(final Random random, final int length, final int nonAscii) {
+    final var name = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      name.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    for (int i = 0; i < nonAscii && length > 0; i++) {
+      name.setCharAt(random.nextInt(length), (char) (0x80 + random.nextInt(0x400)));
+    }
+    return name.toString();
+  }
+}
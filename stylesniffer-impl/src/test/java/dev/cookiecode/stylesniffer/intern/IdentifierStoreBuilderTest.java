@@ -0,0 +1,204 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.intern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class IdentifierStoreBuilderTest {
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @Test
+  void addShouldReturnTheRankOfEachIdentifierGivenAscendingIdentifiers() {
+    // GIVEN
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+
+    // WHEN
+    final int getId = builder.add("getId");
+    final int getName = builder.add("getName");
+    final int setId = builder.add("setId");
+
+    // THEN
+    assertThat(getId).isZero();
+    assertThat(getName).isEqualTo(1);
+    assertThat(setId).isEqualTo(2);
+    assertThat(builder.size()).isEqualTo(3);
+  }
+
+  @Test
+  void addShouldReturnTheSameIdGivenTheSameIdentifierTwice() {
+    // GIVEN
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+    builder.add("user_id");
+
+    // WHEN
+    final int id = builder.add("user_id");
+
+    // THEN
+    assertThat(id).isZero();
+    assertThat(builder.size()).isEqualTo(1);
+  }
+
+  @Test
+  void addShouldReadTheIdentifierInPlaceGivenARangeOfAText() {
+    // GIVEN
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+
+    // WHEN
+    builder.add("int accountName;", 4, 15);
+
+    // THEN
+    assertThat(builder.build().getIdentifier(0)).isEqualTo("accountName");
+  }
+
+  @Test
+  void addShouldThrowGivenAnIdentifierLowerThanThePreviousOne() {
+    // GIVEN
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+    builder.add("user_id");
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> builder.add("user")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> builder.add("account")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void addShouldThrowGivenAnEmptyIdentifier() {
+    // GIVEN
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> builder.add("")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void addShouldThrowGivenTheStoreHasBeenBuilt() {
+    // GIVEN
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+    builder.build();
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> builder.add("user_id")).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void buildShouldReturnAnEmptyStoreGivenNoIdentifier() {
+    // GIVEN
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+
+    // WHEN
+    final var store = builder.build();
+
+    // THEN
+    assertThat(store.size()).isZero();
+    assertThat(store.contains("user_id")).isFalse();
+  }
+
+  @Test
+  void constructorShouldThrowGivenMoreThan255CaseStyles() {
+    // GIVEN
+    final var caseStyles = new ManyCaseStyles(styleSniffer, 256);
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> new IdentifierStoreBuilder(caseStyles))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("256");
+  }
+
+  @Test
+  void buildShouldKeepEveryIdentifierGivenManyIdentifiers() {
+    // GIVEN
+    final var identifiers = new TreeSet<String>();
+    for (int i = 0; i < 3_000; i++) {
+      final var word = Integer.toString(i, Character.MAX_RADIX);
+      identifiers.add("get" + word + "Id");
+      identifiers.add("set" + word + "Id");
+      identifiers.add(word + "_name");
+    }
+    final var random = new Random(42);
+    for (int i = 0; i < 1_000; i++) {
+      final var word = new StringBuilder();
+      for (int j = 10 + random.nextInt(40); j > 0; j--) {
+        word.append((char) ('a' + random.nextInt(26)));
+      }
+      identifiers.add(word.toString());
+    }
+    final var builder = new IdentifierStoreBuilder(styleSniffer);
+    identifiers.forEach(builder::add);
+
+    // WHEN
+    final var store = builder.build();
+
+    // THEN
+    assertThat(store.size()).isEqualTo(identifiers.size());
+    int id = 0;
+    for (final var identifier : identifiers) {
+      assertThat(store.indexOf(identifier, 0, identifier.length())).isEqualTo(id);
+      assertThat(store.getIdentifier(id)).isEqualTo(identifier);
+      id++;
+    }
+    assertThat(store.contains("getId")).isFalse();
+  }
+
+  /** Sniffer reporting more case styles than another sniffer supports. */
+  private record ManyCaseStyles(StyleSniffer styleSniffer, int count) implements StyleSniffer {
+
+    @Override
+    public Optional<CaseStyle> getCaseStyle(final String name) {
+      return styleSniffer.getCaseStyle(name);
+    }
+
+    @Override
+    public Optional<CaseStyle> getCaseStyleWithVariantOrName(final String variantOrName) {
+      return styleSniffer.getCaseStyleWithVariantOrName(variantOrName);
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStyles() {
+      return IntStream.range(0, count).mapToObj(i -> "case style " + i).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStylesIncludingVariants() {
+      return getSupportedCaseStyles();
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.intern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class IdentifierStoreTest {
+
+  private static final List<String> IDENTIFIERS =
+      List.of(
+          "user_id",
+          "getUserId",
+          "UserId",
+          "USER_ID",
+          "user-id",
+          "getId",
+          "get",
+          "order_id",
+          "getOrderId",
+          "user__Id",
+          "user_id");
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void ofShouldAssignTheRankOfEachDistinctIdentifierAsItsId() {
+    // WHEN
+    final var store = IdentifierStore.of(IDENTIFIERS, styleSniffer);
+
+    // THEN
+    final var sortedIdentifiers = IDENTIFIERS.stream().distinct().sorted().toList();
+    assertThat(store.size()).isEqualTo(sortedIdentifiers.size());
+    for (int id = 0; id < sortedIdentifiers.size(); id++) {
+      final var identifier = sortedIdentifiers.get(id);
+      assertThat(store.indexOf(identifier, 0, identifier.length())).isEqualTo(id);
+      assertThat(store.getIdentifier(id)).isEqualTo(identifier);
+    }
+  }
+
+  @Test
+  void getCaseStyleNameShouldReturnTheCaseStyleOfTheIdentifier() {
+    // GIVEN
+    final var store = IdentifierStore.of(IDENTIFIERS, styleSniffer);
+
+    // WHEN / THEN
+    for (final var identifier : IDENTIFIERS) {
+      final int id = store.indexOf(identifier, 0, identifier.length());
+      assertThat(store.getCaseStyleName(id))
+          .isEqualTo(styleSniffer.getCaseStyle(identifier).map(CaseStyle::getName));
+    }
+  }
+
+  @Test
+  void containsShouldReturnFalseGivenAPrefixOrAnExtensionOfAnIdentifier() {
+    // GIVEN
+    final var store = IdentifierStore.of(IDENTIFIERS, styleSniffer);
+
+    // WHEN / THEN
+    assertThat(store.contains("get")).isTrue();
+    assertThat(store.contains("getUser")).isFalse();
+    assertThat(store.contains("getUserIds")).isFalse();
+    assertThat(store.contains("")).isFalse();
+  }
+
+  @Test
+  void forEachShouldHandOverTheIdentifiersInAscendingOrder() {
+    // GIVEN
+    final var store = IdentifierStore.of(IDENTIFIERS, styleSniffer);
+    final List<String> identifiers = new ArrayList<>();
+    final List<Integer> ids = new ArrayList<>();
+
+    // WHEN
+    store.forEach(
+        (identifier, id) -> {
+          identifiers.add(identifier.toString());
+          ids.add(id);
+        });
+
+    // THEN
+    assertThat(identifiers).isEqualTo(IDENTIFIERS.stream().distinct().sorted().toList());
+    assertThat(ids).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+
+  @Test
+  void forEachShouldOnlyHandOverTheIdentifiersOfTheGivenCaseStyle() {
+    // GIVEN
+    final var store = IdentifierStore.of(IDENTIFIERS, styleSniffer);
+    final List<String> snakeCase = new ArrayList<>();
+    final List<String> unclassified = new ArrayList<>();
+
+    // WHEN
+    final int snakeCaseCount =
+        store.forEach("snake_case", (identifier, id) -> snakeCase.add(identifier.toString()));
+    store.forEach(null, (identifier, id) -> unclassified.add(identifier.toString()));
+
+    // THEN
+    assertThat(snakeCase).containsExactly("order_id", "user_id");
+    assertThat(snakeCaseCount).isEqualTo(2);
+    assertThat(unclassified).containsExactly("user__Id");
+    assertThat(store.forEach("unknown", (identifier, id) -> {})).isZero();
+  }
+
+  @Test
+  void readShouldReturnTheWrittenStore() throws Exception {
+    // GIVEN
+    final List<String> identifiers = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      identifiers.add("field_" + Integer.toString(i, 36).replace('0', 'z'));
+    }
+    final var store = IdentifierStore.of(identifiers, styleSniffer);
+    final var file = tempDir.resolve("identifiers.bin");
+
+    // WHEN
+    store.writeTo(file);
+    final var readStore = IdentifierStore.read(file);
+
+    // THEN
+    assertThat(readStore.size()).isEqualTo(store.size());
+    assertThat(readStore.getCaseStyleNames()).isEqualTo(store.getCaseStyleNames());
+    for (int id = 0; id < store.size(); id += 97) {
+      assertThat(readStore.getIdentifier(id)).isEqualTo(store.getIdentifier(id));
+      assertThat(readStore.getCaseStyleName(id)).isEqualTo(store.getCaseStyleName(id));
+    }
+  }
+
+  @Test
+  void readShouldThrowGivenATruncatedFile() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("identifiers.bin");
+    IdentifierStore.of(IDENTIFIERS, styleSniffer).writeTo(file);
+    final var content = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(content, content.length - 1));
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> IdentifierStore.read(file)).isInstanceOf(StyleSnifferException.class);
+  }
+
+  @Test
+  void readShouldThrowGivenAnotherFile() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("identifiers.bin");
+    Files.writeString(file, "not an identifier store, but long enough to hold a header");
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> IdentifierStore.read(file)).isInstanceOf(StyleSnifferException.class);
+  }
+
+  @Test
+  void getIdentifierShouldThrowGivenAnIdOutsideTheStore() {
+    // GIVEN
+    final var store = IdentifierStore.of(IDENTIFIERS, styleSniffer);
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> store.getIdentifier(store.size()))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
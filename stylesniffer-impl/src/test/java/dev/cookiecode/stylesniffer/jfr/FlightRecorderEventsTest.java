@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class FlightRecorderEventsTest {
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void createStyleSnifferShouldEmitCreationInstantiationAndRegistrationEventsGivenTheyAreEnabled()
+      throws Exception {
+    // GIVEN
+    final var recordingFile = tempDir.resolve("creation.jfr");
+
+    // WHEN
+    try (var recording = new Recording()) {
+      recording.enable(StyleSnifferCreationEvent.NAME);
+      recording.enable(CaseStyleInstantiationEvent.NAME);
+      recording.enable(CaseStyleRegistrationEvent.NAME);
+      recording.start();
+      StyleSnifferFactory.createStyleSniffer();
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    // THEN
+    final var events = RecordingFile.readAllEvents(recordingFile);
+    assertThat(eventsNamed(events, StyleSnifferCreationEvent.NAME))
+        .singleElement()
+        .satisfies(event -> assertThat(event.getInt("caseStyleClassCount")).isPositive());
+    assertThat(eventsNamed(events, CaseStyleInstantiationEvent.NAME))
+        .isNotEmpty()
+        .allSatisfy(event -> assertThat(event.getClass("caseStyleClass")).isNotNull());
+    assertThat(eventsNamed(events, CaseStyleRegistrationEvent.NAME))
+        .singleElement()
+        .satisfies(
+            event ->
+                assertThat(event.getInt("registrySize"))
+                    .isEqualTo(event.getInt("registeredCount")));
+  }
+
+  @Test
+  void getCaseStyleShouldEmitSampledClassificationEventsGivenTheEventIsEnabled() throws Exception {
+    // GIVEN
+    final var styleSniffer = StyleSnifferFactory.createStyleSniffer();
+    final var recordingFile = tempDir.resolve("classification.jfr");
+
+    // WHEN
+    try (var recording = new Recording()) {
+      recording.enable(ClassificationEvent.NAME);
+      recording.start();
+      for (int i = 0; i < 100 * ClassificationEvent.DEFAULT_SAMPLE_RATE; i++) {
+        styleSniffer.getCaseStyle("SomePascalCase");
+      }
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    // THEN
+    assertThat(eventsNamed(RecordingFile.readAllEvents(recordingFile), ClassificationEvent.NAME))
+        .isNotEmpty()
+        .hasSizeLessThan(100 * ClassificationEvent.DEFAULT_SAMPLE_RATE)
+        .allSatisfy(
+            event -> {
+              assertThat(event.getInt("inputLength")).isEqualTo("SomePascalCase".length());
+              assertThat(event.getString("matchedStyle")).isEqualTo("PascalCase");
+            });
+  }
+
+  @Test
+  void eventsShouldBeDisabledByDefault() throws Exception {
+    // GIVEN
+    final var recordingFile = tempDir.resolve("default.jfr");
+
+    // WHEN
+    try (var recording = new Recording(Configuration.getConfiguration("profile"))) {
+      recording.start();
+      StyleSnifferFactory.createStyleSniffer().getCaseStyle("SomePascalCase");
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    // THEN
+    assertThat(RecordingFile.readAllEvents(recordingFile))
+        .noneMatch(event -> event.getEventType().getName().startsWith("dev.cookiecode"));
+  }
+
+  private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.impl.casestyle.LowerCamelCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class JsonKeyRewriterTest {
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @Test
+  void rewriteShouldConvertTheKeysOfNestedObjects() throws IOException {
+    // GIVEN
+    final var rewriter = new JsonKeyRewriter(styleSniffer, new LowerCamelCaseStyle());
+    final var json =
+        """
+        {"user_id": 1, "bill_to": {"street_name": "x"}, "lines": [{"unit_price": 2}]}""";
+
+    // WHEN
+    final var rewritten = rewrite(rewriter, json);
+
+    // THEN
+    assertThat(rewritten)
+        .isEqualTo(
+            """
+            {"userId": 1, "billTo": {"streetName": "x"}, "lines": [{"unitPrice": 2}]}""");
+  }
+
+  @Test
+  void rewriteShouldCopyTheValuesUntouched() throws IOException {
+    // GIVEN
+    final var rewriter = new JsonKeyRewriter(styleSniffer, new SnakeCaseStyle());
+    final var json =
+        """
+        {"firstName": "firstName", "tags": ["aTag", {"subKey": "a \\"b\\": {c}"}]}""";
+
+    // WHEN
+    final var rewritten = rewrite(rewriter, json);
+
+    // THEN
+    assertThat(rewritten)
+        .isEqualTo(
+            """
+            {"first_name": "firstName", "tags": ["aTag", {"sub_key": "a \\"b\\": {c}"}]}""");
+  }
+
+  @Test
+  void rewriteShouldLeaveTheKeysOutOfAnyKnownStyleUntouched() throws IOException {
+    // GIVEN
+    final var rewriter = new JsonKeyRewriter(styleSniffer, new LowerCamelCaseStyle());
+    final var json =
+        """
+        {"$ref": 1, "2024": 2, "user\\u005fid": 3, "": 4, "isOk": 5, "d\u00e9j\u00e0_vu": 6}""";
+
+    // WHEN
+    final var rewritten = rewrite(rewriter, json);
+
+    // THEN
+    assertThat(rewritten)
+        .isEqualTo(
+            """
+            {"$ref": 1, "2024": 2, "user\\u005fid": 3, "": 4, "isOk": 5, "d\u00e9j\u00e0Vu": 6}""");
+  }
+
+  @Test
+  void rewriteShouldLeaveTheKeysStartingOrEndingWithWhitespaceUntouched() throws IOException {
+    // GIVEN
+    final var rewriter = new JsonKeyRewriter(styleSniffer, new LowerCamelCaseStyle());
+    final var json =
+        """
+        {" user_id ": 1, " bill_to": 2, "unit_price ": 3, "street_name": 4}""";
+
+    // WHEN
+    final var rewritten = rewrite(rewriter, json);
+
+    // THEN
+    assertThat(rewritten)
+        .isEqualTo(
+            """
+            {" user_id ": 1, " bill_to": 2, "unit_price ": 3, "streetName": 4}""");
+  }
+
+  @Test
+  void rewriteShouldLeaveTheKeysHoldingOtherCharactersThanWordsAndSeparatorsUntouched()
+      throws IOException {
+    // GIVEN
+    final var rewriter = new JsonKeyRewriter(styleSniffer, new SnakeCaseStyle());
+    final var json =
+        """
+        {"Foo.Bar":1,"Foo/Bar":2,"Foo:Bar":3,"Foo+Bar":5,"FooBar":6}""";
+
+    // WHEN
+    final var rewritten = rewrite(rewriter, json);
+
+    // THEN
+    assertThat(rewritten)
+        .isEqualTo(
+            """
+            {"Foo.Bar":1,"Foo/Bar":2,"Foo:Bar":3,"Foo+Bar":5,"foo_bar":6}""");
+  }
+
+  @Test
+  void rewriteShouldCopyTheLastKeyAsIsGivenATruncatedDocument() throws IOException {
+    // GIVEN
+    final var rewriter = new JsonKeyRewriter(styleSniffer, new SnakeCaseStyle());
+    final var json = "{\"userId\": [{\"accountId\": 1}], \"orderId";
+
+    // WHEN
+    final var rewritten = rewrite(rewriter, json);
+
+    // THEN
+    assertThat(rewritten).isEqualTo("{\"user_id\": [{\"account_id\": 1}], \"orderId");
+  }
+
+  @Test
+  void rewriteShouldReturnTheNumberOfRewrittenKeysGivenRepeatedKeys() throws IOException {
+    // GIVEN
+    final var rewriter = new JsonKeyRewriter(styleSniffer, new LowerCamelCaseStyle());
+    final var ndjson =
+        """
+        {"user_id": 1, "name": "a"}
+        {"user_id": 2, "name": "b"}
+        """;
+    final var out = new ByteArrayOutputStream();
+
+    // WHEN
+    final long rewrittenKeys =
+        rewriter.rewrite(new ByteArrayInputStream(ndjson.getBytes(UTF_8)), out);
+
+    // THEN
+    assertThat(rewrittenKeys).isEqualTo(2);
+    assertThat(out.toString(UTF_8))
+        .isEqualTo(
+            """
+            {"userId": 1, "name": "a"}
+            {"userId": 2, "name": "b"}
+            """);
+  }
+
+  @Test
+  void rewriteShouldHandleDocumentsLargerThanTheBuffers() throws IOException {
+    // GIVEN
+    final var rewriter = new JsonKeyRewriter(styleSniffer, new SnakeCaseStyle());
+    final var json = new StringBuilder("[");
+    final var expected = new StringBuilder("[");
+    for (int i = 0; i < 20_000; i++) {
+      final var separator = i == 0 ? "" : ",";
+      final char letter = (char) ('a' + i % 26);
+      json.append(separator)
+          .append("{\"itemId\":%d,\"keyNumber%c\":\"valueOf_%d\"}".formatted(i, letter - 32, i));
+      expected
+          .append(separator)
+          .append("{\"item_id\":%d,\"key_number_%c\":\"valueOf_%d\"}".formatted(i, letter, i));
+    }
+    final var out = new ByteArrayOutputStream();
+    final var in = new ByteArrayInputStream(json.append(']').toString().getBytes(UTF_8));
+
+    // WHEN
+    final long rewrittenKeys = rewriter.rewrite(in, out);
+
+    // THEN
+    assertThat(rewrittenKeys).isEqualTo(40_000);
+    assertThat(out.toString(UTF_8)).isEqualTo(expected.append(']').toString());
+  }
+
+  @Test
+  void constructorShouldThrowAStyleSnifferExceptionGivenAStyleWithoutWordFormat() {
+    // GIVEN
+    final var target =
+        new BaseCaseStyle() {
+          @Override
+          public boolean matches(@NonNull final String name) {
+            return false;
+          }
+
+          @Override
+          public String getName() {
+            return "no format";
+          }
+        };
+
+    // WHEN / THEN
+    assertThrows(StyleSnifferException.class, () -> new JsonKeyRewriter(styleSniffer, target));
+  }
+
+  private static String rewrite(final JsonKeyRewriter rewriter, final String json)
+      throws IOException {
+    final var out = new ByteArrayOutputStream();
+    rewriter.rewrite(new ByteArrayInputStream(json.getBytes(UTF_8)), out);
+    return out.toString(UTF_8);
+  }
+}
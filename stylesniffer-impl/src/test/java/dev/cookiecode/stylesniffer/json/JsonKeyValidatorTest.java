@@ -0,0 +1,210 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.LowerCamelCaseStyle;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class JsonKeyValidatorTest {
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+  private final JsonKeyValidator validator =
+      new JsonKeyValidator(styleSniffer, new LowerCamelCaseStyle());
+
+  @TempDir Path tempDir;
+
+  @Test
+  void validateShouldAggregateTheViolationsPerPath() throws IOException {
+    // GIVEN
+    final var ndjson =
+        """
+        {"userId": 1, "first_name": "a", "orders": [{"order_id": 1}, {"order_id": 2}]}
+        {"userId": 2, "first_name": "b", "orders": []}
+        """;
+
+    // WHEN
+    final var report = validate(ndjson);
+
+    // THEN
+    assertThat(report.checkedKeys()).isEqualTo(8);
+    assertThat(report.isValid()).isFalse();
+    assertThat(report.violations())
+        .containsExactly(
+            new JsonKeyViolation("$.first_name", "first_name", snakeCase(), 2),
+            new JsonKeyViolation("$.orders[*].order_id", "order_id", snakeCase(), 2));
+  }
+
+  @Test
+  void validateShouldReturnAValidReportGivenConformingKeys() throws IOException {
+    // GIVEN
+    final var json =
+        """
+        {"userId": "first_name", "tags": ["order_id", {"key": "{\\"not_a_key\\": 1}"}]}""";
+
+    // WHEN
+    final var report = validate(json);
+
+    // THEN
+    assertThat(report.checkedKeys()).isEqualTo(3);
+    assertThat(report.isValid()).isTrue();
+  }
+
+  @Test
+  void validateShouldReportKeysMatchingNoKnownStyleWithoutDetectedStyle() throws IOException {
+    // GIVEN
+    final var json =
+        """
+        {"$ref": 1, "user\\u005fid": 2}""";
+
+    // WHEN
+    final var report = validate(json);
+
+    // THEN
+    assertThat(report.violations())
+        .containsExactly(
+            new JsonKeyViolation("$.$ref", "$ref", null, 1),
+            new JsonKeyViolation("$.user_id", "user_id", snakeCase(), 1));
+  }
+
+  @Test
+  void validateShouldMergeTheReportsOfSeveralFiles() throws IOException {
+    // GIVEN
+    final var files =
+        List.of(
+            Files.writeString(tempDir.resolve("a.json"), "{\"first_name\": 1, \"id\": 2}"),
+            Files.writeString(tempDir.resolve("b.json"), "{\"first_name\": 3}"),
+            Files.writeString(tempDir.resolve("c.json"), "{\"lastName\": 4}"));
+
+    // WHEN
+    final var report = validator.validate(files);
+
+    // THEN
+    assertThat(report.checkedKeys()).isEqualTo(4);
+    assertThat(report.violations())
+        .containsExactly(new JsonKeyViolation("$.first_name", "first_name", snakeCase(), 2));
+  }
+
+  @Test
+  void validateShouldDecodeTheEscapeSequencesOfTheKeys() throws IOException {
+    // GIVEN
+    final var json =
+        """
+        {"tab\\tkey": 1, "new\\nline\\r": 2, "back\\bfeed\\f": 3, "quoted\\"key\\/": 4,
+         "user\\u0041ge": 5, "bad\\u00zzKey": 6, "short\\u00": 7}""";
+
+    // WHEN
+    final var report = validate(json);
+
+    // THEN
+    assertThat(report.checkedKeys()).isEqualTo(7);
+    assertThat(report.violations())
+        .extracting(JsonKeyViolation::key)
+        .containsExactlyInAnyOrder(
+            "tab\tkey",
+            "new\nline\r",
+            "back\bfeed\f",
+            "quoted\"key/",
+            "bad\\u00zzKey",
+            "short\\u00");
+  }
+
+  @Test
+  void validateShouldCheckEveryKeyGivenMoreDistinctKeysThanTheInternTableHolds()
+      throws IOException {
+    // GIVEN
+    final var json = new StringBuilder("{");
+    for (int i = 0; i < 5_000; i++) {
+      json.append(i == 0 ? "" : ", ").append("\"key_").append(i).append("\": ").append(i);
+    }
+    json.append("}\n");
+
+    // WHEN
+    final var report = validate(json.toString().repeat(2));
+
+    // THEN
+    assertThat(report.checkedKeys()).isEqualTo(10_000);
+    assertThat(report.violations())
+        .hasSize(5_000)
+        .allSatisfy(violation -> assertThat(violation.occurrences()).isEqualTo(2));
+  }
+
+  @Test
+  void validateShouldTrackThePathsGivenDeeplyNestedAndMalformedDocuments() throws IOException {
+    // GIVEN
+    final var longKey = "long_" + "key".repeat(40);
+    final var json =
+        "{\"level\": ".repeat(50)
+            + "{\""
+            + longKey
+            + "\": 1}"
+            + "}".repeat(50)
+            + "\n{{\"first_name\": 1}}";
+
+    // WHEN
+    final var report = validate(json);
+
+    // THEN
+    assertThat(report.checkedKeys()).isEqualTo(52);
+    assertThat(report.violations())
+        .containsExactly(
+            new JsonKeyViolation(
+                "$" + ".level".repeat(50) + "." + longKey, longKey, snakeCase(), 1),
+            new JsonKeyViolation("$.first_name", "first_name", snakeCase(), 1));
+  }
+
+  @Test
+  void validateShouldThrowGivenAFileThatCannotBeRead() {
+    // GIVEN
+    final var files = List.of(tempDir.resolve("missing.json"));
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> validator.validate(files)).isInstanceOf(NoSuchFileException.class);
+  }
+
+  private JsonValidationReport validate(final String json) throws IOException {
+    return validator.validate(new ByteArrayInputStream(json.getBytes(UTF_8)));
+  }
+
+  private CaseStyle snakeCase() {
+    return styleSniffer.getCaseStyleWithVariantOrName("snake_case").orElseThrow();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declaration;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declarations;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.lex;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.reference;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class JavaScriptSourceLexerTest {
+
+  private static final String SOURCE =
+      """
+      import { readFile } from "fs";
+
+      const MAX_RETRIES = 3;
+      let retryCount = 0;
+      const { user_name: userName, age } = loadUser();
+
+      function fetchUserData(userId) {
+        const pattern = /not_an_identifier/g;
+        return http.get(`/users/${userId}/ignored_path`);
+      }
+
+      class HttpClient extends BaseClient {
+        static DEFAULT_TIMEOUT = 1000;
+        #secretKey;
+
+        async sendRequest(requestBody) {
+          throw new RequestError(requestBody);
+        }
+      }
+      """;
+
+  private final JavaScriptSourceLexer lexer = new JavaScriptSourceLexer();
+
+  @Test
+  void lexShouldReportTheDeclarationsWithTheirKind() {
+    // WHEN
+    final var declarations = declarations(lexer, SOURCE);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(
+            declaration(CONSTANT, "MAX_RETRIES"),
+            declaration(VARIABLE, "retryCount"),
+            declaration(CONSTANT, "userName"),
+            declaration(CONSTANT, "age"),
+            declaration(METHOD, "fetchUserData"),
+            declaration(VARIABLE, "userId"),
+            declaration(CONSTANT, "pattern"),
+            declaration(TYPE, "HttpClient"),
+            declaration(FIELD, "DEFAULT_TIMEOUT"),
+            declaration(FIELD, "secretKey"),
+            declaration(METHOD, "sendRequest"),
+            declaration(VARIABLE, "requestBody"));
+  }
+
+  @Test
+  void lexShouldReportTheReferencesWithABestEffortKind() {
+    // WHEN
+    final var identifiers = lex(lexer, SOURCE);
+
+    // THEN
+    assertThat(identifiers)
+        .contains(
+            reference(METHOD, "loadUser"),
+            reference(VARIABLE, "http"),
+            reference(METHOD, "get"),
+            reference(TYPE, "BaseClient"),
+            reference(TYPE, "RequestError"));
+  }
+
+  @Test
+  void lexShouldSkipImportsDestructuredKeysRegularExpressionsAndTemplates() {
+    // WHEN
+    final var names = lex(lexer, SOURCE).stream().map(LexedIdentifier::name).toList();
+
+    // THEN
+    assertThat(names)
+        .doesNotContain(
+            "readFile", "fs", "user_name", "not_an_identifier", "users", "ignored_path");
+  }
+
+  @Test
+  void lexShouldTellDivisionsFromRegularExpressions() {
+    // GIVEN
+    final var source = "let ratio = total / count / 2;";
+
+    // WHEN
+    final var identifiers = lex(lexer, source);
+
+    // THEN
+    assertThat(identifiers)
+        .containsExactly(
+            declaration(VARIABLE, "ratio"),
+            reference(VARIABLE, "total"),
+            reference(VARIABLE, "count"));
+  }
+}
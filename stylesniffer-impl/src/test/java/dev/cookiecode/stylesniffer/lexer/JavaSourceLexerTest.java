@@ -0,0 +1,244 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declaration;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declarations;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.lex;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.reference;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class JavaSourceLexerTest {
+
+  private static final String SOURCE =
+      """
+      package demo;
+
+      import java.util.List;
+
+      /** Docs mentioning notAnIdentifier. */
+      public final class OrderService extends BaseService implements Runnable {
+        public static final int MAX_ORDERS = 10;
+        private final List<String> orderNames = new ArrayList<>();
+        protected int count, otherCount;
+
+        public OrderService(final int initialCount) {
+          this.count = initialCount;
+        }
+
+        @Override
+        public void run() {
+          for (String order_name : orderNames) {
+            process(order_name, "ignored_literal", 'c'); // trailing_comment
+          }
+        }
+
+        enum Status { ACTIVE, INACTIVE }
+
+        interface Listener { int DEFAULT_PRIORITY = 1; void onEvent(Event event); }
+
+        record Point(int x, int y) {}
+      }
+      """;
+
+  private final JavaSourceLexer lexer = new JavaSourceLexer();
+
+  @Test
+  void lexShouldReportTheDeclarationsWithTheirKind() {
+    // WHEN
+    final var declarations = declarations(lexer, SOURCE);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(
+            declaration(TYPE, "OrderService"),
+            declaration(CONSTANT, "MAX_ORDERS"),
+            declaration(FIELD, "orderNames"),
+            declaration(FIELD, "count"),
+            declaration(FIELD, "otherCount"),
+            declaration(VARIABLE, "initialCount"),
+            declaration(METHOD, "run"),
+            declaration(VARIABLE, "order_name"),
+            declaration(TYPE, "Status"),
+            declaration(CONSTANT, "ACTIVE"),
+            declaration(CONSTANT, "INACTIVE"),
+            declaration(TYPE, "Listener"),
+            declaration(CONSTANT, "DEFAULT_PRIORITY"),
+            declaration(METHOD, "onEvent"),
+            declaration(VARIABLE, "event"),
+            declaration(TYPE, "Point"),
+            declaration(FIELD, "x"),
+            declaration(FIELD, "y"));
+  }
+
+  @Test
+  void lexShouldReportTheReferencesWithABestEffortKind() {
+    // WHEN
+    final var identifiers = lex(lexer, SOURCE);
+
+    // THEN
+    assertThat(identifiers)
+        .contains(
+            reference(TYPE, "BaseService"),
+            reference(TYPE, "ArrayList"),
+            reference(TYPE, "Override"),
+            reference(FIELD, "count"),
+            reference(VARIABLE, "initialCount"),
+            reference(METHOD, "process"));
+  }
+
+  @Test
+  void lexShouldSkipPackagesImportsCommentsAndLiterals() {
+    // WHEN
+    final var names = lex(lexer, SOURCE).stream().map(LexedIdentifier::name).toList();
+
+    // THEN
+    assertThat(names)
+        .doesNotContain(
+            "demo", "java", "util", "notAnIdentifier", "ignored_literal", "c", "trailing_comment");
+  }
+
+  @Test
+  void lexShouldReturnTheNumberOfReportedIdentifiers() {
+    // WHEN
+    final var count = lexer.lex(SOURCE, (text, start, end, kind, declaration) -> {});
+
+    // THEN
+    assertThat(count).isEqualTo(lex(lexer, SOURCE).size());
+  }
+
+  @Test
+  void lexShouldSkipTextBlocks() {
+    // GIVEN
+    final var source = "String sql = \"\"\"\n  fake_name = 1;\n  \"\"\";\nint after_block;";
+
+    // WHEN
+    final var declarations = declarations(lexer, source);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(declaration(VARIABLE, "sql"), declaration(VARIABLE, "after_block"));
+  }
+
+  @Test
+  void lexShouldReportTheQualifiersOfQualifiedNamesAsTypesOrNotAtAll() {
+    // GIVEN
+    final var source =
+        """
+        class Mapper {
+          @java.lang.Deprecated int unused;
+          void map(java.util.function.Function<String, String> fn) {
+            java.util.List<String> names = java.util.List.of(fn.apply("x"));
+            var entries = Map.of();
+            Map.Entry<String, String> entry = null;
+            Runnable factory = java.util.ArrayList::new;
+          }
+        }
+        """;
+
+    // WHEN
+    final var identifiers = lex(lexer, source);
+
+    // THEN
+    assertThat(identifiers.stream().map(LexedIdentifier::name))
+        .doesNotContain("java", "lang", "util", "function");
+    assertThat(identifiers)
+        .contains(
+            reference(TYPE, "Deprecated"),
+            declaration(FIELD, "unused"),
+            reference(TYPE, "Function"),
+            reference(TYPE, "List"),
+            reference(METHOD, "of"),
+            reference(VARIABLE, "fn"),
+            reference(TYPE, "Map"),
+            reference(TYPE, "Entry"),
+            reference(TYPE, "ArrayList"))
+        .doesNotContain(reference(VARIABLE, "Map"), reference(FIELD, "List"));
+  }
+
+  @Test
+  void lexShouldSkipStatementLabels() {
+    // GIVEN
+    final var source =
+        """
+        void run() {
+          outer:
+          for (int i = 0; i < count; i++) {
+            inner: { break inner; }
+            continue outer;
+          }
+          String value = ready ? first : second;
+        }
+        """;
+
+    // WHEN
+    final var names = lex(lexer, source).stream().map(LexedIdentifier::name).toList();
+
+    // THEN
+    assertThat(names)
+        .doesNotContain("outer", "inner")
+        .contains("count", "ready", "first", "second");
+  }
+
+  @Test
+  void lexShouldDeclareTheTypeParameters() {
+    // GIVEN
+    final var source =
+        """
+        class Box<R extends Comparable<R>, T> extends Base<T> {
+          <U> U map(Function<T, U> mapper) { return null; }
+          record Pair<A, B>(A first, B second) {}
+        }
+        """;
+
+    // WHEN
+    final var declarations = declarations(lexer, source);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(
+            declaration(TYPE, "Box"),
+            declaration(TYPE, "R"),
+            declaration(TYPE, "T"),
+            declaration(TYPE, "U"),
+            declaration(METHOD, "map"),
+            declaration(VARIABLE, "mapper"),
+            declaration(TYPE, "Pair"),
+            declaration(TYPE, "A"),
+            declaration(TYPE, "B"),
+            declaration(FIELD, "first"),
+            declaration(FIELD, "second"));
+  }
+}
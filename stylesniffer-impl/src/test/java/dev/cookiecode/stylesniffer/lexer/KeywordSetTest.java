@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class KeywordSetTest {
+
+  @Test
+  void findShouldReturnTheCanonicalKeywordGivenARangeOfALargerText() {
+    // GIVEN
+    final var keywords = KeywordSet.of("class", "interface", "enum");
+
+    // WHEN
+    final var keyword = keywords.find("public interface Foo", 7, 16);
+
+    // THEN
+    assertThat(keyword).isSameAs("interface");
+  }
+
+  @Test
+  void findShouldReturnNullGivenAWordWhichIsNotAKeyword() {
+    // GIVEN
+    final var keywords = KeywordSet.of("class", "interface", "enum");
+
+    // WHEN / THEN
+    assertThat(keywords.find("classes", 0, 7)).isNull();
+    assertThat(keywords.find("Class", 0, 5)).isNull();
+    assertThat(keywords.contains("enum", 0, 4)).isTrue();
+  }
+
+  @Test
+  void findShouldIgnoreTheCaseGivenACaseInsensitiveKeywordSet() {
+    // GIVEN
+    final var keywords = KeywordSet.ofIgnoringCase("select", "from");
+
+    // WHEN / THEN
+    assertThat(keywords.find("SELECT", 0, 6)).isEqualTo("select");
+    assertThat(keywords.find("From", 0, 4)).isEqualTo("from");
+    assertThat(keywords.contains("where", 0, 5)).isFalse();
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declaration;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declarations;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.lex;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.reference;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class KotlinSourceLexerTest {
+
+  private static final String SOURCE =
+      """
+      package demo
+
+      const val MAX_RETRIES = 3
+
+      /* outer /* nested_comment */ still_comment */
+      data class Point(val xCoord: Int, scale: Double) : Shape(scale) {
+
+        private val cache by lazy { mutableMapOf<String, Int>() }
+
+        fun distanceTo(other: Point): Double {
+          val delta_x = xCoord - other.xCoord
+          println("delta ${delta_x} in $ignoredTemplate")
+          return delta_x.toDouble()
+        }
+      }
+
+      enum class Color { RED, GREEN }
+      """;
+
+  private final KotlinSourceLexer lexer = new KotlinSourceLexer();
+
+  @Test
+  void lexShouldReportTheDeclarationsWithTheirKind() {
+    // WHEN
+    final var declarations = declarations(lexer, SOURCE);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(
+            declaration(CONSTANT, "MAX_RETRIES"),
+            declaration(TYPE, "Point"),
+            declaration(FIELD, "xCoord"),
+            declaration(VARIABLE, "scale"),
+            declaration(FIELD, "cache"),
+            declaration(METHOD, "distanceTo"),
+            declaration(VARIABLE, "other"),
+            declaration(VARIABLE, "delta_x"),
+            declaration(TYPE, "Color"),
+            declaration(CONSTANT, "RED"),
+            declaration(CONSTANT, "GREEN"));
+  }
+
+  @Test
+  void lexShouldReportTheReferencesWithABestEffortKind() {
+    // WHEN
+    final var identifiers = lex(lexer, SOURCE);
+
+    // THEN
+    assertThat(identifiers)
+        .contains(
+            reference(TYPE, "Int"),
+            reference(TYPE, "Shape"),
+            reference(FIELD, "xCoord"),
+            reference(METHOD, "println"),
+            reference(METHOD, "toDouble"));
+  }
+
+  @Test
+  void lexShouldSkipNestedCommentsAndStringTemplates() {
+    // WHEN
+    final var names = lex(lexer, SOURCE).stream().map(LexedIdentifier::name).toList();
+
+    // THEN
+    assertThat(names)
+        .doesNotContain("demo", "nested_comment", "still_comment", "delta", "ignoredTemplate");
+  }
+
+  @Test
+  void lexShouldEndStatementsAtLineBreaks() {
+    // GIVEN
+    final var source = "val first = compute()\nsecondCall()\nvar counter = 0";
+
+    // WHEN
+    final var identifiers = lex(lexer, source);
+
+    // THEN
+    assertThat(identifiers)
+        .containsExactly(
+            declaration(FIELD, "first"),
+            reference(METHOD, "compute"),
+            reference(METHOD, "secondCall"),
+            declaration(FIELD, "counter"));
+  }
+
+  @Test
+  void lexShouldReportTheDeclarationsOfConstructorsAccessorsLoopsAndCatchClauses() {
+    // GIVEN
+    final var source =
+        """
+        import kotlin.collections.*
+
+        @file:JvmName("Utils")
+        class Repository<in K, out V>(private val store: Store) : Base(), Closeable where K : Any {
+            constructor(name: String) : this(Store(name))
+
+            init { println('c') }
+
+            var counter: Int = 0
+                get() = field
+                set(value) { field = value }
+
+            fun <T> String.parseAs(type: Class<T>): T? = type.cast(this) as? T
+
+            fun process(items: List<Pair<String, Int>>) {
+                outer@ for ((key, value) in items) {
+                    if (key is String && value >= 0) continue@outer
+                    items.forEach(::println)
+                    val total = value?.plus(1) ?: 0
+                    `weird name`(total..10)
+                }
+                try { counter++ } catch (error: Exception) { } finally { }
+            }
+
+            object Companion : Factory {
+                val INSTANCE = this@Repository
+            }
+        }
+        """;
+
+    // WHEN
+    final var identifiers = lex(lexer, source);
+
+    // THEN
+    assertThat(identifiers.stream().filter(LexedIdentifier::declaration).toList())
+        .containsExactly(
+            declaration(TYPE, "Repository"),
+            declaration(FIELD, "store"),
+            declaration(VARIABLE, "name"),
+            declaration(FIELD, "counter"),
+            declaration(METHOD, "parseAs"),
+            declaration(VARIABLE, "type"),
+            declaration(METHOD, "process"),
+            declaration(VARIABLE, "items"),
+            declaration(VARIABLE, "key"),
+            declaration(VARIABLE, "value"),
+            declaration(VARIABLE, "total"),
+            declaration(VARIABLE, "error"),
+            declaration(TYPE, "Companion"),
+            declaration(FIELD, "INSTANCE"));
+    assertThat(identifiers)
+        .contains(
+            reference(TYPE, "JvmName"),
+            reference(TYPE, "Closeable"),
+            reference(TYPE, "Any"),
+            reference(METHOD, "println"),
+            reference(TYPE, "Exception"),
+            reference(TYPE, "Factory"))
+        .doesNotContain(reference(VARIABLE, "T"));
+    assertThat(identifiers.stream().map(LexedIdentifier::name).toList())
+        .doesNotContain("kotlin", "collections", "Utils", "outer", "weird");
+  }
+}
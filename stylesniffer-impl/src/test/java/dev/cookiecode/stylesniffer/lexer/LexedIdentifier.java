@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Identifier reported by a {@link SourceLexer}, copied out of the source for assertions.
+ *
+ * @author Sebastien Vermeille
+ */
+record LexedIdentifier(String name, IdentifierKind kind, boolean declaration) {
+
+  static LexedIdentifier declaration(final IdentifierKind kind, final String name) {
+    return new LexedIdentifier(name, kind, true);
+  }
+
+  static LexedIdentifier reference(final IdentifierKind kind, final String name) {
+    return new LexedIdentifier(name, kind, false);
+  }
+
+  static List<LexedIdentifier> lex(final SourceLexer lexer, final String source) {
+    final var identifiers = new ArrayList<LexedIdentifier>();
+    lexer.lex(
+        source,
+        (text, start, end, kind, declaration) ->
+            identifiers.add(
+                new LexedIdentifier(text.subSequence(start, end).toString(), kind, declaration)));
+    return identifiers;
+  }
+
+  static List<LexedIdentifier> declarations(final SourceLexer lexer, final String source) {
+    return lex(lexer, source).stream().filter(LexedIdentifier::declaration).toList();
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declaration;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declarations;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.lex;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.reference;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class PythonSourceLexerTest {
+
+  private static final String SOURCE =
+      """
+      \"""Module docstring with fake_name = 1.\"""
+      import os
+      from typing import Final
+
+      MAX_SIZE: Final = 10
+      default_timeout = 30
+
+
+      class OrderService(BaseService, metaclass=Meta):
+          table_name = "orders"
+
+          def __init__(self, repository, *args):
+              self.repository = repository
+              # commented_out = 1
+
+          def fetch_all(self, limit=10):
+              squares = [n * n for n in range(limit)]
+              return self.repository.find(squares)
+      """;
+
+  private final PythonSourceLexer lexer = new PythonSourceLexer();
+
+  @Test
+  void lexShouldReportTheDeclarationsWithTheirKind() {
+    // WHEN
+    final var declarations = declarations(lexer, SOURCE);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(
+            declaration(CONSTANT, "MAX_SIZE"),
+            declaration(VARIABLE, "default_timeout"),
+            declaration(TYPE, "OrderService"),
+            declaration(FIELD, "table_name"),
+            declaration(METHOD, "__init__"),
+            declaration(VARIABLE, "self"),
+            declaration(VARIABLE, "repository"),
+            declaration(VARIABLE, "args"),
+            declaration(FIELD, "repository"),
+            declaration(METHOD, "fetch_all"),
+            declaration(VARIABLE, "self"),
+            declaration(VARIABLE, "limit"),
+            declaration(VARIABLE, "squares"),
+            declaration(VARIABLE, "n"));
+  }
+
+  @Test
+  void lexShouldReportTheReferencesWithABestEffortKind() {
+    // WHEN
+    final var identifiers = lex(lexer, SOURCE);
+
+    // THEN
+    assertThat(identifiers)
+        .contains(
+            reference(TYPE, "Final"),
+            reference(TYPE, "BaseService"),
+            reference(METHOD, "range"),
+            reference(FIELD, "repository"),
+            reference(METHOD, "find"));
+  }
+
+  @Test
+  void lexShouldSkipImportsCommentsDocstringsAndClassKeywordArguments() {
+    // WHEN
+    final var identifiers = lex(lexer, SOURCE);
+
+    // THEN
+    assertThat(identifiers.stream().map(LexedIdentifier::name).toList())
+        .doesNotContain("os", "typing", "fake_name", "commented_out", "metaclass", "orders");
+    assertThat(identifiers).doesNotContain(reference(TYPE, "Meta"));
+  }
+
+  @Test
+  void lexShouldCloseBlocksWhenTheIndentationDecreases() {
+    // GIVEN
+    final var source = "class Outer:\n    inner_field = 1\n\nmodule_value = 2\n";
+
+    // WHEN
+    final var declarations = declarations(lexer, source);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(
+            declaration(TYPE, "Outer"),
+            declaration(FIELD, "inner_field"),
+            declaration(VARIABLE, "module_value"));
+  }
+
+  @Test
+  void lexShouldReportTheTargetsOfTheStatementsBindingNames() {
+    // GIVEN
+    final var source =
+        """
+        @dataclass
+        class Point:
+            x_value: int = 0
+
+            @property
+            def norm(self) -> float:
+                return (self.x_value ** 2) ** 0.5
+
+        first, *rest = load_items()
+        for (key, value) in pairs.items(): print(key)
+        with open(path) as handle: pass
+        total = \\
+            compute(rb'raw', f"fmt")
+        if (count := len(rest)) == 0: done = True
+        callback = lambda left, right: left + right
+        import sys; after_import = 1
+        """;
+
+    // WHEN
+    final var identifiers = lex(lexer, source);
+
+    // THEN
+    assertThat(identifiers.stream().filter(LexedIdentifier::declaration).toList())
+        .containsExactly(
+            declaration(TYPE, "Point"),
+            declaration(FIELD, "x_value"),
+            declaration(METHOD, "norm"),
+            declaration(VARIABLE, "self"),
+            declaration(VARIABLE, "first"),
+            declaration(VARIABLE, "rest"),
+            declaration(VARIABLE, "key"),
+            declaration(VARIABLE, "value"),
+            declaration(VARIABLE, "handle"),
+            declaration(VARIABLE, "total"),
+            declaration(VARIABLE, "done"),
+            declaration(VARIABLE, "callback"),
+            declaration(VARIABLE, "left"),
+            declaration(VARIABLE, "right"),
+            declaration(VARIABLE, "after_import"));
+    assertThat(identifiers)
+        .contains(
+            reference(METHOD, "dataclass"),
+            reference(METHOD, "property"),
+            reference(TYPE, "float"),
+            reference(METHOD, "compute"));
+    assertThat(identifiers.stream().map(LexedIdentifier::name).toList())
+        .doesNotContain("sys", "raw", "fmt");
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class SourceLexersTest {
+
+  @Test
+  void getSupportedLanguagesShouldReturnTheLanguagesOfTheBuiltInLexers() {
+    // WHEN
+    final var languages = SourceLexers.getSupportedLanguages();
+
+    // THEN
+    assertThat(languages).containsExactly("Java", "Kotlin", "Python", "JavaScript", "SQL");
+  }
+
+  @Test
+  void forFileNameShouldReturnTheLexerMatchingTheExtensionIgnoringItsCase() {
+    // WHEN
+    final var lexer = SourceLexers.forFileName("src/main/kotlin/build.gradle.KTS");
+
+    // THEN
+    assertThat(lexer).isPresent();
+    assertThat(lexer.get()).isInstanceOf(KotlinSourceLexer.class);
+  }
+
+  @Test
+  void forFileNameShouldReturnAnEmptyOptionalGivenAnUnsupportedOrMissingExtension() {
+    // WHEN / THEN
+    assertThat(SourceLexers.forFileName("README.md")).isEmpty();
+    assertThat(SourceLexers.forFileName("Makefile")).isEmpty();
+    assertThat(SourceLexers.forFileName("config.d/Makefile")).isEmpty();
+  }
+
+  @Test
+  void forLanguageShouldReturnTheLexerOfTheLanguageIgnoringItsCase() {
+    // WHEN
+    final var lexer = SourceLexers.forLanguage("javascript");
+
+    // THEN
+    assertThat(lexer).isPresent();
+    assertThat(lexer.get()).isInstanceOf(JavaScriptSourceLexer.class);
+    assertThat(SourceLexers.forLanguage("COBOL")).isEmpty();
+  }
+
+  @Test
+  void lexShouldAllowCheckingTheNamingConventionOfEachKindInPlace() {
+    // GIVEN
+    final var source =
+        "class order_service {\n"
+            + "  static final int maxOrders = 1;\n"
+            + "  static final int MIN_ORDERS = 0;\n"
+            + "  void ProcessOrder(int orderId) {}\n"
+            + "}";
+    final var lexer = SourceLexers.forFileName("OrderService.java").orElseThrow();
+    final var styleSniffer = StyleSnifferFactory.createStyleSniffer();
+    final var expectedStyles = new HashMap<IdentifierKind, String>();
+    expectedStyles.put(IdentifierKind.TYPE, "PascalCase");
+    expectedStyles.put(IdentifierKind.CONSTANT, "SCREAMING_SNAKE_CASE");
+    expectedStyles.put(IdentifierKind.METHOD, "camelCase");
+    expectedStyles.put(IdentifierKind.VARIABLE, "camelCase");
+
+    // WHEN
+    final var violations = new ArrayList<String>();
+    lexer.lex(
+        source,
+        (text, start, end, kind, declaration) -> {
+          final var style = styleSniffer.getCaseStyle(text, start, end);
+          if (declaration
+              && !style
+                  .map(caseStyle -> caseStyle.getName().equals(expectedStyles.get(kind)))
+                  .orElse(false)) {
+            violations.add(text.subSequence(start, end).toString());
+          }
+        });
+
+    // THEN
+    assertThat(violations).containsExactly("order_service", "maxOrders", "ProcessOrder");
+  }
+}
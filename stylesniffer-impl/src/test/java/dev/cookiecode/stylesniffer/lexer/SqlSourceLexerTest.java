@@ -0,0 +1,184 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.lexer;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declaration;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.declarations;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.lex;
+import static dev.cookiecode.stylesniffer.lexer.LexedIdentifier.reference;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class SqlSourceLexerTest {
+
+  private static final String SOURCE =
+      """
+      CREATE TABLE IF NOT EXISTS user_accounts (
+        account_id BIGINT PRIMARY KEY,
+        "displayName" VARCHAR(255) NOT NULL,
+        status account_status DEFAULT 'ignored_value',
+        CONSTRAINT uq_display_name UNIQUE ("displayName")
+      );
+
+      CREATE FUNCTION compute_total(order_id INT) RETURNS NUMERIC AS $$
+        SELECT ignored_body FROM ignored_table;
+      $$ LANGUAGE sql;
+
+      -- SELECT commented_out
+      SELECT u.account_id, count(*) AS orderCount
+      FROM user_accounts u
+      JOIN orders AS o ON o.account_id = u.account_id
+      WHERE o.created_at > :startDate;
+      """;
+
+  private final SqlSourceLexer lexer = new SqlSourceLexer();
+
+  @Test
+  void lexShouldReportTheDeclarationsWithTheirKind() {
+    // WHEN
+    final var declarations = declarations(lexer, SOURCE);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(
+            declaration(TYPE, "user_accounts"),
+            declaration(FIELD, "account_id"),
+            declaration(FIELD, "displayName"),
+            declaration(FIELD, "status"),
+            declaration(METHOD, "compute_total"),
+            declaration(VARIABLE, "order_id"),
+            declaration(FIELD, "orderCount"),
+            declaration(VARIABLE, "u"),
+            declaration(VARIABLE, "o"));
+  }
+
+  @Test
+  void lexShouldReportTheReferencesWithABestEffortKind() {
+    // WHEN
+    final var identifiers = lex(lexer, SOURCE);
+
+    // THEN
+    assertThat(identifiers)
+        .contains(
+            reference(TYPE, "account_status"),
+            reference(TYPE, "user_accounts"),
+            reference(TYPE, "orders"),
+            reference(VARIABLE, "u"),
+            reference(FIELD, "account_id"),
+            reference(METHOD, "count"),
+            reference(VARIABLE, "startDate"));
+  }
+
+  @Test
+  void lexShouldSkipKeywordsConstraintsCommentsAndStringBodies() {
+    // WHEN
+    final var names = lex(lexer, SOURCE).stream().map(LexedIdentifier::name).toList();
+
+    // THEN
+    assertThat(names)
+        .doesNotContain(
+            "CREATE",
+            "BIGINT",
+            "uq_display_name",
+            "ignored_value",
+            "ignored_body",
+            "ignored_table",
+            "sql",
+            "commented_out");
+  }
+
+  @Test
+  void lexShouldReportTheCommonTableExpressionsAndTheColumnsAddedToATable() {
+    // GIVEN
+    final var source =
+        "WITH active_users AS (SELECT 1), OrderTotals AS (SELECT 2) SELECT 3;\n"
+            + "ALTER TABLE user_accounts ADD COLUMN lastLoginAt TIMESTAMP WITH TIME ZONE;";
+
+    // WHEN
+    final var declarations = declarations(lexer, source);
+
+    // THEN
+    assertThat(declarations)
+        .containsExactly(
+            declaration(TYPE, "active_users"),
+            declaration(TYPE, "OrderTotals"),
+            declaration(FIELD, "lastLoginAt"));
+  }
+
+  @Test
+  void lexShouldReportTheNamesOfViewsTriggersProceduresAndTheirVariables() {
+    // GIVEN
+    final var source =
+        """
+        /* block_comment */
+        CREATE OR REPLACE VIEW active_orders AS SELECT * FROM sales.orders WHERE total > $1;
+        CREATE UNIQUE INDEX idx_orders ON orders (created_at);
+        CREATE TRIGGER audit_orders AFTER UPDATE ON orders EXECUTE FUNCTION log_change();
+        CREATE PROCEDURE archive_orders @cutoff DATE, @batch_size INT AS
+        BEGIN
+          DECLARE @archived INT, @skipped INT;
+          DELETE FROM orders WHERE created_at < @cutoff;
+          SET @archived = @@ROWCOUNT;
+        END;
+        INSERT INTO order_log VALUES (CAST(total_amount AS NUMERIC), amount::text, $body$ x $body$);
+        UPDATE orders SET status = 'done' WHERE EXTRACT(YEAR FROM created_at) = 2024;
+        SELECT t.id FROM (SELECT id FROM orders) t, customers c UNION SELECT 1;
+        CALL billing.close_month();
+        """;
+
+    // WHEN
+    final var identifiers = lex(lexer, source);
+
+    // THEN
+    assertThat(identifiers.stream().filter(LexedIdentifier::declaration).toList())
+        .containsExactly(
+            declaration(TYPE, "active_orders"),
+            declaration(METHOD, "audit_orders"),
+            declaration(METHOD, "archive_orders"),
+            declaration(VARIABLE, "cutoff"),
+            declaration(VARIABLE, "batch_size"),
+            declaration(VARIABLE, "archived"),
+            declaration(VARIABLE, "skipped"),
+            declaration(VARIABLE, "t"),
+            declaration(VARIABLE, "c"));
+    assertThat(identifiers)
+        .contains(
+            reference(TYPE, "order_log"),
+            reference(TYPE, "customers"),
+            reference(VARIABLE, "cutoff"),
+            reference(METHOD, "log_change"),
+            reference(METHOD, "close_month"));
+    assertThat(identifiers.stream().map(LexedIdentifier::name).toList())
+        .doesNotContain("block_comment", "sales", "idx_orders", "ROWCOUNT", "billing", "x");
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class InstrumentedStyleSnifferTest {
+
+  private StyleSnifferMetrics metrics;
+  private StyleSniffer styleSniffer;
+
+  @BeforeEach
+  void setUp() {
+    metrics = new StyleSnifferMetrics();
+    styleSniffer = StyleSnifferFactory.createInstrumentedStyleSniffer(metrics);
+  }
+
+  @Test
+  void getCaseStyleShouldRecordAHitGivenAMatchingInput() {
+    // WHEN
+    final var result = styleSniffer.getCaseStyle("SomePascalCase");
+
+    // THEN
+    assertThat(result).isPresent();
+    assertThat(metrics.snapshot().hitsByStyle()).containsEntry(result.get().getName(), 1L);
+  }
+
+  @Test
+  void getCaseStyleShouldRecordANoMatchGivenAnInputMatchingNoCaseStyle() {
+    // WHEN
+    final var result = styleSniffer.getCaseStyle("not@any style");
+
+    // THEN
+    assertThat(result).isEmpty();
+    assertThat(metrics.getNoMatchCount()).isEqualTo(1);
+    assertThat(metrics.getRejectedInputCount()).isZero();
+  }
+
+  @Test
+  void getCaseStyleShouldRecordARejectedInputGivenANullOrBlankInput() {
+    // WHEN
+    styleSniffer.getCaseStyle(null);
+    styleSniffer.getCaseStyle("   ");
+
+    // THEN
+    assertThat(metrics.getRejectedInputCount()).isEqualTo(2);
+    assertThat(metrics.getNoMatchCount()).isZero();
+  }
+
+  @Test
+  void getCaseStyleWithRangeShouldRecordHitsNoMatchesAndRejectedInputs() {
+    // GIVEN
+    final var text = "SomePascalCase not@any   ";
+
+    // WHEN
+    styleSniffer.getCaseStyle(text, 0, 14);
+    styleSniffer.getCaseStyle(text, 15, 22);
+    styleSniffer.getCaseStyle(text, 22, text.length());
+
+    // THEN
+    final var snapshot = metrics.snapshot();
+    assertThat(snapshot.hitsByStyle()).containsEntry("PascalCase", 1L);
+    assertThat(snapshot.noMatches()).isEqualTo(1);
+    assertThat(snapshot.rejectedInputs()).isEqualTo(1);
+  }
+
+  @Test
+  void getCaseStyleShouldNotRecordAnythingGivenTheMetricsAreDisabled() {
+    // GIVEN
+    metrics.setEnabled(false);
+
+    // WHEN
+    final var result = styleSniffer.getCaseStyle("SomePascalCase");
+
+    // THEN
+    assertThat(result).isPresent();
+    assertThat(metrics.snapshot().classifications()).isZero();
+  }
+
+  @Test
+  void otherMethodsShouldBeDelegatedWithoutRecording() {
+    // GIVEN
+    final var delegate = mock(StyleSniffer.class);
+    doReturn(Set.of("PascalCase")).when(delegate).getSupportedCaseStyles();
+    final var instrumented = new InstrumentedStyleSniffer(delegate, metrics);
+
+    // WHEN
+    final var result = instrumented.getSupportedCaseStyles();
+    instrumented.getSupportedCaseStylesIncludingVariants();
+    instrumented.getCaseStyleWithVariantOrName("PascalCase");
+    instrumented.newIncrementalClassifier();
+
+    // THEN
+    assertThat(result).containsOnly("PascalCase");
+    verify(delegate, times(1)).getSupportedCaseStylesIncludingVariants();
+    verify(delegate, times(1)).getCaseStyleWithVariantOrName("PascalCase");
+    verify(delegate, times(1)).newIncrementalClassifier();
+    assertThat(metrics.snapshot().classifications()).isZero();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class LatencyHistogramTest {
+
+  private LatencyHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new LatencyHistogram();
+  }
+
+  @Test
+  void bucketIndexShouldReturnTheFloorOfTheBase2Logarithm() {
+    assertThat(LatencyHistogram.bucketIndex(0)).isZero();
+    assertThat(LatencyHistogram.bucketIndex(1)).isZero();
+    assertThat(LatencyHistogram.bucketIndex(2)).isEqualTo(1);
+    assertThat(LatencyHistogram.bucketIndex(3)).isEqualTo(1);
+    assertThat(LatencyHistogram.bucketIndex(1024)).isEqualTo(10);
+    assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(62);
+  }
+
+  @Test
+  void snapshotShouldContainAllTheRecordedSamples() {
+    // GIVEN
+    histogram.record(100);
+    histogram.record(200);
+    histogram.record(-5);
+
+    // WHEN
+    final var snapshot = histogram.snapshot();
+
+    // THEN
+    assertThat(snapshot.count()).isEqualTo(3);
+    assertThat(snapshot.totalNanos()).isEqualTo(300);
+    assertThat(snapshot.meanNanos()).isEqualTo(100.0);
+  }
+
+  @Test
+  void percentileNanosShouldReturnTheUpperBoundOfTheBucketContainingTheRank() {
+    // GIVEN
+    for (int i = 0; i < 99; i++) {
+      histogram.record(100); // bucket [64, 127]
+    }
+    histogram.record(5_000); // bucket [4096, 8191]
+
+    // WHEN
+    final var snapshot = histogram.snapshot();
+
+    // THEN
+    assertThat(snapshot.percentileNanos(50)).isEqualTo(127);
+    assertThat(snapshot.percentileNanos(99)).isEqualTo(127);
+    assertThat(snapshot.percentileNanos(100)).isEqualTo(8191);
+  }
+
+  @Test
+  void percentileNanosShouldReturnZeroGivenNoSampleWasRecorded() {
+    // WHEN
+    final var snapshot = histogram.snapshot();
+
+    // THEN
+    assertThat(snapshot.percentileNanos(99)).isZero();
+    assertThat(snapshot.meanNanos()).isZero();
+  }
+
+  @Test
+  void percentileNanosShouldThrowAnIllegalArgumentExceptionGivenAnOutOfRangePercentile() {
+    // GIVEN
+    final var snapshot = histogram.snapshot();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          // WHEN
+          snapshot.percentileNanos(101);
+        });
+  }
+
+  @Test
+  void resetShouldClearAllTheBuckets() {
+    // GIVEN
+    histogram.record(100);
+
+    // WHEN
+    histogram.reset();
+
+    // THEN
+    assertThat(histogram.snapshot().count()).isZero();
+  }
+
+  @Test
+  void snapshotShouldNotBeAffectedByModificationsOfTheReturnedArray() {
+    // GIVEN
+    histogram.record(100);
+    final var snapshot = histogram.snapshot();
+
+    // WHEN
+    snapshot.bucketCounts()[6] = 42;
+
+    // THEN
+    assertThat(snapshot.count()).isEqualTo(1);
+    assertThat(snapshot).isEqualTo(histogram.snapshot());
+  }
+}
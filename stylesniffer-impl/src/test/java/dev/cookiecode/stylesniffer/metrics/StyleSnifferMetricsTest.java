@@ -0,0 +1,144 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.api.exception.StyleSnifferException;
+import dev.cookiecode.stylesniffer.impl.casestyle.PascalCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class StyleSnifferMetricsTest {
+
+  private StyleSnifferMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    metrics = new StyleSnifferMetrics();
+  }
+
+  @Test
+  void snapshotShouldAggregateHitsPerCaseStyleName() {
+    // GIVEN
+    metrics.recordHit(new PascalCaseStyle(), 10);
+    metrics.recordHit(new PascalCaseStyle(), 10);
+    metrics.recordHit(new SnakeCaseStyle(), 10);
+
+    // WHEN
+    final var snapshot = metrics.snapshot();
+
+    // THEN
+    assertThat(snapshot.hitsByStyle())
+        .containsEntry("PascalCase", 2L)
+        .containsEntry("snake_case", 1L);
+    assertThat(snapshot.hits()).isEqualTo(3);
+  }
+
+  @Test
+  void snapshotShouldCountNoMatchesAndRejectedInputsSeparately() {
+    // GIVEN
+    metrics.recordHit(new PascalCaseStyle(), 10);
+    metrics.recordNoMatch(20);
+    metrics.recordRejectedInput(1);
+    metrics.recordRejectedInput(1);
+
+    // WHEN
+    final var snapshot = metrics.snapshot();
+
+    // THEN
+    assertThat(snapshot.noMatches()).isEqualTo(1);
+    assertThat(snapshot.rejectedInputs()).isEqualTo(2);
+    assertThat(snapshot.classifications()).isEqualTo(4);
+    assertThat(snapshot.latency().count()).isEqualTo(4);
+    assertThat(metrics.getClassificationCount()).isEqualTo(4);
+  }
+
+  @Test
+  void resetShouldClearAllTheCounters() {
+    // GIVEN
+    metrics.recordHit(new PascalCaseStyle(), 10);
+    metrics.recordNoMatch(20);
+    metrics.recordRejectedInput(1);
+
+    // WHEN
+    metrics.reset();
+
+    // THEN
+    assertThat(metrics.snapshot().classifications()).isZero();
+    assertThat(metrics.getLatencyP99Nanos()).isZero();
+  }
+
+  @Test
+  void metricsShouldBeEnabledByDefault() {
+    assertThat(metrics.isEnabled()).isTrue();
+  }
+
+  @Test
+  void registerMBeanShouldExposeTheMetricsThroughThePlatformMBeanServer() throws Exception {
+    // GIVEN
+    metrics.recordNoMatch(20);
+    final var server = ManagementFactory.getPlatformMBeanServer();
+
+    // WHEN
+    final var objectName =
+        metrics.registerMBean("dev.cookiecode.stylesniffer:type=StyleSnifferMetricsTest");
+
+    // THEN
+    try {
+      assertThat(server.getAttribute(objectName, "NoMatchCount")).isEqualTo(1L);
+    } finally {
+      metrics.unregisterMBean(objectName);
+    }
+    assertThat(server.isRegistered(objectName)).isFalse();
+  }
+
+  @Test
+  void registerMBeanShouldThrowAStyleSnifferExceptionGivenAnInvalidObjectName() {
+    assertThrows(
+        StyleSnifferException.class,
+        () -> {
+          // WHEN
+          metrics.registerMBean("not a valid object name");
+        });
+  }
+
+  @Test
+  void unregisterMBeanShouldThrowAStyleSnifferExceptionGivenAnUnknownObjectName() {
+    assertThrows(
+        StyleSnifferException.class,
+        () -> {
+          // WHEN
+          metrics.unregisterMBean(new ObjectName("dev.cookiecode.stylesniffer:type=Unknown"));
+        });
+  }
+}
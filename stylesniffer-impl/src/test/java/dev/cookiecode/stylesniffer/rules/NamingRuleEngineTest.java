@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.rules;
+
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.CONSTANT;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.FIELD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.METHOD;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.TYPE;
+import static dev.cookiecode.stylesniffer.lexer.IdentifierKind.VARIABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.impl.casestyle.LowerCamelCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.PascalCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.ScreamingSnakeCaseStyle;
+import dev.cookiecode.stylesniffer.impl.casestyle.SnakeCaseStyle;
+import dev.cookiecode.stylesniffer.lexer.JavaSourceLexer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class NamingRuleEngineTest {
+
+  private static final String PATH = "src/main/java/Foo.java";
+
+  private final NamingRule typeRule = new NamingRule(TYPE, new PascalCaseStyle());
+  private final NamingRule constantRule =
+      new NamingRule(
+          CONSTANT,
+          NamingRule.ANY_PATH,
+          new ScreamingSnakeCaseStyle(),
+          List.of(Pattern.compile("serialVersionUID")));
+  private final NamingRule sqlFieldRule =
+      new NamingRule(FIELD, "src/main/sql/**", new SnakeCaseStyle(), List.of());
+  private final NamingRule defaultRule = new NamingRule(null, new LowerCamelCaseStyle());
+
+  private final NamingRuleEngine engine =
+      new NamingRuleEngine(
+          StyleSnifferFactory.createStyleSniffer(),
+          List.of(typeRule, constantRule, sqlFieldRule, defaultRule));
+  private final List<NamingViolation> violations = new ArrayList<>();
+
+  @Test
+  void checkShouldApplyTheRuleOfTheKindOfTheIdentifier() {
+    // WHEN
+    final var results =
+        List.of(
+            engine.check("UserAccount", TYPE, PATH, violations::add),
+            engine.check("MAX_SIZE", CONSTANT, PATH, violations::add),
+            engine.check("getName", METHOD, PATH, violations::add),
+            engine.check("userAccount", TYPE, PATH, violations::add),
+            engine.check("get_name", METHOD, PATH, violations::add));
+
+    // THEN
+    assertThat(results).containsExactly(true, true, true, false, false);
+    assertThat(violations)
+        .extracting(NamingViolation::identifier)
+        .containsExactly("userAccount", "get_name");
+    assertThat(violations.get(0).rule()).isEqualTo(typeRule);
+    assertThat(violations.get(1).rule()).isEqualTo(defaultRule);
+    assertThat(violations.get(1).detectedStyle()).isInstanceOf(SnakeCaseStyle.class);
+  }
+
+  @Test
+  void checkShouldApplyTheFirstRuleMatchingThePath() {
+    // WHEN
+    final boolean sqlField = engine.check("created_at", FIELD, "src/main/sql/users.sql", v -> {});
+    final boolean javaField = engine.check("created_at", FIELD, PATH, violations::add);
+
+    // THEN
+    assertThat(sqlField).isTrue();
+    assertThat(javaField).isFalse();
+    assertThat(violations).singleElement().extracting(NamingViolation::path).isEqualTo(PATH);
+  }
+
+  @Test
+  void checkShouldSkipTheExcludedIdentifiers() {
+    // WHEN
+    final boolean excluded = engine.check("serialVersionUID", CONSTANT, PATH, violations::add);
+
+    // THEN
+    assertThat(excluded).isTrue();
+    assertThat(violations).isEmpty();
+  }
+
+  @Test
+  void checkShouldAcceptTheIdentifiersNoRuleAppliesTo() {
+    // GIVEN
+    final var typesOnly =
+        new NamingRuleEngine(StyleSnifferFactory.createStyleSniffer(), List.of(typeRule));
+
+    // WHEN
+    final boolean checked = typesOnly.check("any_name", VARIABLE, PATH, violations::add);
+
+    // THEN
+    assertThat(checked).isTrue();
+    assertThat(violations).isEmpty();
+  }
+
+  @Test
+  void checkingShouldCheckTheDeclarationsReportedByALexer() {
+    // GIVEN
+    final var source =
+        """
+        class order_line {
+          static final int maxSize = 10;
+          int unit_price = Other.some_value;
+        }
+        """;
+
+    // WHEN
+    new JavaSourceLexer().lex(source, engine.checking(PATH, violations::add));
+
+    // THEN
+    assertThat(violations)
+        .extracting(NamingViolation::identifier)
+        .containsExactly("order_line", "maxSize", "unit_price");
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.scan;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class FileSummarizerTest {
+
+  private static final String SOURCE =
+      """
+      // TODO_LATER: some_comment
+      class OrderService {
+        private static final int MAX_ITEMS = 10;
+        private String order_label = "not_an_identifier";
+      }
+      """;
+
+  private final FileSummarizer summarizer =
+      new FileSummarizer(StyleSnifferFactory.createStyleSniffer());
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void summarizeShouldLexTheFilesWrittenInASupportedLanguage() {
+    // WHEN
+    final var histogram = summarizer.summarize("OrderService.java", SOURCE);
+
+    // THEN
+    assertThat(histogram.countsByStyle())
+        .containsEntry("PascalCase", 2L)
+        .containsEntry("SCREAMING_SNAKE_CASE", 1L)
+        .containsEntry("snake_case", 1L);
+    assertThat(histogram.identifierCount()).isEqualTo(4);
+  }
+
+  @Test
+  void summarizeShouldExtractTheIdentifiersOfTheOtherFiles() {
+    // WHEN
+    final var histogram = summarizer.summarize("notes.txt", "user_id accountName 42abc -");
+
+    // THEN
+    assertThat(histogram.countsByStyle())
+        .containsEntry("snake_case", 1L)
+        .containsEntry("camelCase", 1L);
+    assertThat(histogram.identifierCount()).isEqualTo(2);
+  }
+
+  @Test
+  void summarizeShouldReadTheFileAsUtf8() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("notes.txt");
+    Files.write(file, "café_crème".getBytes(UTF_8));
+
+    // WHEN
+    final var histogram = summarizer.summarize(file);
+
+    // THEN
+    assertThat(histogram.countsByStyle()).containsEntry("snake_case", 1L);
+  }
+}
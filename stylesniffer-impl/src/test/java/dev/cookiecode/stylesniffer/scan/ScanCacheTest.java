@@ -0,0 +1,256 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class ScanCacheTest {
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @TempDir private Path tempDir;
+
+  private Path cacheFile;
+  private Path sourceFile;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    cacheFile = tempDir.resolve("cache").resolve("scan.cache");
+    sourceFile = tempDir.resolve("notes.txt");
+    Files.writeString(sourceFile, "user_id accountName MAX_VALUE other_name");
+  }
+
+  @Test
+  void summarizeShouldSummarizeTheFileGivenAnEmptyCache() throws Exception {
+    // GIVEN
+    final var cache = ScanCache.open(cacheFile, new FileSummarizer(styleSniffer));
+
+    // WHEN
+    final var histogram = cache.summarize(sourceFile);
+
+    // THEN
+    assertThat(histogram.countsByStyle()).containsEntry("snake_case", 2L);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isZero();
+  }
+
+  @Test
+  void summarizeShouldReturnTheSavedHistogramGivenAnUnchangedFile() throws Exception {
+    // GIVEN
+    final var summarizer = new FileSummarizer(styleSniffer);
+    final var firstScan = ScanCache.open(cacheFile, summarizer);
+    final var expectedHistogram = firstScan.summarize(sourceFile);
+    firstScan.save();
+
+    // WHEN
+    final var secondScan = ScanCache.open(cacheFile, summarizer);
+    final var histogram = secondScan.summarize(sourceFile);
+
+    // THEN
+    assertThat(histogram).isEqualTo(expectedHistogram);
+    assertThat(secondScan.getHitCount()).isEqualTo(1);
+    assertThat(secondScan.getMissCount()).isZero();
+  }
+
+  @Test
+  void summarizeShouldSummarizeTheFileAgainGivenItsContentChanged() throws Exception {
+    // GIVEN
+    final var summarizer = new FileSummarizer(styleSniffer);
+    final var firstScan = ScanCache.open(cacheFile, summarizer);
+    firstScan.summarize(sourceFile);
+    firstScan.save();
+    Files.writeString(sourceFile, "user_id");
+
+    // WHEN
+    final var secondScan = ScanCache.open(cacheFile, summarizer);
+    final var histogram = secondScan.summarize(sourceFile);
+
+    // THEN
+    assertThat(histogram.identifierCount()).isEqualTo(1);
+    assertThat(secondScan.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void summarizeShouldFindFilesWithTheSameContentAmongManyEntries() throws Exception {
+    // GIVEN
+    final var summarizer = new FileSummarizer(styleSniffer);
+    final var firstScan = ScanCache.open(cacheFile, summarizer);
+    for (int i = 0; i < 100; i++) {
+      final var file = tempDir.resolve("file" + i + ".txt");
+      Files.writeString(file, "name_" + i + " other" + i);
+      firstScan.summarize(file);
+    }
+    firstScan.save();
+
+    // WHEN
+    final var secondScan = ScanCache.open(cacheFile, summarizer);
+    for (int i = 99; i >= 0; i--) {
+      secondScan.summarize(tempDir.resolve("file" + i + ".txt"));
+    }
+
+    // THEN
+    assertThat(secondScan.getHitCount()).isEqualTo(100);
+    assertThat(secondScan.getMissCount()).isZero();
+  }
+
+  @Test
+  void openShouldIgnoreTheCacheFileGivenTheRegisteredCaseStylesChanged() throws Exception {
+    // GIVEN
+    final var firstScan = ScanCache.open(cacheFile, new FileSummarizer(styleSniffer));
+    firstScan.summarize(sourceFile);
+    firstScan.save();
+
+    // WHEN
+    final var withoutSnakeCase = new WithoutCaseStyle(styleSniffer, "snake_case");
+    final var secondScan = ScanCache.open(cacheFile, new FileSummarizer(withoutSnakeCase));
+    secondScan.summarize(sourceFile);
+
+    // THEN
+    assertThat(secondScan.getMissCount()).isEqualTo(1);
+    assertThat(secondScan.getHitCount()).isZero();
+  }
+
+  @Test
+  void openShouldIgnoreTheCacheFileGivenTheCaseStylesAreMatchedInAnotherOrder() throws Exception {
+    // GIVEN
+    final var firstScan = ScanCache.open(cacheFile, new FileSummarizer(styleSniffer));
+    firstScan.summarize(sourceFile);
+    firstScan.save();
+
+    // WHEN
+    final var reversed = new ReversedCaseStyles(styleSniffer);
+    final var secondScan = ScanCache.open(cacheFile, new FileSummarizer(reversed));
+    secondScan.summarize(sourceFile);
+
+    // THEN
+    assertThat(secondScan.getMissCount()).isEqualTo(1);
+    assertThat(secondScan.getHitCount()).isZero();
+  }
+
+  @Test
+  void openShouldIgnoreACorruptedCacheFile() throws Exception {
+    // GIVEN
+    Files.createDirectories(cacheFile.getParent());
+    Files.writeString(cacheFile, "not a cache file");
+
+    // WHEN
+    final var cache = ScanCache.open(cacheFile, new FileSummarizer(styleSniffer));
+    cache.summarize(sourceFile);
+
+    // THEN
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void saveShouldOnlyKeepTheFilesSummarizedSinceTheCacheWasOpened() throws Exception {
+    // GIVEN
+    final var summarizer = new FileSummarizer(styleSniffer);
+    final var firstScan = ScanCache.open(cacheFile, summarizer);
+    firstScan.summarize(sourceFile);
+    firstScan.save();
+    final var sizeWithOneEntry = Files.size(cacheFile);
+    ScanCache.open(cacheFile, summarizer).save();
+
+    // WHEN
+    final var sizeWithoutEntry = Files.size(cacheFile);
+
+    // THEN
+    assertThat(sizeWithoutEntry).isLessThan(sizeWithOneEntry);
+  }
+
+  /** Sniffer matching the case styles of another sniffer in reverse order. */
+  private record ReversedCaseStyles(StyleSniffer styleSniffer) implements StyleSniffer {
+
+    @Override
+    public Optional<CaseStyle> getCaseStyle(final String name) {
+      return getSupportedCaseStyles().stream()
+          .map(styleSniffer::getCaseStyleWithVariantOrName)
+          .flatMap(Optional::stream)
+          .filter(style -> name != null && style.matches(name))
+          .findFirst();
+    }
+
+    @Override
+    public Optional<CaseStyle> getCaseStyleWithVariantOrName(final String variantOrName) {
+      return styleSniffer.getCaseStyleWithVariantOrName(variantOrName);
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStyles() {
+      return new LinkedHashSet<>(List.copyOf(styleSniffer.getSupportedCaseStyles()).reversed());
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStylesIncludingVariants() {
+      return styleSniffer.getSupportedCaseStylesIncludingVariants();
+    }
+  }
+
+  /** Sniffer hiding one of the case styles of another sniffer. */
+  private record WithoutCaseStyle(StyleSniffer styleSniffer, String hiddenName)
+      implements StyleSniffer {
+
+    @Override
+    public Optional<CaseStyle> getCaseStyle(final String name) {
+      return styleSniffer.getCaseStyle(name).filter(style -> !style.getName().equals(hiddenName));
+    }
+
+    @Override
+    public Optional<CaseStyle> getCaseStyleWithVariantOrName(final String variantOrName) {
+      return styleSniffer
+          .getCaseStyleWithVariantOrName(variantOrName)
+          .filter(style -> !style.getName().equals(hiddenName));
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStyles() {
+      return styleSniffer.getSupportedCaseStyles().stream()
+          .filter(name -> !name.equals(hiddenName))
+          .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStylesIncludingVariants() {
+      return styleSniffer.getSupportedCaseStylesIncludingVariants();
+    }
+  }
+}
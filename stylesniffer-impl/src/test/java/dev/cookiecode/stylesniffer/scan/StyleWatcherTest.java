@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class StyleWatcherTest {
+
+  private static final Duration DEBOUNCE = Duration.ofMillis(20);
+  private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+  private final FileSummarizer summarizer =
+      new FileSummarizer(StyleSnifferFactory.createStyleSniffer());
+
+  @TempDir private Path tempDir;
+
+  private StyleWatcher watcher;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Files.writeString(tempDir.resolve("Order.java"), "class Order { int item_count; }");
+    Files.createDirectories(tempDir.resolve("sub"));
+    Files.writeString(tempDir.resolve("sub").resolve("Item.java"), "class Item { int MAX_SIZE; }");
+    watcher =
+        new StyleWatcher(
+            tempDir, summarizer, file -> file.toString().endsWith(".java"), DEBOUNCE, 2);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    watcher.close();
+  }
+
+  @Test
+  void startShouldIndexAllTheFilesOfTheTree() throws Exception {
+    // WHEN
+    watcher.start();
+
+    // THEN
+    assertThat(watcher.getFileCount()).isEqualTo(2);
+    assertThat(watcher.getAggregate().countsByStyle())
+        .containsEntry("PascalCase", 2L)
+        .containsEntry("snake_case", 1L)
+        .containsEntry("SCREAMING_SNAKE_CASE", 1L);
+    assertThat(watcher.getHistogram(tempDir.resolve("Order.java"))).isPresent();
+  }
+
+  @Test
+  void watcherShouldSummarizeAgainAModifiedFile() throws Exception {
+    // GIVEN
+    watcher.start();
+
+    // WHEN
+    Files.writeString(tempDir.resolve("Order.java"), "class Order { int itemCount; }");
+
+    // THEN
+    awaitUntil(() -> watcher.getAggregate().countsByStyle().containsKey("camelCase"));
+    assertThat(watcher.getAggregate().countsByStyle()).doesNotContainKey("snake_case");
+    assertThat(watcher.getFileCount()).isEqualTo(2);
+  }
+
+  @Test
+  void watcherShouldIndexTheFilesOfANewDirectory() throws Exception {
+    // GIVEN
+    watcher.start();
+
+    // WHEN
+    final var directory = Files.createDirectories(tempDir.resolve("new").resolve("nested"));
+    Files.writeString(directory.resolve("Customer.java"), "class Customer {}");
+    Files.writeString(directory.resolve("notes.txt"), "ignored_name");
+
+    // THEN
+    awaitUntil(() -> watcher.getFileCount() == 3);
+    assertThat(watcher.getAggregate().countsByStyle()).containsEntry("PascalCase", 3L);
+  }
+
+  @Test
+  void watcherShouldDropTheFilesOfADeletedDirectory() throws Exception {
+    // GIVEN
+    watcher.start();
+
+    // WHEN
+    Files.delete(tempDir.resolve("sub").resolve("Item.java"));
+    Files.delete(tempDir.resolve("sub"));
+
+    // THEN
+    awaitUntil(() -> watcher.getFileCount() == 1);
+    assertThat(watcher.getAggregate().countsByStyle())
+        .containsEntry("PascalCase", 1L)
+        .doesNotContainKey("SCREAMING_SNAKE_CASE");
+  }
+
+  @Test
+  void startShouldThrowAnIllegalStateExceptionGivenTheWatcherHasAlreadyBeenStarted()
+      throws Exception {
+    // GIVEN
+    watcher.start();
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> {
+          // WHEN
+          watcher.start();
+        });
+  }
+
+  @Test
+  void constructorShouldThrowAnIllegalArgumentExceptionGivenNoThread() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          // WHEN
+          new StyleWatcher(tempDir, summarizer, file -> true, DEBOUNCE, 0);
+        });
+  }
+
+  private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.tokenizer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class IdentifierExtractorTest {
+
+  private static final String SQL =
+      "SELECT user_id, accountName FROM t_users -- LEGACY_TABLE\n"
+          + "WHERE status = 'some-kebab-value' AND 42abc = ${MAX_VALUE};";
+
+  private static final List<String> SQL_IDENTIFIERS =
+      List.of(
+          "SELECT",
+          "user_id",
+          "accountName",
+          "FROM",
+          "t_users",
+          "LEGACY_TABLE",
+          "WHERE",
+          "status",
+          "some-kebab-value",
+          "AND",
+          "MAX_VALUE");
+
+  @Test
+  void extractShouldHandOverAllTheIdentifiersOfAText() {
+    // GIVEN
+    final var extractor = new IdentifierExtractor();
+
+    // WHEN
+    final var identifiers = new ArrayList<String>();
+    final var count = extractor.extract(SQL, collectingInto(identifiers));
+
+    // THEN
+    assertThat(identifiers).containsExactlyElementsOf(SQL_IDENTIFIERS);
+    assertThat(count).isEqualTo(SQL_IDENTIFIERS.size());
+  }
+
+  @Test
+  void extractShouldReassembleIdentifiersStraddlingBufferBoundaries() throws Exception {
+    // GIVEN
+    final var extractor = new IdentifierExtractor(18, 16);
+
+    // WHEN
+    final var identifiers = new ArrayList<String>();
+    extractor.extract(new StringReader(SQL), collectingInto(identifiers));
+
+    // THEN
+    assertThat(identifiers).containsExactlyElementsOf(SQL_IDENTIFIERS);
+  }
+
+  @Test
+  void extractShouldDecodeChannelsAndReassembleMultiByteCharactersStraddlingBufferBoundaries()
+      throws Exception {
+    // GIVEN
+    final var text = "\u00e9\u00e9\u00e9_nom donn\u00e9es-cl\u00e9 x";
+    final var extractor = new IdentifierExtractor(14, 12);
+    final var channel = Channels.newChannel(new ByteArrayInputStream(text.getBytes(UTF_8)));
+
+    // WHEN
+    final var identifiers = new ArrayList<String>();
+    extractor.extract(channel, collectingInto(identifiers));
+
+    // THEN
+    assertThat(identifiers).containsExactly("\u00e9\u00e9\u00e9_nom", "donn\u00e9es-cl\u00e9", "x");
+  }
+
+  @Test
+  void extractShouldSkipIdentifiersLongerThanTheMaxIdentifierLength() {
+    // GIVEN
+    final var extractor = new IdentifierExtractor(8, 5);
+
+    // WHEN
+    final var identifiers = new ArrayList<String>();
+    extractor.extract("short muchTooLongIdentifier tiny", collectingInto(identifiers));
+
+    // THEN
+    assertThat(identifiers).containsExactly("short", "tiny");
+  }
+
+  @Test
+  void extractShouldFindTheSameIdentifiersInATextAndInAReaderGivenRunsStraddlingTheReads()
+      throws Exception {
+    // GIVEN
+    final var text = "-lead-- 12345abcdefgh tooLongForTheBuffer tail-- a--b x1_y2";
+    final var extractor = new IdentifierExtractor(8, 6);
+    final var fromText = new ArrayList<String>();
+    extractor.extract(text, collectingInto(fromText));
+
+    // WHEN
+    final var fromReader = new ArrayList<String>();
+    extractor.extract(new StringReader(text), collectingInto(fromReader));
+
+    // THEN
+    assertThat(fromText).containsExactly("lead", "tail", "a", "b", "x1_y2");
+    assertThat(fromReader).containsExactlyElementsOf(fromText);
+  }
+
+  @Test
+  void extractShouldDropLeadingAndTrailingDashesAndSplitOnDoubleDashes() {
+    // GIVEN
+    final var extractor = new IdentifierExtractor();
+
+    // WHEN
+    final var identifiers = new ArrayList<String>();
+    extractor.extract("-leading trailing- a--b x - y", collectingInto(identifiers));
+
+    // THEN
+    assertThat(identifiers).containsExactly("leading", "trailing", "a", "b", "x", "y");
+  }
+
+  @Test
+  void extractShouldAllowClassifyingEachIdentifierInPlace() {
+    // GIVEN
+    final var extractor = new IdentifierExtractor();
+    final var styleSniffer = StyleSnifferFactory.createStyleSniffer();
+    final var countsByStyle = new HashMap<String, Integer>();
+
+    // WHEN
+    extractor.extract(
+        SQL,
+        (text, start, end) ->
+            styleSniffer
+                .getCaseStyle(text, start, end)
+                .ifPresent(style -> countsByStyle.merge(style.getName(), 1, Integer::sum)));
+
+    // THEN
+    assertThat(countsByStyle)
+        .containsEntry("PascalCase", 4)
+        .containsEntry("snake_case", 2)
+        .containsEntry("camelCase", 2)
+        .containsEntry("SCREAMING_SNAKE_CASE", 2)
+        .containsEntry("Kebab Case", 1);
+  }
+
+  @Test
+  void extractShouldScanOnlyTheGivenRangeInPlace() {
+    // GIVEN
+    final var extractor = new IdentifierExtractor();
+    final var text = new StringBuilder("first second_name THIRD");
+    final var texts = new ArrayList<CharSequence>();
+
+    // WHEN
+    final var identifiers = new ArrayList<String>();
+    final var count =
+        extractor.extract(
+            text,
+            6,
+            text.length(),
+            (chars, start, end) -> {
+              texts.add(chars);
+              identifiers.add(chars.subSequence(start, end).toString());
+            });
+
+    // THEN
+    assertThat(identifiers).containsExactly("second_name", "THIRD");
+    assertThat(count).isEqualTo(2);
+    assertThat(texts).allMatch(chars -> chars == text);
+  }
+
+  @Test
+  void extractShouldThrowAnIndexOutOfBoundsExceptionGivenARangeOutsideOfTheText() {
+    // GIVEN
+    final var extractor = new IdentifierExtractor();
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> {
+          // WHEN
+          extractor.extract("short", 2, 6, collectingInto(new ArrayList<>()));
+        });
+  }
+
+  @Test
+  void isSeparatorShouldOnlyBeTrueForCharactersEndingARun() {
+    assertThat(IdentifierExtractor.isSeparator(' ')).isTrue();
+    assertThat(IdentifierExtractor.isSeparator('.')).isTrue();
+    assertThat(IdentifierExtractor.isSeparator('-')).isFalse();
+    assertThat(IdentifierExtractor.isSeparator('_')).isFalse();
+    assertThat(IdentifierExtractor.isSeparator('7')).isFalse();
+    assertThat(IdentifierExtractor.isSeparator('\u00e9')).isFalse();
+  }
+
+  @Test
+  void constructorShouldThrowAnIllegalArgumentExceptionGivenABufferTooSmallForTheMaxLength() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          // WHEN
+          new IdentifierExtractor(10, 9);
+        });
+  }
+
+  private static IdentifierConsumer collectingInto(final List<String> identifiers) {
+    return (text, start, end) -> identifiers.add(text.subSequence(start, end).toString());
+  }
+}
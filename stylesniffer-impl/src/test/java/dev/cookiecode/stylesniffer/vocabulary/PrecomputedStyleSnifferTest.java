@@ -0,0 +1,158 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.vocabulary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class PrecomputedStyleSnifferTest {
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+  private final CountingStyleSniffer delegate =
+      new CountingStyleSniffer(styleSniffer, new AtomicInteger());
+
+  @TempDir private Path tempDir;
+
+  private PrecomputedStyleSniffer precomputedStyleSniffer;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final var file = tempDir.resolve("vocabulary.bin");
+    PrecomputedVocabulary.write(file, List.of("user_id", "accountName", "user__Id"), styleSniffer);
+    precomputedStyleSniffer =
+        new PrecomputedStyleSniffer(delegate, PrecomputedVocabulary.open(file, styleSniffer));
+  }
+
+  @Test
+  void getCaseStyleShouldNotClassifyTheNameGivenItBelongsToTheVocabulary() {
+    // GIVEN
+    final var name = "user_id";
+
+    // WHEN
+    final var caseStyle = precomputedStyleSniffer.getCaseStyle(name);
+
+    // THEN
+    assertThat(caseStyle).isEqualTo(styleSniffer.getCaseStyle(name));
+    assertThat(delegate.calls().get()).isZero();
+    assertThat(precomputedStyleSniffer.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getCaseStyleShouldReturnEmptyGivenAnUnclassifiedNameOfTheVocabulary() {
+    // WHEN
+    final var caseStyle = precomputedStyleSniffer.getCaseStyle("user__Id");
+
+    // THEN
+    assertThat(caseStyle).isEmpty();
+    assertThat(delegate.calls().get()).isZero();
+  }
+
+  @Test
+  void getCaseStyleShouldClassifyTheNameGivenItDoesNotBelongToTheVocabulary() {
+    // GIVEN
+    final var name = "MAX_VALUE";
+
+    // WHEN
+    final var caseStyle = precomputedStyleSniffer.getCaseStyle(name);
+
+    // THEN
+    assertThat(caseStyle).isEqualTo(styleSniffer.getCaseStyle(name));
+    assertThat(delegate.calls().get()).isEqualTo(1);
+    assertThat(precomputedStyleSniffer.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getCaseStyleShouldLookTheTrimmedRangeUpGivenARangeOfAText() {
+    // GIVEN
+    final var text = "int  accountName ;";
+
+    // WHEN
+    final var caseStyle = precomputedStyleSniffer.getCaseStyle(text, 4, 17);
+
+    // THEN
+    assertThat(caseStyle).isEqualTo(styleSniffer.getCaseStyle("accountName"));
+    assertThat(delegate.calls().get()).isZero();
+  }
+
+  @Test
+  void getCaseStyleShouldReturnEmptyGivenABlankOrNullName() {
+    // WHEN / THEN
+    assertThat(precomputedStyleSniffer.getCaseStyle((String) null)).isEmpty();
+    assertThat(precomputedStyleSniffer.getCaseStyle("   ")).isEmpty();
+    assertThat(delegate.calls().get()).isZero();
+  }
+
+  @Test
+  void otherMethodsShouldBeDelegated() {
+    // WHEN / THEN
+    assertThat(precomputedStyleSniffer.getSupportedCaseStyles())
+        .isEqualTo(styleSniffer.getSupportedCaseStyles());
+    assertThat(precomputedStyleSniffer.getSupportedCaseStylesIncludingVariants())
+        .isEqualTo(styleSniffer.getSupportedCaseStylesIncludingVariants());
+    assertThat(precomputedStyleSniffer.getCaseStyleWithVariantOrName("snake_case"))
+        .isEqualTo(styleSniffer.getCaseStyleWithVariantOrName("snake_case"));
+    assertThat(precomputedStyleSniffer.newIncrementalClassifier()).isNotNull();
+  }
+
+  /** Sniffer counting the names classified by another sniffer. */
+  private record CountingStyleSniffer(StyleSniffer styleSniffer, AtomicInteger calls)
+      implements StyleSniffer {
+
+    @Override
+    public Optional<CaseStyle> getCaseStyle(final String name) {
+      calls.incrementAndGet();
+      return styleSniffer.getCaseStyle(name);
+    }
+
+    @Override
+    public Optional<CaseStyle> getCaseStyleWithVariantOrName(final String variantOrName) {
+      return styleSniffer.getCaseStyleWithVariantOrName(variantOrName);
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStyles() {
+      return styleSniffer.getSupportedCaseStyles();
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStylesIncludingVariants() {
+      return styleSniffer.getSupportedCaseStylesIncludingVariants();
+    }
+  }
+}
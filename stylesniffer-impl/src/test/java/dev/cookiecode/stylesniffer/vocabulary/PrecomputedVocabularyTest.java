@@ -0,0 +1,258 @@
+/*
+ * The MIT License
+ * Copyright © 2024 Sebastien Vermeille
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package dev.cookiecode.stylesniffer.vocabulary;
+
+import static dev.cookiecode.stylesniffer.vocabulary.PrecomputedVocabulary.UNCLASSIFIED;
+import static dev.cookiecode.stylesniffer.vocabulary.PrecomputedVocabulary.UNKNOWN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.cookiecode.stylesniffer.StyleSniffer;
+import dev.cookiecode.stylesniffer.StyleSnifferFactory;
+import dev.cookiecode.stylesniffer.api.CaseStyle;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class
+ *
+ * @author Sebastien Vermeille
+ */
+class PrecomputedVocabularyTest {
+
+  private final StyleSniffer styleSniffer = StyleSnifferFactory.createStyleSniffer();
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void findShouldReturnTheCaseStyleOfTheWrittenNames() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("vocabulary.bin");
+    PrecomputedVocabulary.write(file, List.of("user_id", "accountName", "MAX_VALUE"), styleSniffer);
+
+    // WHEN
+    final var vocabulary = PrecomputedVocabulary.open(file, styleSniffer);
+
+    // THEN
+    assertThat(vocabulary.getEntryCount()).isEqualTo(3);
+    for (final var name : List.of("user_id", "accountName", "MAX_VALUE")) {
+      final int index = vocabulary.find(name, 0, name.length());
+      assertThat(vocabulary.getResult(index)).isEqualTo(styleSniffer.getCaseStyle(name));
+    }
+  }
+
+  @Test
+  void findShouldReturnUnknownGivenANameOutsideTheVocabulary() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("vocabulary.bin");
+    PrecomputedVocabulary.write(file, List.of("user_id"), styleSniffer);
+    final var vocabulary = PrecomputedVocabulary.open(file, styleSniffer);
+
+    // WHEN
+    final int index = vocabulary.find("user_ids", 0, "user_ids".length());
+
+    // THEN
+    assertThat(index).isEqualTo(UNKNOWN);
+    assertThat(vocabulary.contains("user_ids")).isFalse();
+  }
+
+  @Test
+  void findShouldReturnUnclassifiedGivenANameNoCaseStyleMatches() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("vocabulary.bin");
+    PrecomputedVocabulary.write(file, List.of("user__Id"), styleSniffer);
+    final var vocabulary = PrecomputedVocabulary.open(file, styleSniffer);
+
+    // WHEN
+    final int index = vocabulary.find("user__Id", 0, "user__Id".length());
+
+    // THEN
+    assertThat(index).isEqualTo(UNCLASSIFIED);
+    assertThat(vocabulary.getResult(index)).isEmpty();
+  }
+
+  @Test
+  void findShouldFindTheNamesInPlaceGivenALargeVocabulary() throws Exception {
+    // GIVEN
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      names.add("field_" + letters(i));
+      names.add("method" + letters(i).toUpperCase());
+    }
+    final var file = tempDir.resolve("vocabulary.bin");
+    PrecomputedVocabulary.write(file, names, styleSniffer);
+    final var vocabulary = PrecomputedVocabulary.open(file, styleSniffer);
+
+    // WHEN
+    final var text = "return field_bcde + methodJJJJ;";
+    final int snakeCase = vocabulary.find(text, 7, 17);
+    final int camelCase = vocabulary.find(text, 20, 30);
+
+    // THEN
+    assertThat(vocabulary.getEntryCount()).isEqualTo(20_000);
+    assertThat(vocabulary.getResult(snakeCase).map(CaseStyle::getName)).contains("snake_case");
+    assertThat(vocabulary.getResult(camelCase)).isEqualTo(styleSniffer.getCaseStyle("methodJJJJ"));
+  }
+
+  @Test
+  void writeShouldStoreEachTrimmedNameOnceGivenDuplicatesAndBlankNames() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("vocabulary.bin");
+
+    // WHEN
+    PrecomputedVocabulary.write(file, List.of("user_id", " user_id ", "  ", ""), styleSniffer);
+
+    // THEN
+    final var vocabulary = PrecomputedVocabulary.open(file, styleSniffer);
+    assertThat(vocabulary.getEntryCount()).isEqualTo(1);
+    assertThat(vocabulary.contains("user_id")).isTrue();
+  }
+
+  @Test
+  void openShouldIgnoreTheFileGivenTheRegisteredCaseStylesChanged() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("vocabulary.bin");
+    PrecomputedVocabulary.write(file, List.of("user_id"), styleSniffer);
+
+    // WHEN
+    final var withoutSnakeCase = new WithoutCaseStyle(styleSniffer, "snake_case");
+    final var vocabulary = PrecomputedVocabulary.open(file, withoutSnakeCase);
+
+    // THEN
+    assertThat(vocabulary.getEntryCount()).isZero();
+    assertThat(vocabulary.contains("user_id")).isFalse();
+  }
+
+  @Test
+  void openShouldIgnoreTheFileGivenTheCaseStylesAreMatchedInAnotherOrder() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("vocabulary.bin");
+    PrecomputedVocabulary.write(file, List.of("user_id"), styleSniffer);
+
+    // WHEN
+    final var reversed = new ReversedCaseStyles(styleSniffer);
+    final var vocabulary = PrecomputedVocabulary.open(file, reversed);
+
+    // THEN
+    assertThat(vocabulary.getEntryCount()).isZero();
+    assertThat(vocabulary.contains("user_id")).isFalse();
+  }
+
+  @Test
+  void openShouldIgnoreACorruptedFile() throws Exception {
+    // GIVEN
+    final var file = tempDir.resolve("vocabulary.bin");
+    Files.writeString(file, "not a vocabulary file, but long enough to hold a header");
+
+    // WHEN
+    final var vocabulary = PrecomputedVocabulary.open(file, styleSniffer);
+
+    // THEN
+    assertThat(vocabulary.getEntryCount()).isZero();
+  }
+
+  @Test
+  void openShouldThrowGivenAMissingFile() {
+    // GIVEN
+    final var file = tempDir.resolve("missing.bin");
+
+    // WHEN / THEN
+    assertThatThrownBy(() -> PrecomputedVocabulary.open(file, styleSniffer))
+        .isInstanceOf(NoSuchFileException.class);
+  }
+
+  /** Spells the digits of the given number with letters, the case styles rejecting digits. */
+  private static String letters(final int number) {
+    final var digits = Integer.toString(number).toCharArray();
+    for (int i = 0; i < digits.length; i++) {
+      digits[i] += 'a' - '0';
+    }
+    return new String(digits);
+  }
+
+  /** Sniffer matching the case styles of another sniffer in reverse order. */
+  private record ReversedCaseStyles(StyleSniffer styleSniffer) implements StyleSniffer {
+
+    @Override
+    public Optional<CaseStyle> getCaseStyle(final String name) {
+      return getSupportedCaseStyles().stream()
+          .map(styleSniffer::getCaseStyleWithVariantOrName)
+          .flatMap(Optional::stream)
+          .filter(style -> name != null && style.matches(name))
+          .findFirst();
+    }
+
+    @Override
+    public Optional<CaseStyle> getCaseStyleWithVariantOrName(final String variantOrName) {
+      return styleSniffer.getCaseStyleWithVariantOrName(variantOrName);
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStyles() {
+      return new LinkedHashSet<>(List.copyOf(styleSniffer.getSupportedCaseStyles()).reversed());
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStylesIncludingVariants() {
+      return styleSniffer.getSupportedCaseStylesIncludingVariants();
+    }
+  }
+
+  /** Sniffer hiding one of the case styles of another sniffer. */
+  private record WithoutCaseStyle(StyleSniffer styleSniffer, String hiddenName)
+      implements StyleSniffer {
+
+    @Override
+    public Optional<CaseStyle> getCaseStyle(final String name) {
+      return styleSniffer.getCaseStyle(name).filter(style -> !style.getName().equals(hiddenName));
+    }
+
+    @Override
+    public Optional<CaseStyle> getCaseStyleWithVariantOrName(final String variantOrName) {
+      return styleSniffer
+          .getCaseStyleWithVariantOrName(variantOrName)
+          .filter(style -> !style.getName().equals(hiddenName));
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStyles() {
+      return styleSniffer.getSupportedCaseStyles().stream()
+          .filter(name -> !name.equals(hiddenName))
+          .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> getSupportedCaseStylesIncludingVariants() {
+      return styleSniffer.getSupportedCaseStylesIncludingVariants();
+    }
+  }
+}
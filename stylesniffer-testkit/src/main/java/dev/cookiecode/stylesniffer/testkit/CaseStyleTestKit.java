@@ -22,6 +22,7 @@
  */
 package dev.cookiecode.stylesniffer.testkit;
 
+import static dev.cookiecode.stylesniffer.api.CaseStyleAutomaton.REJECTED;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 
@@ -66,6 +67,13 @@ import org.junit.jupiter.params.provider.MethodSource;
  *       to verify that each valid input is correctly recognized by the case style implementation.
  *   <li>{@link #nonMatchingInputShouldNotBeRecognized(String)}: Uses a parameterized test to verify
  *       that each invalid input is correctly rejected by the case style implementation.
+ *   <li>{@link #matchesWithRangeShouldReturnTrueGivenMatchingInputEmbeddedInText(String)} and
+ *       {@link #matchesWithRangeShouldReturnFalseGivenNonMatchingInputEmbeddedInText(String)}:
+ *       Verify that the zero-copy {@link CaseStyle#matches(CharSequence, int, int)} agrees with
+ *       {@link CaseStyle#matches(String)} when the input is a slice of a larger text.
+ *   <li>{@link #automatonShouldAgreeWithMatchesGivenEachPrefixOfTheInputs()}: Verifies that the
+ *       {@link CaseStyle#getAutomaton()}, when provided, accepts exactly the prefixes of the inputs
+ *       that {@link CaseStyle#matches(String)} matches.
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -101,6 +109,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 @SuppressWarnings("unused") // Used by implementers in other Maven modules
 public interface CaseStyleTestKit<T extends CaseStyle> {
 
+  /** Characters surrounding the inputs when testing the range based matching. */
+  String RANGE_PADDING = "#@ _-Aa";
+
   T createCaseStyle();
 
   /**
@@ -161,6 +172,66 @@ public interface CaseStyleTestKit<T extends CaseStyle> {
         .isFalse();
   }
 
+  @ParameterizedTest
+  @MethodSource("matchingNames")
+  @SuppressWarnings("unused") // Used at runtime by Junit
+  default void matchesWithRangeShouldReturnTrueGivenMatchingInputEmbeddedInText(
+      final String matchingInput) {
+    final var caseStyleImplementation = this.createCaseStyle();
+    final var text = RANGE_PADDING + matchingInput + RANGE_PADDING;
+
+    assertThat(
+            caseStyleImplementation.matches(
+                text, RANGE_PADDING.length(), RANGE_PADDING.length() + matchingInput.length()))
+        .as("Expected range match with input: %s", matchingInput)
+        .isTrue();
+  }
+
+  @ParameterizedTest
+  @MethodSource("nonMatchingNames")
+  @SuppressWarnings("unused") // Used at runtime by Junit
+  default void matchesWithRangeShouldReturnFalseGivenNonMatchingInputEmbeddedInText(
+      final String nonMatchingInput) {
+    final var caseStyleImplementation = this.createCaseStyle();
+    final var text = RANGE_PADDING + nonMatchingInput + RANGE_PADDING;
+
+    assertThat(
+            caseStyleImplementation.matches(
+                text, RANGE_PADDING.length(), RANGE_PADDING.length() + nonMatchingInput.length()))
+        .as("Expected range non match with input: %s", nonMatchingInput)
+        .isFalse();
+  }
+
+  @Test
+  @SuppressWarnings("unused") // Used at runtime by Junit
+  default void automatonShouldAgreeWithMatchesGivenEachPrefixOfTheInputs() {
+    final var caseStyleImplementation = this.createCaseStyle();
+    final var automaton = caseStyleImplementation.getAutomaton();
+    if (automaton.isEmpty()) {
+      return;
+    }
+
+    Stream.concat(matchingNames(), nonMatchingNames())
+        .forEach(
+            input -> {
+              int state = automaton.get().initialState();
+              for (int length = 1; length <= input.length(); length++) {
+                final var prefix = input.substring(0, length);
+                state = automaton.get().nextState(state, input.charAt(length - 1));
+                assertThat(state != REJECTED && automaton.get().isAccepting(state))
+                    .as("Expected the automaton to agree with matches on input: %s", prefix)
+                    .isEqualTo(caseStyleImplementation.matches(prefix));
+                if (state == REJECTED) {
+                  // no continuation of a rejected prefix can match
+                  assertThat(caseStyleImplementation.matches(input))
+                      .as("Expected non match once rejected, with input: %s", input)
+                      .isFalse();
+                  break;
+                }
+              }
+            });
+  }
+
   /**
    * Converts the list of valid inputs into a stream. This is needed for the @MethodSource
    * annotation.
@@ -23,6 +23,8 @@
 package dev.cookiecode.stylesniffer.testkit;
 
 import dev.cookiecode.stylesniffer.api.BaseCaseStyle;
+import dev.cookiecode.stylesniffer.api.CaseStyleAutomaton;
+import java.util.Optional;
 import lombok.NonNull;
 
 /**
@@ -31,13 +33,41 @@ import lombok.NonNull;
  * @author Sebastien Vermeille
  */
 public class DummyCaseStyle extends BaseCaseStyle {
+
+  private static final String DUMMY = "dummy";
+
   @Override
   public boolean matches(@NonNull String name) {
-    return name.contains("dummy");
+    return name.contains(DUMMY);
   }
 
   @Override
   public String getName() {
     return "dummyStyle";
   }
+
+  @Override
+  public Optional<CaseStyleAutomaton> getAutomaton() {
+    // the state is the length of the prefix of "dummy" ending the name read so far
+    return Optional.of(
+        new CaseStyleAutomaton() {
+          @Override
+          public int initialState() {
+            return 0;
+          }
+
+          @Override
+          public int nextState(int state, char c) {
+            if (state == DUMMY.length() || c == DUMMY.charAt(state)) {
+              return Math.min(state + 1, DUMMY.length());
+            }
+            return c == DUMMY.charAt(0) ? 1 : 0;
+          }
+
+          @Override
+          public boolean isAccepting(int state) {
+            return state == DUMMY.length();
+          }
+        });
+  }
 }